@@ -8,11 +8,20 @@ const successfulOrders = new Counter('successful_orders');
 const failedOrders = new Counter('failed_orders');
 const orderDuration = new Trend('order_creation_duration');
 
+// 스레드 모드 비교 실행 (TEST_EXECUTION_GUIDE.md - 가상 스레드 모드 비교 참고)
+// - THREAD_MODE: 결과 파일/태그 구분용 (platform | virtual)
+// - SCENARIO: config.js SCENARIOS 키 (기본 load, 비교 시 stress 권장)
+const THREAD_MODE = __ENV.THREAD_MODE || 'platform';
+const SCENARIO = __ENV.SCENARIO || 'load';
+
 // 테스트 설정
 export const options = {
   scenarios: {
     // 점진적 부하 증가 시나리오
-    loadTest: SCENARIOS.load,
+    loadTest: SCENARIOS[SCENARIO],
+  },
+  tags: {
+    thread_mode: THREAD_MODE,
   },
   thresholds: {
     http_req_failed: THRESHOLDS.http_req_failed,
@@ -118,7 +127,7 @@ export function handleSummary(data) {
   const p95Duration = data.metrics.order_creation_duration?.values['p(95)'] || 0;
   const avgDuration = data.metrics.order_creation_duration?.values['avg'] || 0;
 
-  console.log('\n=== 주문 생성 부하 테스트 결과 ===');
+  console.log(`\n=== 주문 생성 부하 테스트 결과 (thread_mode: ${THREAD_MODE}, scenario: ${SCENARIO}) ===`);
   console.log(`✅ 성공: ${successCount}건`);
   console.log(`❌ 실패: ${failedCount}건`);
   console.log(`📊 성공률: ${successRate}%`);
@@ -137,5 +146,6 @@ export function handleSummary(data) {
 
   return {
     'stdout': JSON.stringify(data, null, 2),
+    [`results/order-create-${THREAD_MODE}.json`]: JSON.stringify(data, null, 2),
   };
 }
@@ -0,0 +1,87 @@
+-- ========================================
+-- 재고/잔액 이력 월별 파티셔닝 (RANGE COLUMNS(created_at))
+-- MySQL 8.0
+-- ========================================
+-- 대상: stock_histories, balance_histories (JPA 엔티티 테이블)
+--
+-- 변경 사항:
+-- 1. 외래 키 삭제 (파티션 테이블은 FK 불가 → 엔티티는 @ForeignKey(NO_CONSTRAINT))
+-- 2. created_at DATETIME(6) 변환 (RANGE COLUMNS는 TIMESTAMP 미지원)
+-- 3. PK (id) → (id, created_at) (파티션 키가 모든 UNIQUE 키에 포함되어야 함)
+-- 4. 파티션 구성: p_old (이번 달 이전) / pYYYYMM (이번 달) / p_max (MAXVALUE)
+--
+-- 이후 운영:
+-- - history.partition-maintenance-enabled=true 설정 시 HistoryPartitionMaintainer가
+--   매일 p_max를 분할해 다음 달 파티션을 미리 만들고, 보관 기간 지난 파티션을 DROP
+-- - 이력 조회는 (product_id|user_id, created_at) 인덱스 + created_at 조건으로 파티션 프루닝
+--
+-- 주의:
+-- - 테이블 재작성(ALTER) 동안 쓰기가 잠기므로 점검 시간에 실행
+-- - 이미 파티셔닝된 테이블은 건너뜀
+-- ========================================
+
+DROP PROCEDURE IF EXISTS partition_history_table;
+
+DELIMITER //
+
+CREATE PROCEDURE partition_history_table(IN target_table VARCHAR(64))
+BEGIN
+    DECLARE fk_name VARCHAR(64);
+    DECLARE partitioned INT DEFAULT 0;
+    DECLARE done INT DEFAULT 0;
+    DECLARE this_month DATE DEFAULT DATE_FORMAT(CURDATE(), '%Y-%m-01');
+    DECLARE fk_cursor CURSOR FOR
+        SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = target_table AND CONSTRAINT_TYPE = 'FOREIGN KEY';
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = 1;
+
+    SELECT COUNT(*) INTO partitioned FROM information_schema.PARTITIONS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = target_table AND PARTITION_NAME IS NOT NULL;
+
+    IF partitioned = 0 THEN
+        -- 1. 외래 키 삭제
+        OPEN fk_cursor;
+        drop_fk: LOOP
+            FETCH fk_cursor INTO fk_name;
+            IF done = 1 THEN
+                LEAVE drop_fk;
+            END IF;
+            SET @ddl = CONCAT('ALTER TABLE ', target_table, ' DROP FOREIGN KEY ', fk_name);
+            PREPARE stmt FROM @ddl;
+            EXECUTE stmt;
+            DEALLOCATE PREPARE stmt;
+        END LOOP;
+        CLOSE fk_cursor;
+
+        -- 2~3. created_at 타입 변환, PK 변경
+        SET @ddl = CONCAT('ALTER TABLE ', target_table,
+                          ' MODIFY created_at DATETIME(6) NOT NULL,',
+                          ' DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+
+        -- 4. 파티셔닝
+        SET @ddl = CONCAT('ALTER TABLE ', target_table, ' PARTITION BY RANGE COLUMNS(created_at) (',
+                          'PARTITION p_old VALUES LESS THAN (''', this_month, '''), ',
+                          'PARTITION p', DATE_FORMAT(this_month, '%Y%m'),
+                          ' VALUES LESS THAN (''', this_month + INTERVAL 1 MONTH, '''), ',
+                          'PARTITION p_max VALUES LESS THAN (MAXVALUE))');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL partition_history_table('stock_histories');
+CALL partition_history_table('balance_histories');
+
+DROP PROCEDURE IF EXISTS partition_history_table;
+
+-- 확인
+SELECT TABLE_NAME, PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+FROM information_schema.PARTITIONS
+WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ('stock_histories', 'balance_histories')
+ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION;
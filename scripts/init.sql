@@ -22,6 +22,7 @@ DROP TABLE IF EXISTS user_coupons;
 DROP TABLE IF EXISTS order_items;
 DROP TABLE IF EXISTS orders;
 DROP TABLE IF EXISTS order_sequences;
+DROP TABLE IF EXISTS id_generators;
 DROP TABLE IF EXISTS cart_items;
 DROP TABLE IF EXISTS carts;
 DROP TABLE IF EXISTS coupons;
@@ -42,6 +43,7 @@ CREATE TABLE users (
     balance DECIMAL(15,2) NOT NULL DEFAULT 0.00 COMMENT '잔액',
     role VARCHAR(20) NOT NULL DEFAULT 'USER' COMMENT '역할 (USER, ADMIN)',
     status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE' COMMENT '상태 (ACTIVE, INACTIVE, SUSPENDED)',
+    lock_fence_token BIGINT NULL COMMENT '마지막으로 반영된 펜싱 락 토큰 (이전 보유자 쓰기 거부)',
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
     INDEX idx_email (email),
@@ -335,19 +337,38 @@ CREATE TABLE restock_notifications (
 -- ========================================
 CREATE TABLE outbound_events (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
-    event_type VARCHAR(50) NOT NULL COMMENT '이벤트 유형 (ORDER_CREATED, ORDER_CANCELLED)',
-    payload JSON NOT NULL COMMENT '이벤트 데이터 (JSON)',
-    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '상태 (PENDING, SENT, FAILED)',
+    event_type VARCHAR(30) NOT NULL COMMENT '이벤트 유형 (ORDER_CREATED, STOCK_DEDUCTED, ORDER_PAID ...)',
+    entity_id BIGINT NOT NULL COMMENT '대상 엔티티 ID (주문 ID)',
+    topic VARCHAR(100) COMMENT 'Kafka 발행 토픽 (Outbox 릴레이)',
+    partition_key VARCHAR(100) COMMENT 'Kafka 파티션 키',
+    payload_type VARCHAR(255) COMMENT '기록 시점 페이로드 클래스명 (추적용, 릴레이는 event_type으로 역직렬화)',
+    payload TEXT NOT NULL COMMENT '이벤트 데이터 (JSON)',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '상태 (PENDING, SENDING, SUCCESS, FAILED, DEAD_LETTER)',
     retry_count INT NOT NULL DEFAULT 0 COMMENT '재시도 횟수',
-    error_message VARCHAR(1000) COMMENT '에러 메시지',
+    max_retry_count INT NOT NULL DEFAULT 3 COMMENT '최대 재시도 횟수',
+    next_retry_at TIMESTAMP NULL COMMENT '다음 선점 가능 시각 (SENDING은 선점 임대 만료 시각)',
+    error_message TEXT COMMENT '에러 메시지',
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
-    sent_at TIMESTAMP NULL COMMENT '전송 성공 일시',
-    failed_at TIMESTAMP NULL COMMENT '전송 실패 일시',
+    sent_at TIMESTAMP NULL COMMENT '전송 시작(선점) 일시',
+    completed_at TIMESTAMP NULL COMMENT '완료 일시 (SUCCESS, DEAD_LETTER)',
+    INDEX idx_status_next_retry_at (status, next_retry_at) COMMENT '릴레이 선점 (FOR UPDATE SKIP LOCKED)',
     INDEX idx_event_type (event_type),
-    INDEX idx_status (status),
-    INDEX idx_created_at (created_at)
+    INDEX idx_event_type_entity_id (event_type, entity_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='외부 시스템 연동 이벤트';
 
+-- ========================================
+-- 18. ID 생성 테이블 (id_generators)
+-- ========================================
+-- 이력/주문 항목/도메인 이벤트 ID를 pooled 방식(allocationSize=100)으로 발급 (JDBC INSERT 배치 가능)
+-- - IDENTITY(AUTO_INCREMENT)는 INSERT마다 생성 키를 받아야 하므로 Hibernate가 INSERT를 배치로 묶지 못함
+-- - allocationSize만큼 메모리에서 발급하고, 소진 시에만 이 테이블을 갱신
+-- - INSERT는 flush 시점에 hibernate.jdbc.batch_size 단위로 묶여 전송
+-- 기존 데이터가 있는 DB에 적용 시 next_val을 각 테이블 MAX(id) + 1 이상으로 설정해야 함
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY COMMENT '대상 테이블명',
+    next_val BIGINT COMMENT '다음 할당 시작 값'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='ID 생성 (Hibernate TableGenerator)';
+
 -- ========================================
 -- 초기 데이터 삽입
 -- ========================================
@@ -396,6 +417,13 @@ INSERT INTO coupons (code, name, description, type, discount_value, minimum_orde
 INSERT INTO order_sequences (order_date, sequence) VALUES
 (DATE_FORMAT(NOW(), '%Y-%m-%d'), 0);
 
+-- ID 생성 초기화 (pkColumnValue = 엔티티 테이블명)
+INSERT INTO id_generators (sequence_name, next_val) VALUES
+('order_items', 1),
+('balance_histories', 1),
+('stock_histories', 1),
+('domain_event_store', 1);
+
 -- ========================================
 -- 완료 메시지
 -- ========================================
@@ -416,4 +444,5 @@ SELECT '  - balance_history, stock_history' AS '';
 SELECT '  - product_statistics' AS '';
 SELECT '  - restock_notifications' AS '';
 SELECT '  - outbound_events' AS '';
+SELECT '  - id_generators (pooled ID 발급)' AS '';
 SELECT '========================================' AS '';
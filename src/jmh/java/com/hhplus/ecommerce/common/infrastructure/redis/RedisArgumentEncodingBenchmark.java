@@ -0,0 +1,82 @@
+package com.hhplus.ecommerce.common.infrastructure.redis;
+
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRedisRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 Lua 호출 인자 인코딩 벤치마크
+ *
+ * 측정 대상 (호출 1회분 KEYS/ARGV byte[] 구성, Redis 왕복 제외):
+ * - legacy: 스크립트 본문 getBytes() + 문자열 결합 키 + String.valueOf().getBytes() (EVAL 경로)
+ * - evalSha: 사전 인코딩 접두사 + RedisBytes.key/ascii, 스크립트 본문 변환 없음 (EVALSHA 경로)
+ *
+ * Redis 왕복 절감(스크립트 본문 미전송, TTL 확인/EXPIRE 2회 제거)은 인코딩과 별개로 네트워크 비용에서 발생
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RedisArgumentEncodingBenchmark {
+
+    private static final String ISSUED_PREFIX = "coupon:issued:";
+    private static final String USER_COUNT_PREFIX = "coupon:user:count:";
+    private static final byte[] ISSUED_PREFIX_BYTES = RedisBytes.utf8(ISSUED_PREFIX);
+    private static final byte[] USER_COUNT_PREFIX_BYTES = RedisBytes.utf8(USER_COUNT_PREFIX);
+    private static final byte[] TTL_SECONDS_BYTES = RedisBytes.ascii(TimeUnit.DAYS.toSeconds(7));
+
+    private String script;
+    private long couponId;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        Field field = CouponRedisRepository.class.getDeclaredField("COUPON_ISSUE_SCRIPT");
+        field.setAccessible(true);
+        script = (String) field.get(null);
+        couponId = 1L;
+        userId = 1_000_000L;
+    }
+
+    @Benchmark
+    public byte[][] legacy() {
+        userId++;
+        return new byte[][] {
+            script.getBytes(),
+            (ISSUED_PREFIX + couponId).getBytes(),
+            (USER_COUNT_PREFIX + couponId).getBytes(),
+            String.valueOf(userId).getBytes(),
+            String.valueOf(100).getBytes(),
+            String.valueOf(1).getBytes(),
+            String.valueOf(System.currentTimeMillis()).getBytes()
+        };
+    }
+
+    @Benchmark
+    public byte[][] evalSha() {
+        userId++;
+        return new byte[][] {
+            RedisBytes.key(ISSUED_PREFIX_BYTES, couponId),
+            RedisBytes.key(USER_COUNT_PREFIX_BYTES, couponId),
+            RedisBytes.ascii(userId),
+            RedisBytes.ascii(100),
+            RedisBytes.ascii(1),
+            RedisBytes.ascii(System.currentTimeMillis()),
+            TTL_SECONDS_BYTES
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.hhplus.ecommerce.coupon.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 할인 금액 계산 벤치마크
+ *
+ * 측정 대상:
+ * - Coupon.calculateDiscountAmount (주문 생성 Step 6에서 주문마다 호출)
+ * - 정액: 최소 주문 금액 비교 + min
+ * - 정률: multiply + divide(scale 2) + 최대 할인 금액 비교 (BigDecimal 할당 발생)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CouponDiscountBenchmark {
+
+    @Param({"9900", "1234567.89"})
+    private String orderAmount;
+
+    private BigDecimal amount;
+    private Coupon fixedAmountCoupon;
+    private Coupon percentageCoupon;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal(orderAmount);
+
+        fixedAmountCoupon = Coupon.builder()
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(3000))
+            .minimumOrderAmount(BigDecimal.valueOf(5000))
+            .build();
+
+        percentageCoupon = Coupon.builder()
+            .type(CouponType.PERCENTAGE)
+            .discountValue(BigDecimal.valueOf(15))
+            .minimumOrderAmount(BigDecimal.valueOf(5000))
+            .maximumDiscountAmount(BigDecimal.valueOf(50000))
+            .build();
+    }
+
+    @Benchmark
+    public BigDecimal fixedAmount() {
+        return fixedAmountCoupon.calculateDiscountAmount(amount);
+    }
+
+    @Benchmark
+    public BigDecimal percentage() {
+        return percentageCoupon.calculateDiscountAmount(amount);
+    }
+}
@@ -0,0 +1,103 @@
+package com.hhplus.ecommerce.integration.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.config.ObjectMapperConfig;
+import com.hhplus.ecommerce.coupon.domain.event.CouponIssuedEvent;
+import com.hhplus.ecommerce.order.domain.event.OrderCreatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 JSON 직렬화/역직렬화 벤치마크
+ *
+ * 측정 대상:
+ * - OrderCreatedEvent: 주문 생성마다 발행 (Outbox 기록 시 직렬화, 릴레이/Consumer에서 역직렬화)
+ * - CouponIssuedEvent: 선착순 발급마다 발행 (LocalDateTime 포함)
+ *
+ * ObjectMapper:
+ * - 애플리케이션 기본 빈과 같은 설정 (ObjectMapperConfig.objectMapper)
+ *
+ * 파라미터:
+ * - productCount: 주문 상품 수 (OrderProductInfo 배열 크기)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventSerializationBenchmark {
+
+    @Param({"1", "10"})
+    private int productCount;
+
+    private ObjectMapper objectMapper;
+    private OrderCreatedEvent orderCreatedEvent;
+    private CouponIssuedEvent couponIssuedEvent;
+    private byte[] orderCreatedJson;
+    private byte[] couponIssuedJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapperConfig().objectMapper();
+
+        List<OrderCreatedEvent.OrderProductInfo> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            products.add(OrderCreatedEvent.OrderProductInfo.builder()
+                .productId((long) i + 1)
+                .quantity(i % 3 + 1)
+                .price(BigDecimal.valueOf(15900))
+                .build());
+        }
+
+        orderCreatedEvent = OrderCreatedEvent.builder()
+            .orderId(1L)
+            .orderNumber("ORD-20250101-000001")
+            .userId(1L)
+            .finalAmount(BigDecimal.valueOf(47700))
+            .orderProducts(products)
+            .userCouponId(10L)
+            .discountAmount(BigDecimal.valueOf(3000))
+            .build();
+
+        couponIssuedEvent = CouponIssuedEvent.of(1L, 1L, 42L, 100L);
+
+        orderCreatedJson = objectMapper.writeValueAsBytes(orderCreatedEvent);
+        couponIssuedJson = objectMapper.writeValueAsBytes(couponIssuedEvent);
+    }
+
+    @Benchmark
+    public byte[] serializeOrderCreated() throws IOException {
+        return objectMapper.writeValueAsBytes(orderCreatedEvent);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent deserializeOrderCreated() throws IOException {
+        return objectMapper.readValue(orderCreatedJson, OrderCreatedEvent.class);
+    }
+
+    @Benchmark
+    public byte[] serializeCouponIssued() throws IOException {
+        return objectMapper.writeValueAsBytes(couponIssuedEvent);
+    }
+
+    @Benchmark
+    public CouponIssuedEvent deserializeCouponIssued() throws IOException {
+        return objectMapper.readValue(couponIssuedJson, CouponIssuedEvent.class);
+    }
+}
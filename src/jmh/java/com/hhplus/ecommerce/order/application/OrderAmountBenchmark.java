@@ -0,0 +1,78 @@
+package com.hhplus.ecommerce.order.application;
+
+import com.hhplus.ecommerce.coupon.domain.Coupon;
+import com.hhplus.ecommerce.coupon.domain.CouponType;
+import com.hhplus.ecommerce.coupon.domain.UserCoupon;
+import com.hhplus.ecommerce.product.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 금액 계산 벤치마크
+ *
+ * 측정 대상:
+ * - OrderService.calculateOrderAmount (라인별 price × quantity 후 stream reduce)
+ * - 쿠폰 적용 시 Coupon.calculateDiscountAmount 포함
+ *
+ * 파라미터:
+ * - lineCount: 장바구니 라인 수 (라인당 multiply + add로 BigDecimal 2개 할당)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderAmountBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int lineCount;
+
+    private List<OrderService.OrderLineItem> items;
+    private UserCoupon userCoupon;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            Product product = Product.builder()
+                .id((long) i + 1)
+                .price(BigDecimal.valueOf(1000L * (i + 1) + 990))
+                .stock(100)
+                .build();
+            items.add(new OrderService.OrderLineItem(product, (i % 3) + 1));
+        }
+
+        userCoupon = UserCoupon.builder()
+            .coupon(Coupon.builder()
+                .type(CouponType.PERCENTAGE)
+                .discountValue(BigDecimal.valueOf(10))
+                .maximumDiscountAmount(BigDecimal.valueOf(20000))
+                .build())
+            .build();
+    }
+
+    @Benchmark
+    public BigDecimal withoutCoupon() {
+        return OrderService.calculateOrderAmount(items, null).getFinalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal withCoupon() {
+        return OrderService.calculateOrderAmount(items, userCoupon).getFinalAmount();
+    }
+}
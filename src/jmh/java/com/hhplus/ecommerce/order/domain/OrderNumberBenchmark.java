@@ -0,0 +1,56 @@
+package com.hhplus.ecommerce.order.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 번호 생성 벤치마크
+ *
+ * 측정 대상:
+ * - OrderSequence.generateOrderNumber (비관적 락 경로, 엔티티의 date/sequence로 포맷)
+ * - OrderSequence.formatOrderNumber (블록 할당 경로, 메모리 시퀀스로 포맷)
+ * - 포맷 비용: 날짜 replace + 7자리 문자열 substring + StringBuilder
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderNumberBenchmark {
+
+    private OrderSequence orderSequence;
+    private String date;
+    private long sequence;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        orderSequence = OrderSequence.create(LocalDate.now());
+        date = orderSequence.getDate();
+        sequence = 0L;
+    }
+
+    @Benchmark
+    public String generateOrderNumber() {
+        orderSequence.incrementAndGet();
+        return orderSequence.generateOrderNumber();
+    }
+
+    @Benchmark
+    public String formatOrderNumber() {
+        sequence = sequence < OrderSequence.MAX_DAILY_SEQUENCE ? sequence + 1 : 1L;
+        return OrderSequence.formatOrderNumber(date, sequence);
+    }
+}
@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.cart.application;
 
 import com.hhplus.ecommerce.cart.domain.Cart;
 import com.hhplus.ecommerce.cart.domain.CartItem;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRedisRepository.CartLine;
 import com.hhplus.ecommerce.product.domain.Product;
 import com.hhplus.ecommerce.user.domain.User;
 import com.hhplus.ecommerce.cart.infrastructure.persistence.CartItemRepository;
@@ -14,6 +15,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 장바구니 애플리케이션 서비스
@@ -29,6 +34,10 @@ import java.time.LocalDateTime;
  * 레이어 의존성:
  * - Infrastructure Layer: CartRepository, CartItemRepository, ProductRepository, UserRepository
  * - Domain Layer: Cart, CartItem, Product, User
+ *
+ * Redis 장바구니 모드 (cart.store.redis-enabled=true):
+ * - 조회/추가/수량 변경/삭제는 CartStoreService(Redis Hash)로 처리, DB는 write-back으로 반영
+ * - 반환되는 Cart/CartItem은 영속 상태가 아님 (항목 ID 없음)
  */
 @Slf4j
 @Service
@@ -40,6 +49,7 @@ public class CartService {
     private final CartItemRepository cartItemRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final CartStoreService cartStoreService;
 
     /**
      * 장바구니 조회
@@ -55,6 +65,10 @@ public class CartService {
     public Cart getCart(Long userId) {
         log.info("[UC-007] 장바구니 조회 - userId: {}", userId);
 
+        if (cartStoreService.isEnabled()) {
+            return getCartFromStore(userId);
+        }
+
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
@@ -90,6 +104,18 @@ public class CartService {
             throw new IllegalArgumentException("수량은 1 이상이어야 합니다");
         }
 
+        // Redis 장바구니 모드: 상품 확인 후 HINCRBY 1회
+        if (cartStoreService.isEnabled()) {
+            Product product = getOrderableProduct(productId, quantity);
+            CartLine line = cartStoreService.add(userId, product, quantity);
+
+            return CartItem.builder()
+                .product(product)
+                .quantity(line.getQuantity())
+                .priceAtAdd(line.getPriceAtAdd())
+                .build();
+        }
+
         // Step 1: 사용자 조회
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
@@ -99,23 +125,7 @@ public class CartService {
             .orElseGet(() -> createEmptyCart(user));
 
         // Step 3: 상품 조회 및 재고 확인
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다"));
-
-        if (!product.isAvailable()) {
-            throw new IllegalStateException("판매 중인 상품이 아닙니다");
-        }
-
-        if (product.getStock() < quantity) {
-            throw new IllegalStateException(
-                new StringBuilder("재고가 부족합니다. 요청: ")
-                    .append(quantity)
-                    .append("개, 가능: ")
-                    .append(product.getStock())
-                    .append("개")
-                    .toString()
-            );
-        }
+        Product product = getOrderableProduct(productId, quantity);
 
         // Step 4: 중복 상품 확인
         CartItem cartItem = cartItemRepository.findByCartAndProduct(cart, product)
@@ -166,20 +176,46 @@ public class CartService {
 
         // 재고 확인
         Product product = cartItem.getProduct();
-        if (product.getStock() < quantity) {
-            throw new IllegalStateException(
-                new StringBuilder("재고가 부족합니다. 요청: ")
-                    .append(quantity)
-                    .append("개, 가능: ")
-                    .append(product.getStock())
-                    .append("개")
-                    .toString()
-            );
+        validateStock(product, quantity);
+
+        if (cartStoreService.isEnabled()) {
+            cartStoreService.updateQuantity(cartItem.getCart().getUser().getId(), product.getId(), quantity);
+            return;
         }
 
         cartItem.updateQuantity(quantity);
     }
 
+    /**
+     * 장바구니 수량 변경 (상품 기준)
+     *
+     * Use Case: UC-009
+     * - Redis 장바구니 모드에서는 write-back 전 항목에 ID가 없으므로 상품 ID로 지정
+     *
+     * @param userId 사용자 ID
+     * @param productId 상품 ID
+     * @param quantity 변경할 수량
+     */
+    @Transactional
+    public void updateProductQuantity(Long userId, Long productId, Integer quantity) {
+        log.info("[UC-009] 장바구니 수량 변경 - userId: {}, productId: {}, quantity: {}", userId, productId, quantity);
+
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("수량은 1 이상이어야 합니다");
+        }
+
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다"));
+        validateStock(product, quantity);
+
+        if (cartStoreService.isEnabled()) {
+            cartStoreService.updateQuantity(userId, productId, quantity);
+            return;
+        }
+
+        findCartItem(userId, product).updateQuantity(quantity);
+    }
+
     /**
      * 장바구니 항목 삭제
      *
@@ -194,9 +230,34 @@ public class CartService {
         CartItem cartItem = cartItemRepository.findById(cartItemId)
             .orElseThrow(() -> new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다"));
 
+        if (cartStoreService.isEnabled()) {
+            cartStoreService.remove(cartItem.getCart().getUser().getId(), cartItem.getProduct().getId());
+            return;
+        }
+
         cartItemRepository.delete(cartItem);
     }
 
+    /**
+     * 장바구니 항목 삭제 (상품 기준)
+     *
+     * Use Case: UC-010
+     *
+     * @param userId 사용자 ID
+     * @param productId 상품 ID
+     */
+    @Transactional
+    public void removeProduct(Long userId, Long productId) {
+        log.info("[UC-010] 장바구니 항목 삭제 - userId: {}, productId: {}", userId, productId);
+
+        if (cartStoreService.isEnabled()) {
+            cartStoreService.remove(userId, productId);
+            return;
+        }
+
+        cartItemRepository.delete(findCartItem(userId, productRepository.getReferenceById(productId)));
+    }
+
     /**
      * 장바구니 비우기
      *
@@ -209,6 +270,11 @@ public class CartService {
     public void clearCart(Long userId) {
         log.info("[UC-016] 장바구니 비우기 - userId: {}", userId);
 
+        if (cartStoreService.isEnabled()) {
+            cartStoreService.clear(userId);
+            return;
+        }
+
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
@@ -238,4 +304,67 @@ public class CartService {
 
         return cartRepository.save(cart);
     }
+
+    /**
+     * Redis 장바구니 조회 (상품 정보는 findAllById 1회)
+     *
+     * 판매 중단 등으로 삭제된 상품은 제외
+     */
+    private Cart getCartFromStore(Long userId) {
+        List<CartLine> lines = cartStoreService.getLines(userId);
+        Map<Long, Product> products = productRepository.findAllById(
+                lines.stream().map(CartLine::getProductId).toList())
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        Cart cart = Cart.builder()
+            .user(userRepository.getReferenceById(userId))
+            .build();
+        for (CartLine line : lines) {
+            Product product = products.get(line.getProductId());
+            if (product != null) {
+                cart.syncItem(product, line.getQuantity(), line.getPriceAtAdd());
+            }
+        }
+        return cart;
+    }
+
+    /**
+     * 상품 조회 + 판매 여부/재고 확인
+     */
+    private Product getOrderableProduct(Long productId, Integer quantity) {
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다"));
+
+        if (!product.isAvailable()) {
+            throw new IllegalStateException("판매 중인 상품이 아닙니다");
+        }
+
+        validateStock(product, quantity);
+        return product;
+    }
+
+    private void validateStock(Product product, Integer quantity) {
+        if (product.getStock() < quantity) {
+            throw new IllegalStateException(
+                new StringBuilder("재고가 부족합니다. 요청: ")
+                    .append(quantity)
+                    .append("개, 가능: ")
+                    .append(product.getStock())
+                    .append("개")
+                    .toString()
+            );
+        }
+    }
+
+    private CartItem findCartItem(Long userId, Product product) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+
+        Cart cart = cartRepository.findByUser(user)
+            .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다"));
+
+        return cartItemRepository.findByCartAndProduct(cart, product)
+            .orElseThrow(() -> new IllegalArgumentException("장바구니에 해당 상품이 없습니다"));
+    }
 }
@@ -0,0 +1,252 @@
+package com.hhplus.ecommerce.cart.application;
+
+import com.hhplus.ecommerce.cart.domain.Cart;
+import com.hhplus.ecommerce.cart.domain.CartItem;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartItemRepository;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRedisRepository;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRedisRepository.CartLine;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRepository;
+import com.hhplus.ecommerce.config.CartStoreProperties;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 장바구니 Redis 저장소 애플리케이션 서비스
+ *
+ * Application Layer - Use Case 실행 계층
+ *
+ * 책임:
+ * - Redis Hash 장바구니 조회/추가/수량 변경/삭제 (미적재 시 DB에서 적재)
+ * - 변경된 장바구니의 carts/cart_items 반영 (write-behind)
+ * - 주문 생성 시 주문 상품을 DB 장바구니에서 즉시 제거, 커밋 후 Redis 장바구니에서 차감
+ *
+ * 기존 경로와의 차이:
+ * - 기존: 상품 추가마다 사용자/장바구니/상품/장바구니 항목 조회 + INSERT/UPDATE
+ * - Redis: 상품 조회(가격/재고 확인) 1회 + Lua Script 1회 (HINCRBY), DB는 스케줄러가 사용자 단위로 반영
+ *
+ * 정합성:
+ * - Redis 키가 있으면 Redis가 기준, 없으면(만료/최초) DB가 기준
+ * - write-back 전 Redis 장애로 키가 유실되면 마지막 반영 이후 변경분은 유실됨 (장바구니는 재구성 가능한 상태)
+ *
+ * 활성화:
+ * - cart.store.redis-enabled=true (기본값 false, 기존 경로 유지)
+ *
+ * 레이어 의존성:
+ * - Infrastructure Layer: CartRedisRepository, CartRepository, CartItemRepository, ProductRepository, UserRepository
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartStoreService {
+
+    private final CartRedisRepository cartRedisRepository;
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final CartStoreProperties cartStoreProperties;
+
+    public boolean isEnabled() {
+        return cartStoreProperties.isRedisEnabled();
+    }
+
+    /**
+     * 장바구니 항목 조회 (미적재 시 DB에서 적재)
+     *
+     * @param userId 사용자 ID
+     * @return 상품 ID 오름차순 항목 목록
+     * @throws IllegalArgumentException 사용자 없음
+     */
+    @Transactional(readOnly = true)
+    public List<CartLine> getLines(Long userId) {
+        List<CartLine> lines = cartRedisRepository.findLines(userId);
+        return lines != null ? lines : load(userId);
+    }
+
+    /**
+     * 상품 추가 (수량 증가, 담은 시점 가격은 최초 추가 시 가격 유지)
+     *
+     * @return 추가 후 항목
+     */
+    public CartLine add(Long userId, Product product, int quantity) {
+        CartLine line = cartRedisRepository.add(userId, product.getId(), quantity, product.getPrice(), ttlSeconds());
+        if (line == null) {
+            load(userId);
+            line = cartRedisRepository.add(userId, product.getId(), quantity, product.getPrice(), ttlSeconds());
+        }
+
+        if (line == null) {
+            throw new IllegalStateException("장바구니를 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return line;
+    }
+
+    /**
+     * 수량 변경
+     *
+     * @throws IllegalArgumentException 장바구니에 없는 상품
+     */
+    public void updateQuantity(Long userId, Long productId, int quantity) {
+        String result = cartRedisRepository.updateQuantity(userId, productId, quantity, ttlSeconds());
+        if ("NOT_LOADED".equals(result)) {
+            load(userId);
+            result = cartRedisRepository.updateQuantity(userId, productId, quantity, ttlSeconds());
+        }
+
+        if ("NOT_IN_CART".equals(result)) {
+            throw new IllegalArgumentException("장바구니에 해당 상품이 없습니다");
+        }
+        if (!"SUCCESS".equals(result)) {
+            throw new IllegalStateException("장바구니를 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 상품 삭제
+     */
+    public void remove(Long userId, Long productId) {
+        Map<Long, Integer> removal = Map.of(productId, 0);
+        if (!cartRedisRepository.remove(userId, removal, ttlSeconds())) {
+            load(userId);
+            cartRedisRepository.remove(userId, removal, ttlSeconds());
+        }
+    }
+
+    /**
+     * 장바구니 비우기 (DB는 write-back 시 반영)
+     */
+    public void clear(Long userId) {
+        cartRedisRepository.clear(userId, ttlSeconds());
+    }
+
+    /**
+     * 주문 상품 장바구니 반영 (주문 트랜잭션 내에서 호출)
+     *
+     * 처리 흐름:
+     * 1. 주문 트랜잭션에서 DB 장바구니의 주문 상품 항목 삭제 (주문과 함께 커밋/롤백)
+     * 2. 커밋 후 Redis 장바구니에서 주문 수량만큼 차감
+     *    → 주문 중 추가로 담은 수량은 남고, 롤백 시 장바구니 유지
+     * 3. 차감 실패 시 Redis 장바구니 제거 → DB(주문 상품 삭제 완료)가 기준
+     *    (dirty 재등록은 Redis의 주문 상품을 DB에 되살리므로 사용하지 않음)
+     *
+     * @param userId 사용자 ID
+     * @param orderedLines 상품 ID → 주문 수량
+     */
+    public void removeOrderedLines(Long userId, Map<Long, Integer> orderedLines) {
+        cartItemRepository.deleteByUserIdAndProductIds(userId, orderedLines.keySet());
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>(orderedLines);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            removeFromRedis(userId, quantities);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removeFromRedis(userId, quantities);
+            }
+        });
+    }
+
+    /**
+     * 주문 상품 Redis 차감 (주문은 이미 커밋됨 → 예외를 호출자에게 전파하지 않음)
+     */
+    private void removeFromRedis(Long userId, Map<Long, Integer> quantities) {
+        try {
+            cartRedisRepository.remove(userId, quantities, ttlSeconds());
+        } catch (RuntimeException e) {
+            log.warn("[장바구니] 주문 상품 Redis 차감 실패, 장바구니 제거 후 DB 기준으로 전환 - userId: {}, error: {}",
+                     userId, e.getMessage());
+            try {
+                cartRedisRepository.evict(userId);
+            } catch (RuntimeException evictFailure) {
+                log.error("[장바구니] Redis 장바구니 제거 실패 - userId: {}, error: {}",
+                          userId, evictFailure.getMessage(), evictFailure);
+            }
+        }
+    }
+
+    /**
+     * Redis 장바구니를 carts/cart_items에 반영 (write-back)
+     *
+     * - Redis 키가 없으면(만료) DB가 기준이므로 건너뜀
+     * - Redis에 없는 상품은 삭제, 있는 상품은 수량 동기화/추가
+     *
+     * @param userId 사용자 ID
+     * @return 반영했으면 true
+     */
+    @Transactional
+    public boolean writeBack(Long userId) {
+        List<CartLine> lines = cartRedisRepository.findLines(userId);
+        if (lines == null) {
+            return false;
+        }
+
+        Cart cart = cartRepository.findByUserIdWithItems(userId)
+            .orElseGet(() -> cartRepository.save(Cart.builder()
+                .user(userRepository.getReferenceById(userId))
+                .build()));
+
+        Set<Long> productIds = lines.stream().map(CartLine::getProductId).collect(Collectors.toSet());
+        cart.retainItems(productIds);
+        for (CartLine line : lines) {
+            cart.syncItem(productRepository.getReferenceById(line.getProductId()),
+                          line.getQuantity(), line.getPriceAtAdd());
+        }
+        return true;
+    }
+
+    /**
+     * DB 장바구니를 Redis에 적재
+     *
+     * @return 적재된 항목 (다른 요청이 먼저 적재했으면 Redis 기준)
+     */
+    private List<CartLine> load(Long userId) {
+        List<CartLine> lines = cartRepository.findByUserIdWithItems(userId)
+            .map(cart -> toLines(cart.getItems()))
+            .orElseGet(() -> {
+                if (!userRepository.existsById(userId)) {
+                    throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+                }
+                return Collections.emptyList();
+            });
+
+        if (cartRedisRepository.loadIfAbsent(userId, lines, ttlSeconds())) {
+            log.debug("[장바구니] Redis 적재 - userId: {}, 항목 수: {}", userId, lines.size());
+            return lines;
+        }
+
+        List<CartLine> current = cartRedisRepository.findLines(userId);
+        return current != null ? current : lines;
+    }
+
+    private List<CartLine> toLines(List<CartItem> items) {
+        return items.stream()
+            .map(item -> CartLine.builder()
+                .productId(item.getProduct().getId())
+                .quantity(item.getQuantity())
+                .priceAtAdd(item.getPriceAtAdd())
+                .build())
+            .toList();
+    }
+
+    private long ttlSeconds() {
+        return Duration.ofHours(cartStoreProperties.getTtlHours()).toSeconds();
+    }
+}
@@ -0,0 +1,112 @@
+package com.hhplus.ecommerce.cart.application;
+
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRedisRepository;
+import com.hhplus.ecommerce.config.CartStoreProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장바구니 write-back 스케줄러
+ *
+ * Infrastructure Layer - 배치 작업 스케줄링
+ *
+ * 책임:
+ * - 변경된 Redis 장바구니(cart:dirty)를 carts/cart_items에 반영
+ *
+ * 실행 주기:
+ * - cart.store.write-back-delay-ms (기본 5초)
+ *
+ * 동시성 제어:
+ * - Redisson 분산락으로 하나의 서버만 실행 (같은 사용자 장바구니를 두 서버가 동시에 반영하지 않도록)
+ * - 반영 중 변경된 장바구니는 cart:dirty에 다시 등록되어 다음 주기에 반영
+ *
+ * 실행 조건:
+ * - cart.store.redis-enabled=true 인 경우에만 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CartWriteBackScheduler {
+
+    private final CartStoreService cartStoreService;
+    private final CartRedisRepository cartRedisRepository;
+    private final CartStoreProperties cartStoreProperties;
+    private final RedissonClient redissonClient;
+
+    // Scheduler Constants
+    private static final String LOCK_KEY_CART_WRITE_BACK = "lock:batch:cart-write-back";
+    private static final long WAIT_TIME_SECONDS = 0L;
+    private static final long LEASE_TIME_SECONDS = 30L;
+
+    /**
+     * 변경된 장바구니 DB 반영
+     *
+     * 처리 흐름:
+     * 1. 반영 대상 사용자 인출 (SPOP, 최대 write-back-batch-size명)
+     * 2. 사용자별 트랜잭션으로 Redis 장바구니 → carts/cart_items 동기화
+     * 3. 실패한 사용자는 cart:dirty에 재등록 (다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${cart.store.write-back-delay-ms:5000}")
+    public void writeBack() {
+        if (!cartStoreService.isEnabled()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(LOCK_KEY_CART_WRITE_BACK);
+
+        try {
+            boolean isLocked = lock.tryLock(WAIT_TIME_SECONDS, LEASE_TIME_SECONDS, TimeUnit.SECONDS);
+            if (!isLocked) {
+                log.debug("[장바구니] 다른 인스턴스에서 write-back 실행 중 - 스킵");
+                return;
+            }
+
+            flushDirtyCarts();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[장바구니] 락 획득 중 인터럽트 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 반영 대상 사용자 1회분 처리
+     *
+     * @return 반영한 사용자 수
+     */
+    public int flushDirtyCarts() {
+        List<Long> userIds = cartRedisRepository.popDirtyUserIds(cartStoreProperties.getWriteBackBatchSize());
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> failed = new ArrayList<>();
+        int written = 0;
+        for (Long userId : userIds) {
+            try {
+                if (cartStoreService.writeBack(userId)) {
+                    written++;
+                }
+            } catch (Exception e) {
+                log.error("[장바구니] write-back 실패 - userId: {} (다음 주기 재시도)", userId, e);
+                failed.add(userId);
+            }
+        }
+
+        cartRedisRepository.markDirty(failed);
+        log.info("[장바구니] write-back 완료 - 반영: {}명, 실패: {}명", written, failed.size());
+        return written;
+    }
+}
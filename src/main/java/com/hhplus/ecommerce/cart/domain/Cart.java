@@ -9,6 +9,7 @@ import lombok.*;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 @Table(name = "carts", indexes = {
@@ -78,6 +79,29 @@ public class Cart extends BaseEntity {
         this.items.clear();
     }
 
+    // 비즈니스 로직: 항목 동기화 (Redis 장바구니 write-back, 담은 시점 가격 유지)
+    public void syncItem(Product product, Integer quantity, BigDecimal priceAtAdd) {
+        CartItem existingItem = findItemByProductId(product.getId());
+        if (existingItem != null) {
+            if (!existingItem.getQuantity().equals(quantity)) {
+                existingItem.updateQuantity(quantity);
+            }
+            return;
+        }
+
+        this.items.add(CartItem.builder()
+                .cart(this)
+                .product(product)
+                .quantity(quantity)
+                .priceAtAdd(priceAtAdd)
+                .build());
+    }
+
+    // 비즈니스 로직: 지정한 상품 외 항목 제거 (Redis 장바구니 write-back)
+    public void retainItems(Set<Long> productIds) {
+        this.items.removeIf(item -> !productIds.contains(item.getProduct().getId()));
+    }
+
     // 헬퍼 메서드: 상품으로 아이템 찾기
     private CartItem findItemByProduct(Product product) {
         return items.stream()
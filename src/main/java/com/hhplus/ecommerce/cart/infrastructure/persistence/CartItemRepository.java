@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -85,6 +86,22 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     @Query("DELETE FROM CartItem ci WHERE ci.cart = :cart")
     void deleteByCart(@Param("cart") Cart cart);
 
+    /**
+     * 사용자 장바구니에서 주문한 상품 항목 삭제
+     *
+     * Use Case:
+     * - UC-012: 주문 생성 시 장바구니 반영 (Redis 장바구니 모드, 주문 트랜잭션과 함께 커밋)
+     *
+     * @param userId 사용자 ID
+     * @param productIds 주문한 상품 ID 목록
+     * @return 삭제된 항목 수
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id IN " +
+           "(SELECT c.id FROM Cart c WHERE c.user.id = :userId) " +
+           "AND ci.product.id IN :productIds")
+    int deleteByUserIdAndProductIds(@Param("userId") Long userId, @Param("productIds") Collection<Long> productIds);
+
     /**
      * 장바구니 항목 수 조회
      *
@@ -0,0 +1,363 @@
+package com.hhplus.ecommerce.cart.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 장바구니 Redis Repository
+ *
+ * Infrastructure Layer - Redis 데이터 접근 계층
+ *
+ * 책임:
+ * - 사용자별 장바구니를 Redis Hash로 저장 (수량 증가는 HINCRBY로 원자적 처리)
+ * - DB(carts/cart_items) 반영 대기 사용자 관리 (write-behind)
+ *
+ * Redis 자료구조:
+ * 1. Hash: 사용자 장바구니
+ *    - Key: cart:{userId}
+ *    - Field: {productId}:qty → 수량, {productId}:price → 담은 시점 가격
+ *    - Field: _loaded → DB에서 적재된 장바구니 표시 (빈 장바구니와 미적재 구분)
+ *
+ * 2. Set: DB 미반영 사용자
+ *    - Key: cart:dirty
+ *    - Member: {userId}
+ *
+ * 불변식:
+ * - 키가 없으면 DB가 기준 (다음 접근 시 DB에서 적재)
+ * - 키가 있으면 Redis가 기준, cart:dirty에 있는 사용자는 write-back 대상
+ * - 변경은 모두 Lua Script로 실행 (Hash 변경 + TTL 갱신 + dirty 등록을 원자적으로)
+ *
+ * Use Cases:
+ * - UC-007: 장바구니 조회
+ * - UC-008 ~ UC-010: 장바구니 추가/수량 변경/삭제
+ * - UC-012: 주문 생성 (장바구니 조회, 주문 상품 제거)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CartRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // Redis Constants
+    private static final String CART_KEY_PREFIX = "cart:";
+    private static final String CART_DIRTY_KEY = "cart:dirty";
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String QUANTITY_SUFFIX = ":qty";
+    private static final String PRICE_SUFFIX = ":price";
+
+    /**
+     * Lua Script: 상품 추가 (수량 증가)
+     *
+     * KEYS[1] = cart:{userId}, KEYS[2] = cart:dirty
+     * ARGV = {productId, quantity, priceAtAdd, userId, ttlSeconds}
+     *
+     * 반환값:
+     * - {1, 수량, 담은 시점 가격}: 추가 성공 (가격은 최초 추가 시점 유지)
+     * - {0, "NOT_LOADED"}: DB에서 적재되지 않은 장바구니
+     */
+    private static final String ADD_SCRIPT =
+        "if redis.call('EXISTS', KEYS[1]) == 0 then\n" +
+        "    return {0, 'NOT_LOADED'}\n" +
+        "end\n" +
+        "local quantity = redis.call('HINCRBY', KEYS[1], ARGV[1] .. ':qty', ARGV[2])\n" +
+        "redis.call('HSETNX', KEYS[1], ARGV[1] .. ':price', ARGV[3])\n" +
+        "redis.call('EXPIRE', KEYS[1], ARGV[5])\n" +
+        "redis.call('SADD', KEYS[2], ARGV[4])\n" +
+        "return {1, quantity, redis.call('HGET', KEYS[1], ARGV[1] .. ':price')}\n";
+
+    /**
+     * Lua Script: 수량 변경
+     *
+     * KEYS[1] = cart:{userId}, KEYS[2] = cart:dirty
+     * ARGV = {productId, quantity, userId, ttlSeconds}
+     *
+     * 반환값:
+     * - {1}: 변경 성공
+     * - {0, "NOT_LOADED" | "NOT_IN_CART"}
+     */
+    private static final String UPDATE_SCRIPT =
+        "if redis.call('EXISTS', KEYS[1]) == 0 then\n" +
+        "    return {0, 'NOT_LOADED'}\n" +
+        "end\n" +
+        "if redis.call('HEXISTS', KEYS[1], ARGV[1] .. ':qty') == 0 then\n" +
+        "    return {0, 'NOT_IN_CART'}\n" +
+        "end\n" +
+        "redis.call('HSET', KEYS[1], ARGV[1] .. ':qty', ARGV[2])\n" +
+        "redis.call('EXPIRE', KEYS[1], ARGV[4])\n" +
+        "redis.call('SADD', KEYS[2], ARGV[3])\n" +
+        "return {1}\n";
+
+    /**
+     * Lua Script: 상품 차감 (주문 생성 후 주문 수량만큼 제거, 0 이하면 항목 삭제)
+     *
+     * KEYS[1] = cart:{userId}, KEYS[2] = cart:dirty
+     * ARGV = {userId, ttlSeconds, productId1, quantity1, productId2, quantity2, ...}
+     * - quantity가 0이면 수량과 무관하게 항목 삭제
+     *
+     * 반환값:
+     * - {1}: 처리 완료 / {0, "NOT_LOADED"}: 적재되지 않은 장바구니 (변경 없음)
+     */
+    private static final String REMOVE_SCRIPT =
+        "if redis.call('EXISTS', KEYS[1]) == 0 then\n" +
+        "    return {0, 'NOT_LOADED'}\n" +
+        "end\n" +
+        "for i = 3, #ARGV, 2 do\n" +
+        "    local field = ARGV[i] .. ':qty'\n" +
+        "    local quantity = tonumber(ARGV[i + 1])\n" +
+        "    local remain = 0\n" +
+        "    if quantity > 0 and redis.call('HEXISTS', KEYS[1], field) == 1 then\n" +
+        "        remain = redis.call('HINCRBY', KEYS[1], field, -quantity)\n" +
+        "    end\n" +
+        "    if remain <= 0 then\n" +
+        "        redis.call('HDEL', KEYS[1], field, ARGV[i] .. ':price')\n" +
+        "    end\n" +
+        "end\n" +
+        "redis.call('EXPIRE', KEYS[1], ARGV[2])\n" +
+        "redis.call('SADD', KEYS[2], ARGV[1])\n" +
+        "return {1}\n";
+
+    /**
+     * Lua Script: 장바구니 비우기 (적재 표시만 남김)
+     *
+     * KEYS[1] = cart:{userId}, KEYS[2] = cart:dirty
+     * ARGV = {userId, ttlSeconds}
+     */
+    private static final String CLEAR_SCRIPT =
+        "redis.call('DEL', KEYS[1])\n" +
+        "redis.call('HSET', KEYS[1], '_loaded', '1')\n" +
+        "redis.call('EXPIRE', KEYS[1], ARGV[2])\n" +
+        "redis.call('SADD', KEYS[2], ARGV[1])\n" +
+        "return {1}\n";
+
+    /**
+     * Lua Script: DB 장바구니 적재 (이미 있으면 유지)
+     *
+     * KEYS[1] = cart:{userId}
+     * ARGV = {ttlSeconds, productId1, quantity1, price1, ...}
+     *
+     * 반환값: {1}: 적재 / {0}: 이미 적재됨 (다른 요청이 먼저 적재)
+     */
+    private static final String LOAD_SCRIPT =
+        "if redis.call('EXISTS', KEYS[1]) == 1 then\n" +
+        "    return {0}\n" +
+        "end\n" +
+        "redis.call('HSET', KEYS[1], '_loaded', '1')\n" +
+        "for i = 2, #ARGV, 3 do\n" +
+        "    redis.call('HSET', KEYS[1], ARGV[i] .. ':qty', ARGV[i + 1], ARGV[i] .. ':price', ARGV[i + 2])\n" +
+        "end\n" +
+        "redis.call('EXPIRE', KEYS[1], ARGV[1])\n" +
+        "return {1}\n";
+
+    /**
+     * 상품 추가 (수량 증가)
+     *
+     * @return 추가 후 항목, 적재되지 않은 장바구니면 null
+     */
+    public CartLine add(Long userId, Long productId, int quantity, BigDecimal priceAtAdd, long ttlSeconds) {
+        List<Object> result = eval(ADD_SCRIPT, 2,
+            cartKey(userId), CART_DIRTY_KEY,
+            productId.toString(), String.valueOf(quantity), priceAtAdd.toPlainString(),
+            userId.toString(), String.valueOf(ttlSeconds));
+
+        if (result.isEmpty() || parseToLong(result.get(0)) == 0) {
+            return null;
+        }
+
+        return CartLine.builder()
+            .productId(productId)
+            .quantity((int) parseToLong(result.get(1)))
+            .priceAtAdd(new BigDecimal(parseToString(result.get(2))))
+            .build();
+    }
+
+    /**
+     * 수량 변경
+     *
+     * @return "SUCCESS", "NOT_LOADED", "NOT_IN_CART"
+     */
+    public String updateQuantity(Long userId, Long productId, int quantity, long ttlSeconds) {
+        List<Object> result = eval(UPDATE_SCRIPT, 2,
+            cartKey(userId), CART_DIRTY_KEY,
+            productId.toString(), String.valueOf(quantity), userId.toString(), String.valueOf(ttlSeconds));
+
+        if (result.isEmpty()) {
+            return "NOT_LOADED";
+        }
+        return parseToLong(result.get(0)) == 1 ? "SUCCESS" : parseToString(result.get(1));
+    }
+
+    /**
+     * 상품 차감/삭제
+     *
+     * @param quantities 상품 ID → 차감 수량 (0이면 항목 삭제)
+     * @return 적재된 장바구니에 반영했으면 true
+     */
+    public boolean remove(Long userId, Map<Long, Integer> quantities, long ttlSeconds) {
+        List<String> args = new ArrayList<>();
+        args.add(userId.toString());
+        args.add(String.valueOf(ttlSeconds));
+        quantities.forEach((productId, quantity) -> {
+            args.add(productId.toString());
+            args.add(quantity.toString());
+        });
+
+        List<Object> result = eval(REMOVE_SCRIPT, 2, cartKey(userId), CART_DIRTY_KEY, args.toArray(new String[0]));
+        return !result.isEmpty() && parseToLong(result.get(0)) == 1;
+    }
+
+    /**
+     * 장바구니 비우기
+     */
+    public void clear(Long userId, long ttlSeconds) {
+        eval(CLEAR_SCRIPT, 2, cartKey(userId), CART_DIRTY_KEY, userId.toString(), String.valueOf(ttlSeconds));
+    }
+
+    /**
+     * DB 장바구니 적재 (이미 적재되어 있으면 유지)
+     *
+     * @return 적재했으면 true
+     */
+    public boolean loadIfAbsent(Long userId, Collection<CartLine> lines, long ttlSeconds) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds));
+        for (CartLine line : lines) {
+            args.add(line.getProductId().toString());
+            args.add(String.valueOf(line.getQuantity()));
+            args.add(line.getPriceAtAdd().toPlainString());
+        }
+
+        List<Object> result = eval(LOAD_SCRIPT, 1, cartKey(userId), null, args.toArray(new String[0]));
+        return !result.isEmpty() && parseToLong(result.get(0)) == 1;
+    }
+
+    /**
+     * 장바구니 조회
+     *
+     * @return 상품 ID 오름차순 항목 목록, 적재되지 않은 장바구니면 null
+     */
+    public List<CartLine> findLines(Long userId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(cartKey(userId));
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Integer> quantities = new TreeMap<>();
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = entry.getKey().toString();
+            if (field.endsWith(QUANTITY_SUFFIX)) {
+                quantities.put(productIdOf(field, QUANTITY_SUFFIX), Integer.parseInt(entry.getValue().toString()));
+            } else if (field.endsWith(PRICE_SUFFIX)) {
+                prices.put(productIdOf(field, PRICE_SUFFIX), new BigDecimal(entry.getValue().toString()));
+            }
+        }
+
+        List<CartLine> lines = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> lines.add(CartLine.builder()
+            .productId(productId)
+            .quantity(quantity)
+            .priceAtAdd(prices.getOrDefault(productId, BigDecimal.ZERO))
+            .build()));
+        return lines;
+    }
+
+    /**
+     * DB 미반영 사용자 인출 (SPOP, 인출한 사용자는 다른 인스턴스가 중복 처리하지 않음)
+     */
+    public List<Long> popDirtyUserIds(int count) {
+        List<String> members = stringRedisTemplate.opsForSet().pop(CART_DIRTY_KEY, count);
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return members.stream().map(Long::parseLong).toList();
+    }
+
+    /**
+     * DB 미반영 사용자 재등록 (반영 실패 시)
+     */
+    public void markDirty(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForSet().add(CART_DIRTY_KEY, userIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    public boolean isDirty(Long userId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(CART_DIRTY_KEY, userId.toString()));
+    }
+
+    public void evict(Long userId) {
+        stringRedisTemplate.delete(cartKey(userId));
+        stringRedisTemplate.opsForSet().remove(CART_DIRTY_KEY, userId.toString());
+    }
+
+    private String cartKey(Long userId) {
+        return CART_KEY_PREFIX + userId;
+    }
+
+    private Long productIdOf(String field, String suffix) {
+        return Long.parseLong(field.substring(0, field.length() - suffix.length()));
+    }
+
+    /**
+     * KEYS = {key1, key2(선택)}, ARGV = args
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> eval(String script, int numKeys, String key1, String key2, String... args) {
+        byte[][] keysAndArgs = new byte[numKeys + args.length][];
+        keysAndArgs[0] = bytes(key1);
+        if (numKeys > 1) {
+            keysAndArgs[1] = bytes(key2);
+        }
+        for (int i = 0; i < args.length; i++) {
+            keysAndArgs[numKeys + i] = bytes(args[i]);
+        }
+
+        List<Object> result = stringRedisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            Object evalResult = connection.eval(bytes(script), ReturnType.MULTI, numKeys, keysAndArgs);
+            if (evalResult instanceof List) {
+                return (List<Object>) evalResult;
+            }
+            return Collections.emptyList();
+        });
+        return result != null ? result : Collections.emptyList();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private long parseToLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return Long.parseLong(parseToString(value));
+    }
+
+    private String parseToString(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof byte[]) {
+            return new String((byte[]) value, StandardCharsets.UTF_8);
+        }
+        return value.toString();
+    }
+
+    @lombok.Builder
+    @lombok.Getter
+    public static class CartLine {
+        private Long productId;
+        private int quantity;
+        private BigDecimal priceAtAdd;
+    }
+}
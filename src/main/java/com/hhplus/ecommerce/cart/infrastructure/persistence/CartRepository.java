@@ -66,6 +66,21 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
            "WHERE c.user = :user")
     Optional<Cart> findByUserWithItems(@Param("user") User user);
 
+    /**
+     * 사용자 ID로 장바구니 조회 (항목 + 상품 Fetch Join)
+     *
+     * Use Case:
+     * - Redis 장바구니 적재 / write-back (사용자 엔티티 조회 없이 장바구니만 조회)
+     *
+     * @param userId 사용자 ID
+     * @return 장바구니 (Optional)
+     */
+    @Query("SELECT c FROM Cart c " +
+           "LEFT JOIN FETCH c.items ci " +
+           "LEFT JOIN FETCH ci.product " +
+           "WHERE c.user.id = :userId")
+    Optional<Cart> findByUserIdWithItems(@Param("userId") Long userId);
+
     /**
      * 사용자 ID로 장바구니 존재 여부 확인
      *
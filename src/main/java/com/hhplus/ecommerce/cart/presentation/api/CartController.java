@@ -4,6 +4,7 @@ import com.hhplus.ecommerce.cart.application.CartService;
 import com.hhplus.ecommerce.cart.domain.Cart;
 import com.hhplus.ecommerce.cart.domain.CartItem;
 import com.hhplus.ecommerce.cart.presentation.api.dto.AddToCartRequest;
+import com.hhplus.ecommerce.cart.presentation.api.dto.CartResponse;
 import com.hhplus.ecommerce.cart.presentation.api.dto.UpdateCartItemRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -46,16 +47,16 @@ public class CartController {
      * - GET /api/carts/{userId}
      *
      * @param userId 사용자 ID
-     * @return 장바구니 정보 (항목 포함)
+     * @return 장바구니 정보 (항목 포함, SELECT 2회: 사용자 + 장바구니/항목/상품 Fetch Join)
      */
     @Operation(summary = "장바구니 조회", description = "사용자의 장바구니를 조회합니다")
     @GetMapping("/{userId}")
-    public ResponseEntity<Cart> getCart(@PathVariable Long userId) {
+    public ResponseEntity<CartResponse> getCart(@PathVariable Long userId) {
         log.info("[API] GET /api/carts/{}", userId);
 
         Cart cart = cartService.getCart(userId);
 
-        return ResponseEntity.ok(cart);
+        return ResponseEntity.ok(CartResponse.from(cart));
     }
 
     /**
@@ -135,6 +136,52 @@ public class CartController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 장바구니 수량 변경 (상품 기준)
+     *
+     * Use Case: UC-009
+     * - PUT /api/carts/{userId}/products/{productId}
+     * - Redis 장바구니 모드에서 DB 반영 전 항목도 변경 가능
+     *
+     * @param userId 사용자 ID
+     * @param productId 상품 ID
+     * @param request 수량 변경 요청
+     * @return 204 No Content
+     */
+    @Operation(summary = "장바구니 수량 변경 (상품 기준)", description = "장바구니에 담긴 상품의 수량을 변경합니다")
+    @PutMapping("/{userId}/products/{productId}")
+    public ResponseEntity<Void> updateProductQuantity(
+            @PathVariable Long userId,
+            @PathVariable Long productId,
+            @Valid @RequestBody UpdateCartItemRequest request) {
+
+        log.info("[API] PUT /api/carts/{}/products/{} - quantity: {}", userId, productId, request.getQuantity());
+
+        cartService.updateProductQuantity(userId, productId, request.getQuantity());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 장바구니 항목 삭제 (상품 기준)
+     *
+     * Use Case: UC-010
+     * - DELETE /api/carts/{userId}/products/{productId}
+     *
+     * @param userId 사용자 ID
+     * @param productId 상품 ID
+     * @return 204 No Content
+     */
+    @Operation(summary = "장바구니 항목 삭제 (상품 기준)", description = "장바구니에서 상품을 삭제합니다")
+    @DeleteMapping("/{userId}/products/{productId}")
+    public ResponseEntity<Void> removeProduct(@PathVariable Long userId, @PathVariable Long productId) {
+        log.info("[API] DELETE /api/carts/{}/products/{}", userId, productId);
+
+        cartService.removeProduct(userId, productId);
+
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * 장바구니 비우기
      *
@@ -0,0 +1,85 @@
+package com.hhplus.ecommerce.cart.presentation.api.dto;
+
+import com.hhplus.ecommerce.cart.domain.Cart;
+import com.hhplus.ecommerce.cart.domain.CartItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 장바구니 응답 DTO
+ *
+ * Use Case: UC-007
+ * - CartService.getCart()가 Fetch Join으로 초기화한 항목/상품만 사용
+ */
+@Schema(description = "장바구니 응답")
+@Getter
+@Builder
+public class CartResponse {
+
+    @Schema(description = "장바구니 ID", example = "1")
+    private Long cartId;
+
+    @Schema(description = "장바구니 항목")
+    private List<Item> items;
+
+    @Schema(description = "총 금액 (담은 시점 가격 기준)", example = "50000")
+    private BigDecimal totalAmount;
+
+    /**
+     * Entity → DTO 변환
+     */
+    public static CartResponse from(Cart cart) {
+        return CartResponse.builder()
+            .cartId(cart.getId())
+            .items(cart.getItems().stream().map(Item::from).toList())
+            .totalAmount(cart.getTotalAmount())
+            .build();
+    }
+
+    @Schema(description = "장바구니 항목")
+    @Getter
+    @Builder
+    public static class Item {
+
+        @Schema(description = "장바구니 항목 ID", example = "1")
+        private Long cartItemId;
+
+        @Schema(description = "상품 ID", example = "1")
+        private Long productId;
+
+        @Schema(description = "상품명", example = "노트북")
+        private String productName;
+
+        @Schema(description = "현재 가격", example = "25000")
+        private BigDecimal currentPrice;
+
+        @Schema(description = "담은 시점 가격", example = "25000")
+        private BigDecimal priceAtAdd;
+
+        @Schema(description = "수량", example = "2")
+        private Integer quantity;
+
+        @Schema(description = "소계", example = "50000")
+        private BigDecimal subtotal;
+
+        @Schema(description = "담은 후 가격 변동 여부", example = "false")
+        private boolean priceChanged;
+
+        static Item from(CartItem cartItem) {
+            return Item.builder()
+                .cartItemId(cartItem.getId())
+                .productId(cartItem.getProduct().getId())
+                .productName(cartItem.getProduct().getName())
+                .currentPrice(cartItem.getProduct().getPrice())
+                .priceAtAdd(cartItem.getPriceAtAdd())
+                .quantity(cartItem.getQuantity())
+                .subtotal(cartItem.getSubtotal())
+                .priceChanged(cartItem.isPriceChanged())
+                .build();
+        }
+    }
+}
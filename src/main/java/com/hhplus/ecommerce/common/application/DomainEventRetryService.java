@@ -6,22 +6,25 @@ import com.hhplus.ecommerce.common.domain.event.EventPayload;
 import com.hhplus.ecommerce.common.domain.event.PopularProductAggregationPayload;
 import com.hhplus.ecommerce.common.domain.event.StockDeductionPayload;
 import com.hhplus.ecommerce.common.domain.event.BalanceDeductionPayload;
+import com.hhplus.ecommerce.common.domain.event.HistoryAppendPayload;
 import com.hhplus.ecommerce.common.infrastructure.DomainEventStoreRepository;
+import com.hhplus.ecommerce.config.DomainEventRetryProperties;
 import com.hhplus.ecommerce.coupon.domain.UserCoupon;
 import com.hhplus.ecommerce.coupon.domain.UserCouponStatus;
 import com.hhplus.ecommerce.coupon.infrastructure.persistence.UserCouponRepository;
 import com.hhplus.ecommerce.order.domain.Order;
+import com.hhplus.ecommerce.order.domain.OrderStatus;
 import com.hhplus.ecommerce.order.infrastructure.persistence.OrderRepository;
+import com.hhplus.ecommerce.product.application.PopularProductAggregator;
+import com.hhplus.ecommerce.product.application.StockBulkService;
+import com.hhplus.ecommerce.product.application.StockReservationService;
 import com.hhplus.ecommerce.product.domain.Product;
 import com.hhplus.ecommerce.product.domain.StockHistory;
 import com.hhplus.ecommerce.product.domain.StockTransactionType;
-import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
-import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
 import com.hhplus.ecommerce.user.domain.BalanceHistory;
 import com.hhplus.ecommerce.user.domain.BalanceTransactionType;
 import com.hhplus.ecommerce.user.domain.User;
-import com.hhplus.ecommerce.user.infrastructure.persistence.BalanceHistoryRepository;
 import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +35,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -48,7 +52,9 @@ import java.util.concurrent.TimeUnit;
  * - 이벤트 타입별 재시도 로직 실행
  *
  * 실행 주기:
- * - 1분마다 실행
+ * - 1분마다 실행 (전역 락, 단일 스레드)
+ * - domain-event.retry.worker-pool-enabled=true: DomainEventRetryWorker가 노드별 병렬 처리
+ *   (이 서비스는 선점/개별 재시도 트랜잭션만 제공)
  *
  * 재시도 전략:
  * - Exponential Backoff (1분 → 5분 → 15분)
@@ -66,21 +72,25 @@ public class DomainEventRetryService {
     private final DomainEventStoreRepository eventStoreRepository;
     private final DomainEventStoreService eventStoreService;
     private final RedissonClient redissonClient;
+    private final DomainEventRetryProperties domainEventRetryProperties;
 
     // 쿠폰 사용 처리를 위한 의존성
     private final UserCouponRepository userCouponRepository;
     private final OrderRepository orderRepository;
 
     // 인기상품 집계를 위한 의존성
-    private final ProductRedisRepository productRedisRepository;
-    private final ProductRepository productRepository;
+    private final PopularProductAggregator popularProductAggregator;
 
     // 재고 차감을 위한 의존성
-    private final StockHistoryRepository stockHistoryRepository;
+    private final ProductRepository productRepository;
+    private final StockBulkService stockBulkService;
+    private final StockReservationService stockReservationService;
 
     // 잔액 차감을 위한 의존성
     private final UserRepository userRepository;
-    private final BalanceHistoryRepository balanceHistoryRepository;
+
+    // 이력 기록 / 우회 이력 재적재를 위한 의존성
+    private final HistoryWriter historyWriter;
 
     private static final int BATCH_SIZE = 100;
 
@@ -102,6 +112,10 @@ public class DomainEventRetryService {
      */
     @Scheduled(cron = CRON_EVERY_MINUTE)
     public void retryFailedEvents() {
+        if (domainEventRetryProperties.isWorkerPoolEnabled()) {
+            return;  // DomainEventRetryWorker가 처리
+        }
+
         RLock lock = redissonClient.getLock(LOCK_KEY_COUPON_EVENT_RETRY);
 
         try {
@@ -155,6 +169,37 @@ public class DomainEventRetryService {
         }
     }
 
+    /**
+     * 재시도 대상 선점 (워커 풀)
+     *
+     * 처리 흐름:
+     * 1. FOR UPDATE SKIP LOCKED로 다른 워커가 잡지 않은 이벤트 조회
+     * 2. PROCESSING으로 변경 후 커밋 (row 락 해제, updatedAt = 선점 시각)
+     *
+     * @param limit 최대 선점 건수
+     * @return 선점한 이벤트 목록 (커밋 후 detached 상태)
+     */
+    @Transactional
+    public List<DomainEventStore> claimRetryableEvents(int limit) {
+        List<DomainEventStore> events = eventStoreRepository.claimRetryableEvents(LocalDateTime.now(), limit);
+        events.forEach(DomainEventStore::startProcessing);
+        return events;
+    }
+
+    /**
+     * 만료된 선점 회수 (워커 장애 대비)
+     *
+     * @return 회수된 이벤트 수
+     */
+    @Transactional
+    public int releaseExpiredClaims() {
+        LocalDateTime leaseExpiredBefore = LocalDateTime.now()
+            .minusSeconds(domainEventRetryProperties.getLeaseTimeoutSeconds());
+
+        return eventStoreRepository.releaseExpiredClaims(
+            leaseExpiredBefore, DomainEventStore.EventStatus.PROCESSING, DomainEventStore.EventStatus.PENDING);
+    }
+
     /**
      * 개별 이벤트 재시도
      *
@@ -183,6 +228,7 @@ public class DomainEventRetryService {
                 case POPULAR_PRODUCT_AGGREGATION -> processPopularProductAggregation(event);
                 case PRODUCT_STOCK_DECREASED -> processStockDeduction(event);
                 case BALANCE_CHARGED -> processBalanceDeduction(event);
+                case HISTORY_APPEND -> processHistoryAppend(event);
                 default -> throw new IllegalArgumentException(
                     "지원하지 않는 이벤트 타입: " + event.getEventType());
             }
@@ -277,26 +323,11 @@ public class DomainEventRetryService {
 
         PopularProductAggregationPayload payload = payloadOpt.get();
 
-        // 각 주문 상품별로 인기도 스코어 증가
-        for (PopularProductAggregationPayload.OrderProductInfo productInfo : payload.getOrderProducts()) {
-            // Step 1: 인기도 스코어 증가 (Redis Sorted Set)
-            productRedisRepository.incrementPopularityScore(
-                productInfo.getProductId(),
-                productInfo.getQuantity()
-            );
-
-            // Step 2: 상품 정보 캐싱 (Redis Hash)
-            Product product = productRepository.findById(productInfo.getProductId())
-                .orElse(null);
-
-            if (product != null) {
-                productRedisRepository.cacheProductInfo(product);
-                log.debug("[재시도] 인기상품 집계 완료 - productId: {}, quantity: {}",
-                         productInfo.getProductId(), productInfo.getQuantity());
-            } else {
-                log.warn("[재시도] 상품을 찾을 수 없음 - productId: {}", productInfo.getProductId());
-            }
-        }
+        // 인기도 스코어 증가 (최초 발생 시각의 시간 버킷에 반영) + 상품 정보 캐싱, 주문 전 상품 일괄
+        LinkedHashMap<Long, Integer> quantities = new LinkedHashMap<>();
+        payload.getOrderProducts().forEach(productInfo ->
+            quantities.merge(productInfo.getProductId(), productInfo.getQuantity(), Integer::sum));
+        popularProductAggregator.aggregate(quantities, event.getCreatedAt());
 
         log.info("[재시도] 인기상품 집계 완료 - orderId: {}, 처리된 상품 수: {}",
                  payload.getOrderId(), payload.getOrderProducts().size());
@@ -318,6 +349,24 @@ public class DomainEventRetryService {
 
         StockDeductionPayload payload = payloadOpt.get();
 
+        // 재고 원장 모드: 주문 생성 시 Redis 예약이 곧 차감 (DB는 write-back) → DB 차감 생략
+        if (stockReservationService.isEnabled()) {
+            releaseReservationIfCancelled(payload);
+            return;
+        }
+
+        // 재고 일괄 처리 모드: 주문당 조건부 UPDATE 1회
+        if (stockBulkService.isEnabled()) {
+            LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+            payload.getOrderProducts().forEach(productInfo ->
+                lines.merge(productInfo.getProductId(), productInfo.getQuantity(), Integer::sum));
+            stockBulkService.decrease(lines, "주문 재시도: " + payload.getOrderNumber());
+
+            log.info("[재시도] 재고 일괄 차감 완료 - orderId: {}, 처리된 상품 수: {}",
+                     payload.getOrderId(), lines.size());
+            return;
+        }
+
         // 각 주문 상품별 재고 차감
         for (StockDeductionPayload.OrderProductInfo productInfo : payload.getOrderProducts()) {
             // 상품 조회 (낙관적 락)
@@ -341,7 +390,7 @@ public class DomainEventRetryService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-            stockHistoryRepository.save(history);
+            historyWriter.record(history);
 
             log.debug("[재시도] 재고 차감 완료 - productId: {}, quantity: {}, stockAfter: {}",
                      productInfo.getProductId(), productInfo.getQuantity(), product.getStock());
@@ -351,6 +400,28 @@ public class DomainEventRetryService {
                  payload.getOrderId(), payload.getOrderProducts().size());
     }
 
+    /**
+     * 재고 원장 모드 재시도: 취소된(또는 없는) 주문의 예약 재고 반환
+     *
+     * - 진행 중인 주문은 예약을 유지 (예약이 차감 결과)
+     * - 주문당 1회만 반환되므로 보상 경로에서 이미 반환했으면 변경 없음
+     */
+    private void releaseReservationIfCancelled(StockDeductionPayload payload) {
+        Order order = orderRepository.findById(payload.getOrderId()).orElse(null);
+        if (order != null && order.getStatus() != OrderStatus.CANCELLED) {
+            log.info("[재시도] 재고 원장 모드 - 예약 유지, DB 차감 생략 - orderId: {}, status: {}",
+                     payload.getOrderId(), order.getStatus());
+            return;
+        }
+
+        LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+        payload.getOrderProducts().forEach(productInfo ->
+            lines.merge(productInfo.getProductId(), productInfo.getQuantity(), Integer::sum));
+        stockReservationService.releaseAfterCommit(payload.getOrderId(), lines);
+
+        log.info("[재시도] 재고 원장 모드 - 취소 주문 예약 반환, DB 차감 생략 - orderId: {}", payload.getOrderId());
+    }
+
     /**
      * 잔액 차감 처리 (재시도 로직)
      *
@@ -388,12 +459,28 @@ public class DomainEventRetryService {
             .createdAt(LocalDateTime.now())
             .build();
 
-        balanceHistoryRepository.save(history);
+        historyWriter.record(history);
 
         log.info("[재시도] 잔액 차감 완료 - orderId: {}, userId: {}, amount: {}, balanceAfter: {}",
                  payload.getOrderId(), payload.getUserId(), payload.getAmount(), user.getBalance());
     }
 
+    /**
+     * 이력 재적재 (비동기 이력 Writer 우회분)
+     *
+     * @param event 이벤트
+     */
+    private void processHistoryAppend(DomainEventStore event) {
+        HistoryAppendPayload payload = eventStoreService
+            .deserializePayload(event, HistoryAppendPayload.class)
+            .orElseThrow(() -> new IllegalArgumentException("이력 적재 페이로드 역직렬화 실패"));
+
+        historyWriter.persist(payload);
+
+        log.info("[재시도] 이력 재적재 완료 - eventId: {}, 재고 이력: {}건, 잔액 이력: {}건",
+                 event.getId(), payload.getStockHistories().size(), payload.getBalanceHistories().size());
+    }
+
     /**
      * 최종 실패한 이벤트 조회 (관리자용)
      *
@@ -0,0 +1,249 @@
+package com.hhplus.ecommerce.common.application;
+
+import com.hhplus.ecommerce.common.domain.DomainEventStore;
+import com.hhplus.ecommerce.common.infrastructure.DomainEventStoreRepository;
+import com.hhplus.ecommerce.config.DomainEventRetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 도메인 이벤트 재시도 워커 풀
+ *
+ * Application Layer - 배치 작업
+ *
+ * 책임:
+ * - domain_event_store 재시도 대상을 노드별로 선점하여 병렬 재시도
+ * - 같은 aggregate의 이벤트는 한 스레드에서 생성 순서대로 처리
+ * - 백로그 크기 / 처리량 메트릭 기록
+ *
+ * 기존 스케줄러(DomainEventRetryService.retryFailedEvents)와의 차이:
+ * - 기존: 1분마다 전역 Redisson 락 → 한 노드, 한 스레드가 100건씩 순차 처리
+ * - 워커: 분산락 없이 노드마다 FOR UPDATE SKIP LOCKED로 서로 다른 배치 선점
+ *   → 노드 수 × worker-threads 만큼 병렬 처리, 적체 시 배치 연속 처리
+ *
+ * 처리 흐름 (poll-delay-ms 주기):
+ * 1. 만료된 선점(PROCESSING) 회수
+ * 2. claim-batch-size건 선점 (PROCESSING 커밋 → 다른 워커에서 제외)
+ * 3. aggregate 단위로 묶어 스레드 풀에 분배, 그룹 내부는 순차 처리
+ * 4. 그룹 내 이벤트가 실패하면 뒤 이벤트는 선점 반환 (순서 유지, 앞 이벤트 재시도 후 처리)
+ * 5. 배치가 가득 찼으면 max-drain-batches까지 반복
+ *
+ * 메트릭:
+ * - domain.event.retry.backlog: 재시도 시각이 도래한 PENDING 이벤트 수
+ * - domain.event.retry.processed (result=success|failure|deferred): 처리량 (rate = drain rate)
+ * - domain.event.retry.batch: 배치 처리 시간
+ *
+ * 실행 조건:
+ * - domain-event.retry.worker-pool-enabled=true 인 경우에만 동작
+ * - 스레드 풀과 메트릭은 플래그가 켜진 뒤 첫 실행 시 생성 (비활성 노드는 스레드/게이지 없음)
+ *
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, JDK 21 이상):
+ * - 그룹마다 가상 스레드 실행, 동시 처리 그룹 수는 worker-threads (concurrency limit)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DomainEventRetryWorker {
+
+    private final DomainEventRetryService domainEventRetryService;
+    private final DomainEventStoreRepository eventStoreRepository;
+    private final DomainEventRetryProperties domainEventRetryProperties;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    private final AtomicLong backlog = new AtomicLong();
+
+    private AsyncTaskExecutor executor;
+    private Counter successCounter;
+    private Counter failureCounter;
+    private Counter deferredCounter;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void initialize() {
+        if (domainEventRetryProperties.isWorkerPoolEnabled()) {
+            start();
+        }
+    }
+
+    /**
+     * 스레드 풀 / 메트릭 생성 (최초 1회, 런타임에 플래그를 켠 경우 첫 drain에서 생성)
+     */
+    private synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+
+        executor = Threading.VIRTUAL.isActive(environment) ? virtualThreadExecutor() : threadPoolExecutor();
+
+        Gauge.builder("domain.event.retry.backlog", backlog, AtomicLong::get)
+            .description("재시도 시각이 도래한 PENDING 도메인 이벤트 수")
+            .register(meterRegistry);
+
+        successCounter = processedCounter("success");
+        failureCounter = processedCounter("failure");
+        deferredCounter = processedCounter("deferred");
+
+        batchTimer = Timer.builder("domain.event.retry.batch")
+            .description("도메인 이벤트 재시도 배치 처리 시간")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor virtualThreads) {
+            virtualThreads.close();
+        }
+    }
+
+    private AsyncTaskExecutor threadPoolExecutor() {
+        ThreadPoolTaskExecutor threadPool = new ThreadPoolTaskExecutor();
+        threadPool.setCorePoolSize(domainEventRetryProperties.getWorkerThreads());
+        threadPool.setMaxPoolSize(domainEventRetryProperties.getWorkerThreads());
+        threadPool.setQueueCapacity(domainEventRetryProperties.getClaimBatchSize());
+        threadPool.setThreadNamePrefix("domain-event-retry-");
+        threadPool.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPool.setWaitForTasksToCompleteOnShutdown(true);
+        threadPool.setAwaitTerminationSeconds(30);
+        threadPool.initialize();
+        return threadPool;
+    }
+
+    private AsyncTaskExecutor virtualThreadExecutor() {
+        SimpleAsyncTaskExecutor virtualThreads = new SimpleAsyncTaskExecutor("domain-event-retry-");
+        virtualThreads.setVirtualThreads(true);
+        virtualThreads.setConcurrencyLimit(domainEventRetryProperties.getWorkerThreads());
+        virtualThreads.setTaskTerminationTimeout(30000);
+        return virtualThreads;
+    }
+
+    @Scheduled(fixedDelayString = "${domain-event.retry.poll-delay-ms:1000}")
+    public void poll() {
+        if (!domainEventRetryProperties.isWorkerPoolEnabled()) {
+            return;
+        }
+
+        try {
+            drain();
+        } catch (Exception e) {
+            log.error("[재시도 워커] 폴링 실패 - 다음 주기 재시도", e);
+        }
+    }
+
+    /**
+     * 적체 이벤트 처리
+     *
+     * @return 이번 실행에서 처리(성공/실패)한 이벤트 수
+     */
+    public int drain() {
+        start();
+
+        int released = domainEventRetryService.releaseExpiredClaims();
+        if (released > 0) {
+            log.warn("[재시도 워커] 만료된 선점 회수 - {}건", released);
+        }
+
+        int processed = 0;
+        for (int i = 0; i < domainEventRetryProperties.getMaxDrainBatches(); i++) {
+            List<DomainEventStore> claimed =
+                domainEventRetryService.claimRetryableEvents(domainEventRetryProperties.getClaimBatchSize());
+            if (claimed.isEmpty()) {
+                break;
+            }
+
+            processed += batchTimer.record(() -> processBatch(claimed));
+
+            if (claimed.size() < domainEventRetryProperties.getClaimBatchSize()) {
+                break;
+            }
+        }
+
+        backlog.set(eventStoreRepository.countRetryableEvents(LocalDateTime.now()));
+        return processed;
+    }
+
+    private int processBatch(List<DomainEventStore> claimed) {
+        // aggregate 단위 그룹 (그룹 내부는 생성 순서)
+        // ID는 노드별 pooled 블록에서 발급되므로 노드 간 생성 순서와 다를 수 있음 → createdAt 우선
+        Map<String, List<DomainEventStore>> groups = new LinkedHashMap<>();
+        claimed.stream()
+            .sorted(Comparator.comparing(DomainEventStore::getCreatedAt).thenComparing(DomainEventStore::getId))
+            .forEach(event -> groups
+                .computeIfAbsent(event.getAggregateType() + ":" + event.getAggregateId(), k -> new ArrayList<>())
+                .add(event));
+
+        AtomicInteger processed = new AtomicInteger();
+        CompletableFuture<?>[] futures = groups.values().stream()
+            .map(group -> CompletableFuture.runAsync(() -> processed.addAndGet(processGroup(group)), executor))
+            .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).join();
+
+        log.info("[재시도 워커] 배치 완료 - 선점: {}건, aggregate: {}개, 처리: {}건",
+                 claimed.size(), groups.size(), processed.get());
+
+        return processed.get();
+    }
+
+    private int processGroup(List<DomainEventStore> group) {
+        int processed = 0;
+
+        for (int i = 0; i < group.size(); i++) {
+            DomainEventStore event = group.get(i);
+            try {
+                domainEventRetryService.retryEvent(event);
+                successCounter.increment();
+                processed++;
+
+            } catch (Exception e) {
+                // 재시도 트랜잭션은 롤백됨 → 실패 상태(retryCount, nextRetryAt)만 별도 저장
+                eventStoreRepository.save(event);
+                failureCounter.increment();
+                processed++;
+
+                // 뒤 이벤트는 앞 이벤트 재시도 이후로 미룸
+                for (DomainEventStore deferred : group.subList(i + 1, group.size())) {
+                    deferred.releaseClaim();
+                    eventStoreRepository.save(deferred);
+                    deferredCounter.increment();
+                }
+                break;
+            }
+        }
+
+        return processed;
+    }
+
+    private Counter processedCounter(String result) {
+        return Counter.builder("domain.event.retry.processed")
+            .tag("result", result)
+            .description("도메인 이벤트 재시도 처리 건수")
+            .register(meterRegistry);
+    }
+}
@@ -21,7 +21,7 @@ import java.util.Optional;
  * 책임:
  * - 도메인 이벤트 저장 및 조회
  * - 이벤트 페이로드 JSON 직렬화/역직렬화
- * - 이벤트 중복 저장 방지
+ * - 이벤트 중복 저장 방지 (saveEvent) / 중복 검사 없는 추가 저장 (appendEvent)
  *
  * Use Cases:
  * - 모든 도메인 이벤트의 이벤트 소싱
@@ -66,6 +66,45 @@ public class DomainEventStoreService {
                 return existing;
             }
 
+        } catch (Exception e) {
+            log.error("[이벤트 스토어] 이벤트 저장 중 예외 발생 - eventType: {}, aggregateId: {}",
+                      eventType, aggregateId, e);
+            return Optional.empty();
+        }
+
+        return store(eventType, aggregateId, aggregateType, payload);
+    }
+
+    /**
+     * 도메인 이벤트 추가 저장 (중복 검사 없음)
+     *
+     * saveEvent와 달리 (eventType, aggregateId) 중복 검사를 하지 않음:
+     * - 같은 Aggregate에 대해 여러 건이 쌓이는 것이 정상인 이벤트용 (예: HISTORY_APPEND 우회 묶음)
+     * - REQUIRES_NEW, 실패 시 로그만 기록하는 점은 saveEvent와 동일
+     *
+     * @param eventType 이벤트 타입
+     * @param aggregateId Aggregate ID
+     * @param aggregateType Aggregate Type
+     * @param payload 이벤트 페이로드
+     * @return 저장된 이벤트
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<DomainEventStore> appendEvent(
+        DomainEventStore.EventType eventType,
+        Long aggregateId,
+        String aggregateType,
+        EventPayload payload
+    ) {
+        return store(eventType, aggregateId, aggregateType, payload);
+    }
+
+    private Optional<DomainEventStore> store(
+        DomainEventStore.EventType eventType,
+        Long aggregateId,
+        String aggregateType,
+        EventPayload payload
+    ) {
+        try {
             // 페이로드 JSON 직렬화
             String payloadJson = objectMapper.writeValueAsString(payload);
 
@@ -0,0 +1,151 @@
+package com.hhplus.ecommerce.common.application;
+
+import com.hhplus.ecommerce.config.HistoryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 이력 테이블 월별 파티션 관리 스케줄러
+ *
+ * Infrastructure Layer - 배치 작업 스케줄링
+ *
+ * 책임:
+ * - stock_histories / balance_histories 다음 달 파티션 미리 생성 (p_max 분할)
+ * - 보관 기간이 지난 월 파티션 삭제 (DELETE 대신 DROP PARTITION → 언두/바이너리 로그 부담 없음)
+ *
+ * 전제:
+ * - scripts/history-partitioning.sql 로 RANGE COLUMNS(created_at) 파티셔닝 적용된 테이블
+ * - 파티션 이름: pYYYYMM (해당 월 데이터, VALUES LESS THAN 다음 달 1일), p_max (MAXVALUE)
+ * - 파티셔닝되지 않은 테이블은 건너뜀
+ *
+ * 실행 조건:
+ * - history.partition-maintenance-enabled=true 인 경우에만 동작
+ * - 다중 인스턴스 환경에서 하나의 서버만 실행 (Redisson 분산락)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryPartitionMaintainer {
+
+    static final List<String> TABLES = List.of("stock_histories", "balance_histories");
+    static final String MAX_PARTITION = "p_max";
+
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("p\\d{6}");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String SELECT_PARTITIONS_SQL =
+        "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+        "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final String LOCK_KEY_HISTORY_PARTITION = "lock:batch:history-partition";
+    private static final long WAIT_TIME_SECONDS = 0L;
+    private static final long LEASE_TIME_SECONDS = 300L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedissonClient redissonClient;
+    private final HistoryProperties historyProperties;
+
+    /**
+     * 파티션 유지 보수 (매일 03:00)
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void maintain() {
+        if (!historyProperties.isPartitionMaintenanceEnabled()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(LOCK_KEY_HISTORY_PARTITION);
+        try {
+            if (!lock.tryLock(WAIT_TIME_SECONDS, LEASE_TIME_SECONDS, TimeUnit.SECONDS)) {
+                log.debug("[이력 파티션] 다른 인스턴스에서 실행 중 - 스킵");
+                return;
+            }
+
+            YearMonth now = YearMonth.now();
+            for (String table : TABLES) {
+                try {
+                    maintain(table, now);
+                } catch (Exception e) {
+                    log.error("[이력 파티션] 유지 보수 실패 - table: {}", table, e);
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[이력 파티션] 락 획득 중 인터럽트 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 테이블 1개 파티션 유지 보수
+     *
+     * 처리 흐름:
+     * 1. 현재 파티션 목록 조회 (없으면 파티셔닝 미적용 → 스킵)
+     * 2. 마지막 월 파티션 이후 ~ 이번 달 + premake 개월까지 p_max를 분할해 생성
+     * 3. 보관 기간(retention) 이전 월 파티션 DROP
+     */
+    void maintain(String table, YearMonth now) {
+        List<String> partitions = jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class, table);
+        if (partitions.isEmpty()) {
+            log.debug("[이력 파티션] 파티셔닝되지 않은 테이블 - 스킵 (table: {})", table);
+            return;
+        }
+        if (!partitions.contains(MAX_PARTITION)) {
+            log.warn("[이력 파티션] {} 파티션 없음 - 생성 스킵 (table: {})", MAX_PARTITION, table);
+            return;
+        }
+
+        List<YearMonth> months = partitions.stream()
+            .filter(name -> MONTHLY_PARTITION.matcher(name).matches())
+            .map(name -> YearMonth.parse(name.substring(1), PARTITION_SUFFIX))
+            .sorted()
+            .toList();
+
+        // RANGE 파티션은 경계값이 증가해야 하므로 마지막 월 파티션 이후만 추가 가능
+        YearMonth next = months.isEmpty() ? now : months.get(months.size() - 1).plusMonths(1);
+        YearMonth until = now.plusMonths(historyProperties.getPartitionPremakeMonths());
+        for (YearMonth month = next; !month.isAfter(until); month = month.plusMonths(1)) {
+            jdbcTemplate.execute(reorganizeSql(table, month));
+            log.info("[이력 파티션] 생성 - table: {}, partition: {}", table, partitionName(month));
+        }
+
+        int retention = historyProperties.getPartitionRetentionMonths();
+        if (retention <= 0) {
+            return;
+        }
+
+        YearMonth oldestKept = now.minusMonths(retention);
+        for (YearMonth month : months) {
+            if (month.isBefore(oldestKept)) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partitionName(month));
+                log.info("[이력 파티션] 삭제 - table: {}, partition: {}", table, partitionName(month));
+            }
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return "p" + month.format(PARTITION_SUFFIX);
+    }
+
+    static String reorganizeSql(String table, YearMonth month) {
+        return "ALTER TABLE " + table + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+               "PARTITION " + partitionName(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), " +
+               "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))";
+    }
+}
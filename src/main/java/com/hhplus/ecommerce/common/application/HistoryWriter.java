@@ -0,0 +1,307 @@
+package com.hhplus.ecommerce.common.application;
+
+import com.hhplus.ecommerce.common.domain.DomainEventStore;
+import com.hhplus.ecommerce.common.domain.event.HistoryAppendPayload;
+import com.hhplus.ecommerce.config.HistoryProperties;
+import com.hhplus.ecommerce.product.domain.StockHistory;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
+import com.hhplus.ecommerce.user.domain.BalanceHistory;
+import com.hhplus.ecommerce.user.infrastructure.persistence.BalanceHistoryRepository;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재고/잔액 이력 Writer
+ *
+ * Application Layer - 이력 적재
+ *
+ * 책임:
+ * - 재고/잔액 변경 시 이력 저장 (동기 또는 비동기)
+ * - 비동기 모드: 링 버퍼 적재 → 전용 Writer 스레드가 배치 INSERT
+ * - 버퍼 초과 / 배치 저장 실패 / 종료 시 미처리분은 도메인 이벤트 스토어로 우회 (HISTORY_APPEND)
+ *
+ * 처리 흐름 (history.async-writer-enabled=true):
+ * 1. 변경 트랜잭션 커밋 후(afterCommit) 이력 항목을 링 버퍼(ArrayBlockingQueue)에 적재
+ *    → 롤백된 변경은 이력이 남지 않음, 변경 트랜잭션에서 이력 INSERT 제거
+ * 2. Writer 스레드가 최대 batch-size건씩 꺼내 한 트랜잭션으로 saveAll (JDBC 배치)
+ * 3. 버퍼가 가득 차면 해당 항목을 도메인 이벤트로 저장 → DomainEventRetryService가 재적재
+ *
+ * 주의:
+ * - 비동기 모드에서는 커밋 직후 이력 조회 시 최대 flush-interval-ms만큼 늦게 보일 수 있음
+ * - 프로세스 강제 종료(kill -9) 시 버퍼에 남은 이력은 유실될 수 있음 (정상 종료 시 flush 후 우회 저장)
+ *
+ * 메트릭:
+ * - history.buffer.size: 링 버퍼 적재 건수
+ * - history.flush: 배치 저장 시간
+ * - history.spilled{reason=overflow|flush_failure|shutdown}: 도메인 이벤트 스토어로 우회한 이력 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryWriter {
+
+    private static final String AGGREGATE_TYPE = "History";
+
+    private final StockHistoryRepository stockHistoryRepository;
+    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final DomainEventStoreService domainEventStoreService;
+    private final TransactionTemplate transactionTemplate;
+    private final HistoryProperties historyProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final AtomicLong spillSequence = new AtomicLong();
+    private volatile boolean running = true;
+
+    private BlockingQueue<Object> buffer;
+    private Thread writerThread;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void initialize() {
+        buffer = new ArrayBlockingQueue<>(historyProperties.getBufferCapacity());
+
+        Gauge.builder("history.buffer.size", buffer, BlockingQueue::size)
+            .description("이력 링 버퍼 적재 건수")
+            .register(meterRegistry);
+
+        flushTimer = Timer.builder("history.flush")
+            .description("이력 배치 저장 시간")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        if (writerThread == null) {
+            return;
+        }
+
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Writer가 처리하지 못한 잔여분은 도메인 이벤트 스토어로 우회
+        List<Object> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining, "shutdown");
+        }
+    }
+
+    /**
+     * 재고 이력 기록
+     */
+    public void record(StockHistory history) {
+        if (!historyProperties.isAsyncWriterEnabled()) {
+            stockHistoryRepository.save(history);
+            return;
+        }
+        enqueueAfterCommit(HistoryAppendPayload.StockEntry.from(history));
+    }
+
+    /**
+     * 잔액 이력 기록
+     */
+    public void record(BalanceHistory history) {
+        if (!historyProperties.isAsyncWriterEnabled()) {
+            balanceHistoryRepository.save(history);
+            return;
+        }
+        enqueueAfterCommit(HistoryAppendPayload.BalanceEntry.from(history));
+    }
+
+    /**
+     * 잔액 이력 일괄 기록 (그룹 커밋 원장)
+     */
+    public void recordAll(List<BalanceHistory> histories) {
+        if (!historyProperties.isAsyncWriterEnabled()) {
+            balanceHistoryRepository.saveAll(histories);
+            return;
+        }
+        histories.forEach(history -> enqueueAfterCommit(HistoryAppendPayload.BalanceEntry.from(history)));
+    }
+
+    /**
+     * 이력 항목 저장 (Writer 스레드, 도메인 이벤트 재시도)
+     *
+     * 호출자의 트랜잭션에서 실행 (연관 엔티티는 프록시 참조만 사용 → 추가 SELECT 없음)
+     */
+    public void persist(HistoryAppendPayload payload) {
+        if (!payload.getStockHistories().isEmpty()) {
+            stockHistoryRepository.saveAll(payload.getStockHistories().stream()
+                .map(entry -> StockHistory.builder()
+                    .product(productRepository.getReferenceById(entry.getProductId()))
+                    .type(entry.getType())
+                    .quantity(entry.getQuantity())
+                    .stockBefore(entry.getStockBefore())
+                    .stockAfter(entry.getStockAfter())
+                    .reason(entry.getReason())
+                    .createdAt(entry.getCreatedAt())
+                    .build())
+                .toList());
+        }
+
+        if (!payload.getBalanceHistories().isEmpty()) {
+            balanceHistoryRepository.saveAll(payload.getBalanceHistories().stream()
+                .map(entry -> BalanceHistory.builder()
+                    .user(userRepository.getReferenceById(entry.getUserId()))
+                    .type(entry.getType())
+                    .amount(entry.getAmount())
+                    .balanceBefore(entry.getBalanceBefore())
+                    .balanceAfter(entry.getBalanceAfter())
+                    .description(entry.getDescription())
+                    .createdAt(entry.getCreatedAt())
+                    .build())
+                .toList());
+        }
+    }
+
+    /**
+     * 버퍼에 적재된 이력을 즉시 저장 (테스트, 운영 점검용)
+     *
+     * @return 저장한 이력 수
+     */
+    public int flush() {
+        int flushed = 0;
+        List<Object> batch = new ArrayList<>();
+        while (buffer.drainTo(batch, historyProperties.getBatchSize()) > 0) {
+            flushed += write(batch);
+            batch.clear();
+        }
+        return flushed;
+    }
+
+    private void enqueueAfterCommit(Object entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(entry);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(entry);
+            }
+        });
+    }
+
+    private void enqueue(Object entry) {
+        startWriterIfNeeded();
+
+        if (!buffer.offer(entry)) {
+            log.warn("[이력 Writer] 버퍼 초과 - 도메인 이벤트 스토어로 우회 (capacity: {})",
+                     historyProperties.getBufferCapacity());
+            spill(List.of(entry), "overflow");
+        }
+    }
+
+    private void startWriterIfNeeded() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+
+        writerThread = new Thread(this::runWriter, "history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("[이력 Writer] 시작 - capacity: {}, batchSize: {}",
+                 historyProperties.getBufferCapacity(), historyProperties.getBatchSize());
+    }
+
+    private void runWriter() {
+        List<Object> batch = new ArrayList<>(historyProperties.getBatchSize());
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                Object first = buffer.poll(historyProperties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                buffer.drainTo(batch, historyProperties.getBatchSize() - 1);
+                write(batch);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("[이력 Writer] 예외 발생", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치 저장 (실패 시 도메인 이벤트 스토어로 우회)
+     */
+    private int write(List<Object> batch) {
+        HistoryAppendPayload payload = toPayload(batch);
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> persist(payload)));
+            return payload.size();
+        } catch (Exception e) {
+            log.error("[이력 Writer] 배치 저장 실패 - {}건 도메인 이벤트 스토어로 우회", payload.size(), e);
+            spill(batch, "flush_failure");
+            return 0;
+        }
+    }
+
+    private void spill(List<Object> entries, String reason) {
+        HistoryAppendPayload payload = toPayload(entries);
+
+        // 우회 묶음은 여러 건이 쌓이는 것이 정상 → 중복 검사 없는 appendEvent, aggregateId는 추적용 순번
+        long spillSeq = spillSequence.incrementAndGet();
+        domainEventStoreService.appendEvent(DomainEventStore.EventType.HISTORY_APPEND, spillSeq, AGGREGATE_TYPE, payload)
+            .ifPresentOrElse(
+                event -> Counter.builder("history.spilled")
+                    .description("도메인 이벤트 스토어로 우회한 이력 수")
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment(payload.size()),
+                () -> log.error("[이력 Writer] 우회 저장 실패 - 이력 {}건 유실 (reason: {})", payload.size(), reason));
+    }
+
+    private static HistoryAppendPayload toPayload(List<Object> entries) {
+        List<HistoryAppendPayload.StockEntry> stockEntries = new ArrayList<>();
+        List<HistoryAppendPayload.BalanceEntry> balanceEntries = new ArrayList<>();
+
+        for (Object entry : entries) {
+            if (entry instanceof HistoryAppendPayload.StockEntry stockEntry) {
+                stockEntries.add(stockEntry);
+            } else if (entry instanceof HistoryAppendPayload.BalanceEntry balanceEntry) {
+                balanceEntries.add(balanceEntry);
+            }
+        }
+
+        return HistoryAppendPayload.builder()
+            .stockHistories(stockEntries)
+            .balanceHistories(balanceEntries)
+            .build();
+    }
+}
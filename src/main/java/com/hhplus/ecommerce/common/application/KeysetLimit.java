@@ -0,0 +1,31 @@
+package com.hhplus.ecommerce.common.application;
+
+import com.hhplus.ecommerce.common.domain.KeysetSlice;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 키셋 페이지네이션 조회 조건
+ *
+ * Application Layer - Repository 조회 조건 생성
+ *
+ * 책임:
+ * - 페이지 크기 검증 후 size + 1건 조회 조건 생성 (hasNext 판단용)
+ * - 도메인(KeysetSlice)이 Spring Data 타입에 의존하지 않도록 분리
+ */
+public final class KeysetLimit {
+
+    private KeysetLimit() {
+    }
+
+    /**
+     * 페이지 크기 검증 후 조회 조건 생성 (size + 1건, hasNext 판단용)
+     *
+     * @param size 페이지 크기 (1 ~ KeysetSlice.MAX_SIZE)
+     * @throws IllegalArgumentException 잘못된 페이지 크기
+     */
+    public static Pageable of(int size) {
+        KeysetSlice.validateSize(size);
+        return PageRequest.of(0, size + 1);
+    }
+}
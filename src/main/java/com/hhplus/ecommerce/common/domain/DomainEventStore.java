@@ -53,8 +53,17 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DomainEventStore {
 
+    // ID: id_generators 기반 pooled 할당 (INSERT 배치용, 근거는 scripts/init.sql id_generators 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "domainEventStoreIdGenerator")
+    @TableGenerator(
+        name = "domainEventStoreIdGenerator",
+        table = "id_generators",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "domain_event_store",
+        allocationSize = 100
+    )
     private Long id;
 
     /**
@@ -144,7 +153,8 @@ public class DomainEventStore {
         ORDER_COMPLETED,                // 주문 완료
         PAYMENT_COMPLETED,              // 결제 완료
         BALANCE_CHARGED,                // 잔액 충전
-        PRODUCT_STOCK_DECREASED         // 상품 재고 감소
+        PRODUCT_STOCK_DECREASED,        // 상품 재고 감소
+        HISTORY_APPEND                  // 재고/잔액 이력 적재 (비동기 이력 Writer 우회분)
         // 필요에 따라 추가 가능
     }
 
@@ -204,6 +214,16 @@ public class DomainEventStore {
         this.status = EventStatus.PROCESSING;
     }
 
+    /**
+     * 선점 반환 (처리하지 않고 대기 상태로 되돌림)
+     * - 같은 aggregate의 앞선 이벤트가 실패해 순서를 지키기 위해 처리를 미룰 때 사용
+     */
+    public void releaseClaim() {
+        if (this.status == EventStatus.PROCESSING) {
+            this.status = EventStatus.PENDING;
+        }
+    }
+
     /**
      * 처리 성공
      */
@@ -0,0 +1,70 @@
+package com.hhplus.ecommerce.common.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 키셋 페이지네이션 커서
+ *
+ * 형식: "{timestamp},{id}" (예: 2025-01-01T12:00:00.123,1042)
+ * - timestamp: 정렬 기준 시각 (이력 createdAt, 주문 orderedAt, 상품 createdAt)
+ *
+ * 책임:
+ * - 정렬 키 (timestamp DESC, id DESC) 기준 마지막 행 위치 표현
+ * - OFFSET 없이 "이 위치 이후" 조건으로 다음 페이지 조회 → 페이지 깊이와 무관하게 인덱스 범위 스캔
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    public static KeysetCursor of(LocalDateTime timestamp, Long id) {
+        if (timestamp == null || id == null) {
+            throw new IllegalArgumentException("커서 값은 필수입니다");
+        }
+        return new KeysetCursor(timestamp, id);
+    }
+
+    /**
+     * 커서 문자열 파싱
+     *
+     * @param cursor "{timestamp},{id}" (null 또는 빈 문자열이면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     * @throws IllegalArgumentException 형식 오류
+     */
+    public static KeysetCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        int delimiter = cursor.lastIndexOf(DELIMITER);
+        if (delimiter <= 0 || delimiter == cursor.length() - 1) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + cursor);
+        }
+
+        try {
+            LocalDateTime timestamp = LocalDateTime.parse(cursor.substring(0, delimiter).trim());
+            Long id = Long.valueOf(cursor.substring(delimiter + 1).trim());
+            return new KeysetCursor(timestamp, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + cursor);
+        }
+    }
+
+    public String encode() {
+        return timestamp + DELIMITER + id;
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
@@ -0,0 +1,70 @@
+package com.hhplus.ecommerce.common.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 결과
+ *
+ * 처리 흐름:
+ * 1. Repository에서 size + 1건 조회 (조회 조건은 KeysetLimit)
+ * 2. size건 초과 여부로 hasNext 판단 (COUNT 쿼리 없음)
+ * 3. 마지막 행의 (timestamp, id)를 nextCursor로 반환
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeysetSlice<T> {
+
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    /**
+     * 페이지 크기 검증
+     *
+     * @param size 페이지 크기 (1 ~ MAX_SIZE)
+     * @throws IllegalArgumentException 잘못된 페이지 크기
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_SIZE + " 이하여야 합니다");
+        }
+    }
+
+    /**
+     * size + 1건 조회 결과로 Slice 생성
+     *
+     * @param rows size + 1건까지 조회한 결과
+     * @param size 페이지 크기
+     * @param timestamp 행의 정렬 기준 시각 추출
+     * @param id 행의 정렬 키(id) 추출
+     */
+    public static <T> KeysetSlice<T> of(List<T> rows, int size,
+                                        Function<T, LocalDateTime> timestamp, Function<T, Long> id) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? List.copyOf(rows.subList(0, size)) : List.copyOf(rows);
+
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.of(timestamp.apply(last), id.apply(last)).encode();
+        }
+
+        return new KeysetSlice<>(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 내용 변환 (커서/hasNext 유지, Projection → 응답 DTO)
+     */
+    public <R> KeysetSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new KeysetSlice<>(mapped, nextCursor, hasNext);
+    }
+}
@@ -23,7 +23,8 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 )
 @JsonSubTypes({
     @JsonSubTypes.Type(value = CouponUsagePayload.class, name = "CouponUsagePayload"),
-    @JsonSubTypes.Type(value = PopularProductAggregationPayload.class, name = "PopularProductAggregationPayload")
+    @JsonSubTypes.Type(value = PopularProductAggregationPayload.class, name = "PopularProductAggregationPayload"),
+    @JsonSubTypes.Type(value = HistoryAppendPayload.class, name = "HistoryAppendPayload")
 })
 public interface EventPayload {
 }
@@ -0,0 +1,121 @@
+package com.hhplus.ecommerce.common.domain.event;
+
+import com.hhplus.ecommerce.product.domain.StockHistory;
+import com.hhplus.ecommerce.product.domain.StockTransactionType;
+import com.hhplus.ecommerce.user.domain.BalanceHistory;
+import com.hhplus.ecommerce.user.domain.BalanceTransactionType;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이력 적재 이벤트 페이로드
+ *
+ * Common Layer - 이벤트 페이로드
+ *
+ * 책임:
+ * - 비동기 이력 Writer가 DB에 반영하지 못한 재고/잔액 이력 보관
+ *   (버퍼 초과, 배치 저장 실패, 종료 시 미처리분)
+ * - DomainEventRetryService가 재시도 시 이력 INSERT
+ */
+@Getter
+@NoArgsConstructor
+public class HistoryAppendPayload implements EventPayload {
+
+    private List<StockEntry> stockHistories = new ArrayList<>();
+    private List<BalanceEntry> balanceHistories = new ArrayList<>();
+
+    @Builder
+    public HistoryAppendPayload(List<StockEntry> stockHistories, List<BalanceEntry> balanceHistories) {
+        this.stockHistories = stockHistories != null ? stockHistories : new ArrayList<>();
+        this.balanceHistories = balanceHistories != null ? balanceHistories : new ArrayList<>();
+    }
+
+    public int size() {
+        return stockHistories.size() + balanceHistories.size();
+    }
+
+    /**
+     * 재고 이력 항목
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class StockEntry {
+        private Long productId;
+        private StockTransactionType type;
+        private Integer quantity;
+        private Integer stockBefore;
+        private Integer stockAfter;
+        private String reason;
+        private LocalDateTime createdAt;
+
+        @Builder
+        public StockEntry(Long productId, StockTransactionType type, Integer quantity,
+                          Integer stockBefore, Integer stockAfter, String reason, LocalDateTime createdAt) {
+            this.productId = productId;
+            this.type = type;
+            this.quantity = quantity;
+            this.stockBefore = stockBefore;
+            this.stockAfter = stockAfter;
+            this.reason = reason;
+            this.createdAt = createdAt;
+        }
+
+        public static StockEntry from(StockHistory history) {
+            return StockEntry.builder()
+                .productId(history.getProduct().getId())
+                .type(history.getType())
+                .quantity(history.getQuantity())
+                .stockBefore(history.getStockBefore())
+                .stockAfter(history.getStockAfter())
+                .reason(history.getReason())
+                .createdAt(history.getCreatedAt() != null ? history.getCreatedAt() : LocalDateTime.now())
+                .build();
+        }
+    }
+
+    /**
+     * 잔액 이력 항목
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class BalanceEntry {
+        private Long userId;
+        private BalanceTransactionType type;
+        private BigDecimal amount;
+        private BigDecimal balanceBefore;
+        private BigDecimal balanceAfter;
+        private String description;
+        private LocalDateTime createdAt;
+
+        @Builder
+        public BalanceEntry(Long userId, BalanceTransactionType type, BigDecimal amount,
+                            BigDecimal balanceBefore, BigDecimal balanceAfter, String description,
+                            LocalDateTime createdAt) {
+            this.userId = userId;
+            this.type = type;
+            this.amount = amount;
+            this.balanceBefore = balanceBefore;
+            this.balanceAfter = balanceAfter;
+            this.description = description;
+            this.createdAt = createdAt;
+        }
+
+        public static BalanceEntry from(BalanceHistory history) {
+            return BalanceEntry.builder()
+                .userId(history.getUser().getId())
+                .type(history.getType())
+                .amount(history.getAmount())
+                .balanceBefore(history.getBalanceBefore())
+                .balanceAfter(history.getBalanceAfter())
+                .description(history.getDescription())
+                .createdAt(history.getCreatedAt() != null ? history.getCreatedAt() : LocalDateTime.now())
+                .build();
+        }
+    }
+}
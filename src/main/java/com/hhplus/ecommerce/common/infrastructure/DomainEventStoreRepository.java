@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.common.infrastructure;
 
 import com.hhplus.ecommerce.common.domain.DomainEventStore;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,6 +19,7 @@ import java.util.Optional;
  * 책임:
  * - 도메인 이벤트 CRUD
  * - 재시도 대상 조회
+ * - 재시도 워커 선점 (SKIP LOCKED)
  * - 이벤트 히스토리 조회
  */
 @Repository
@@ -138,4 +140,66 @@ public interface DomainEventStoreRepository extends JpaRepository<DomainEventSto
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
+
+    /**
+     * 재시도 워커 선점 대상 조회 (FOR UPDATE SKIP LOCKED)
+     *
+     * 조건:
+     * - 상태가 PENDING, 다음 재시도 시각 도래 (idx_status_next_retry 인덱스 사용)
+     * - 같은 aggregate의 앞선 이벤트가 처리 중이거나 백오프 대기 중이면 제외 (aggregate 내 순서 보장)
+     *
+     * 동시성 제어:
+     * - 다른 워커가 잠근 row는 대기 없이 건너뜀 → 노드/워커별로 서로 다른 배치 선점
+     *
+     * @param now 현재 시각
+     * @param limit 최대 선점 건수
+     * @return 선점 대상 이벤트 목록 (nextRetryAt, id 순)
+     */
+    @Query(value = "SELECT * FROM domain_event_store e " +
+                   "WHERE e.status = 'PENDING' " +
+                   "AND e.next_retry_at <= :now " +
+                   "AND e.retry_count < e.max_retry_count " +
+                   "AND NOT EXISTS (" +
+                   "  SELECT 1 FROM domain_event_store p " +
+                   "  WHERE p.aggregate_id = e.aggregate_id " +
+                   "  AND p.aggregate_type = e.aggregate_type " +
+                   "  AND (p.created_at < e.created_at OR (p.created_at = e.created_at AND p.id < e.id)) " +
+                   "  AND (p.status = 'PROCESSING' OR (p.status = 'PENDING' AND p.next_retry_at > :now))" +
+                   ") " +
+                   "ORDER BY e.next_retry_at ASC, e.id ASC " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<DomainEventStore> claimRetryableEvents(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 만료된 선점 회수
+     *
+     * 워커 장애로 PROCESSING에 머문 이벤트를 다시 PENDING으로 되돌림
+     *
+     * @param leaseExpiredBefore 이 시각 이전에 선점된 이벤트
+     * @return 회수된 이벤트 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE DomainEventStore e " +
+           "SET e.status = :pending " +
+           "WHERE e.status = :processing " +
+           "AND e.updatedAt < :leaseExpiredBefore")
+    int releaseExpiredClaims(
+        @Param("leaseExpiredBefore") LocalDateTime leaseExpiredBefore,
+        @Param("processing") DomainEventStore.EventStatus processing,
+        @Param("pending") DomainEventStore.EventStatus pending
+    );
+
+    /**
+     * 재시도 대기 중인 이벤트 수 (백로그)
+     *
+     * @param now 현재 시각
+     * @return 재시도 시각이 도래한 PENDING 이벤트 수
+     */
+    @Query("SELECT COUNT(e) FROM DomainEventStore e " +
+           "WHERE e.status = 'PENDING' " +
+           "AND e.retryCount < e.maxRetryCount " +
+           "AND e.nextRetryAt <= :now")
+    long countRetryableEvents(@Param("now") LocalDateTime now);
 }
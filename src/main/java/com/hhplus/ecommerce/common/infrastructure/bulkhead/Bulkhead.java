@@ -0,0 +1,113 @@
+package com.hhplus.ecommerce.common.infrastructure.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 세마포어 기반 벌크헤드
+ *
+ * Infrastructure Layer - 동시성 제한
+ *
+ * 책임:
+ * - 다운스트림 자원(DB 커넥션, Redis 커넥션)별 동시 점유 수 제한
+ * - permit 대기 시간 상한 (초과 시 요청 거절 → 스레드가 무한정 쌓이지 않음)
+ *
+ * 스레드 풀 크기 제한과의 차이:
+ * - 스레드 풀: 요청 처리 스레드 수가 곧 동시성 상한 (I/O 대기 중에도 스레드 점유)
+ * - 벌크헤드: 스레드 수는 제한하지 않고 (가상 스레드), 실제로 부족한 자원의 동시 점유만 제한
+ *
+ * 사용 예시:
+ * - BulkheadDataSource: getConnection ~ close 구간 permit 점유
+ * - BulkheadBeanPostProcessor: RedisConnectionFactory.getConnection ~ close 구간 permit 점유
+ */
+@Slf4j
+public class Bulkhead {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final int maxPermits;
+
+    private final long acquireTimeoutMs;
+    private final Semaphore semaphore;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    Bulkhead(String name, int maxPermits, long acquireTimeoutMs, Timer waitTimer, Counter rejectedCounter) {
+        if (maxPermits <= 0) {
+            throw new IllegalArgumentException("벌크헤드 permit 수는 1 이상이어야 합니다: " + name);
+        }
+        this.name = name;
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.semaphore = new Semaphore(maxPermits, true);
+        this.waitTimer = waitTimer;
+        this.rejectedCounter = rejectedCounter;
+    }
+
+    /**
+     * permit 획득 (acquireTimeoutMs까지 대기)
+     *
+     * @throws BulkheadFullException 대기 시간 초과 또는 인터럽트 (재시도 대상)
+     */
+    public void acquire() {
+        long startNanos = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException(name, "벌크헤드 대기 중 인터럽트가 발생했습니다: " + name, e);
+        } finally {
+            waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            log.warn("[벌크헤드] permit 획득 실패 - name: {}, max: {}, timeout: {}ms", name, maxPermits, acquireTimeoutMs);
+            throw new BulkheadFullException(name, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요. (" + name + ")");
+        }
+    }
+
+    /**
+     * permit 반환
+     */
+    public void release() {
+        semaphore.release();
+    }
+
+    /**
+     * permit을 점유한 상태로 작업 실행
+     */
+    public <T> T call(Supplier<T> supplier) {
+        acquire();
+        try {
+            return supplier.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * permit을 점유한 상태로 작업 실행
+     */
+    public void run(Runnable runnable) {
+        acquire();
+        try {
+            runnable.run();
+        } finally {
+            release();
+        }
+    }
+
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+}
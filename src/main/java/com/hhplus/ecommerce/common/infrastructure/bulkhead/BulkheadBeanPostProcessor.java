@@ -0,0 +1,135 @@
+package com.hhplus.ecommerce.common.infrastructure.bulkhead;
+
+import com.hhplus.ecommerce.config.BulkheadProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource / RedisConnectionFactory 벌크헤드 적용
+ *
+ * Infrastructure Layer - 동시성 제한
+ *
+ * 책임:
+ * - 가상 스레드 모드(또는 bulkhead.enabled=true)일 때 다운스트림 자원에 벌크헤드 적용
+ * - DataSource → BulkheadDataSource (db, 기본 permit = Hikari maximum-pool-size)
+ * - RedisConnectionFactory → getConnection ~ close 구간 redis permit 점유
+ *
+ * 참고:
+ * - Redisson(분산락)은 자체 커넥션 풀(connectionPoolSize=50) + 명령 타임아웃으로 제한되므로 대상 아님
+ * - 구독(Pub/Sub) 리스너 컨테이너는 redis permit 1개를 계속 점유함
+ * - 벌크헤드 레지스트리는 최초 커넥션 요청 시 조회 (빈 초기화 순서 영향 없음)
+ */
+@Slf4j
+@Component
+public class BulkheadBeanPostProcessor implements BeanPostProcessor {
+
+    private static final Set<String> REDIS_CONNECTION_METHODS =
+        Set.of("getConnection", "getClusterConnection", "getSentinelConnection");
+
+    private final Environment environment;
+    private final ObjectProvider<BulkheadRegistry> bulkheadRegistryProvider;
+    private final ObjectProvider<BulkheadProperties> bulkheadPropertiesProvider;
+
+    public BulkheadBeanPostProcessor(Environment environment,
+                                     ObjectProvider<BulkheadRegistry> bulkheadRegistryProvider,
+                                     ObjectProvider<BulkheadProperties> bulkheadPropertiesProvider) {
+        this.environment = environment;
+        this.bulkheadRegistryProvider = bulkheadRegistryProvider;
+        this.bulkheadPropertiesProvider = bulkheadPropertiesProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!isActive()) {
+            return bean;
+        }
+
+        if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+            int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 0;
+            log.info("[벌크헤드] DataSource 적용 - bean: {}", beanName);
+            return new BulkheadDataSource(dataSource, () -> dbBulkhead(poolSize));
+        }
+
+        if (bean instanceof RedisConnectionFactory) {
+            log.info("[벌크헤드] RedisConnectionFactory 적용 - bean: {}", beanName);
+            return wrapRedisConnectionFactory(bean);
+        }
+
+        return bean;
+    }
+
+    /**
+     * 적용 여부: 가상 스레드 활성(JDK 21 + spring.threads.virtual.enabled) 또는 bulkhead.enabled
+     */
+    private boolean isActive() {
+        return Threading.VIRTUAL.isActive(environment)
+            || environment.getProperty("bulkhead.enabled", Boolean.class, false);
+    }
+
+    private Bulkhead dbBulkhead(int poolSize) {
+        int configured = bulkheadPropertiesProvider.getObject().getDbPermits();
+        int permits = configured > 0 ? configured : Math.max(poolSize, 1);
+        return bulkheadRegistryProvider.getObject().bulkhead(BulkheadRegistry.DB, permits);
+    }
+
+    private Bulkhead redisBulkhead() {
+        int permits = bulkheadPropertiesProvider.getObject().getRedisPermits();
+        return bulkheadRegistryProvider.getObject().bulkhead(BulkheadRegistry.REDIS, permits);
+    }
+
+    private Object wrapRedisConnectionFactory(Object connectionFactory) {
+        ProxyFactory proxyFactory = new ProxyFactory(connectionFactory);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (!REDIS_CONNECTION_METHODS.contains(invocation.getMethod().getName())) {
+                return invocation.proceed();
+            }
+
+            Bulkhead bulkhead = redisBulkhead();
+            bulkhead.acquire();
+            Object connection;
+            try {
+                connection = invocation.proceed();
+            } catch (Throwable e) {
+                bulkhead.release();
+                throw e;
+            }
+            return releaseOnClose(connection, invocation.getMethod().getReturnType(), bulkhead);
+        });
+        return proxyFactory.getProxy();
+    }
+
+    /**
+     * close 호출 시 permit을 1회만 반환하는 Redis 커넥션 프록시
+     */
+    private static Object releaseOnClose(Object connection, Class<?> connectionType, Bulkhead bulkhead) {
+        AtomicBoolean released = new AtomicBoolean(false);
+
+        ProxyFactory proxyFactory = new ProxyFactory(connection);
+        proxyFactory.addInterface(connectionType);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (!"close".equals(invocation.getMethod().getName())) {
+                return invocation.proceed();
+            }
+            try {
+                return invocation.proceed();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            }
+        });
+        return proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,86 @@
+package com.hhplus.ecommerce.common.infrastructure.bulkhead;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * DB 커넥션 벌크헤드 DataSource
+ *
+ * Infrastructure Layer - 동시성 제한
+ *
+ * 책임:
+ * - getConnection 시 db 벌크헤드 permit 획득, Connection.close 시 반환
+ * - 트랜잭션 동안 커넥션을 점유하므로 permit도 트랜잭션 단위로 점유됨
+ *
+ * Hikari 대기와의 차이:
+ * - Hikari: connection-timeout(30초)까지 대기 후 SQLTransientConnectionException
+ * - 벌크헤드: 공정(FIFO) 대기 + acquire-timeout-ms 초과 시 빠른 거절 + 대기/거절 메트릭
+ *   → 가상 스레드 모드에서 수천 개 요청이 커넥션 풀 앞에 쌓이는 것을 제한
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Supplier<Bulkhead> bulkheadSupplier;
+
+    /**
+     * @param targetDataSource 실제 DataSource (HikariDataSource)
+     * @param bulkheadSupplier db 벌크헤드 (최초 커넥션 요청 시 조회)
+     */
+    public BulkheadDataSource(DataSource targetDataSource, Supplier<Bulkhead> bulkheadSupplier) {
+        super(targetDataSource);
+        this.bulkheadSupplier = bulkheadSupplier;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Bulkhead bulkhead = bulkheadSupplier.get();
+        bulkhead.acquire();
+        try {
+            return releaseOnClose(obtainTargetDataSource().getConnection(), bulkhead);
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Bulkhead bulkhead = bulkheadSupplier.get();
+        bulkhead.acquire();
+        try {
+            return releaseOnClose(obtainTargetDataSource().getConnection(username, password), bulkhead);
+        } catch (SQLException | RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+
+    /**
+     * close 호출 시 permit을 1회만 반환하는 Connection 프록시
+     */
+    private static Connection releaseOnClose(Connection connection, Bulkhead bulkhead) {
+        AtomicBoolean released = new AtomicBoolean(false);
+
+        ProxyFactory proxyFactory = new ProxyFactory(connection);
+        proxyFactory.addInterface(Connection.class);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            if (!"close".equals(invocation.getMethod().getName())) {
+                return invocation.proceed();
+            }
+            try {
+                return invocation.proceed();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            }
+        });
+        return (Connection) proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,44 @@
+package com.hhplus.ecommerce.common.infrastructure.bulkhead;
+
+import lombok.Getter;
+
+/**
+ * 벌크헤드 permit 획득 실패 (일시적 과부하)
+ *
+ * Infrastructure Layer - 동시성 제한
+ *
+ * 비즈니스 실패(IllegalStateException: 재고 부족, 잔액 부족 등)와 구분:
+ * - 요청 자체는 유효하고 자원이 잠시 부족한 상태 → 보상 없이 재시도 대상
+ * - Kafka Consumer: ack 없이 예외 전파 (컨테이너 재전달)
+ * - HTTP: 503 Service Unavailable
+ *
+ * 트랜잭션 시작 시 커넥션 획득에서 발생하면 CannotCreateTransactionException 등으로 감싸지므로
+ * 원인 체인은 isCauseOf로 확인
+ */
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkheadName;
+
+    public BulkheadFullException(String bulkheadName, String message) {
+        super(message);
+        this.bulkheadName = bulkheadName;
+    }
+
+    public BulkheadFullException(String bulkheadName, String message, Throwable cause) {
+        super(message, cause);
+        this.bulkheadName = bulkheadName;
+    }
+
+    /**
+     * 예외 원인 체인에 벌크헤드 거절이 포함되어 있는지 확인
+     */
+    public static boolean isCauseOf(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BulkheadFullException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
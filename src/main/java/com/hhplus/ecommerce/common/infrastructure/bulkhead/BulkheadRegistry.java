@@ -0,0 +1,81 @@
+package com.hhplus.ecommerce.common.infrastructure.bulkhead;
+
+import com.hhplus.ecommerce.config.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벌크헤드 레지스트리
+ *
+ * Infrastructure Layer - 동시성 제한
+ *
+ * 책임:
+ * - 자원 이름별 벌크헤드 생성 및 재사용
+ * - 벌크헤드 메트릭 등록
+ *
+ * 메트릭:
+ * - bulkhead.available{name}: 남은 permit 수
+ * - bulkhead.max{name}: 최대 permit 수
+ * - bulkhead.wait{name}: permit 대기 시간
+ * - bulkhead.rejected{name}: 대기 시간 초과로 거절된 요청 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkheadRegistry {
+
+    public static final String DB = "db";
+    public static final String REDIS = "redis";
+
+    private final BulkheadProperties bulkheadProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * 벌크헤드 조회 (없으면 생성)
+     *
+     * @param name 자원 이름 (db, redis)
+     * @param maxPermits 최초 생성 시 최대 permit 수 (이미 생성된 경우 무시)
+     */
+    public Bulkhead bulkhead(String name, int maxPermits) {
+        return bulkheads.computeIfAbsent(name, key -> create(key, maxPermits));
+    }
+
+    private Bulkhead create(String name, int maxPermits) {
+        Timer waitTimer = Timer.builder("bulkhead.wait")
+            .description("벌크헤드 permit 대기 시간")
+            .tag("name", name)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+        Counter rejectedCounter = Counter.builder("bulkhead.rejected")
+            .description("벌크헤드 대기 시간 초과로 거절된 요청 수")
+            .tag("name", name)
+            .register(meterRegistry);
+
+        Bulkhead bulkhead = new Bulkhead(name, maxPermits, bulkheadProperties.getAcquireTimeoutMs(),
+                                         waitTimer, rejectedCounter);
+
+        Gauge.builder("bulkhead.available", bulkhead, Bulkhead::getAvailablePermits)
+            .description("벌크헤드 남은 permit 수")
+            .tag("name", name)
+            .register(meterRegistry);
+        Gauge.builder("bulkhead.max", bulkhead, Bulkhead::getMaxPermits)
+            .description("벌크헤드 최대 permit 수")
+            .tag("name", name)
+            .register(meterRegistry);
+
+        log.info("[벌크헤드] 생성 - name: {}, permits: {}, timeout: {}ms",
+                 name, maxPermits, bulkheadProperties.getAcquireTimeoutMs());
+        return bulkhead;
+    }
+}
@@ -0,0 +1,258 @@
+package com.hhplus.ecommerce.common.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Callable;
+
+/**
+ * 2단 캐시 (L1: Caffeine 로컬 캐시, L2: Redis 캐시)
+ *
+ * Infrastructure Layer - 캐시 구현
+ *
+ * 조회 흐름:
+ * 1. L1(프로세스 메모리) 조회 → 히트 시 네트워크 왕복 없이 스냅샷에서 복원하여 반환
+ * 2. L1 미스 → L2(Redis) 조회 → 히트 시 L1에 적재
+ * 3. L2 미스 → 원본 조회(valueLoader) → L2, L1 순으로 적재
+ *
+ * 변경 흐름 (put/evict/clear):
+ * - L2 반영 → L1 반영 → 다른 노드 L1 무효화 메시지 발행 (Redis Pub/Sub)
+ *
+ * 주의사항:
+ * - L1은 값 인스턴스가 아닌 직렬화 스냅샷(byte[], L2와 같은 직렬화 형식)을 보관
+ *   → 요청마다 새 인스턴스를 반환하므로 호출자가 값(JPA 엔티티 등)을 변경해도 캐시/다른 요청에 영향 없음
+ * - L1 키는 String.valueOf(key) (노드 간 무효화 메시지와 동일한 키 표현)
+ *
+ * 메트릭 (tier 태그로 구분):
+ * - L1: CaffeineCacheMetrics (cache.gets, cache.puts, cache.evictions, cache.size ...)
+ * - L2: cache.gets{result=hit|miss}, cache.puts, cache.evictions
+ */
+public class TwoLevelCache implements Cache {
+
+    private static final String TIER_TAG = "tier";
+    private static final String TIER_REMOTE = "l2";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final SerializationPair<Object> valueSerializationPair;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remotePuts;
+    private final Counter remoteEvictions;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache remoteCache,
+                         SerializationPair<Object> valueSerializationPair,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.valueSerializationPair = valueSerializationPair;
+        this.invalidationPublisher = invalidationPublisher;
+
+        Tags tags = Tags.of("cache", name, TIER_TAG, TIER_REMOTE);
+        this.remoteHits = meterRegistry.counter("cache.gets", tags.and("result", "hit"));
+        this.remoteMisses = meterRegistry.counter("cache.gets", tags.and("result", "miss"));
+        this.remotePuts = meterRegistry.counter("cache.puts", tags);
+        this.remoteEvictions = meterRegistry.counter("cache.evictions", tags);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+
+        Object localValue = localCache.getIfPresent(localKey);
+        if (localValue != null) {
+            return new SimpleValueWrapper(fromSnapshot(localValue));
+        }
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue == null) {
+            remoteMisses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        if (remoteValue.get() != null) {
+            localCache.put(localKey, toSnapshot(remoteValue.get()));
+        }
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "캐시 값의 타입이 일치하지 않습니다. 요청: " + type.getName() + ", 실제: " + value.getClass().getName());
+        }
+        return (T) value;
+    }
+
+    /**
+     * 캐시 조회 (미스 시 로드)
+     *
+     * L1 미스 시 Caffeine의 키 단위 로딩을 사용하므로
+     * 같은 노드에서 동일 키 동시 요청은 L2/원본 조회를 1회만 수행
+     * (로드한 호출자도 스냅샷에서 복원한 인스턴스를 받음)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object snapshot = localCache.get(toLocalKey(key), localKey -> toSnapshot(loadFromRemote(key, valueLoader)));
+        return (T) fromSnapshot(snapshot);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        remotePuts.increment();
+
+        String localKey = toLocalKey(key);
+        if (value != null) {
+            localCache.put(localKey, toSnapshot(value));
+        } else {
+            localCache.invalidate(localKey);
+        }
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        if (existing == null) {
+            remotePuts.increment();
+        }
+
+        String localKey = toLocalKey(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        remoteEvictions.increment();
+
+        String localKey = toLocalKey(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remoteCache.evictIfPresent(key);
+        if (evicted) {
+            remoteEvictions.increment();
+        }
+
+        String localKey = toLocalKey(key);
+        localCache.invalidate(localKey);
+        invalidationPublisher.publishEvict(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remoteCache.invalidate();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드의 변경 메시지 수신 시 L1만 무효화 (L2는 이미 반영됨)
+     */
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T loadFromRemote(Object key, Callable<T> valueLoader) {
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue != null) {
+            remoteHits.increment();
+            return (T) remoteValue.get();
+        }
+        remoteMisses.increment();
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        if (value != null) {
+            remoteCache.put(key, value);
+            remotePuts.increment();
+        }
+        return value;
+    }
+
+    /**
+     * L1 보관용 스냅샷 (L2와 같은 직렬화 형식)
+     */
+    private byte[] toSnapshot(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return ByteUtils.getBytes(valueSerializationPair.write(value));
+    }
+
+    private Object fromSnapshot(Object snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        return valueSerializationPair.read(ByteBuffer.wrap((byte[]) snapshot));
+    }
+
+    static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * L1 무효화 메시지 발행 인터페이스 (TwoLevelCacheManager가 구현)
+     */
+    interface CacheInvalidationPublisher {
+        void publishEvict(String cacheName, String localKey);
+
+        void publishClear(String cacheName);
+    }
+}
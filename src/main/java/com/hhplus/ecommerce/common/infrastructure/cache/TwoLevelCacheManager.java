@@ -0,0 +1,184 @@
+package com.hhplus.ecommerce.common.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 2단 캐시 매니저 (Caffeine L1 + Redis L2)
+ *
+ * Infrastructure Layer - 캐시 구현
+ *
+ * 책임:
+ * - 캐시 이름별 TwoLevelCache 생성 (L1 크기/TTL은 캐시별 LocalCacheSpec)
+ * - L1 스냅샷 직렬화 형식은 L2(RedisCache)의 값 직렬화 설정을 그대로 사용
+ * - 노드 간 L1 무효화 메시지 발행/수신 (Redis Pub/Sub)
+ * - L1 캐시 메트릭 등록 (CaffeineCacheMetrics, tier=l1)
+ *
+ * 무효화 메시지 형식:
+ * - {nodeId}|E|{cacheName}|{key} : 키 단위 무효화
+ * - {nodeId}|C|{cacheName}|      : 캐시 전체 무효화
+ * - 자신이 발행한 메시지는 무시 (이미 로컬 반영)
+ *
+ * 장애 시:
+ * - 메시지 발행 실패 시 로그만 남김 → 다른 노드 L1은 L1 TTL 경과 후 갱신
+ *   (L1 TTL은 L2 TTL보다 짧게 설정하여 stale 구간을 제한)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener, TwoLevelCache.CacheInvalidationPublisher {
+
+    private static final String MESSAGE_DELIMITER = "|";
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+    private static final String TIER_LOCAL = "l1";
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, LocalCacheSpec> localCacheSpecs;
+    private final LocalCacheSpec defaultLocalCacheSpec;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String invalidationChannel;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                Map<String, LocalCacheSpec> localCacheSpecs,
+                                LocalCacheSpec defaultLocalCacheSpec,
+                                StringRedisTemplate stringRedisTemplate,
+                                String invalidationChannel,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localCacheSpecs = localCacheSpecs;
+        this.defaultLocalCacheSpec = defaultLocalCacheSpec;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.invalidationChannel = invalidationChannel;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> createCache(cacheName, remoteCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(remoteCacheManager.getCacheNames());
+        names.addAll(caches.keySet());
+        return Collections.unmodifiableSet(names);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private TwoLevelCache createCache(String name, Cache remoteCache) {
+        LocalCacheSpec spec = localCacheSpecs.getOrDefault(name, defaultLocalCacheSpec);
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+            .maximumSize(spec.getMaximumSize())
+            .expireAfterWrite(spec.getTtl())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name, Tags.of("tier", TIER_LOCAL));
+
+        log.info("2단 캐시 생성 - cache: {}, L1 최대: {}개, L1 TTL: {}", name, spec.getMaximumSize(), spec.getTtl());
+        return new TwoLevelCache(name, localCache, remoteCache, valueSerializationPair(name, remoteCache), this, meterRegistry);
+    }
+
+    private RedisSerializationContext.SerializationPair<Object> valueSerializationPair(String name, Cache remoteCache) {
+        if (!(remoteCache instanceof RedisCache redisCache)) {
+            throw new IllegalStateException("2단 캐시의 L2는 RedisCache여야 합니다. cache: " + name);
+        }
+        return redisCache.getCacheConfiguration().getValueSerializationPair();
+    }
+
+    // ===== 무효화 메시지 발행 =====
+
+    @Override
+    public void publishEvict(String cacheName, String localKey) {
+        publish(String.join(MESSAGE_DELIMITER, nodeId, OP_EVICT, cacheName, localKey));
+    }
+
+    @Override
+    public void publishClear(String cacheName) {
+        publish(String.join(MESSAGE_DELIMITER, nodeId, OP_CLEAR, cacheName, ""));
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(invalidationChannel, message);
+        } catch (Exception e) {
+            log.warn("[2단 캐시] 무효화 메시지 발행 실패 - 다른 노드 L1은 TTL 만료 후 갱신: {}", message, e);
+        }
+    }
+
+    // ===== 무효화 메시지 수신 =====
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + MESSAGE_DELIMITER, 4);
+        if (parts.length < 4) {
+            log.warn("[2단 캐시] 잘못된 무효화 메시지 무시: {}", body);
+            return;
+        }
+
+        String senderNodeId = parts[0];
+        if (nodeId.equals(senderNodeId)) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return; // 이 노드에서 사용한 적 없는 캐시 (L1 없음)
+        }
+
+        if (OP_CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+        log.debug("[2단 캐시] L1 무효화 수신 - cache: {}, op: {}, key: {}", parts[2], parts[1], parts[3]);
+    }
+
+    /**
+     * L1(Caffeine) 캐시 설정
+     */
+    @lombok.Builder
+    @lombok.Getter
+    public static class LocalCacheSpec {
+        private long maximumSize;
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,165 @@
+package com.hhplus.ecommerce.common.infrastructure.lock;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 펜싱 토큰 기반 경량 분산락
+ *
+ * Infrastructure Layer - Redis 분산락
+ *
+ * 책임:
+ * - 락 획득: Lua Script 1회 호출 (SET NX PX + 펜싱 토큰 INCR)
+ * - 락 해제: Lua Script 1회 호출 (소유자 비교 후 DEL)
+ * - 락마다 단조 증가하는 펜싱 토큰 발급
+ *
+ * Redisson RLock과의 차이:
+ * - RLock: Hash 기반 재진입 락 + Pub/Sub 대기 + Watchdog 갱신 (획득/해제마다 다수 명령 + 스레드 소유권 관리)
+ * - 펜싱 락: String 키 1개, 획득/해제 각각 1 round trip, 재진입/갱신 없음
+ *   → lease 만료 후에도 작업이 계속될 수 있으므로, 보호 대상 자원(DB)에서 펜싱 토큰을 검증해야 함
+ *   (예: UserRepository.advanceLockFenceToken)
+ *
+ * Redis 키 구조 (Hash Tag로 같은 슬롯 보장):
+ * - {name}:owner → 소유자 식별자 (PX lease)
+ * - {name}:fence → 펜싱 토큰 카운터 (만료 없음)
+ *
+ * 주의:
+ * - Redisson RLock과 같은 name을 써도 키가 달라 상호 배제되지 않음 (모드 전환 시 전체 노드 동시 전환 필요)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FencedLockService {
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * Lua Script: 락 획득
+     *
+     * KEYS[1]: owner 키, KEYS[2]: fence 키
+     * ARGV[1]: 소유자 식별자, ARGV[2]: lease (ms)
+     * 반환: 펜싱 토큰 (획득 실패 시 0)
+     */
+    private static final String ACQUIRE_SCRIPT =
+        "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+        "  return redis.call('INCR', KEYS[2]) " +
+        "end " +
+        "return 0";
+
+    /**
+     * Lua Script: 락 해제 (compare-and-delete)
+     *
+     * KEYS[1]: owner 키
+     * ARGV[1]: 소유자 식별자
+     * 반환: 1 (해제), 0 (이미 만료되었거나 다른 소유자)
+     */
+    private static final String RELEASE_SCRIPT =
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+        "  return redis.call('DEL', KEYS[1]) " +
+        "end " +
+        "return 0";
+
+    private static final String OWNER_SUFFIX = ":owner";
+    private static final String FENCE_SUFFIX = ":fence";
+
+    /**
+     * 락 획득 시도
+     *
+     * 처리 흐름:
+     * 1. Lua Script로 SET NX PX + 펜싱 토큰 발급 (1 round trip)
+     * 2. 실패 시 retryIntervalMs 간격으로 waitTimeMs까지 재시도
+     *
+     * @param name 락 이름 (예: lock:balance:user:1)
+     * @param waitTimeMs 최대 대기 시간
+     * @param leaseTimeMs 자동 만료 시간
+     * @param retryIntervalMs 재시도 간격
+     * @return 획득한 락 (대기 시간 초과 시 empty)
+     * @throws InterruptedException 대기 중 인터럽트
+     */
+    public Optional<FencedLock> tryLock(String name, long waitTimeMs, long leaseTimeMs, long retryIntervalMs)
+            throws InterruptedException {
+        String owner = UUID.randomUUID().toString();
+        List<Object> keys = Arrays.asList(ownerKey(name), fenceKey(name));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeMs);
+
+        while (true) {
+            Long token = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE,
+                ACQUIRE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                keys,
+                owner, String.valueOf(leaseTimeMs)
+            );
+
+            if (token != null && token > 0) {
+                log.debug("[펜싱 락] 획득 - name: {}, token: {}", name, token);
+                return Optional.of(FencedLock.builder()
+                    .name(name)
+                    .owner(owner)
+                    .fencingToken(token)
+                    .build());
+            }
+
+            if (System.nanoTime() >= deadline) {
+                return Optional.empty();
+            }
+
+            Thread.sleep(Math.max(1L, retryIntervalMs));
+        }
+    }
+
+    /**
+     * 락 해제
+     *
+     * 소유자 식별자가 일치할 때만 삭제 (lease 만료 후 다른 요청이 획득한 락은 건드리지 않음)
+     *
+     * @param lock 획득한 락
+     * @return 해제 여부 (false면 이미 만료되어 다른 요청이 획득했을 수 있음)
+     */
+    public boolean unlock(FencedLock lock) {
+        Long released = redissonClient.getScript(StringCodec.INSTANCE).eval(
+            RScript.Mode.READ_WRITE,
+            RELEASE_SCRIPT,
+            RScript.ReturnType.INTEGER,
+            List.of(ownerKey(lock.getName())),
+            lock.getOwner()
+        );
+
+        boolean isReleased = released != null && released == 1L;
+        if (!isReleased) {
+            log.warn("[펜싱 락] 해제 실패 (lease 만료) - name: {}, token: {}", lock.getName(), lock.getFencingToken());
+        }
+        return isReleased;
+    }
+
+    private String ownerKey(String name) {
+        return "{" + name + "}" + OWNER_SUFFIX;
+    }
+
+    private String fenceKey(String name) {
+        return "{" + name + "}" + FENCE_SUFFIX;
+    }
+
+    /**
+     * 획득한 락 정보
+     */
+    @Builder
+    @Getter
+    public static class FencedLock {
+        private String name;
+        private String owner;
+        private Long fencingToken;
+    }
+}
@@ -0,0 +1,72 @@
+package com.hhplus.ecommerce.common.infrastructure.redis;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis 명령 인자 인코딩 유틸리티
+ *
+ * 목적:
+ * - String.getBytes()의 플랫폼 기본 charset 의존 제거 (항상 UTF-8)
+ * - 숫자 인자/키는 중간 String 없이 byte[] 1개만 할당
+ *
+ * 사용:
+ * - byte[] 기반 RedisConnection 호출(EVAL/EVALSHA)의 KEYS/ARGV 구성
+ * - 키 접두사는 utf8()로 한 번만 인코딩해 상수로 보관 후 key(prefix, id)로 결합
+ */
+public final class RedisBytes {
+
+    private RedisBytes() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화할 수 없습니다.");
+    }
+
+    public static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static String utf8(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 정수 → ASCII 숫자 byte[] (Long.toString(value).getBytes()와 동일 결과)
+     */
+    public static byte[] ascii(long value) {
+        return key(new byte[0], value);
+    }
+
+    /**
+     * 접두사 + 정수 ID 키 (예: "coupon:issued:" + 1 → "coupon:issued:1")
+     */
+    public static byte[] key(byte[] prefix, long id) {
+        if (id == Long.MIN_VALUE) {
+            byte[] digits = utf8(Long.toString(id));
+            byte[] result = new byte[prefix.length + digits.length];
+            System.arraycopy(prefix, 0, result, 0, prefix.length);
+            System.arraycopy(digits, 0, result, prefix.length, digits.length);
+            return result;
+        }
+
+        boolean negative = id < 0;
+        long remaining = negative ? -id : id;
+
+        int digitCount = 1;
+        for (long n = remaining; n >= 10; n /= 10) {
+            digitCount++;
+        }
+
+        int length = prefix.length + (negative ? 1 : 0) + digitCount;
+        byte[] result = new byte[length];
+        System.arraycopy(prefix, 0, result, 0, prefix.length);
+        if (negative) {
+            result[prefix.length] = '-';
+        }
+
+        int position = length - 1;
+        do {
+            result[position--] = (byte) ('0' + (remaining % 10));
+            remaining /= 10;
+        } while (remaining > 0);
+
+        return result;
+    }
+}
@@ -0,0 +1,141 @@
+package com.hhplus.ecommerce.common.infrastructure.redis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lua Script 레지스트리 (EVALSHA + NOSCRIPT 시 EVAL 폴백)
+ *
+ * Infrastructure Layer - Redis 스크립트 실행
+ *
+ * 책임:
+ * - 스크립트 본문을 UTF-8 byte[]와 SHA1으로 한 번만 변환해 보관
+ * - 기동 완료 시 등록된 스크립트 SCRIPT LOAD
+ * - 호출은 EVALSHA (SHA1 40바이트만 전송), NOSCRIPT면 EVAL로 재실행 (EVAL이 스크립트를 다시 캐시)
+ *
+ * EVAL 대비:
+ * - EVAL: 호출마다 스크립트 본문 전체(수 KB) 전송 + 호출마다 String → byte[] 변환
+ * - EVALSHA: SHA1만 전송, Redis 재시작/SCRIPT FLUSH 직후 1회만 EVAL
+ *
+ * 주의:
+ * - 파이프라인/트랜잭션 안에서는 결과가 즉시 오지 않아 NOSCRIPT 폴백이 불가능하므로 사용하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisScriptRegistry {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ConcurrentMap<String, LuaScript> scripts = new ConcurrentHashMap<>();
+    private final AtomicLong noScriptFallbackCount = new AtomicLong();
+
+    /**
+     * 스크립트 등록 (같은 본문은 1회만 변환)
+     */
+    public LuaScript register(String source) {
+        return scripts.computeIfAbsent(source, LuaScript::new);
+    }
+
+    public void register(String... sources) {
+        for (String source : sources) {
+            register(source);
+        }
+    }
+
+    /**
+     * 등록된 스크립트 전체 SCRIPT LOAD (실패해도 첫 호출에서 EVAL 폴백)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (LuaScript script : scripts.values()) {
+                    connection.scriptingCommands().scriptLoad(script.getSource());
+                }
+                return null;
+            });
+            log.info("[Lua Script] SCRIPT LOAD 완료 - {}개", scripts.size());
+        } catch (Exception e) {
+            log.warn("[Lua Script] SCRIPT LOAD 실패 - 첫 호출 시 EVAL로 적재: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * EVALSHA 실행, NOSCRIPT면 EVAL로 재실행
+     *
+     * @param connection RedisCallback의 연결
+     * @param source 스크립트 본문 (미등록이면 등록)
+     * @param returnType 반환 타입
+     * @param numKeys KEYS 개수
+     * @param keysAndArgs KEYS + ARGV
+     * @return 스크립트 결과
+     */
+    public <T> T eval(RedisConnection connection, String source, ReturnType returnType,
+                      int numKeys, byte[]... keysAndArgs) {
+        LuaScript script = register(source);
+
+        try {
+            return connection.scriptingCommands().evalSha(script.getSha1(), returnType, numKeys, keysAndArgs);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+
+            noScriptFallbackCount.incrementAndGet();
+            log.info("[Lua Script] NOSCRIPT - EVAL로 재실행 및 적재 - sha1: {}", script.getSha1());
+            return connection.scriptingCommands().eval(script.getSource(), returnType, numKeys, keysAndArgs);
+        }
+    }
+
+    public long getNoScriptFallbackCount() {
+        return noScriptFallbackCount.get();
+    }
+
+    private boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 변환이 끝난 스크립트 (본문 UTF-8 byte[] + SHA1 hex)
+     */
+    @Getter
+    public static class LuaScript {
+        private final byte[] source;
+        private final String sha1;
+
+        LuaScript(String source) {
+            this.source = RedisBytes.utf8(source);
+            this.sha1 = sha1Hex(this.source);
+        }
+
+        private static String sha1Hex(byte[] source) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(source));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-1 알고리즘을 사용할 수 없습니다", e);
+            }
+        }
+    }
+}
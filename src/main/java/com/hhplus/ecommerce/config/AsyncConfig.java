@@ -1,9 +1,13 @@
 package com.hhplus.ecommerce.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -30,19 +34,44 @@ import java.util.concurrent.ThreadPoolExecutor;
  * - 100개 이벤트가 큐에 적재
  * - 10개 스레드가 병렬로 DB 저장 처리
  * - Deadlock 발생 시 @Retryable로 자동 재시도
+ *
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, JDK 21 이상):
+ * - 작업마다 가상 스레드 생성 (SimpleAsyncTaskExecutor, 스레드 수/큐 제한 없음)
+ * - 동시성 상한은 스레드 수 대신 자원별 벌크헤드(db, redis)가 담당 (BulkheadBeanPostProcessor)
+ * - Tomcat 요청 처리, Kafka 리스너, @Scheduled도 Spring Boot 자동 설정으로 가상 스레드 사용
+ * - JDK 17 런타임에서는 설정이 무시되고 Thread Pool 유지
  */
 @Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final Environment environment;
+
     /**
      * 쿠폰 이벤트 처리용 Thread Pool
      *
-     * @return ThreadPoolTaskExecutor
+     * @return ThreadPoolTaskExecutor (가상 스레드 모드: SimpleAsyncTaskExecutor)
      */
     @Bean(name = "couponEventExecutor")
     public Executor couponEventExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("coupon-event-");
+            executor.setVirtualThreads(true);
+
+            // Graceful Shutdown: 애플리케이션 종료 시 실행 중인 작업 완료 대기
+            executor.setTaskTerminationTimeout(60000);
+
+            log.info("쿠폰 이벤트 처리용 가상 스레드 Executor 초기화 완료");
+            return executor;
+        }
+
+        if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("가상 스레드 모드는 JDK 21 이상에서만 동작 - 현재: {}, Thread Pool 사용",
+                     System.getProperty("java.version"));
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // Thread Pool 크기 설정
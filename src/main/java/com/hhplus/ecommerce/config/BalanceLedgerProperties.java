@@ -0,0 +1,29 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 그룹 커밋 원장 설정
+ *
+ * 설정 항목:
+ * - groupCommitEnabled: 사용자별 잔액 변경 요청을 모아 한 트랜잭션으로 반영할지 여부
+ *   (false면 충전은 Redisson 락 + 건별 트랜잭션, 결제 차감은 건별 비관적 락)
+ * - maxBatchSize: 한 트랜잭션에 묶을 최대 요청 수
+ * - waitTimeoutMs: 요청이 배치에 포함되기까지 최대 대기 시간
+ * - maxBatchesPerLeader: leader 1명이 연속 반영하는 최대 배치 수 (초과 시 다음 대기 스레드에 인계)
+ * - commitWaitTimeoutMs: 배치에 포함된 요청의 커밋 결과 최대 대기 시간 (초과 시 결과 미확인 예외)
+ */
+@Component
+@ConfigurationProperties(prefix = "balance.ledger")
+@Getter
+@Setter
+public class BalanceLedgerProperties {
+    private boolean groupCommitEnabled = false; // 기본값: 건별 락 + 트랜잭션
+    private int maxBatchSize = 200;
+    private long waitTimeoutMs = 10000L;
+    private int maxBatchesPerLeader = 10;
+    private long commitWaitTimeoutMs = 30000L;
+}
@@ -0,0 +1,27 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다운스트림 자원별 세마포어 벌크헤드 설정
+ *
+ * 설정 항목:
+ * - enabled: 가상 스레드 모드가 아니어도 벌크헤드를 적용할지 여부
+ *   (spring.threads.virtual.enabled=true 이고 JDK 21 이상이면 항상 적용)
+ * - dbPermits: DB 동시 커넥션 점유 수 (0이면 Hikari maximum-pool-size 사용)
+ * - redisPermits: Redis(Lettuce) 동시 커넥션 점유 수
+ * - acquireTimeoutMs: permit 획득 최대 대기 시간 (초과 시 요청 거절)
+ */
+@Component
+@ConfigurationProperties(prefix = "bulkhead")
+@Getter
+@Setter
+public class BulkheadProperties {
+    private boolean enabled = false; // 기본값: 플랫폼 스레드 풀 크기로 동시성 제한
+    private int dbPermits = 0;
+    private int redisPermits = 50;
+    private long acquireTimeoutMs = 3000L;
+}
@@ -1,9 +1,14 @@
 package com.hhplus.ecommerce.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.common.infrastructure.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -11,6 +16,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -32,6 +40,12 @@ import java.util.Map;
  * - 실시간 변경 데이터는 캐싱하지 않음 (balance, stock, issuedQuantity)
  * - TTL 설정으로 stale data 방지
  * - @CacheEvict로 명시적 캐시 무효화
+ *
+ * 2단 캐시 (cache.local.enabled=true):
+ * - Caffeine L1(프로세스 메모리) → Redis L2 순으로 조회
+ * - L1 히트 시 네트워크 왕복 생략 (L1은 직렬화 스냅샷 보관 → 호출자마다 별도 인스턴스)
+ * - L1 크기/TTL은 CacheNames의 캐시별 상수 사용
+ * - 노드 간 L1 무효화는 Redis Pub/Sub (cache.local.invalidation-channel)
  */
 @Slf4j
 @Configuration
@@ -40,6 +54,7 @@ import java.util.Map;
 public class CacheConfig {
 
     private final ObjectMapper cacheObjectMapper;
+    private final LocalCacheProperties localCacheProperties;
 
     // Cache TTL (Hours)
     private static final long CACHE_TTL_PRODUCT_INFO_HOURS = 1L;
@@ -56,7 +71,9 @@ public class CacheConfig {
      * - 무거운 ObjectMapper 객체를 재사용하여 성능 최적화
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     ObjectProvider<MeterRegistry> meterRegistryProvider) {
         // 기본 캐시 설정
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofMinutes(CACHE_TTL_DEFAULT_MINUTES))  // 기본 TTL: 10분
@@ -93,9 +110,69 @@ public class CacheConfig {
 
         log.info("Redis 캐시 매니저 초기화 완료 - 캐시 종류: {}", cacheConfigurations.size());
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(defaultConfig)
             .withInitialCacheConfigurations(cacheConfigurations)
             .build();
+
+        if (!localCacheProperties.isEnabled()) {
+            return redisCacheManager;
+        }
+
+        // 2단 캐시: Redis 매니저는 빈이 아니므로 캐시별 설정을 직접 초기화
+        redisCacheManager.initializeCaches();
+
+        log.info("2단 캐시(Caffeine L1 + Redis L2) 활성화 - 무효화 채널: {}",
+                 localCacheProperties.getInvalidationChannel());
+
+        return new TwoLevelCacheManager(
+            redisCacheManager,
+            localCacheSpecs(),
+            localCacheSpec(CacheNames.DEFAULT_LOCAL_MAX_SIZE, CacheNames.DEFAULT_LOCAL_TTL_SECONDS),
+            stringRedisTemplate,
+            localCacheProperties.getInvalidationChannel(),
+            meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    /**
+     * L1 무효화 메시지 수신 컨테이너
+     * - cache.local.enabled=true일 때만 생성 (비활성화 시 Pub/Sub 연결/구독 없음)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cache.local.enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(twoLevelCacheManager,
+                                         new ChannelTopic(localCacheProperties.getInvalidationChannel()));
+        }
+        return container;
+    }
+
+    /**
+     * 캐시별 L1 설정 (CacheNames 상수)
+     */
+    private Map<String, TwoLevelCacheManager.LocalCacheSpec> localCacheSpecs() {
+        Map<String, TwoLevelCacheManager.LocalCacheSpec> specs = new HashMap<>();
+        specs.put(CacheNames.PRODUCT_INFO,
+            localCacheSpec(CacheNames.PRODUCT_INFO_LOCAL_MAX_SIZE, CacheNames.PRODUCT_INFO_LOCAL_TTL_SECONDS));
+        specs.put(CacheNames.PRODUCT_POPULAR,
+            localCacheSpec(CacheNames.PRODUCT_POPULAR_LOCAL_MAX_SIZE, CacheNames.PRODUCT_POPULAR_LOCAL_TTL_SECONDS));
+        specs.put(CacheNames.COUPON_INFO,
+            localCacheSpec(CacheNames.COUPON_INFO_LOCAL_MAX_SIZE, CacheNames.COUPON_INFO_LOCAL_TTL_SECONDS));
+        specs.put(CacheNames.USER_PROFILE,
+            localCacheSpec(CacheNames.USER_PROFILE_LOCAL_MAX_SIZE, CacheNames.USER_PROFILE_LOCAL_TTL_SECONDS));
+        return specs;
+    }
+
+    private TwoLevelCacheManager.LocalCacheSpec localCacheSpec(long maximumSize, long ttlSeconds) {
+        return TwoLevelCacheManager.LocalCacheSpec.builder()
+            .maximumSize(maximumSize)
+            .ttl(Duration.ofSeconds(ttlSeconds))
+            .build();
     }
 }
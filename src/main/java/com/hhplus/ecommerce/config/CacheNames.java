@@ -13,6 +13,10 @@ package com.hhplus.ecommerce.config;
  * - @Cacheable(value = CacheNames.PRODUCT_INFO)
  * - @CacheEvict(value = CacheNames.PRODUCT_INFO)
  * - cacheConfigurations.put(CacheNames.PRODUCT_INFO, ...)
+ *
+ * L1(로컬) 캐시 설정:
+ * - cache.local.enabled=true 일 때 Redis 앞단 Caffeine 캐시의 캐시별 최대 엔트리 수/TTL
+ * - L1 TTL은 노드 간 무효화 메시지 유실 시 stale 허용 구간이므로 L2 TTL보다 짧게 유지
  */
 public final class CacheNames {
 
@@ -47,4 +51,26 @@ public final class CacheNames {
      * - 용도: 사용자 정보 조회 (변경 빈도 낮음)
      */
     public static final String USER_PROFILE = "user-profile";
-}
\ No newline at end of file
+
+    // ===== L1(Caffeine) 로컬 캐시 설정 =====
+
+    // 상품 기본 정보: 상품 상세 조회 트래픽 대부분 (최대 1만 건, 30초)
+    public static final long PRODUCT_INFO_LOCAL_MAX_SIZE = 10_000L;
+    public static final long PRODUCT_INFO_LOCAL_TTL_SECONDS = 30L;
+
+    // 인기 상품 목록: 엔트리 수 적음 (최대 100건, 10초)
+    public static final long PRODUCT_POPULAR_LOCAL_MAX_SIZE = 100L;
+    public static final long PRODUCT_POPULAR_LOCAL_TTL_SECONDS = 10L;
+
+    // 쿠폰 메타데이터: 발급 기간 중 변경 없음 (최대 1천 건, 60초)
+    public static final long COUPON_INFO_LOCAL_MAX_SIZE = 1_000L;
+    public static final long COUPON_INFO_LOCAL_TTL_SECONDS = 60L;
+
+    // 사용자 프로필: 사용자 수 대비 적중률 낮음 (최대 1만 건, 10초)
+    public static final long USER_PROFILE_LOCAL_MAX_SIZE = 10_000L;
+    public static final long USER_PROFILE_LOCAL_TTL_SECONDS = 10L;
+
+    // 그 외 캐시 기본값
+    public static final long DEFAULT_LOCAL_MAX_SIZE = 1_000L;
+    public static final long DEFAULT_LOCAL_TTL_SECONDS = 10L;
+}
@@ -0,0 +1,26 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장바구니 Redis 저장소 설정
+ *
+ * 설정 항목:
+ * - redis-enabled: Redis Hash 장바구니 사용 여부 (false면 carts/cart_items 직접 조회/수정)
+ * - write-back-delay-ms: 변경된 장바구니 DB 반영 주기
+ * - write-back-batch-size: 1회 반영할 최대 사용자 수
+ * - ttl-hours: 장바구니 Hash 만료 시간 (만료 후 접근 시 DB에서 다시 적재)
+ */
+@Component
+@ConfigurationProperties(prefix = "cart.store")
+@Getter
+@Setter
+public class CartStoreProperties {
+    private boolean redisEnabled = false;   // 기본값: DB 장바구니
+    private long writeBackDelayMs = 5000;
+    private int writeBackBatchSize = 200;
+    private long ttlHours = 168;            // 7일
+}
@@ -0,0 +1,45 @@
+package com.hhplus.ecommerce.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 발급 DB 동기화 설정
+ *
+ * 설정 항목:
+ * - batchListenerEnabled: 배치 리스너 사용 여부 (false면 이벤트 1건당 트랜잭션 1개)
+ * - batchMaxPollRecords: 배치 리스너 1회 poll 최대 레코드 수
+ * - metadataEnabled: 쿠폰 메타데이터(coupon:meta:*) 기반 발급 사용 여부 (발급 시 DB 조회 없음)
+ * - metadataWarmDelayMs: 쿠폰 메타데이터 Redis 적재 주기
+ * - shardCount: 발급 키 샤드 수 (1이면 coupon:issued:{couponId} 단일 키, 2 이상이면 샤드 키로 분산)
+ *
+ * 제약:
+ * - metadataEnabled와 shardCount > 1은 함께 사용할 수 없음 (메타데이터 발급 Lua는 단일 키만 사용)
+ *   → 함께 설정하면 발급 키와 조회/통계 키가 어긋나므로 기동 시 실패
+ */
+@Component
+@ConfigurationProperties(prefix = "coupon.issue")
+@Getter
+@Setter
+public class CouponIssueProperties {
+    private boolean batchListenerEnabled = false; // 기본값: 단건 리스너 (CouponKafkaConsumer)
+    private int batchMaxPollRecords = 500;
+    private boolean metadataEnabled = false;      // 기본값: 발급마다 쿠폰/사용자 DB 조회
+    private long metadataWarmDelayMs = 60000;
+    private int shardCount = 1;                   // 기본값: 단일 키 (샤딩 없음)
+
+    @PostConstruct
+    void validate() {
+        if (shardCount < 1) {
+            throw new IllegalStateException("coupon.issue.shard-count는 1 이상이어야 합니다: " + shardCount);
+        }
+        if (metadataEnabled && shardCount > 1) {
+            throw new IllegalStateException(
+                "coupon.issue.metadata-enabled와 coupon.issue.shard-count > 1은 함께 사용할 수 없습니다 (shard-count: "
+                    + shardCount + ")");
+        }
+    }
+}
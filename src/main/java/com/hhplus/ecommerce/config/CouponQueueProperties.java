@@ -0,0 +1,26 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 발급 대기열 설정
+ *
+ * 설정 항목:
+ * - enabled: 대기열 사용 여부 (false면 대기열 API 비활성, 소진 플래그 미사용)
+ * - admit-delay-ms: 대기열 입장 처리 주기
+ * - admit-batch-size: 주기마다 쿠폰별로 발급 경로에 입장시킬 최대 인원
+ * - result-ttl-minutes: 발급 결과(대기열 조회용) 보관 시간
+ */
+@Component
+@ConfigurationProperties(prefix = "coupon.queue")
+@Getter
+@Setter
+public class CouponQueueProperties {
+    private boolean enabled = false;    // 기본값: 대기열 없이 즉시 발급
+    private long admitDelayMs = 100;
+    private int admitBatchSize = 100;
+    private long resultTtlMinutes = 60;
+}
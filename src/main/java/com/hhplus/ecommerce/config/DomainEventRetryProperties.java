@@ -0,0 +1,30 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트 재시도 워커 설정
+ *
+ * 설정 항목:
+ * - workerPoolEnabled: 노드별 병렬 워커 사용 여부 (false면 전역 락 + 1분 주기 단일 스레드 재시도)
+ * - workerThreads: 노드당 재시도 스레드 수 (aggregate 단위로 분배)
+ * - claimBatchSize: 1회 선점(SKIP LOCKED) 건수
+ * - pollDelayMs: 워커 폴링 주기
+ * - maxDrainBatches: 1회 폴링 시 연속 처리할 최대 배치 수
+ * - leaseTimeoutSeconds: 선점(PROCESSING) 후 이 시간이 지나면 다른 워커가 회수 (워커 장애 대비)
+ */
+@Component
+@ConfigurationProperties(prefix = "domain-event.retry")
+@Getter
+@Setter
+public class DomainEventRetryProperties {
+    private boolean workerPoolEnabled = false; // 기본값: 전역 락 단일 스케줄러
+    private int workerThreads = 4;
+    private int claimBatchSize = 100;
+    private long pollDelayMs = 1000L;
+    private int maxDrainBatches = 10;
+    private long leaseTimeoutSeconds = 300L;
+}
@@ -0,0 +1,27 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 잔액 펜싱 락 설정
+ *
+ * 설정 항목:
+ * - enabled: 주문 생성/잔액 충전 시 Redisson RLock 대신 펜싱 락을 사용할지 여부
+ *   (false면 기존 Redisson RLock 사용)
+ * - waitTimeMs: 락 획득 최대 대기 시간
+ * - leaseTimeMs: 락 자동 만료 시간 (Watchdog 갱신 없음)
+ * - retryIntervalMs: 락 획득 실패 시 재시도 간격
+ */
+@Component
+@ConfigurationProperties(prefix = "lock.fenced")
+@Getter
+@Setter
+public class FencedLockProperties {
+    private boolean enabled = false; // 기본값: Redisson RLock
+    private long waitTimeMs = 10000L;
+    private long leaseTimeMs = 30000L;
+    private long retryIntervalMs = 5L;
+}
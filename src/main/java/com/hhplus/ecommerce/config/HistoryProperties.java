@@ -0,0 +1,33 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고/잔액 이력 저장 설정
+ *
+ * 설정 항목:
+ * - asyncWriterEnabled: 이력을 커밋 후 링 버퍼에 적재하고 전용 Writer 스레드가 배치 저장할지 여부
+ *   (false면 기존처럼 변경 트랜잭션 안에서 동기 저장)
+ * - bufferCapacity: 링 버퍼 크기 (가득 차면 도메인 이벤트 스토어로 우회)
+ * - batchSize: Writer 1회 저장 최대 건수
+ * - flushIntervalMs: 버퍼가 비어 있을 때 Writer 대기 시간
+ * - partitionMaintenanceEnabled: 월별 파티션 자동 추가/삭제 (파티셔닝 적용된 DB에서만 활성화)
+ * - partitionPremakeMonths: 미리 만들어 둘 다음 달 파티션 수
+ * - partitionRetentionMonths: 보관 개월 수 (0 = 삭제 안 함)
+ */
+@Component
+@ConfigurationProperties(prefix = "history")
+@Getter
+@Setter
+public class HistoryProperties {
+    private boolean asyncWriterEnabled = false; // 기본값: 트랜잭션 내 동기 저장
+    private int bufferCapacity = 8192;
+    private int batchSize = 500;
+    private long flushIntervalMs = 100L;
+    private boolean partitionMaintenanceEnabled = false;
+    private int partitionPremakeMonths = 3;
+    private int partitionRetentionMonths = 0;
+}
@@ -1,10 +1,16 @@
 package com.hhplus.ecommerce.config;
 
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.util.Properties;
 
 /**
  * Kafka 설정
@@ -18,6 +24,10 @@ import org.springframework.kafka.config.TopicBuilder;
  * - payment-events: 결제 이벤트
  * - stock-events: 재고 차감 이벤트
  * - coupon-events: 쿠폰 발급/사용 이벤트
+ *
+ * Listener Container Factory:
+ * - kafkaListenerContainerFactory: Spring Boot 기본 (단건, application.yml 설정)
+ * - couponBatchListenerContainerFactory: 쿠폰 발급 배치 리스너 전용
  */
 @EnableKafka
 @Configuration
@@ -80,4 +90,27 @@ public class KafkaConfig {
                 .replicas(1)
                 .build();
     }
+
+    /**
+     * 쿠폰 발급 배치 리스너 컨테이너 팩토리
+     * - Spring Boot 기본 팩토리와 동일한 설정(ack-mode 등)에 batch listener만 활성화
+     * - max.poll.records: coupon.issue.batch-max-poll-records
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> couponBatchListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            CouponIssueProperties couponIssueProperties) {
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+                               String.valueOf(couponIssueProperties.getBatchMaxPollRecords()));
+        factory.getContainerProperties().setKafkaConsumerProperties(consumerProperties);
+
+        return factory;
+    }
 }
@@ -0,0 +1,24 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * L1(Caffeine) 로컬 캐시 설정
+ *
+ * 설정 항목:
+ * - enabled: Redis 캐시 앞단 로컬 캐시 사용 여부 (false면 RedisCacheManager 단독)
+ * - invalidationChannel: 노드 간 L1 무효화 Pub/Sub 채널
+ *
+ * 캐시별 최대 엔트리 수/TTL은 CacheNames 상수 참조
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.local")
+@Getter
+@Setter
+public class LocalCacheProperties {
+    private boolean enabled = false; // 기본값: Redis 캐시 단독
+    private String invalidationChannel = "cache:invalidation";
+}
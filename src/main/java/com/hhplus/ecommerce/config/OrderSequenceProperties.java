@@ -0,0 +1,22 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 번호 시퀀스 설정
+ *
+ * 설정 항목:
+ * - blockAllocationEnabled: 블록 할당(hi/lo) 사용 여부 (false면 주문마다 SELECT FOR UPDATE)
+ * - blockSize: 1회 임대 시 할당받는 시퀀스 개수
+ */
+@Component
+@ConfigurationProperties(prefix = "order.sequence")
+@Getter
+@Setter
+public class OrderSequenceProperties {
+    private boolean blockAllocationEnabled = false; // 기본값: 주문마다 시퀀스 row 락
+    private long blockSize = 1000L;
+}
@@ -0,0 +1,30 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 Saga 이벤트 Outbox 설정
+ *
+ * 설정 항목:
+ * - enabled: Outbox 사용 여부 (false면 트랜잭션 내 KafkaTemplate.send 직접 호출)
+ * - batchSize: 릴레이 1회 선점(SKIP LOCKED) 건수
+ * - relayDelayMs: 릴레이 실행 주기
+ * - sendTimeoutMs: 배치 전체 비동기 전송 완료 대기 시간
+ * - claimLeaseMs: 선점 임대 시간 (결과 반영 전 장애 시 이 시간 후 재선점, sendTimeoutMs보다 길게 설정)
+ * - maxDrainBatches: 1회 실행 시 연속 처리할 최대 배치 수 (적체 해소용)
+ */
+@Component
+@ConfigurationProperties(prefix = "order.outbox")
+@Getter
+@Setter
+public class OutboxProperties {
+    private boolean enabled = false; // 기본값: 트랜잭션 내 직접 발행
+    private int batchSize = 200;
+    private long relayDelayMs = 100L;
+    private long sendTimeoutMs = 5000L;
+    private long claimLeaseMs = 60000L;
+    private int maxDrainBatches = 10;
+}
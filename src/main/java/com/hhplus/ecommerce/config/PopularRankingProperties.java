@@ -0,0 +1,47 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 실시간 인기상품 랭킹 설정
+ *
+ * 설정 항목 (시간 구간 랭킹):
+ * - bucketRetentionHours: 시간 버킷 보관 기간 (조회 가능한 최대 구간)
+ * - mergedTtlSeconds: ZUNIONSTORE로 합친 구간 랭킹 재사용 시간
+ * - hourlyDecay: 버킷 가중치 감쇠율 (1.0 = 감쇠 없음, 0.9 = 1시간 전 판매는 90% 반영)
+ *
+ * 설정 항목 (랭킹 스냅샷):
+ * - snapshotSize: 스냅샷에 담을 상위 상품 수 (조회 topN 상한)
+ * - snapshotWindows: 스냅샷을 유지할 집계 구간 목록 (0 = 전체 누적)
+ * - refreshDelayMs: 변경 여부 확인 주기 (변경 시 재생성)
+ * - maxAgeMs: 변경이 없어도 재생성하는 최대 주기 (다른 인스턴스의 스코어 변경 반영)
+ *
+ * 설정 항목 (판매 집계):
+ * - infoRefreshSeconds: 상품 정보 Hash(info:product:{id}) 갱신 주기 (마지막 저장 후 이 시간 이내면 DB 조회/HSET 생략)
+ *
+ * 설정 항목 (이관):
+ * - legacyMigrationEnabled: 기동 시 기존 누적 랭킹(popular:products)을 전체 랭킹에 1회 복사 (PopularRankingLegacyMigration)
+ */
+@Component
+@ConfigurationProperties(prefix = "product.ranking")
+@Getter
+@Setter
+public class PopularRankingProperties {
+    private int bucketRetentionHours = 48;
+    private long mergedTtlSeconds = 5L;
+    private double hourlyDecay = 1.0;
+
+    private int snapshotSize = 100;
+    private List<Integer> snapshotWindows = List.of(0, 1, 24);
+    private long refreshDelayMs = 500L;
+    private long maxAgeMs = 5000L;
+
+    private long infoRefreshSeconds = 60L;
+
+    private boolean legacyMigrationEnabled = false;
+}
@@ -1,6 +1,12 @@
 package com.hhplus.ecommerce.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
 import org.springframework.retry.annotation.EnableRetry;
 
 /**
@@ -10,8 +16,62 @@ import org.springframework.retry.annotation.EnableRetry;
  *
  * 사용 예시:
  * - CouponService.issueCoupon(): 낙관적 락 충돌 시 재시도
+ *
+ * 메트릭:
+ * - RetryListener 빈은 listeners 미지정 @Retryable 전체에 적용됨
+ * - retry.attempts{method, exception}: 실패한 시도 횟수 (재시도 유발)
+ * - retry.exhausted{method}: 최대 시도 횟수 초과로 최종 실패한 호출 수
  */
 @Configuration
 @EnableRetry
 public class RetryConfig {
+
+    @Bean
+    public RetryListener retryMetricsListener(MeterRegistry meterRegistry) {
+        return new RetryListener() {
+            @Override
+            public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+                                                         Throwable throwable) {
+                Counter.builder("retry.attempts")
+                    .description("@Retryable 실패 시도 횟수")
+                    .tag("method", methodName(context))
+                    .tag("exception", throwable.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            }
+
+            @Override
+            public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+                                                       Throwable throwable) {
+                if (throwable != null && context.hasAttribute(RetryContext.EXHAUSTED)) {
+                    Counter.builder("retry.exhausted")
+                        .description("@Retryable 최종 실패 호출 수")
+                        .tag("method", methodName(context))
+                        .register(meterRegistry)
+                        .increment();
+                }
+            }
+        };
+    }
+
+    /**
+     * RetryContext 라벨(Method#toGenericString)을 "클래스.메서드" 형태로 축약
+     */
+    private static String methodName(RetryContext context) {
+        Object label = context.getAttribute(RetryContext.NAME);
+        if (label == null) {
+            return "unknown";
+        }
+
+        String name = label.toString();
+        int paren = name.indexOf('(');
+        if (paren >= 0) {
+            name = name.substring(0, paren);
+        }
+        name = name.substring(name.lastIndexOf(' ') + 1);
+
+        int methodDot = name.lastIndexOf('.');
+        int classDot = methodDot > 0 ? name.lastIndexOf('.', methodDot - 1) : -1;
+        return name.substring(classDot + 1);
+    }
 }
@@ -0,0 +1,20 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 일괄 처리 설정
+ *
+ * 설정 항목:
+ * - enabled: 주문 단위 재고 일괄 조회/차감 사용 여부 (false면 라인별 낙관적 락 경로 사용)
+ */
+@Component
+@ConfigurationProperties(prefix = "stock.bulk")
+@Getter
+@Setter
+public class StockBulkProperties {
+    private boolean enabled = false; // 기본값: 라인별 낙관적 락 경로
+}
@@ -0,0 +1,20 @@
+package com.hhplus.ecommerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 재고 원장 설정
+ *
+ * 설정 항목:
+ * - enabled: Redis 재고 예약 사용 여부 (false면 기존 낙관적 락 경로 사용)
+ */
+@Component
+@ConfigurationProperties(prefix = "stock.reservation")
+@Getter
+@Setter
+public class StockReservationProperties {
+    private boolean enabled = false; // 기본값: 기존 낙관적 락 경로
+}
@@ -0,0 +1,108 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import com.hhplus.ecommerce.config.KafkaConfig;
+import com.hhplus.ecommerce.coupon.domain.event.CouponIssuedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.orm.jpa.JpaSystemException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 쿠폰 Kafka 배치 Consumer (비동기 DB 동기화)
+ *
+ * Kafka Topic: coupon-events
+ * Consumer Group: coupon-consumer-group
+ * Container Factory: couponBatchListenerContainerFactory (batch listener)
+ *
+ * CouponKafkaConsumer의 배치 버전
+ * - poll 1회분 레코드를 한 번에 받아 한 트랜잭션에서 DB 반영
+ * - 수동 커밋(ack)도 배치당 1회
+ *
+ * 처리 흐름:
+ * 1. @KafkaListener가 poll 1회분(최대 coupon.issue.batch-max-poll-records) 수신
+ * 2. CouponIssueBatchService에서 일괄 반영
+ * 3. 성공 시 배치 전체 수동 커밋 (ack)
+ * 4. 실패 시 @Retryable로 배치 전체 재시도 (멱등성은 중복 체크로 보장)
+ *
+ * 활성화:
+ * - coupon.issue.batch-listener-enabled=true (기본값 false)
+ * - 활성화 시 CouponKafkaConsumer(단건)는 자동 시작하지 않음 (동일 Consumer Group 공유)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponBatchKafkaConsumer {
+
+    private final CouponIssueBatchService couponIssueBatchService;
+
+    /**
+     * 쿠폰 발급 이벤트 배치 처리 (Kafka Batch Consumer)
+     *
+     * @Retryable:
+     * - DB Deadlock/Lock 실패 시 배치 전체 재시도 (재시도마다 새 트랜잭션)
+     *
+     * @param events 쿠폰 발급 이벤트 목록
+     * @param partitions 레코드별 파티션 번호
+     * @param offsets 레코드별 오프셋
+     * @param ack 수동 커밋 객체
+     */
+    @KafkaListener(
+        topics = KafkaConfig.TOPIC_COUPON_EVENTS,
+        groupId = KafkaConfig.GROUP_COUPON_CONSUMER,
+        containerFactory = "couponBatchListenerContainerFactory",
+        autoStartup = "${coupon.issue.batch-listener-enabled:false}"
+    )
+    @Retryable(
+        include = {
+            DeadlockLoserDataAccessException.class,
+            CannotAcquireLockException.class,
+            JpaSystemException.class
+        },
+        maxAttempts = 5,
+        backoff = @Backoff(delay = 100, multiplier = 1.5, maxDelay = 500)
+    )
+    public void handleCouponIssuedBatch(
+            @Payload List<CouponIssuedEvent> events,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+            Acknowledgment ack) {
+
+        if (events.isEmpty()) {
+            ack.acknowledge();
+            return;
+        }
+
+        log.info("[Kafka Batch Consumer] 쿠폰 발급 DB 동기화 시작 - 건수: {}, 첫 레코드: partition {} / offset {}",
+                 events.size(), partitions.get(0), offsets.get(0));
+
+        try {
+            CouponIssueBatchService.BatchResult result = couponIssueBatchService.persist(events);
+
+            ack.acknowledge();
+
+            log.info("[Kafka Batch Consumer] 쿠폰 발급 DB 동기화 완료 - 수신: {}, 저장: {}, 중복: {}, 건너뜀: {}",
+                     result.getReceived(), result.getInserted(), result.getDuplicated(), result.getSkipped());
+
+        } catch (DeadlockLoserDataAccessException | CannotAcquireLockException e) {
+            log.warn("[Kafka Batch Consumer] DB Lock 실패, 배치 재시도 예정 - 건수: {}, error: {}",
+                     events.size(), e.getMessage());
+            throw e; // @Retryable이 재시도
+
+        } catch (Exception e) {
+            log.error("[Kafka Batch Consumer] 쿠폰 발급 DB 동기화 실패 - 건수: {}, error: {}",
+                      events.size(), e.getMessage(), e);
+            throw e; // 재시도 또는 컨테이너 에러 핸들러로 전달
+        }
+    }
+}
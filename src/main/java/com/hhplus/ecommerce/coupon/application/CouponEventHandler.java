@@ -1,6 +1,7 @@
 package com.hhplus.ecommerce.coupon.application;
 
 import com.hhplus.ecommerce.coupon.domain.Coupon;
+import com.hhplus.ecommerce.coupon.domain.CouponStatus;
 import com.hhplus.ecommerce.coupon.domain.UserCoupon;
 import com.hhplus.ecommerce.coupon.domain.UserCouponStatus;
 import com.hhplus.ecommerce.coupon.domain.event.CouponIssuedEvent;
@@ -51,6 +52,7 @@ public class CouponEventHandler {
     private final UserCouponRepository userCouponRepository;
     private final CouponRepository couponRepository;
     private final UserRepository userRepository;
+    private final CouponMetadataWarmer couponMetadataWarmer;
 
     /**
      * 쿠폰 발급 이벤트 처리 (비동기 DB 동기화)
@@ -119,6 +121,9 @@ public class CouponEventHandler {
             // 4. 쿠폰 발급 수량 증가 (도메인 로직)
             coupon.issue();
             couponRepository.save(coupon);
+            if (coupon.getStatus() == CouponStatus.EXHAUSTED) {
+                couponMetadataWarmer.evictAfterCommit(coupon.getId());
+            }
 
             log.info("[비동기] 쿠폰 발급 DB 동기화 완료 - userId: {}, couponId: {}, userCouponId: {}, rank: {}, issuedCount: {}",
                      event.getUserId(), event.getCouponId(), savedUserCoupon.getId(), event.getRank(), event.getIssuedCount());
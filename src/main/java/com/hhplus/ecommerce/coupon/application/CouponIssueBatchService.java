@@ -0,0 +1,158 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import com.hhplus.ecommerce.coupon.domain.Coupon;
+import com.hhplus.ecommerce.coupon.domain.event.CouponIssuedEvent;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.UserCouponJdbcRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.UserCouponRepository;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 배치 DB 동기화 서비스
+ *
+ * Application Layer - Use Case 실행 계층
+ *
+ * 책임:
+ * - Kafka poll 1회분 CouponIssuedEvent를 한 트랜잭션에서 DB에 반영
+ * - 대량 중복 체크 (쿠폰당 SELECT 1회)
+ * - UserCoupon JDBC batch INSERT
+ * - 쿠폰당 issuedQuantity 증가 UPDATE 1회
+ *
+ * 단건 경로(CouponKafkaConsumer)와의 비교 (이벤트 N건, 쿠폰 1종):
+ * - 단건: 쿠폰 조회 + 사용자 조회 + COUNT + INSERT + 버전 UPDATE → 약 5N 쿼리, 쿠폰 row 경합
+ * - 배치: 쿠폰 조회 1 + 사용자 확인 1 + 중복 체크 1 + batch INSERT 1 + UPDATE 1
+ *
+ * 멱등성:
+ * - DB에 이미 발급된 (사용자, 쿠폰) 및 배치 내 중복 이벤트는 건너뜀
+ * - 존재하지 않는 쿠폰/사용자 이벤트는 재시도해도 성공할 수 없으므로 로그 후 건너뜀
+ *
+ * Use Cases:
+ * - UC-017: 쿠폰 발급 (Kafka 배치 리스너 DB 동기화)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssueBatchService {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+    private final UserRepository userRepository;
+    private final CouponMetadataWarmer couponMetadataWarmer;
+
+    /**
+     * 발급 이벤트 일괄 반영
+     *
+     * 처리 흐름:
+     * 1. 쿠폰/사용자 존재 여부 일괄 확인
+     * 2. 쿠폰별로 이벤트 그룹핑 후 기발급 사용자 일괄 조회
+     * 3. 신규 발급분만 JDBC batch INSERT
+     * 4. 쿠폰별 발급 수량 합계만큼 issuedQuantity 1회 증가
+     *
+     * @param events Kafka poll 1회분 발급 이벤트
+     * @return 반영 결과
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public BatchResult persist(List<CouponIssuedEvent> events) {
+        // 1. 쿠폰/사용자 존재 여부 일괄 확인
+        Set<Long> couponIds = events.stream().map(CouponIssuedEvent::getCouponId).collect(Collectors.toSet());
+        Set<Long> userIds = events.stream().map(CouponIssuedEvent::getUserId).collect(Collectors.toSet());
+
+        Map<Long, Coupon> coupons = couponRepository.findAllById(couponIds).stream()
+            .collect(Collectors.toMap(Coupon::getId, Function.identity()));
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIds(userIds));
+
+        // 2. 쿠폰별 그룹핑 (배치 내 순서 유지)
+        Map<Long, List<CouponIssuedEvent>> eventsByCoupon = new LinkedHashMap<>();
+        int skipped = 0;
+        for (CouponIssuedEvent event : events) {
+            if (!coupons.containsKey(event.getCouponId()) || !existingUserIds.contains(event.getUserId())) {
+                log.error("[Kafka Batch] 쿠폰 또는 사용자 없음 - 건너뜀: {}", event);
+                skipped++;
+                continue;
+            }
+            eventsByCoupon.computeIfAbsent(event.getCouponId(), id -> new ArrayList<>()).add(event);
+        }
+
+        // 3. 중복 제거 후 INSERT 대상 수집
+        List<UserCouponJdbcRepository.IssuedRow> rows = new ArrayList<>();
+        Map<Long, Integer> issuedCountByCoupon = new LinkedHashMap<>();
+        int duplicated = 0;
+
+        for (Map.Entry<Long, List<CouponIssuedEvent>> entry : eventsByCoupon.entrySet()) {
+            Long couponId = entry.getKey();
+            List<CouponIssuedEvent> couponEvents = entry.getValue();
+
+            Set<Long> candidateUserIds = couponEvents.stream()
+                .map(CouponIssuedEvent::getUserId)
+                .collect(Collectors.toSet());
+            Set<Long> issuedUserIds = new HashSet<>(userCouponRepository.findIssuedUserIds(couponId, candidateUserIds));
+
+            for (CouponIssuedEvent event : couponEvents) {
+                // 기발급 또는 배치 내 중복 이벤트 (Set.add 실패)
+                if (!issuedUserIds.add(event.getUserId())) {
+                    log.warn("[Kafka Batch] 이미 발급된 쿠폰 - userId: {}, couponId: {}", event.getUserId(), couponId);
+                    duplicated++;
+                    continue;
+                }
+
+                rows.add(UserCouponJdbcRepository.IssuedRow.builder()
+                    .userId(event.getUserId())
+                    .couponId(couponId)
+                    .issuedAt(event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now())
+                    .build());
+                issuedCountByCoupon.merge(couponId, 1, Integer::sum);
+            }
+        }
+
+        // 4. 발급 이력 일괄 저장 + 쿠폰별 수량 1회 증가
+        int inserted = userCouponJdbcRepository.batchInsertIssued(rows);
+
+        issuedCountByCoupon.forEach((couponId, count) -> {
+            couponRepository.increaseIssuedQuantity(couponId, count);
+
+            Coupon coupon = coupons.get(couponId);
+            if (coupon.getIssuedQuantity() + count >= coupon.getTotalQuantity()) {
+                couponMetadataWarmer.evictAfterCommit(couponId);
+            }
+            if (coupon.getIssuedQuantity() + count > coupon.getTotalQuantity()) {
+                log.warn("[Kafka Batch] 발급 수량이 총 수량을 초과 - couponId: {}, 발급: {}, 총 수량: {}",
+                         couponId, coupon.getIssuedQuantity() + count, coupon.getTotalQuantity());
+            }
+        });
+
+        return BatchResult.builder()
+            .received(events.size())
+            .inserted(inserted)
+            .duplicated(duplicated)
+            .skipped(skipped)
+            .build();
+    }
+
+    /**
+     * 배치 반영 결과
+     */
+    @lombok.Builder
+    @lombok.Getter
+    public static class BatchResult {
+        private int received;
+        private int inserted;
+        private int duplicated;
+        private int skipped;
+    }
+}
@@ -0,0 +1,184 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import com.hhplus.ecommerce.config.CouponIssueProperties;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRedisRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponShardedRedisRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 쿠폰 발급 내역 내보내기 서비스
+ *
+ * Application Layer - Use Case 실행 계층
+ *
+ * 책임:
+ * - Redis 발급 내역(coupon:issued:*)을 NDJSON/CSV로 출력 스트림에 기록
+ * - 발급 통계/선착순 조회 (coupon.issue.shard-count에 따라 단일 키/샤드 키 선택)
+ *
+ * 메모리 사용:
+ * - ZSCAN 커서로 SCAN_BATCH_SIZE건씩 읽어 바로 기록 → 발급 건수와 무관하게 배치 1개 + 출력 버퍼만 사용
+ * - 배치 단위로 flush하여 클라이언트가 전체 완료 전부터 수신
+ *
+ * 중복:
+ * - ZSCAN은 순회 중 Hash 테이블 재배치(rehash)나 인코딩 변환(listpack → skiplist)이 일어나면 같은 항목을 2번 이상 반환할 수 있음
+ * - 순회 시작부터 끝까지 존재한 항목은 누락 없이 1회 이상 기록되지만 중복 행은 가능
+ * - 서버에서 중복 제거하려면 전체 키를 메모리에 유지해야 하므로 하지 않음 → 수신 측에서 (userId, issueSequence)로 중복 제거
+ *
+ * 출력 형식 (순서 없음, issuedTimestamp로 정렬 가능):
+ * - NDJSON: {"userId":1,"issueSequence":1,"issuedTimestamp":1730880000000}
+ * - CSV: userId,issueSequence,issuedTimestamp (헤더 1행)
+ *
+ * 레이어 의존성:
+ * - Infrastructure Layer: CouponRepository, CouponRedisRepository, CouponShardedRedisRepository
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssueExportService {
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final CouponRepository couponRepository;
+    private final CouponRedisRepository couponRedisRepository;
+    private final CouponShardedRedisRepository couponShardedRedisRepository;
+    private final CouponIssueProperties couponIssueProperties;
+
+    /**
+     * 내보내기 형식
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (ndjson, csv)");
+            }
+        }
+    }
+
+    /**
+     * 내보내기 대상 쿠폰 확인 (응답 스트림을 열기 전에 호출)
+     *
+     * @throws IllegalArgumentException 쿠폰을 찾을 수 없음
+     */
+    public void validateCoupon(Long couponId) {
+        if (!couponRepository.existsById(couponId)) {
+            throw new IllegalArgumentException("쿠폰을 찾을 수 없습니다. ID: " + couponId);
+        }
+    }
+
+    /**
+     * 발급 통계 (고유 사용자 수, 발급 수량 합)
+     */
+    public CouponRedisRepository.CouponIssueStats getIssueStats(Long couponId) {
+        int shardCount = couponIssueProperties.getShardCount();
+        return shardCount > 1
+            ? couponShardedRedisRepository.getIssueStats(couponId, shardCount)
+            : couponRedisRepository.getIssueStats(couponId);
+    }
+
+    /**
+     * 선착순 상위 N명 (발급 순서)
+     */
+    public List<CouponRedisRepository.IssueRecord> getTopIssuedUsers(Long couponId, int topN) {
+        int shardCount = couponIssueProperties.getShardCount();
+        return shardCount > 1
+            ? couponShardedRedisRepository.getTopIssuedUsers(couponId, topN, shardCount)
+            : couponRedisRepository.getTopIssuedUsers(couponId, topN);
+    }
+
+    /**
+     * 전체 발급 내역 (발급 순서, 전체를 List로 적재 - 대량 발급 쿠폰은 export 사용)
+     */
+    public List<CouponRedisRepository.IssueRecord> getAllIssuedUsers(Long couponId) {
+        int shardCount = couponIssueProperties.getShardCount();
+        return shardCount > 1
+            ? couponShardedRedisRepository.getAllIssuedUsers(couponId, shardCount)
+            : couponRedisRepository.getAllIssuedUsers(couponId);
+    }
+
+    /**
+     * 발급 내역 기록
+     *
+     * @param couponId 쿠폰 ID
+     * @param format 출력 형식
+     * @param outputStream 출력 스트림 (닫지 않음)
+     * @return 기록한 행 수 (ZSCAN 중복 포함)
+     * @throws IOException 출력 실패 (클라이언트 연결 종료 등)
+     */
+    public long export(Long couponId, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        StringBuilder line = new StringBuilder(96);
+        long[] written = new long[1];
+
+        if (format == ExportFormat.CSV) {
+            writer.write("userId,issueSequence,issuedTimestamp\n");
+        }
+
+        Consumer<CouponRedisRepository.IssueRecord> action = record -> {
+            line.setLength(0);
+            appendLine(line, record, format);
+            try {
+                writer.append(line);
+                if (++written[0] % SCAN_BATCH_SIZE == 0) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        try {
+            int shardCount = couponIssueProperties.getShardCount();
+            if (shardCount > 1) {
+                couponShardedRedisRepository.forEachIssuedUser(couponId, shardCount, SCAN_BATCH_SIZE, action);
+            } else {
+                couponRedisRepository.forEachIssuedUser(couponId, SCAN_BATCH_SIZE, action);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        log.info("[쿠폰 발급 내역] 내보내기 완료 - couponId: {}, format: {}, 건수: {}", couponId, format, written[0]);
+        return written[0];
+    }
+
+    private void appendLine(StringBuilder line, CouponRedisRepository.IssueRecord record, ExportFormat format) {
+        if (format == ExportFormat.CSV) {
+            line.append(record.getUserId()).append(',')
+                .append(record.getIssueSequence()).append(',')
+                .append(record.getIssuedTimestamp()).append('\n');
+            return;
+        }
+
+        // 숫자 필드만 있으므로 JSON 이스케이프 불필요
+        line.append("{\"userId\":").append(record.getUserId())
+            .append(",\"issueSequence\":").append(record.getIssueSequence())
+            .append(",\"issuedTimestamp\":").append(record.getIssuedTimestamp())
+            .append("}\n");
+    }
+}
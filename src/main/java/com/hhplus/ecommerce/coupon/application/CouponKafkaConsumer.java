@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.coupon.application;
 
 import com.hhplus.ecommerce.config.KafkaConfig;
 import com.hhplus.ecommerce.coupon.domain.Coupon;
+import com.hhplus.ecommerce.coupon.domain.CouponStatus;
 import com.hhplus.ecommerce.coupon.domain.UserCoupon;
 import com.hhplus.ecommerce.coupon.domain.UserCouponStatus;
 import com.hhplus.ecommerce.coupon.domain.event.CouponIssuedEvent;
@@ -53,6 +54,10 @@ import org.springframework.transaction.annotation.Transactional;
  * - Kafka: 파티션별 순서 보장 (couponId 기반 파티셔닝)
  * - DB: 비동기 저장 + Retry (최종 일관성)
  * - 멱등성: countByUserAndCoupon으로 중복 발급 방지
+ *
+ * 배치 모드:
+ * - coupon.issue.batch-listener-enabled=true 이면 이 리스너는 시작하지 않고
+ *   CouponBatchKafkaConsumer가 poll 단위로 처리
  */
 @Slf4j
 @Component
@@ -62,6 +67,7 @@ public class CouponKafkaConsumer {
     private final UserCouponRepository userCouponRepository;
     private final CouponRepository couponRepository;
     private final UserRepository userRepository;
+    private final CouponMetadataWarmer couponMetadataWarmer;
 
     /**
      * 쿠폰 발급 이벤트 처리 (Kafka Consumer)
@@ -88,7 +94,8 @@ public class CouponKafkaConsumer {
     @KafkaListener(
         topics = KafkaConfig.TOPIC_COUPON_EVENTS,
         groupId = KafkaConfig.GROUP_COUPON_CONSUMER,
-        containerFactory = "kafkaListenerContainerFactory"
+        containerFactory = "kafkaListenerContainerFactory",
+        autoStartup = "#{!${coupon.issue.batch-listener-enabled:false}}"
     )
     @Retryable(
         include = {
@@ -140,6 +147,9 @@ public class CouponKafkaConsumer {
             // 4. 쿠폰 발급 수량 증가 (도메인 로직)
             coupon.issue();
             couponRepository.save(coupon);
+            if (coupon.getStatus() == CouponStatus.EXHAUSTED) {
+                couponMetadataWarmer.evictAfterCommit(coupon.getId());
+            }
 
             // 5. 수동 커밋
             ack.acknowledge();
@@ -0,0 +1,147 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import com.hhplus.ecommerce.config.CouponIssueProperties;
+import com.hhplus.ecommerce.coupon.domain.Coupon;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRedisRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 메타데이터 Redis 적재기
+ *
+ * Infrastructure Layer - 배치 작업 스케줄링
+ *
+ * 책임:
+ * - 발급 기간이 끝나지 않은 쿠폰의 발급 기간/수량/제한/표시 정보를 coupon:meta:{couponId}에 적재
+ * - 상태 변경(ACTIVE 전환, 비활성화, 소진)을 다음 주기에 반영
+ * - DB 동기화 경로에서 소진(EXHAUSTED) 전환 시 커밋 후 즉시 제거 → 다음 발급 요청이 DB에서 재적재
+ *
+ * 실행 주기:
+ * - coupon.issue.metadata-warm-delay-ms (기본 60초, 기동 직후 1회 실행)
+ * - 주기 사이에 활성화된 쿠폰은 첫 발급 요청에서 적재 (CouponService 미적재 경로)
+ *
+ * 동시성 제어:
+ * - Redisson 분산락으로 하나의 서버만 실행
+ *
+ * 실행 조건:
+ * - coupon.issue.metadata-enabled=true 인 경우에만 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponMetadataWarmer {
+
+    private final CouponRepository couponRepository;
+    private final CouponRedisRepository couponRedisRepository;
+    private final CouponIssueProperties couponIssueProperties;
+    private final RedissonClient redissonClient;
+
+    // Scheduler Constants
+    private static final String LOCK_KEY_COUPON_METADATA_WARM = "lock:batch:coupon-metadata-warm";
+    private static final long WAIT_TIME_SECONDS = 0L;
+    private static final long LEASE_TIME_SECONDS = 30L;
+
+    @Scheduled(fixedDelayString = "${coupon.issue.metadata-warm-delay-ms:60000}")
+    public void warm() {
+        if (!couponIssueProperties.isMetadataEnabled()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(LOCK_KEY_COUPON_METADATA_WARM);
+
+        try {
+            boolean isLocked = lock.tryLock(WAIT_TIME_SECONDS, LEASE_TIME_SECONDS, TimeUnit.SECONDS);
+            if (!isLocked) {
+                log.debug("[쿠폰 메타데이터] 다른 인스턴스에서 적재 중 - 스킵");
+                return;
+            }
+
+            warmAll();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[쿠폰 메타데이터] 락 획득 중 인터럽트 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 발급 기간이 끝나지 않은 쿠폰 전체 적재
+     * - 쿠폰 1건 적재 실패가 나머지 쿠폰 적재를 막지 않도록 쿠폰 단위로 처리
+     *
+     * @return 적재한 쿠폰 수
+     */
+    public int warmAll() {
+        List<Coupon> coupons = couponRepository.findByIssueEndAtGreaterThanEqual(LocalDateTime.now());
+        int warmed = 0;
+        for (Coupon coupon : coupons) {
+            try {
+                couponRedisRepository.saveMetadata(coupon);
+                warmed++;
+            } catch (RuntimeException e) {
+                log.warn("[쿠폰 메타데이터] 적재 실패 - couponId: {}, error: {}", coupon.getId(), e.getMessage());
+            }
+        }
+
+        log.debug("[쿠폰 메타데이터] 적재 완료 - {}/{}개", warmed, coupons.size());
+        return warmed;
+    }
+
+    /**
+     * 쿠폰 1건 적재 (미적재 쿠폰 첫 발급 요청)
+     */
+    public void warm(Coupon coupon) {
+        couponRedisRepository.saveMetadata(coupon);
+        log.info("[쿠폰 메타데이터] 적재 - couponId: {}, status: {}", coupon.getId(), coupon.getStatus());
+    }
+
+    /**
+     * 쿠폰 상태 변경 트랜잭션 커밋 후 메타데이터 제거
+     *
+     * - 커밋 전 제거하면 다른 요청이 변경 전 상태를 다시 적재할 수 있으므로 커밋 후 실행
+     * - 제거 후 첫 발급 요청이 DB에서 변경된 상태로 재적재 (미적재 경로)
+     * - 제거 실패는 로그만 남김 (다음 적재 주기에 반영)
+     *
+     * @param couponId 쿠폰 ID
+     */
+    public void evictAfterCommit(Long couponId) {
+        if (!couponIssueProperties.isMetadataEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(couponId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(couponId);
+            }
+        });
+    }
+
+    private void evict(Long couponId) {
+        try {
+            couponRedisRepository.deleteMetadata(couponId);
+            log.info("[쿠폰 메타데이터] 상태 변경으로 제거 - couponId: {}", couponId);
+        } catch (RuntimeException e) {
+            log.warn("[쿠폰 메타데이터] 제거 실패, 다음 적재 주기에 반영 - couponId: {}, error: {}",
+                     couponId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 대기열 입장 스케줄러
+ *
+ * Infrastructure Layer - 배치 작업 스케줄링
+ *
+ * 책임:
+ * - 대기자가 있는 쿠폰(coupon:queue:active)마다 admit-batch-size명씩 발급 경로로 입장
+ *
+ * 실행 주기:
+ * - coupon.queue.admit-delay-ms (기본 100ms)
+ *
+ * 동시성 제어:
+ * - Redisson 분산락으로 하나의 서버만 입장 처리 (주기당 입장 인원 = admit-batch-size 보장)
+ *
+ * 실행 조건:
+ * - coupon.queue.enabled=true 인 경우에만 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponQueueScheduler {
+
+    private final CouponQueueService couponQueueService;
+    private final RedissonClient redissonClient;
+
+    // Scheduler Constants
+    private static final String LOCK_KEY_COUPON_QUEUE_ADMIT = "lock:batch:coupon-queue-admit";
+    private static final long WAIT_TIME_SECONDS = 0L;
+    private static final long LEASE_TIME_SECONDS = 30L;
+
+    @Scheduled(fixedDelayString = "${coupon.queue.admit-delay-ms:100}")
+    public void admit() {
+        if (!couponQueueService.isEnabled()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(LOCK_KEY_COUPON_QUEUE_ADMIT);
+
+        try {
+            boolean isLocked = lock.tryLock(WAIT_TIME_SECONDS, LEASE_TIME_SECONDS, TimeUnit.SECONDS);
+            if (!isLocked) {
+                log.debug("[쿠폰 대기열] 다른 인스턴스에서 입장 처리 중 - 스킵");
+                return;
+            }
+
+            admitActiveCoupons();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[쿠폰 대기열] 락 획득 중 인터럽트 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 대기자가 있는 쿠폰 1주기분 입장 처리
+     *
+     * @return 발급 성공 인원
+     */
+    public int admitActiveCoupons() {
+        int issued = 0;
+        for (Long couponId : couponQueueService.findActiveCouponIds()) {
+            try {
+                issued += couponQueueService.admit(couponId);
+            } catch (Exception e) {
+                log.error("[쿠폰 대기열] 입장 처리 실패 - couponId: {}", couponId, e);
+            }
+        }
+        return issued;
+    }
+}
@@ -0,0 +1,242 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import com.hhplus.ecommerce.config.CouponQueueProperties;
+import com.hhplus.ecommerce.coupon.domain.Coupon;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponQueueRedisRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRepository;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 대기열 애플리케이션 서비스
+ *
+ * Application Layer - Use Case 실행 계층
+ *
+ * 책임:
+ * - UC-017 (대기열): 대기열 진입, 순번/결과 조회
+ * - 입장 스케줄러 주기마다 쿠폰별 N명을 Lua 발급 경로로 입장
+ *
+ * 기존 경로와의 차이:
+ * - 기존: 요청마다 쿠폰 findById + Lua 발급 + 사용자 findById (소진 후에도 DB 2회)
+ * - 대기열: 진입/조회는 Redis만 사용, 입장 단위(N명)로 쿠폰 1회 + 사용자 IN 조회 1회
+ * - 소진 후: 인메모리 플래그로 진입/발급 요청을 Redis/DB 접근 없이 거절
+ *
+ * 활성화:
+ * - coupon.queue.enabled=true (기본값 false)
+ *
+ * 레이어 의존성:
+ * - Application Layer: CouponService (Lua 발급 경로), CouponSoldOutCache
+ * - Infrastructure Layer: CouponQueueRedisRepository, CouponRepository, UserRepository
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponQueueService {
+
+    private static final String RESULT_ISSUED = "ISSUED";
+    private static final String RESULT_SOLD_OUT = "SOLD_OUT";
+    private static final String RESULT_UNEXPECTED_FAILURE = "일시적인 오류로 발급하지 못했습니다. 다시 시도해주세요.";
+
+    private final CouponService couponService;
+    private final CouponSoldOutCache couponSoldOutCache;
+    private final CouponQueueRedisRepository couponQueueRedisRepository;
+    private final CouponRepository couponRepository;
+    private final UserRepository userRepository;
+    private final CouponQueueProperties couponQueueProperties;
+
+    public boolean isEnabled() {
+        return couponQueueProperties.isEnabled();
+    }
+
+    /**
+     * 대기열 진입
+     *
+     * 처리 흐름:
+     * 1. 소진 플래그 확인 (메모리)
+     * 2. Lua 1회: 소진 마커 확인 + ZADD NX + 순번 조회 (이미 대기 중이면 기존 순번)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 대기 순번 (1부터 시작)
+     * @throws IllegalStateException 대기열 비활성화, 쿠폰 소진
+     */
+    public QueueTicket enqueue(Long couponId, Long userId) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("쿠폰 발급 대기열이 비활성화되어 있습니다");
+        }
+        if (couponSoldOutCache.isSoldOut(couponId)) {
+            throw new IllegalStateException("쿠폰이 모두 소진되었습니다");
+        }
+
+        long rank = couponQueueRedisRepository.enqueue(couponId, userId);
+        if (rank < 0) {
+            couponSoldOutCache.markSoldOutLocally(couponId);
+            throw new IllegalStateException("쿠폰이 모두 소진되었습니다");
+        }
+
+        log.debug("[쿠폰 대기열] 진입 - couponId: {}, userId: {}, position: {}", couponId, userId, rank + 1);
+        return QueueTicket.builder()
+            .couponId(couponId)
+            .userId(userId)
+            .status(QueueStatus.WAITING)
+            .position(rank + 1)
+            .build();
+    }
+
+    /**
+     * 대기 순번/발급 결과 조회 (파이프라인 1회 왕복)
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return WAITING(순번) / ISSUED / SOLD_OUT / FAILED(사유) / NOT_IN_QUEUE
+     */
+    public QueueTicket getTicket(Long couponId, Long userId) {
+        CouponQueueRedisRepository.QueueSnapshot snapshot = couponQueueRedisRepository.getSnapshot(couponId, userId);
+
+        QueueTicket.QueueTicketBuilder ticket = QueueTicket.builder()
+            .couponId(couponId)
+            .userId(userId);
+
+        if (snapshot.getRank() != null) {
+            return ticket.status(QueueStatus.WAITING)
+                .position(snapshot.getRank() + 1)
+                .waitingCount(snapshot.getWaitingCount())
+                .build();
+        }
+
+        String result = snapshot.getResult();
+        if (RESULT_ISSUED.equals(result)) {
+            return ticket.status(QueueStatus.ISSUED).build();
+        }
+        if (RESULT_SOLD_OUT.equals(result)) {
+            return ticket.status(QueueStatus.SOLD_OUT).build();
+        }
+        if (result != null) {
+            return ticket.status(QueueStatus.FAILED).message(result).build();
+        }
+
+        if (snapshot.isSoldOut()) {
+            couponSoldOutCache.markSoldOutLocally(couponId);
+            return ticket.status(QueueStatus.SOLD_OUT).build();
+        }
+        return ticket.status(QueueStatus.NOT_IN_QUEUE).build();
+    }
+
+    /**
+     * 대기열 입장 (스케줄러 1주기, 쿠폰 1개)
+     *
+     * 처리 흐름:
+     * 1. 소진 쿠폰이면 대기열 종료 (남은 대기자는 조회 시 SOLD_OUT)
+     * 2. 쿠폰 조회 1회, 발급 시작 전이면 대기 유지
+     * 3. 앞에서부터 admit-batch-size명 인출 (ZPOPMIN)
+     * 4. 사용자 IN 조회 1회 → 존재하는 사용자만 Lua 발급 경로로 전달
+     * 5. 발급 중 소진되면 나머지 인원은 SOLD_OUT 처리 후 대기열 종료
+     * 6. 결과 저장 (HSET 1회)
+     *    → 인출 후 예기치 않은 예외가 나도 finally에서 저장 (결과 없는 사용자는 FAILED)
+     *      인출된 사용자가 대기열에도 결과에도 없어 NOT_IN_QUEUE로 남는 것을 방지
+     *
+     * @param couponId 쿠폰 ID
+     * @return 발급 성공 인원
+     */
+    public int admit(Long couponId) {
+        if (couponSoldOutCache.isSoldOut(couponId)) {
+            couponQueueRedisRepository.closeQueue(couponId);
+            return 0;
+        }
+
+        Coupon coupon = couponRepository.findById(couponId).orElse(null);
+        if (coupon == null) {
+            log.warn("[쿠폰 대기열] 존재하지 않는 쿠폰 - 대기열 종료 - couponId: {}", couponId);
+            couponQueueRedisRepository.closeQueue(couponId);
+            return 0;
+        }
+        if (LocalDateTime.now().isBefore(coupon.getIssueStartAt())) {
+            return 0;
+        }
+
+        List<Long> userIds = couponQueueRedisRepository.popWaiting(couponId, couponQueueProperties.getAdmitBatchSize());
+        if (userIds.isEmpty()) {
+            couponQueueRedisRepository.deactivateIfEmpty(couponId);
+            return 0;
+        }
+
+        Map<Long, String> results = new LinkedHashMap<>();
+        int issued = 0;
+        try {
+            Set<Long> existingUserIds = userRepository.findAllById(userIds).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+
+            for (Long userId : userIds) {
+                if (couponSoldOutCache.isSoldOut(couponId)) {
+                    results.put(userId, RESULT_SOLD_OUT);
+                    continue;
+                }
+                if (!existingUserIds.contains(userId)) {
+                    results.put(userId, "사용자를 찾을 수 없습니다. ID: " + userId);
+                    continue;
+                }
+
+                try {
+                    couponService.issueAdmitted(userId, coupon);
+                    results.put(userId, RESULT_ISSUED);
+                    issued++;
+                } catch (IllegalStateException e) {
+                    results.put(userId, couponSoldOutCache.isSoldOut(couponId) ? RESULT_SOLD_OUT : e.getMessage());
+                } catch (RuntimeException e) {
+                    log.warn("[쿠폰 대기열] 입장 발급 실패 - couponId: {}, userId: {}, error: {}",
+                             couponId, userId, e.getMessage());
+                    results.put(userId, RESULT_UNEXPECTED_FAILURE);
+                }
+            }
+        } finally {
+            for (Long userId : userIds) {
+                results.putIfAbsent(userId, RESULT_UNEXPECTED_FAILURE);
+            }
+            couponQueueRedisRepository.saveResults(couponId, results, couponQueueProperties.getResultTtlMinutes());
+        }
+
+        if (couponSoldOutCache.isSoldOut(couponId)) {
+            couponQueueRedisRepository.closeQueue(couponId);
+        }
+
+        log.info("[쿠폰 대기열] 입장 처리 - couponId: {}, 입장: {}명, 발급: {}명", couponId, userIds.size(), issued);
+        return issued;
+    }
+
+    /**
+     * 대기자가 있는 쿠폰 ID 목록
+     */
+    public List<Long> findActiveCouponIds() {
+        return couponQueueRedisRepository.findActiveCouponIds();
+    }
+
+    public enum QueueStatus {
+        WAITING,        // 대기 중 (position: 대기 순번)
+        ISSUED,         // 입장 후 발급 성공
+        SOLD_OUT,       // 쿠폰 소진
+        FAILED,         // 입장 후 발급 실패 (message: 사유)
+        NOT_IN_QUEUE    // 대기열에 없음
+    }
+
+    @lombok.Builder
+    @lombok.Getter
+    public static class QueueTicket {
+        private Long couponId;
+        private Long userId;
+        private QueueStatus status;
+        private Long position;
+        private Long waitingCount;
+        private String message;
+    }
+}
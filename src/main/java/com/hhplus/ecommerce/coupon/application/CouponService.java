@@ -1,12 +1,16 @@
 package com.hhplus.ecommerce.coupon.application;
 
+import com.hhplus.ecommerce.config.CouponIssueProperties;
 import com.hhplus.ecommerce.coupon.domain.Coupon;
+import com.hhplus.ecommerce.coupon.domain.CouponStatus;
+import com.hhplus.ecommerce.coupon.domain.CouponType;
 import com.hhplus.ecommerce.coupon.domain.UserCoupon;
 import com.hhplus.ecommerce.coupon.domain.UserCouponStatus;
 import com.hhplus.ecommerce.coupon.domain.event.CouponIssuedEvent;
 import com.hhplus.ecommerce.user.domain.User;
 import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRedisRepository;
 import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponShardedRedisRepository;
 import com.hhplus.ecommerce.coupon.infrastructure.persistence.UserCouponRepository;
 import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -14,10 +18,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 쿠폰 애플리케이션 서비스 (Kafka 기반 비동기)
@@ -39,7 +46,9 @@ import java.util.List;
  * - Kafka의 재시도 및 DLQ로 안정성 보장
  *
  * 레이어 의존성:
- * - Infrastructure Layer: CouponRepository, UserCouponRepository, UserRepository
+ * - Infrastructure Layer: CouponRepository, UserCouponRepository, UserRepository,
+ *   CouponRedisRepository, CouponShardedRedisRepository (coupon.issue.shard-count > 1)
+ * - Application Layer: CouponSoldOutCache (대기열 사용 시 소진 플래그), CouponMetadataWarmer
  * - Domain Layer: Coupon, UserCoupon, User, CouponIssuedEvent
  */
 @Slf4j
@@ -52,7 +61,11 @@ public class CouponService {
     private final UserCouponRepository userCouponRepository;
     private final UserRepository userRepository;
     private final CouponRedisRepository couponRedisRepository;
+    private final CouponShardedRedisRepository couponShardedRedisRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final CouponSoldOutCache couponSoldOutCache;
+    private final CouponMetadataWarmer couponMetadataWarmer;
+    private final CouponIssueProperties couponIssueProperties;
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
@@ -92,6 +105,8 @@ public class CouponService {
      * - DB Deadlock 발생해도 Consumer 재시도 (사용자는 이미 성공 응답 받음)
      *
      * Extensions (예외 시나리오):
+     * 1a. 소진 플래그가 설정된 쿠폰 (coupon.queue.enabled=true)
+     *     - IllegalStateException: "쿠폰이 모두 소진되었습니다" (Redis/DB 접근 없음)
      * 2a. 발급 기간이 아닌 경우
      *     - IllegalStateException: "쿠폰 발급 기간이 아닙니다"
      * 3a. 쿠폰이 모두 소진된 경우 (Redis)
@@ -99,73 +114,42 @@ public class CouponService {
      * 3b. 이미 최대 발급 수량을 받은 경우 (Redis)
      *     - IllegalStateException: "이미 최대 발급 수량을 받았습니다"
      *
+     * 메타데이터 기반 발급 (coupon.issue.metadata-enabled=true):
+     * - 쿠폰 조회/발급 기간 검증/Redis 발급을 Lua 1회로 처리 (coupon:meta:{couponId} Hash 사용)
+     * - 응답은 Lua가 함께 반환한 메타데이터로 구성 (쿠폰/사용자 DB 조회 없음)
+     * - 메타데이터 미적재 쿠폰만 DB에서 1회 적재 후 재시도
+     *
+     * 트랜잭션:
+     * - DB 쓰기가 없으므로 SUPPORTS (메타데이터 경로에서 DB 커넥션을 점유하지 않음)
+     *
      * @param userId 사용자 ID
      * @param couponId 쿠폰 ID
      * @return 발급된 사용자 쿠폰 (임시 객체, DB 저장 전)
      * @throws IllegalArgumentException 쿠폰을 찾을 수 없음
      * @throws IllegalStateException 발급 불가 (기간, 수량, 제한)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserCoupon issueCoupon(Long userId, Long couponId) {
         log.info("[UC-017] 선착순 쿠폰 발급 시작 (비동기) - userId: {}, couponId: {}", userId, couponId);
 
-        // Step 1: 쿠폰 조회 (DB)
-        Coupon coupon = couponRepository.findById(couponId)
-            .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다. ID: " + couponId));
-
-        // Step 2: 발급 기간 검증
-        LocalDateTime now = LocalDateTime.now();
-        if (now.isBefore(coupon.getIssueStartAt())) {
-            throw new IllegalStateException("쿠폰 발급 기간이 아닙니다. 발급 시작: " + coupon.getIssueStartAt());
-        }
-        if (now.isAfter(coupon.getIssueEndAt())) {
-            throw new IllegalStateException("쿠폰 발급 기간이 종료되었습니다. 종료일: " + coupon.getIssueEndAt());
+        // Step 0: 소진 플래그 확인 (대기열 사용 시, Redis/DB 접근 없이 거절)
+        if (couponSoldOutCache.isSoldOut(couponId)) {
+            throw new IllegalStateException("쿠폰이 모두 소진되었습니다");
         }
 
-        // Step 3: Redis 원자적 연산으로 발급 처리 (Sorted Set + Lua Script)
-        CouponRedisRepository.IssueResult issueResult = couponRedisRepository.issue(
-            couponId,
-            userId,
-            coupon.getTotalQuantity(),
-            coupon.getMaxIssuePerUser()
-        );
-
-        if (!issueResult.isSuccess()) {
-            // Redis에서 발급 실패 (수량 소진 또는 사용자 제한 초과)
-            String failReason = issueResult.getMessage();
-
-            if ("SOLD_OUT".equals(failReason)) {
-                throw new IllegalStateException("쿠폰이 모두 소진되었습니다");
-            } else if ("EXCEED_USER_LIMIT".equals(failReason)) {
-                Long userCount = couponRedisRepository.getUserIssuedCount(couponId, userId);
-                throw new IllegalStateException(
-                    new StringBuilder("이미 최대 발급 수량을 받았습니다. (발급 횟수: ")
-                        .append(userCount)
-                        .append("/")
-                        .append(coupon.getMaxIssuePerUser())
-                        .append(")")
-                        .toString()
-                );
-            } else if ("ALREADY_ISSUED".equals(failReason)) {
-                throw new IllegalStateException("이미 발급받은 쿠폰입니다");
-            } else {
-                throw new IllegalStateException("쿠폰 발급에 실패했습니다: " + failReason);
-            }
+        if (couponIssueProperties.isMetadataEnabled()) {
+            return issueCouponWithMetadata(userId, couponId);
         }
 
-        // Step 4: Redis 성공 → Kafka 이벤트 발행 (비동기 DB 저장)
-        CouponIssuedEvent event = CouponIssuedEvent.of(
-            couponId,
-            userId,
-            issueResult.getRank(),
-            issueResult.getIssuedCount()
-        );
+        // Step 1: 쿠폰 조회 (DB)
+        Coupon coupon = couponRepository.findById(couponId)
+            .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다. ID: " + couponId));
 
-        // Kafka로 이벤트 발행 (couponId를 파티션 키로 사용 → 동일 쿠폰은 동일 파티션에서 순서 보장)
-        kafkaTemplate.send("coupon-events", couponId.toString(), event);
+        // Step 2: 발급 기간 검증
+        validateIssuePeriod(coupon);
 
-        log.info("[UC-017] 쿠폰 발급 성공 (Redis) - userId: {}, couponId: {}, rank: {}, issued: {}/{}, Kafka 발행 완료",
-                 userId, couponId, issueResult.getRank(), issueResult.getIssuedCount(), coupon.getTotalQuantity());
+        // Step 3~4: Redis 원자적 연산으로 발급 처리 + Kafka 이벤트 발행
+        issueInRedis(userId, coupon);
 
         // Step 5: 즉시 응답 반환 (임시 UserCoupon 객체)
         // 실제 DB 저장은 Kafka Consumer에서 비동기로 처리
@@ -180,6 +164,28 @@ public class CouponService {
             .build();
     }
 
+    /**
+     * 대기열 입장 사용자 발급
+     *
+     * Use Case: UC-017 (대기열)
+     *
+     * 처리 흐름:
+     * 1. 발급 기간 검증
+     * 2. Redis Lua 발급 + Kafka 이벤트 발행 (issueCoupon과 동일 경로)
+     *
+     * 쿠폰/사용자 조회는 입장 스케줄러가 입장 단위로 1회씩 수행하므로 여기서는 DB에 접근하지 않음
+     * (클래스 기본 readOnly 트랜잭션이 사용자마다 커넥션을 점유하지 않도록 NOT_SUPPORTED)
+     *
+     * @param userId 사용자 ID (존재 확인 완료)
+     * @param coupon 쿠폰
+     * @throws IllegalStateException 발급 불가 (기간, 수량, 제한)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void issueAdmitted(Long userId, Coupon coupon) {
+        validateIssuePeriod(coupon);
+        issueInRedis(userId, coupon);
+    }
+
     /**
      * 발급 가능한 쿠폰 목록 조회
      *
@@ -276,4 +282,159 @@ public class CouponService {
         return couponRepository.findById(couponId)
             .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다. ID: " + couponId));
     }
+
+    private void validateIssuePeriod(Coupon coupon) {
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(coupon.getIssueStartAt())) {
+            throw new IllegalStateException("쿠폰 발급 기간이 아닙니다. 발급 시작: " + coupon.getIssueStartAt());
+        }
+        if (now.isAfter(coupon.getIssueEndAt())) {
+            throw new IllegalStateException("쿠폰 발급 기간이 종료되었습니다. 종료일: " + coupon.getIssueEndAt());
+        }
+    }
+
+    /**
+     * Redis 원자적 발급 (Sorted Set + Lua Script) → Kafka 이벤트 발행
+     * - 발급 수량이 totalQuantity에 도달하면 소진 플래그 설정
+     * - coupon.issue.shard-count > 1이면 샤드 키로 분산 발급 (발급 수량/순위는 전체 샤드 집계)
+     */
+    private void issueInRedis(Long userId, Coupon coupon) {
+        Long couponId = coupon.getId();
+        int shardCount = couponIssueProperties.getShardCount();
+
+        CouponRedisRepository.IssueResult issueResult = shardCount > 1
+            ? couponShardedRedisRepository.issue(
+                couponId, userId, coupon.getTotalQuantity(), coupon.getMaxIssuePerUser(), shardCount)
+            : couponRedisRepository.issue(
+                couponId, userId, coupon.getTotalQuantity(), coupon.getMaxIssuePerUser());
+
+        if (!issueResult.isSuccess()) {
+            // Redis에서 발급 실패 (수량 소진 또는 사용자 제한 초과)
+            String failReason = issueResult.getMessage();
+            Long userCount = null;
+            if ("EXCEED_USER_LIMIT".equals(failReason)) {
+                userCount = shardCount > 1
+                    ? couponShardedRedisRepository.getUserIssuedCount(couponId, userId, shardCount)
+                    : couponRedisRepository.getUserIssuedCount(couponId, userId);
+            }
+            throw issueFailure(couponId, failReason, userCount, coupon.getMaxIssuePerUser());
+        }
+
+        publishIssuedEvent(couponId, userId, issueResult, coupon.getTotalQuantity());
+    }
+
+    /**
+     * 메타데이터 기반 발급 (Redis 호출 1회, DB 조회 없음)
+     */
+    private UserCoupon issueCouponWithMetadata(Long userId, Long couponId) {
+        CouponRedisRepository.IssueResult issueResult = couponRedisRepository.issueWithMetadata(couponId, userId);
+
+        if ("NOT_WARMED".equals(issueResult.getMessage())) {
+            // 적재 주기 사이에 생성/활성화된 쿠폰: DB에서 1회 적재 후 재시도
+            Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다. ID: " + couponId));
+            couponMetadataWarmer.warm(coupon);
+            issueResult = couponRedisRepository.issueWithMetadata(couponId, userId);
+        }
+
+        Map<String, String> metadata = issueResult.getMetadata();
+
+        if (!issueResult.isSuccess()) {
+            String failReason = issueResult.getMessage();
+
+            if ("NOT_STARTED".equals(failReason)) {
+                throw new IllegalStateException("쿠폰 발급 기간이 아닙니다. 발급 시작: "
+                    + CouponRedisRepository.fromEpochMillis(Long.parseLong(metadata.get("issueStartAt"))));
+            } else if ("ENDED".equals(failReason)) {
+                throw new IllegalStateException("쿠폰 발급 기간이 종료되었습니다. 종료일: "
+                    + CouponRedisRepository.fromEpochMillis(Long.parseLong(metadata.get("issueEndAt"))));
+            } else if ("NOT_ACTIVE".equals(failReason)) {
+                throw new IllegalStateException("발급할 수 없는 쿠폰입니다");
+            }
+
+            // EXCEED_USER_LIMIT: Lua가 반환한 수량은 롤백 전 값 (최대 발급 수량 + 1)
+            long userLimit = issueResult.getIssuedCount() - 1;
+            throw issueFailure(couponId, failReason, userLimit, (int) userLimit);
+        }
+
+        Coupon coupon = toCoupon(couponId, metadata);
+        publishIssuedEvent(couponId, userId, issueResult, coupon.getTotalQuantity());
+
+        return UserCoupon.builder()
+            .user(User.builder().id(userId).build())
+            .coupon(coupon)
+            .status(UserCouponStatus.ISSUED)
+            .issuedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private IllegalStateException issueFailure(Long couponId, String failReason, Long userCount, Integer maxIssuePerUser) {
+        if ("SOLD_OUT".equals(failReason)) {
+            couponSoldOutCache.markSoldOut(couponId);
+            return new IllegalStateException("쿠폰이 모두 소진되었습니다");
+        } else if ("EXCEED_USER_LIMIT".equals(failReason)) {
+            return new IllegalStateException(
+                new StringBuilder("이미 최대 발급 수량을 받았습니다. (발급 횟수: ")
+                    .append(userCount)
+                    .append("/")
+                    .append(maxIssuePerUser)
+                    .append(")")
+                    .toString()
+            );
+        } else if ("ALREADY_ISSUED".equals(failReason)) {
+            return new IllegalStateException("이미 발급받은 쿠폰입니다");
+        } else {
+            return new IllegalStateException("쿠폰 발급에 실패했습니다: " + failReason);
+        }
+    }
+
+    /**
+     * Redis 발급 성공 → 소진 플래그 확인 + Kafka 이벤트 발행 (비동기 DB 저장)
+     */
+    private void publishIssuedEvent(Long couponId, Long userId,
+                                    CouponRedisRepository.IssueResult issueResult, Integer totalQuantity) {
+        if (issueResult.getIssuedCount() >= totalQuantity) {
+            couponSoldOutCache.markSoldOut(couponId);
+        }
+
+        CouponIssuedEvent event = CouponIssuedEvent.of(
+            couponId,
+            userId,
+            issueResult.getRank(),
+            issueResult.getIssuedCount()
+        );
+
+        // Kafka로 이벤트 발행 (couponId를 파티션 키로 사용 → 동일 쿠폰은 동일 파티션에서 순서 보장)
+        kafkaTemplate.send("coupon-events", couponId.toString(), event);
+
+        log.info("[UC-017] 쿠폰 발급 성공 (Redis) - userId: {}, couponId: {}, rank: {}, issued: {}/{}, Kafka 발행 완료",
+                 userId, couponId, issueResult.getRank(), issueResult.getIssuedCount(), totalQuantity);
+    }
+
+    /**
+     * 메타데이터 → 응답용 쿠폰 (영속 상태 아님)
+     */
+    private Coupon toCoupon(Long couponId, Map<String, String> metadata) {
+        return Coupon.builder()
+            .id(couponId)
+            .code(metadata.get("code"))
+            .name(metadata.get("name"))
+            .description(metadata.get("description"))
+            .type(CouponType.valueOf(metadata.get("type")))
+            .discountValue(new BigDecimal(metadata.get("discountValue")))
+            .minimumOrderAmount(toBigDecimal(metadata.get("minimumOrderAmount")))
+            .maximumDiscountAmount(toBigDecimal(metadata.get("maximumDiscountAmount")))
+            .totalQuantity(Integer.parseInt(metadata.get("totalQuantity")))
+            .maxIssuePerUser(Integer.parseInt(metadata.get("maxIssuePerUser")))
+            .issueStartAt(CouponRedisRepository.fromEpochMillis(Long.parseLong(metadata.get("issueStartAt"))))
+            .issueEndAt(CouponRedisRepository.fromEpochMillis(Long.parseLong(metadata.get("issueEndAt"))))
+            .validFrom(LocalDateTime.parse(metadata.get("validFrom")))
+            .validUntil(LocalDateTime.parse(metadata.get("validUntil")))
+            .status(CouponStatus.valueOf(metadata.get("status")))
+            .build();
+    }
+
+    private BigDecimal toBigDecimal(String value) {
+        return value != null ? new BigDecimal(value) : null;
+    }
 }
@@ -0,0 +1,74 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import com.hhplus.ecommerce.config.CouponQueueProperties;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponQueueRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠폰 소진 플래그 (인스턴스 메모리)
+ *
+ * Application Layer - 선착순 쿠폰 발급 보조
+ *
+ * 책임:
+ * - coupon:issued:{couponId} 발급 수량이 totalQuantity에 도달한 쿠폰 기록
+ * - 소진 쿠폰 요청을 Redis/DB 접근 없이 즉시 거절
+ *
+ * 소진 감지:
+ * - 이 인스턴스의 발급 Lua 결과 (SOLD_OUT 또는 발급 수량 = totalQuantity)
+ * - 다른 인스턴스가 설정한 소진 마커(coupon:soldout:{couponId})를 대기열 진입/조회 시 확인
+ *
+ * 주의:
+ * - 쿠폰 총 수량은 발급 시작 후 늘어나지 않는다는 전제 (플래그는 해제하지 않음)
+ *
+ * 활성화:
+ * - coupon.queue.enabled=true (기본값 false, 플래그 미사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponSoldOutCache {
+
+    private final CouponQueueRedisRepository couponQueueRedisRepository;
+    private final CouponQueueProperties couponQueueProperties;
+
+    private final Set<Long> soldOutCouponIds = ConcurrentHashMap.newKeySet();
+
+    public boolean isSoldOut(Long couponId) {
+        return couponQueueProperties.isEnabled() && soldOutCouponIds.contains(couponId);
+    }
+
+    /**
+     * 발급 경로에서 소진 확인 → 플래그 + 소진 마커 설정 (최초 1회만 Redis 기록)
+     */
+    public void markSoldOut(Long couponId) {
+        if (!couponQueueProperties.isEnabled()) {
+            return;
+        }
+
+        if (soldOutCouponIds.add(couponId)) {
+            couponQueueRedisRepository.markSoldOut(couponId);
+            log.info("[쿠폰 대기열] 쿠폰 소진 - 이후 요청은 메모리에서 거절 - couponId: {}", couponId);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 설정한 소진 마커 확인 → 플래그만 설정
+     */
+    public void markSoldOutLocally(Long couponId) {
+        if (couponQueueProperties.isEnabled()) {
+            soldOutCouponIds.add(couponId);
+        }
+    }
+
+    /**
+     * 플래그 해제 (쿠폰 Redis 데이터 재초기화 시)
+     */
+    public void evict(Long couponId) {
+        soldOutCouponIds.remove(couponId);
+    }
+}
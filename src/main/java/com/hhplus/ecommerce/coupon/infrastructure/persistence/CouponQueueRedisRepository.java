@@ -0,0 +1,263 @@
+package com.hhplus.ecommerce.coupon.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 대기열 Redis Repository
+ *
+ * Infrastructure Layer - Redis 데이터 접근 계층
+ *
+ * 책임:
+ * - 대기열 진입/순번 조회/입장(인출)
+ * - 입장 후 발급 결과 보관 (클라이언트 순번 조회용)
+ * - 쿠폰 소진 마커 관리 (다른 인스턴스에 소진 전파)
+ *
+ * Redis 자료구조:
+ * 1. Sorted Set: 쿠폰별 대기열
+ *    - Key: coupon:queue:{couponId}
+ *    - Member: {userId}, Score: 진입 타임스탬프 (밀리초)
+ *    - 연산: ZADD NX (재진입 시 순번 유지), ZRANK (순번), ZPOPMIN (입장)
+ *
+ * 2. Set: 대기자가 있는 쿠폰 ID 목록
+ *    - Key: coupon:queue:active
+ *    - 용도: 입장 스케줄러가 처리할 쿠폰 탐색 (KEYS/SCAN 불필요)
+ *
+ * 3. Hash: 입장 후 발급 결과
+ *    - Key: coupon:queue:result:{couponId}
+ *    - Field: {userId}, Value: ISSUED / SOLD_OUT / 실패 사유
+ *
+ * 4. String: 쿠폰 소진 마커
+ *    - Key: coupon:soldout:{couponId}
+ *    - 용도: 소진을 확인하지 못한 인스턴스가 대기열 진입 시 소진을 알 수 있도록 전파
+ *
+ * Use Cases:
+ * - UC-017: 선착순 쿠폰 발급 (대기열)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CouponQueueRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // Redis Constants
+    private static final String COUPON_QUEUE_PREFIX = "coupon:queue:";
+    private static final String COUPON_QUEUE_ACTIVE = "coupon:queue:active";
+    private static final String COUPON_QUEUE_RESULT_PREFIX = "coupon:queue:result:";
+    private static final String COUPON_SOLD_OUT_PREFIX = "coupon:soldout:";
+    private static final long COUPON_DATA_TTL_DAYS = 7L;
+
+    /**
+     * Lua Script: 대기열 진입
+     *
+     * 프로세스:
+     * 1. 소진 마커가 있으면 -1 반환 (대기열에 넣지 않음)
+     * 2. ZADD NX (이미 대기 중이면 기존 순번 유지)
+     * 3. 대기 쿠폰 목록에 등록 (SADD)
+     * 4. 0부터 시작하는 순번 반환 (ZRANK)
+     */
+    private static final String ENQUEUE_SCRIPT =
+        "if redis.call('EXISTS', KEYS[3]) == 1 then\n" +
+        "    return -1\n" +
+        "end\n" +
+        "redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1])\n" +
+        "redis.call('SADD', KEYS[2], ARGV[3])\n" +
+        "return redis.call('ZRANK', KEYS[1], ARGV[1])\n";
+
+    /**
+     * Lua Script: 대기열이 비었으면 대기 쿠폰 목록에서 제거
+     * - ZCARD 확인과 SREM을 원자적으로 실행 (확인 직후 진입한 사용자 누락 방지)
+     */
+    private static final String DEACTIVATE_IF_EMPTY_SCRIPT =
+        "if redis.call('ZCARD', KEYS[1]) == 0 then\n" +
+        "    return redis.call('SREM', KEYS[2], ARGV[1])\n" +
+        "end\n" +
+        "return 0\n";
+
+    /**
+     * 대기열 진입
+     *
+     * @return 0부터 시작하는 순번, 소진 마커가 있으면 -1
+     */
+    public long enqueue(Long couponId, Long userId) {
+        byte[][] keysAndArgs = new byte[][]{
+            queueKey(couponId).getBytes(),
+            COUPON_QUEUE_ACTIVE.getBytes(),
+            soldOutKey(couponId).getBytes(),
+            userId.toString().getBytes(),
+            String.valueOf(System.currentTimeMillis()).getBytes(),
+            couponId.toString().getBytes()
+        };
+
+        Long rank = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+            connection.eval(ENQUEUE_SCRIPT.getBytes(), ReturnType.INTEGER, 3, keysAndArgs));
+        return rank != null ? rank : -1L;
+    }
+
+    /**
+     * 대기 상태 조회 (파이프라인 1회 왕복)
+     * - ZRANK, ZCARD, 발급 결과 HGET, 소진 마커 EXISTS
+     */
+    public QueueSnapshot getSnapshot(Long couponId, Long userId) {
+        String member = userId.toString();
+
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) {
+                operations.opsForZSet().rank(queueKey(couponId), member);
+                operations.opsForZSet().zCard(queueKey(couponId));
+                operations.opsForHash().get(resultKey(couponId), member);
+                operations.hasKey(soldOutKey(couponId));
+                return null;
+            }
+        });
+
+        Object rank = results.get(0);
+        Object waiting = results.get(1);
+        Object result = results.get(2);
+
+        return QueueSnapshot.builder()
+            .rank(rank instanceof Number ? ((Number) rank).longValue() : null)
+            .waitingCount(waiting instanceof Number ? ((Number) waiting).longValue() : 0L)
+            .result(result != null ? result.toString() : null)
+            .soldOut(Boolean.TRUE.equals(results.get(3)))
+            .build();
+    }
+
+    /**
+     * 대기자가 있는 쿠폰 ID 목록
+     */
+    public List<Long> findActiveCouponIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(COUPON_QUEUE_ACTIVE);
+        if (members == null || members.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> couponIds = new ArrayList<>(members.size());
+        for (String member : members) {
+            couponIds.add(Long.parseLong(member));
+        }
+        return couponIds;
+    }
+
+    /**
+     * 대기열 앞에서부터 최대 count명 인출 (ZPOPMIN)
+     *
+     * @return 진입 순서대로 정렬된 사용자 ID 목록
+     */
+    public List<Long> popWaiting(Long couponId, int count) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+            stringRedisTemplate.opsForZSet().popMin(queueKey(couponId), count);
+        if (tuples == null || tuples.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> userIds = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            userIds.add(Long.parseLong(tuple.getValue()));
+        }
+        return userIds;
+    }
+
+    /**
+     * 대기열이 비었으면 대기 쿠폰 목록에서 제거
+     */
+    public void deactivateIfEmpty(Long couponId) {
+        byte[][] keysAndArgs = new byte[][]{
+            queueKey(couponId).getBytes(),
+            COUPON_QUEUE_ACTIVE.getBytes(),
+            couponId.toString().getBytes()
+        };
+
+        stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+            connection.eval(DEACTIVATE_IF_EMPTY_SCRIPT.getBytes(), ReturnType.INTEGER, 2, keysAndArgs));
+    }
+
+    /**
+     * 대기열 종료 (소진 시)
+     * - 남은 대기자는 순번 조회 시 소진 마커로 SOLD_OUT 응답
+     */
+    public void closeQueue(Long couponId) {
+        stringRedisTemplate.delete(queueKey(couponId));
+        stringRedisTemplate.opsForSet().remove(COUPON_QUEUE_ACTIVE, couponId.toString());
+    }
+
+    /**
+     * 입장 처리 결과 저장 (HSET 1회 + EXPIRE)
+     *
+     * @param results 사용자 ID → 결과 (ISSUED / SOLD_OUT / 실패 사유)
+     */
+    public void saveResults(Long couponId, Map<Long, String> results, long ttlMinutes) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        results.forEach((userId, result) -> fields.put(userId.toString(), result));
+
+        String key = resultKey(couponId);
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) {
+                operations.opsForHash().putAll(key, fields);
+                operations.expire(key, ttlMinutes, TimeUnit.MINUTES);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 소진 마커 설정
+     */
+    public void markSoldOut(Long couponId) {
+        stringRedisTemplate.opsForValue().set(soldOutKey(couponId), "1", COUPON_DATA_TTL_DAYS, TimeUnit.DAYS);
+        log.info("쿠폰 소진 마커 설정 - couponId: {}", couponId);
+    }
+
+    /**
+     * 대기열 데이터 초기화 (대기열, 발급 결과, 소진 마커)
+     */
+    public void clear(Long couponId) {
+        stringRedisTemplate.delete(List.of(queueKey(couponId), resultKey(couponId), soldOutKey(couponId)));
+        stringRedisTemplate.opsForSet().remove(COUPON_QUEUE_ACTIVE, couponId.toString());
+    }
+
+    private String queueKey(Long couponId) {
+        return COUPON_QUEUE_PREFIX + couponId;
+    }
+
+    private String resultKey(Long couponId) {
+        return COUPON_QUEUE_RESULT_PREFIX + couponId;
+    }
+
+    private String soldOutKey(Long couponId) {
+        return COUPON_SOLD_OUT_PREFIX + couponId;
+    }
+
+    @lombok.Builder
+    @lombok.Getter
+    public static class QueueSnapshot {
+        private Long rank;          // 0부터 시작, 대기열에 없으면 null
+        private Long waitingCount;
+        private String result;      // 입장 후 발급 결과, 미입장이면 null
+        private boolean soldOut;
+    }
+}
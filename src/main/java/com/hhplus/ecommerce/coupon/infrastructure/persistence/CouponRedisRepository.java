@@ -1,15 +1,29 @@
 package com.hhplus.ecommerce.coupon.infrastructure.persistence;
 
+import com.hhplus.ecommerce.common.infrastructure.redis.RedisBytes;
+import com.hhplus.ecommerce.common.infrastructure.redis.RedisScriptRegistry;
+import com.hhplus.ecommerce.coupon.domain.Coupon;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -43,10 +57,20 @@ import java.util.stream.Collectors;
  *    - 연산: HINCRBY (원자적 증가), HGET
  *    - 용도: 1인당 최대 발급 수량 제한 (maxIssuePerUser)
  *
+ * 3. Hash: 쿠폰 메타데이터
+ *    - Key: coupon:meta:{couponId}
+ *    - Field: status, issueStartAt/issueEndAt (epoch 밀리초), totalQuantity, maxIssuePerUser, 응답용 표시 정보
+ *    - 용도: 발급 Lua가 DB 조회 없이 발급 기간/수량/제한 검증
+ *
  * 원자성 보장:
  * - Lua Script를 사용하여 모든 연산을 원자적으로 실행
  * - Redis Single Thread 특성으로 Race Condition 방지
  *
+ * 대량 조회:
+ * - forEachIssuedUser/forEachUserIssueCount: ZSCAN/HSCAN 커서로 배치 단위 순회 (발급 건수와 무관하게 메모리 일정)
+ * - getTopIssuedUsers/getAllIssuedUsers: 순위 순서 List 반환 (소량 조회용)
+ * - 조회/통계는 단일 키 기준, shard-count > 1이면 CouponShardedRedisRepository의 같은 이름 메서드 사용
+ *
  * Use Cases:
  * - UC-017: 선착순 쿠폰 발급
  */
@@ -57,11 +81,21 @@ public class CouponRedisRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
 
     // Redis Constants
     private static final String COUPON_ISSUED_PREFIX = "coupon:issued:";
     private static final String COUPON_USER_COUNT_PREFIX = "coupon:user:count:";
+    private static final String COUPON_META_PREFIX = "coupon:meta:";
     private static final long COUPON_DATA_TTL_DAYS = 7L;
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    // Lua 인자용 사전 인코딩 (UTF-8, 호출마다 접두사/TTL 재인코딩 없음)
+    private static final byte[] COUPON_ISSUED_PREFIX_BYTES = RedisBytes.utf8(COUPON_ISSUED_PREFIX);
+    private static final byte[] COUPON_USER_COUNT_PREFIX_BYTES = RedisBytes.utf8(COUPON_USER_COUNT_PREFIX);
+    private static final byte[] COUPON_META_PREFIX_BYTES = RedisBytes.utf8(COUPON_META_PREFIX);
+    private static final byte[] COUPON_DATA_TTL_SECONDS_BYTES =
+        RedisBytes.ascii(TimeUnit.DAYS.toSeconds(COUPON_DATA_TTL_DAYS));
 
     /**
      * Lua Script: 선착순 쿠폰 발급
@@ -76,6 +110,7 @@ public class CouponRedisRepository {
      * 3. Sorted Set에 추가 (ZADD NX)
      * 4. 최종 발급 수량 재확인
      * 5. 수량 초과 시 자동 롤백
+     * 6. 최초 발급 시 발급 내역/사용자별 수량 TTL 설정 (별도 TTL 확인/EXPIRE 왕복 없음)
      *
      * 반환값:
      * - {1, "SUCCESS", newCount, rank}: 발급 성공
@@ -83,14 +118,22 @@ public class CouponRedisRepository {
      * - {0, "EXCEED_USER_LIMIT", userCount}: 사용자별 발급 제한 초과
      * - {0, "ALREADY_ISSUED", currentCount}: 이미 발급받음
      */
-    private static final String COUPON_ISSUE_SCRIPT =
+    private static final String COUPON_ISSUE_SCRIPT_HEADER =
         "local issuedKey = KEYS[1]\n" +
         "local userCountKey = KEYS[2]\n" +
         "local userId = ARGV[1]\n" +
         "local totalQuantity = tonumber(ARGV[2]) or 0\n" +
         "local maxIssuePerUser = tonumber(ARGV[3]) or 1\n" +
         "local timestamp = ARGV[4]\n" +
-        "\n" +
+        "local ttlSeconds = ARGV[5]\n" +
+        "\n";
+
+    /**
+     * 발급 본문 (수량/사용자 제한 검증 + 기록)
+     * - 앞선 헤더가 issuedKey, userCountKey, userId, totalQuantity, maxIssuePerUser, timestamp, ttlSeconds를 정의
+     * - 성공 시 rank까지 계산하고, 반환은 스크립트별 마무리 구문에서 수행
+     */
+    private static final String COUPON_ISSUE_SCRIPT_BODY =
         "-- 1. 전체 발급 수량 확인 (ZCARD: Sorted Set 크기)\n" +
         "local currentCount = tonumber(redis.call('ZCARD', issuedKey))\n" +
         "if currentCount >= totalQuantity then\n" +
@@ -132,68 +175,108 @@ public class CouponRedisRepository {
         "    -- 첫 번째 발급이면 현재 member로 순위 조회\n" +
         "    rank = tonumber(redis.call('ZRANK', issuedKey, member))\n" +
         "end\n" +
+        "\n" +
+        "-- 6. 최초 발급 시 TTL 설정\n" +
+        "if redis.call('TTL', issuedKey) == -1 then\n" +
+        "    redis.call('EXPIRE', issuedKey, ttlSeconds)\n" +
+        "    redis.call('EXPIRE', userCountKey, ttlSeconds)\n" +
+        "end\n";
+
+    private static final String COUPON_ISSUE_SCRIPT =
+        COUPON_ISSUE_SCRIPT_HEADER +
+        COUPON_ISSUE_SCRIPT_BODY +
         "return {1, 'SUCCESS', newCount, rank + 1}\n";
 
+    /**
+     * Lua Script: 메타데이터 기반 선착순 쿠폰 발급 (COUPON_ISSUE_SCRIPT 확장)
+     *
+     * 발급 수량/사용자 제한/발급 기간을 호출 측 인자 대신 coupon:meta:{couponId} Hash에서 읽음
+     * → 발급 요청 1건 = Redis 호출 1회 (DB 조회 없음)
+     *
+     * 추가 프로세스:
+     * 0. 메타데이터 확인 (HMGET)
+     *    - 미적재: {0, "NOT_WARMED", 0}
+     *    - 비활성: {0, "NOT_ACTIVE", 0}, 소진 상태: {0, "SOLD_OUT", 0}
+     *    - 발급 기간 외: {0, "NOT_STARTED" | "ENDED", 0, 0, "issueStartAt" | "issueEndAt", epochMillis}
+     * 1~6. COUPON_ISSUE_SCRIPT와 동일
+     *
+     * 반환값:
+     * - {1, "SUCCESS", newCount, rank, field1, value1, ...}: 발급 성공 + 메타데이터 (응답 구성용)
+     */
+    private static final String COUPON_ISSUE_WITH_METADATA_SCRIPT =
+        "local issuedKey = KEYS[1]\n" +
+        "local userCountKey = KEYS[2]\n" +
+        "local metaKey = KEYS[3]\n" +
+        "local userId = ARGV[1]\n" +
+        "local timestamp = ARGV[2]\n" +
+        "local now = tonumber(ARGV[2])\n" +
+        "local ttlSeconds = ARGV[3]\n" +
+        "\n" +
+        "-- 0. 메타데이터 확인 (상태, 발급 기간)\n" +
+        "local meta = redis.call('HMGET', metaKey, 'status', 'issueStartAt', 'issueEndAt', 'totalQuantity', 'maxIssuePerUser')\n" +
+        "if not meta[1] then\n" +
+        "    return {0, 'NOT_WARMED', 0}\n" +
+        "end\n" +
+        "if meta[1] == 'EXHAUSTED' then\n" +
+        "    return {0, 'SOLD_OUT', 0}\n" +
+        "end\n" +
+        "if meta[1] ~= 'ACTIVE' then\n" +
+        "    return {0, 'NOT_ACTIVE', 0}\n" +
+        "end\n" +
+        "if now < tonumber(meta[2]) then\n" +
+        "    return {0, 'NOT_STARTED', 0, 0, 'issueStartAt', meta[2]}\n" +
+        "end\n" +
+        "if now > tonumber(meta[3]) then\n" +
+        "    return {0, 'ENDED', 0, 0, 'issueEndAt', meta[3]}\n" +
+        "end\n" +
+        "local totalQuantity = tonumber(meta[4]) or 0\n" +
+        "local maxIssuePerUser = tonumber(meta[5]) or 1\n" +
+        "\n" +
+        COUPON_ISSUE_SCRIPT_BODY +
+        "return {1, 'SUCCESS', newCount, rank + 1, unpack(redis.call('HGETALL', metaKey))}\n";
+
+    /**
+     * 발급 스크립트 등록 (기동 완료 시 SCRIPT LOAD, 이후 EVALSHA로 호출)
+     */
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register(COUPON_ISSUE_SCRIPT, COUPON_ISSUE_WITH_METADATA_SCRIPT);
+    }
+
     /**
      * 쿠폰 발급 처리 (Sorted Set + Lua Script)
      * - Lua Script로 원자성 보장
      * - 발급 순서를 타임스탬프로 기록
      */
     public IssueResult issue(Long couponId, Long userId, Integer totalQuantity, Integer maxIssuePerUser) {
-        String issuedKey = COUPON_ISSUED_PREFIX + couponId;
-        String userCountKey = COUPON_USER_COUNT_PREFIX + couponId;
-
         try {
             // 현재 시각 타임스탬프 (밀리초)
             long timestamp = System.currentTimeMillis();
 
-            // Lua Script 실행 (StringRedisTemplate 사용하여 String 결과 직접 반환)
-            @SuppressWarnings("unchecked")
-            List<Object> result = stringRedisTemplate.execute(
-                (org.springframework.data.redis.core.RedisCallback<List<Object>>) connection -> {
-                    // EVAL 명령어로 Lua Script 직접 실행
-                    byte[] script = COUPON_ISSUE_SCRIPT.getBytes();
-
-                    // Keys와 Args를 하나의 배열로 병합 (Redis EVAL 명령어 형식)
-                    byte[][] keysAndArgs = new byte[][]{
-                        issuedKey.getBytes(),
-                        userCountKey.getBytes(),
-                        userId.toString().getBytes(),
-                        totalQuantity.toString().getBytes(),
-                        maxIssuePerUser.toString().getBytes(),
-                        String.valueOf(timestamp).getBytes()
-                    };
-
-                    // EVAL script numkeys key [key ...] arg [arg ...]
-                    Object evalResult = connection.eval(
-                        script,
-                        org.springframework.data.redis.connection.ReturnType.MULTI,
-                        2,  // numkeys: 앞의 2개가 KEYS
-                        keysAndArgs
-                    );
-
-                    if (evalResult instanceof List) {
-                        return (List<Object>) evalResult;
-                    }
-                    return Collections.emptyList();
-                });
-
-            if (result == null || result.isEmpty()) {
+            // KEYS 2개 + ARGV (userId, totalQuantity, maxIssuePerUser, timestamp, ttlSeconds)
+            List<Object> result = evalIssueScript(COUPON_ISSUE_SCRIPT, 2,
+                RedisBytes.key(COUPON_ISSUED_PREFIX_BYTES, couponId),
+                RedisBytes.key(COUPON_USER_COUNT_PREFIX_BYTES, couponId),
+                RedisBytes.ascii(userId),
+                RedisBytes.ascii(totalQuantity),
+                RedisBytes.ascii(maxIssuePerUser),
+                RedisBytes.ascii(timestamp),
+                COUPON_DATA_TTL_SECONDS_BYTES
+            );
+
+            if (result.isEmpty()) {
                 log.error("Lua Script 실행 결과 없음 - couponId: {}, userId: {}", couponId, userId);
                 return IssueResult.failure("SCRIPT_ERROR", 0L, null);
             }
 
-            // 결과 파싱 (StringRedisTemplate 사용으로 String 직접 반환)
+            // 결과 파싱
             int success = parseToInt(result.get(0));
             String message = parseToString(result.get(1));
             Long count = parseToLong(result.get(2));
             Long rank = result.size() > 3 ? parseToLong(result.get(3)) : null;
 
             if (success == 1) {
-                // 발급 성공
-                setTTLIfNotExists(issuedKey);
-                setTTLIfNotExists(userCountKey);
-
+                // 발급 성공 (TTL은 Lua에서 최초 발급 시 설정)
                 log.info("쿠폰 발급 성공 (Sorted Set) - userId: {}, couponId: {}, rank: {}, issued: {}/{}",
                         userId, couponId, rank, count, totalQuantity);
 
@@ -213,6 +296,118 @@ public class CouponRedisRepository {
         }
     }
 
+    /**
+     * 메타데이터 기반 쿠폰 발급 (Redis 호출 1회)
+     * - 발급 기간/수량/사용자 제한을 coupon:meta:{couponId}에서 읽어 검증
+     * - 성공 시 메타데이터를 함께 반환 (응답 구성에 DB 조회 불필요)
+     */
+    public IssueResult issueWithMetadata(Long couponId, Long userId) {
+        try {
+            long timestamp = System.currentTimeMillis();
+
+            // KEYS: 발급 내역, 사용자별 수량, 메타데이터 / ARGV: userId, timestamp, ttlSeconds
+            List<Object> result = evalIssueScript(COUPON_ISSUE_WITH_METADATA_SCRIPT, 3,
+                RedisBytes.key(COUPON_ISSUED_PREFIX_BYTES, couponId),
+                RedisBytes.key(COUPON_USER_COUNT_PREFIX_BYTES, couponId),
+                RedisBytes.key(COUPON_META_PREFIX_BYTES, couponId),
+                RedisBytes.ascii(userId),
+                RedisBytes.ascii(timestamp),
+                COUPON_DATA_TTL_SECONDS_BYTES
+            );
+
+            if (result.isEmpty()) {
+                log.error("Lua Script 실행 결과 없음 - couponId: {}, userId: {}", couponId, userId);
+                return IssueResult.failure("SCRIPT_ERROR", 0L, null);
+            }
+
+            int success = parseToInt(result.get(0));
+            String message = parseToString(result.get(1));
+            Long count = parseToLong(result.get(2));
+
+            // 4번째 이후: field, value 쌍 (성공 시 메타데이터 전체, 기간 외 실패 시 해당 시각)
+            Map<String, String> metadata = new HashMap<>();
+            for (int i = 4; i + 1 < result.size(); i += 2) {
+                metadata.put(parseToString(result.get(i)), parseToString(result.get(i + 1)));
+            }
+
+            if (success == 1) {
+                Long rank = parseToLong(result.get(3));
+                log.info("쿠폰 발급 성공 (메타데이터) - userId: {}, couponId: {}, rank: {}, issued: {}",
+                        userId, couponId, rank, count);
+                return IssueResult.builder()
+                    .success(true)
+                    .message("SUCCESS")
+                    .issuedCount(count)
+                    .rank(rank)
+                    .metadata(metadata)
+                    .build();
+            }
+
+            log.warn("쿠폰 발급 실패 - userId: {}, couponId: {}, reason: {}, count: {}",
+                    userId, couponId, message, count);
+            return IssueResult.builder()
+                .success(false)
+                .message(message)
+                .issuedCount(count)
+                .metadata(metadata)
+                .build();
+
+        } catch (Exception e) {
+            log.error("쿠폰 발급 중 Redis 오류 발생 - userId: {}, couponId: {}", userId, couponId);
+            log.error("에러 상세:", e);
+            return IssueResult.failure("REDIS_ERROR", 0L, null);
+        }
+    }
+
+    /**
+     * 쿠폰 메타데이터 적재 (HSET + EXPIREAT)
+     * - 만료: 발급 종료 1일 후 (종료 직후 요청은 ENDED로 응답)
+     */
+    public void saveMetadata(Coupon coupon) {
+        String metaKey = COUPON_META_PREFIX + coupon.getId();
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", coupon.getStatus().name());
+        fields.put("issueStartAt", String.valueOf(toEpochMillis(coupon.getIssueStartAt())));
+        fields.put("issueEndAt", String.valueOf(toEpochMillis(coupon.getIssueEndAt())));
+        fields.put("totalQuantity", coupon.getTotalQuantity().toString());
+        fields.put("maxIssuePerUser", coupon.getMaxIssuePerUser().toString());
+        fields.put("code", coupon.getCode());
+        fields.put("name", coupon.getName());
+        fields.put("type", coupon.getType().name());
+        fields.put("discountValue", coupon.getDiscountValue().toPlainString());
+        fields.put("validFrom", coupon.getValidFrom().toString());
+        fields.put("validUntil", coupon.getValidUntil().toString());
+        if (coupon.getDescription() != null) {
+            fields.put("description", coupon.getDescription());
+        }
+        if (coupon.getMinimumOrderAmount() != null) {
+            fields.put("minimumOrderAmount", coupon.getMinimumOrderAmount().toPlainString());
+        }
+        if (coupon.getMaximumDiscountAmount() != null) {
+            fields.put("maximumDiscountAmount", coupon.getMaximumDiscountAmount().toPlainString());
+        }
+
+        LocalDateTime expireAt = coupon.getIssueEndAt().isAfter(LocalDateTime.now())
+            ? coupon.getIssueEndAt().plusDays(1)
+            : LocalDateTime.now().plusDays(1);
+
+        stringRedisTemplate.opsForHash().putAll(metaKey, fields);
+        stringRedisTemplate.expireAt(metaKey, expireAt.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    public void deleteMetadata(Long couponId) {
+        stringRedisTemplate.delete(COUPON_META_PREFIX + couponId);
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static LocalDateTime fromEpochMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
     public Long getIssuedCount(Long couponId) {
         String key = COUPON_ISSUED_PREFIX + couponId;
         Long count = redisTemplate.opsForZSet().size(key);
@@ -254,58 +449,58 @@ public class CouponRedisRepository {
         return score != null ? score.longValue() : null;
     }
 
+    /**
+     * 선착순 상위 N명 조회 (단일 키, 샤딩 시 CouponShardedRedisRepository.getTopIssuedUsers)
+     */
     public List<IssueRecord> getTopIssuedUsers(Long couponId, int topN) {
-        String key = COUPON_ISSUED_PREFIX + couponId;
+        return ranked(rangeIssued(COUPON_ISSUED_PREFIX + couponId, topN - 1), topN);
+    }
 
-        // Sorted Set에서 스코어와 함께 조회
-        Set<org.springframework.data.redis.core.ZSetOperations.TypedTuple<Object>> tuples =
-            redisTemplate.opsForZSet().rangeWithScores(key, 0, topN - 1);
+    /**
+     * 전체 발급 내역 조회 (순위 순서, 전체를 List로 적재)
+     * - 대량 발급 쿠폰은 forEachIssuedUser 사용
+     * - 단일 키 전용, 샤딩 시 CouponShardedRedisRepository.getAllIssuedUsers
+     */
+    public List<IssueRecord> getAllIssuedUsers(Long couponId) {
+        return ranked(rangeIssued(COUPON_ISSUED_PREFIX + couponId, -1), Integer.MAX_VALUE);
+    }
 
+    /**
+     * 발급 내역 ZRANGE WITHSCORES (score 오름차순, rank 없음, 샤드 키도 같은 형식)
+     */
+    List<IssueRecord> rangeIssued(String key, long end) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet().rangeWithScores(key, 0, end);
         if (tuples == null || tuples.isEmpty()) {
             return Collections.emptyList();
         }
 
-        // DTO 변환
-        int rank = 1;
-        List<IssueRecord> records = new ArrayList<>();
-        for (org.springframework.data.redis.core.ZSetOperations.TypedTuple<Object> tuple : tuples) {
-            String userId = tuple.getValue().toString();
-            Long timestamp = tuple.getScore() != null ? tuple.getScore().longValue() : null;
-
-            records.add(IssueRecord.builder()
-                .rank(rank++)
-                .userId(Long.parseLong(userId))
-                .issuedTimestamp(timestamp)
-                .build());
+        List<IssueRecord> records = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            records.add(IssueRecord.of(tuple.getValue(), tuple.getScore()));
         }
-
         return records;
     }
 
-    public List<IssueRecord> getAllIssuedUsers(Long couponId) {
-        String key = COUPON_ISSUED_PREFIX + couponId;
-
-        Set<org.springframework.data.redis.core.ZSetOperations.TypedTuple<Object>> tuples =
-            redisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
-
-        if (tuples == null || tuples.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        int rank = 1;
-        List<IssueRecord> records = new ArrayList<>();
-        for (org.springframework.data.redis.core.ZSetOperations.TypedTuple<Object> tuple : tuples) {
-            String userId = tuple.getValue().toString();
-            Long timestamp = tuple.getScore() != null ? tuple.getScore().longValue() : null;
-
-            records.add(IssueRecord.builder()
-                .rank(rank++)
-                .userId(Long.parseLong(userId))
-                .issuedTimestamp(timestamp)
+    /**
+     * 발급 타임스탬프 순 정렬 후 앞에서부터 limit건에 순위(1부터) 부여
+     * - 안정 정렬이므로 키 1개의 ZRANGE 결과는 순서 유지, 샤드별 결과는 타임스탬프로 병합
+     */
+    static List<IssueRecord> ranked(List<IssueRecord> records, int limit) {
+        List<IssueRecord> sorted = new ArrayList<>(records);
+        sorted.sort(Comparator.comparing(IssueRecord::getIssuedTimestamp, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        int size = Math.min(limit, sorted.size());
+        List<IssueRecord> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            IssueRecord record = sorted.get(i);
+            result.add(IssueRecord.builder()
+                .rank(i + 1)
+                .userId(record.getUserId())
+                .issueSequence(record.getIssueSequence())
+                .issuedTimestamp(record.getIssuedTimestamp())
                 .build());
         }
-
-        return records;
+        return result;
     }
 
     public void initializeCoupon(Long couponId) {
@@ -318,40 +513,111 @@ public class CouponRedisRepository {
         log.info("쿠폰 Redis 데이터 초기화 (Sorted Set) - couponId: {}", couponId);
     }
 
-    private void setTTLIfNotExists(String key) {
-        Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-        if (ttl != null && ttl == -1) { // TTL이 설정되지 않은 경우
-            redisTemplate.expire(key, COUPON_DATA_TTL_DAYS, TimeUnit.DAYS);
-        }
-    }
-
+    /**
+     * 발급 통계 (사용자별 수량은 HSCAN으로 합산, Hash 전체를 적재하지 않음)
+     * - 단일 키 전용, 샤딩 시 CouponShardedRedisRepository.getIssueStats
+     */
     public CouponIssueStats getIssueStats(Long couponId) {
-        Long issuedCount = getIssuedCount(couponId);
-
-        // 고유 사용자 수 (Sorted Set 크기와 동일)
-        Long uniqueUsers = issuedCount;
+        return issueStatsOf(couponId, getIssuedCount(couponId), List.of(COUPON_USER_COUNT_PREFIX + couponId));
+    }
 
-        // 사용자별 발급 수량 총합
-        String userCountKey = COUPON_USER_COUNT_PREFIX + couponId;
-        Map<Object, Object> userCounts = redisTemplate.opsForHash().entries(userCountKey);
-        Long totalIssueCount = userCounts.values().stream()
-            .mapToLong(v -> ((Number) v).longValue())
-            .sum();
+    /**
+     * 사용자별 발급 수량 Hash들을 HSCAN으로 합산해 통계 생성 (샤드 키도 같은 형식)
+     */
+    CouponIssueStats issueStatsOf(Long couponId, long issuedCount, List<String> userCountKeys) {
+        // 고유 사용자 수 / 사용자별 발급 수량 총합 (사용자는 샤드 1개에만 속하므로 샤드 간 중복 없음)
+        long[] totals = new long[2];
+        for (String userCountKey : userCountKeys) {
+            scanUserCounts(userCountKey, SCAN_BATCH_SIZE, (userId, count) -> {
+                if (count > 0) {
+                    totals[0]++;
+                    totals[1] += count;
+                }
+            });
+        }
 
         return CouponIssueStats.builder()
             .couponId(couponId)
             .issuedCount(issuedCount)
-            .uniqueUserCount(uniqueUsers)
-            .totalIssueCount(totalIssueCount)
+            .uniqueUserCount(totals[0])
+            .totalIssueCount(totals[1])
             .build();
     }
 
+    /**
+     * 발급 내역 순회 (ZSCAN)
+     *
+     * - batchSize 단위로 커서를 진행하므로 메모리 사용량은 발급 건수와 무관
+     * - ZSCAN은 순서를 보장하지 않음 (rank 없음, issuedTimestamp로 정렬 가능)
+     * - 순회 중 추가/삭제된 항목은 포함되지 않을 수 있음 (순회 시작부터 끝까지 존재한 항목은 모두 1회 이상 포함)
+     * - 같은 항목이 2번 이상 전달될 수 있음 (순회 중 rehash/인코딩 변환 시) → 호출자가 중복 허용 또는 제거
+     *
+     * @param couponId 쿠폰 ID
+     * @param batchSize ZSCAN COUNT
+     * @param action 발급 1건 처리
+     */
+    public void forEachIssuedUser(Long couponId, int batchSize, Consumer<IssueRecord> action) {
+        scanIssued(COUPON_ISSUED_PREFIX + couponId, batchSize, action);
+    }
+
+    /**
+     * 사용자별 발급 수량 순회 (HSCAN)
+     *
+     * @param couponId 쿠폰 ID
+     * @param batchSize HSCAN COUNT
+     * @param action (userId, 발급 수량) 처리
+     */
+    public void forEachUserIssueCount(Long couponId, int batchSize, BiConsumer<Long, Long> action) {
+        scanUserCounts(COUPON_USER_COUNT_PREFIX + couponId, batchSize, action);
+    }
+
+    /**
+     * Sorted Set 발급 내역 ZSCAN (샤드 키도 같은 형식)
+     */
+    void scanIssued(String key, int batchSize, Consumer<IssueRecord> action) {
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        try (Cursor<ZSetOperations.TypedTuple<String>> cursor = stringRedisTemplate.opsForZSet().scan(key, options)) {
+            while (cursor.hasNext()) {
+                ZSetOperations.TypedTuple<String> tuple = cursor.next();
+                action.accept(IssueRecord.of(tuple.getValue(), tuple.getScore()));
+            }
+        }
+    }
+
+    /**
+     * 사용자별 발급 수량 Hash HSCAN (샤드 키도 같은 형식)
+     */
+    void scanUserCounts(String key, int batchSize, BiConsumer<Long, Long> action) {
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor = stringRedisTemplate.opsForHash().scan(key, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                action.accept(Long.parseLong(entry.getKey().toString()), Long.parseLong(entry.getValue().toString()));
+            }
+        }
+    }
+
+    /**
+     * 발급 Lua 실행 (EVALSHA, NOSCRIPT 시 EVAL)
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object> evalIssueScript(String script, int numKeys, byte[]... keysAndArgs) {
+        List<Object> result = stringRedisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            Object evalResult = redisScriptRegistry.eval(connection, script, ReturnType.MULTI, numKeys, keysAndArgs);
+            if (evalResult instanceof List) {
+                return (List<Object>) evalResult;
+            }
+            return Collections.emptyList();
+        });
+        return result != null ? result : Collections.emptyList();
+    }
+
     private int parseToInt(Object value) {
         if (value instanceof Number) {
             return ((Number) value).intValue();
         }
         try {
-            return Integer.parseInt(value.toString());
+            return Integer.parseInt(parseToString(value));
         } catch (NumberFormatException e) {
             log.warn("Integer 파싱 실패, 0 반환 - value: {}", value);
             return 0;
@@ -363,7 +629,7 @@ public class CouponRedisRepository {
             return ((Number) value).longValue();
         }
         try {
-            return Long.parseLong(value.toString());
+            return Long.parseLong(parseToString(value));
         } catch (NumberFormatException e) {
             log.warn("Long 파싱 실패, 0L 반환 - value: {}", value);
             return 0L;
@@ -375,7 +641,7 @@ public class CouponRedisRepository {
             return "";
         }
         if (value instanceof byte[]) {
-            return new String((byte[]) value);
+            return RedisBytes.utf8((byte[]) value);
         }
         if (value instanceof String) {
             return (String) value;
@@ -390,6 +656,7 @@ public class CouponRedisRepository {
         private String message;
         private Long issuedCount;
         private Long rank; // 발급 순위 (선착순)
+        private Map<String, String> metadata; // 메타데이터 기반 발급 시 쿠폰 메타데이터
 
         public static IssueResult success(Long count, Long rank) {
             return IssueResult.builder()
@@ -415,7 +682,20 @@ public class CouponRedisRepository {
     public static class IssueRecord {
         private Integer rank;
         private Long userId;
+        private Integer issueSequence; // 사용자의 n번째 발급 (member = userId:n)
         private Long issuedTimestamp;
+
+        /**
+         * 발급 내역 member(userId:n)와 score로 생성 (순서 없는 순회용, rank 없음)
+         */
+        public static IssueRecord of(String member, Double score) {
+            int separator = member.indexOf(':');
+            return IssueRecord.builder()
+                .userId(Long.parseLong(separator < 0 ? member : member.substring(0, separator)))
+                .issueSequence(separator < 0 ? 1 : Integer.parseInt(member.substring(separator + 1)))
+                .issuedTimestamp(score != null ? score.longValue() : null)
+                .build();
+        }
     }
 
     @lombok.Builder
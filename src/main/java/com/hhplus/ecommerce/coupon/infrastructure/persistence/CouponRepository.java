@@ -4,6 +4,7 @@ import com.hhplus.ecommerce.coupon.domain.Coupon;
 import com.hhplus.ecommerce.coupon.domain.CouponStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -52,6 +53,33 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     @Query("SELECT c FROM Coupon c WHERE c.id = :id")
     Optional<Coupon> findByIdWithLock(@Param("id") Long id);
 
+    /**
+     * 발급 수량 일괄 증가 (원자적 UPDATE)
+     *
+     * Use Case:
+     * - UC-017: Kafka 배치 리스너 DB 동기화 (배치 내 쿠폰당 UPDATE 1회)
+     *
+     * 동작:
+     * - issued_quantity += count, version += 1 (낙관적 락 사용 측과 충돌 감지 유지)
+     * - 증가 후 수량이 총 수량 이상이면 EXHAUSTED 전환
+     * - MySQL은 SET 절을 왼쪽부터 평가하므로 status를 먼저 계산
+     *
+     * 선착순 보장:
+     * - 발급 가부는 Redis에서 이미 결정됨 (DB는 결과 반영만 수행)
+     *
+     * @param couponId 쿠폰 ID
+     * @param count 증가시킬 발급 수량
+     * @return 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE coupons " +
+                   "SET status = CASE WHEN issued_quantity + :count >= total_quantity THEN 'EXHAUSTED' ELSE status END, " +
+                   "issued_quantity = issued_quantity + :count, " +
+                   "version = version + 1 " +
+                   "WHERE id = :couponId",
+           nativeQuery = true)
+    int increaseIssuedQuantity(@Param("couponId") Long couponId, @Param("count") int count);
+
     /**
      * 쿠폰 코드로 조회
      *
@@ -133,4 +161,15 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
            "WHERE c.status = 'ACTIVE' " +
            "AND c.issuedQuantity >= c.totalQuantity")
     List<Coupon> findSoldOutCoupons();
+
+    /**
+     * 발급 기간이 끝나지 않은 쿠폰 목록 조회 (상태 무관)
+     *
+     * Use Case:
+     * - UC-017: 쿠폰 메타데이터 Redis 적재 (발급 시작 전 쿠폰 포함, 비활성/소진 상태도 반영)
+     *
+     * @param now 현재 시각
+     * @return 쿠폰 목록
+     */
+    List<Coupon> findByIssueEndAtGreaterThanEqual(LocalDateTime now);
 }
@@ -0,0 +1,430 @@
+package com.hhplus.ecommerce.coupon.infrastructure.persistence;
+
+import com.hhplus.ecommerce.common.infrastructure.redis.RedisBytes;
+import com.hhplus.ecommerce.common.infrastructure.redis.RedisScriptRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 쿠폰 샤딩 발급 Redis Repository
+ *
+ * Infrastructure Layer - Redis 데이터 접근 계층
+ *
+ * 목적:
+ * - 초고인기 쿠폰 1개가 coupon:issued:{couponId} 키 1개(클러스터에서는 샤드 1개)에 몰리는 문제 분산
+ * - 발급 수량(totalQuantity)을 K개 샤드에 나눠 보관하고, 사용자는 userId % K 샤드에서만 발급
+ *
+ * Redis 자료구조 (샤드 s, 해시 태그 {couponId:s}로 샤드별 키를 같은 슬롯에 배치):
+ * 1. Sorted Set: coupon:issued:{couponId:s} - 샤드 발급 내역 (Member: userId:n, Score: 타임스탬프)
+ * 2. Hash: coupon:user:count:{couponId:s} - 샤드 사용자별 발급 수량
+ * 3. String: coupon:quota:{couponId:s} - 샤드 잔여 수량 (최초 접근 시 균등 분배분으로 SET NX)
+ *
+ * 처리 흐름:
+ * 1. 사용자 샤드에서 Lua 발급 (사용자 제한은 한 샤드에서만 관리되므로 정확)
+ * 2. 샤드 잔여 수량 0이면 다른 샤드에서 잔여 수량 1개를 가져와(steal) 재시도
+ *    - 1개씩 가져와 바로 소비하므로 가져온 수량이 사용자 샤드에 남아 발급되지 않는 경우가 없음
+ * 3. 모든 샤드가 비면 SOLD_OUT
+ * 4. 성공 시 전체 발급 수량(ZCARD 합)과 순위(다른 샤드의 더 이른 발급 수 + 샤드 내 순위)를 파이프라인 1회로 집계
+ *
+ * 주의:
+ * - 샤드 수는 발급 중인 쿠폰이 없을 때만 변경 (샤드 키와 분배분이 샤드 수에 따라 달라짐)
+ * - steal은 기부 샤드 차감 → 사용자 샤드 증가 2단계이므로, 그 사이 장애 시 가져온 수량은 발급되지 않음 (초과 발급은 없음)
+ * - 다른 요청이 가져가는 중인 1개는 보이지 않으므로 소진 직전에는 SOLD_OUT이 먼저 응답될 수 있음 (전체 발급 수량은 정확)
+ * - 순위는 타임스탬프(밀리초) 기준이므로 같은 밀리초에 다른 샤드에서 발급된 사용자끼리는 순서가 바뀔 수 있음
+ *
+ * Use Cases:
+ * - UC-017: 선착순 쿠폰 발급
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CouponShardedRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final CouponRedisRepository couponRedisRepository;
+
+    // Redis Constants
+    private static final String COUPON_ISSUED_PREFIX = "coupon:issued:";
+    private static final String COUPON_USER_COUNT_PREFIX = "coupon:user:count:";
+    private static final String COUPON_QUOTA_PREFIX = "coupon:quota:";
+    private static final long COUPON_DATA_TTL_DAYS = 7L;
+    private static final byte[] COUPON_DATA_TTL_SECONDS_BYTES =
+        RedisBytes.ascii(TimeUnit.DAYS.toSeconds(COUPON_DATA_TTL_DAYS));
+
+    /**
+     * Lua Script: 샤드 발급
+     *
+     * 프로세스:
+     * 1. 샤드 잔여 수량 초기화 (SET NX, 최초 1회)
+     * 2. 사용자별 발급 수량 확인 및 증가 (HINCRBY)
+     * 3. 샤드 잔여 수량 확인 (0이면 SHARD_EMPTY → 호출 측에서 steal)
+     * 4. Sorted Set에 추가 (ZADD NX) + 잔여 수량 차감 (DECR)
+     * 5. 최초 발급 시 발급 내역/사용자별 수량 TTL 설정
+     *
+     * 반환값:
+     * - {1, "SUCCESS", shardCount, shardRank, score}: 발급 성공 (샤드 기준, 전체 집계는 호출 측)
+     * - {0, "SHARD_EMPTY", 0}: 샤드 잔여 수량 없음
+     * - {0, "EXCEED_USER_LIMIT", userCount}: 사용자별 발급 제한 초과
+     * - {0, "ALREADY_ISSUED", shardCount}: 이미 발급받음
+     */
+    private static final String SHARD_ISSUE_SCRIPT =
+        "local issuedKey = KEYS[1]\n" +
+        "local userCountKey = KEYS[2]\n" +
+        "local quotaKey = KEYS[3]\n" +
+        "local userId = ARGV[1]\n" +
+        "local maxIssuePerUser = tonumber(ARGV[2]) or 1\n" +
+        "local timestamp = ARGV[3]\n" +
+        "local ttlSeconds = ARGV[4]\n" +
+        "\n" +
+        "-- 1. 샤드 잔여 수량 초기화 (최초 1회)\n" +
+        "redis.call('SET', quotaKey, ARGV[5], 'NX', 'EX', ttlSeconds)\n" +
+        "\n" +
+        "-- 2. 사용자별 발급 수량 확인 및 증가\n" +
+        "local userCount = tonumber(redis.call('HINCRBY', userCountKey, userId, 1))\n" +
+        "if userCount > maxIssuePerUser then\n" +
+        "    redis.call('HINCRBY', userCountKey, userId, -1)\n" +
+        "    return {0, 'EXCEED_USER_LIMIT', userCount}\n" +
+        "end\n" +
+        "\n" +
+        "-- 3. 샤드 잔여 수량 확인\n" +
+        "if tonumber(redis.call('GET', quotaKey)) <= 0 then\n" +
+        "    redis.call('HINCRBY', userCountKey, userId, -1)\n" +
+        "    return {0, 'SHARD_EMPTY', 0}\n" +
+        "end\n" +
+        "\n" +
+        "-- 4. 발급 기록 + 잔여 수량 차감\n" +
+        "local member = userId .. ':' .. userCount\n" +
+        "if tonumber(redis.call('ZADD', issuedKey, 'NX', timestamp, member)) == 0 then\n" +
+        "    redis.call('HINCRBY', userCountKey, userId, -1)\n" +
+        "    return {0, 'ALREADY_ISSUED', tonumber(redis.call('ZCARD', issuedKey))}\n" +
+        "end\n" +
+        "redis.call('DECR', quotaKey)\n" +
+        "\n" +
+        "-- 5. 최초 발급 시 TTL 설정\n" +
+        "if redis.call('TTL', issuedKey) == -1 then\n" +
+        "    redis.call('EXPIRE', issuedKey, ttlSeconds)\n" +
+        "    redis.call('EXPIRE', userCountKey, ttlSeconds)\n" +
+        "end\n" +
+        "\n" +
+        "-- 사용자의 첫 번째 발급 기준 순위\n" +
+        "local firstMember = userId .. ':1'\n" +
+        "local rank = redis.call('ZRANK', issuedKey, firstMember)\n" +
+        "local score = redis.call('ZSCORE', issuedKey, firstMember)\n" +
+        "if not rank then\n" +
+        "    rank = redis.call('ZRANK', issuedKey, member)\n" +
+        "    score = timestamp\n" +
+        "end\n" +
+        "return {1, 'SUCCESS', tonumber(redis.call('ZCARD', issuedKey)), tonumber(rank) + 1, tonumber(score)}\n";
+
+    /**
+     * Lua Script: 기부 샤드 잔여 수량 1개 가져오기 (미초기화 샤드는 분배분으로 초기화)
+     *
+     * 반환값: 가져온 수량 (0이면 기부 샤드도 비어 있음)
+     */
+    private static final String SHARD_STEAL_SCRIPT =
+        "redis.call('SET', KEYS[1], ARGV[1], 'NX', 'EX', ARGV[2])\n" +
+        "if tonumber(redis.call('GET', KEYS[1])) <= 0 then\n" +
+        "    return 0\n" +
+        "end\n" +
+        "redis.call('DECR', KEYS[1])\n" +
+        "return 1\n";
+
+    @PostConstruct
+    void registerScripts() {
+        redisScriptRegistry.register(SHARD_ISSUE_SCRIPT, SHARD_STEAL_SCRIPT);
+    }
+
+    /**
+     * 샤딩 발급 처리
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @param totalQuantity 전체 발급 수량
+     * @param maxIssuePerUser 사용자별 최대 발급 수량
+     * @param shardCount 샤드 수 (2 이상)
+     * @return 발급 결과 (issuedCount/rank는 전체 샤드 집계 기준)
+     */
+    public CouponRedisRepository.IssueResult issue(Long couponId, Long userId, Integer totalQuantity,
+                                                   Integer maxIssuePerUser, int shardCount) {
+        int home = shardOf(userId, shardCount);
+
+        try {
+            List<Object> result = issueInShard(couponId, userId, totalQuantity, maxIssuePerUser, home, shardCount);
+
+            // 사용자 샤드가 비었으면 다른 샤드에서 잔여 수량을 가져와 재시도
+            for (int offset = 1; offset < shardCount && "SHARD_EMPTY".equals(messageOf(result)); offset++) {
+                int donor = (home + offset) % shardCount;
+                long stolen = steal(couponId, donor, shareOf(totalQuantity, donor, shardCount));
+                if (stolen <= 0) {
+                    continue;
+                }
+
+                stringRedisTemplate.opsForValue().increment(quotaKey(couponId, home), stolen);
+                log.debug("[쿠폰 샤딩] 잔여 수량 이동 - couponId: {}, 샤드 {} → {}, 수량: {}",
+                          couponId, donor, home, stolen);
+                result = issueInShard(couponId, userId, totalQuantity, maxIssuePerUser, home, shardCount);
+            }
+
+            if (result.isEmpty()) {
+                log.error("Lua Script 실행 결과 없음 - couponId: {}, userId: {}", couponId, userId);
+                return CouponRedisRepository.IssueResult.failure("SCRIPT_ERROR", 0L, null);
+            }
+
+            String message = messageOf(result);
+            if ("SHARD_EMPTY".equals(message)) {
+                long issuedCount = getIssuedCount(couponId, shardCount);
+                log.warn("쿠폰 발급 실패 (샤딩) - userId: {}, couponId: {}, reason: SOLD_OUT, count: {}",
+                         userId, couponId, issuedCount);
+                return CouponRedisRepository.IssueResult.failure("SOLD_OUT", issuedCount, null);
+            }
+
+            if (toLong(result.get(0)) != 1L) {
+                log.warn("쿠폰 발급 실패 (샤딩) - userId: {}, couponId: {}, reason: {}", userId, couponId, message);
+                return CouponRedisRepository.IssueResult.failure(message, toLong(result.get(2)), null);
+            }
+
+            long shardRank = toLong(result.get(3));
+            long score = toLong(result.get(4));
+            long[] aggregated = aggregate(couponId, home, score, shardCount);
+
+            log.info("쿠폰 발급 성공 (샤딩) - userId: {}, couponId: {}, shard: {}, rank: {}, issued: {}/{}",
+                     userId, couponId, home, shardRank + aggregated[1], aggregated[0], totalQuantity);
+            return CouponRedisRepository.IssueResult.success(aggregated[0], shardRank + aggregated[1]);
+
+        } catch (Exception e) {
+            log.error("쿠폰 샤딩 발급 중 Redis 오류 발생 - userId: {}, couponId: {}", userId, couponId);
+            log.error("에러 상세:", e);
+            return CouponRedisRepository.IssueResult.failure("REDIS_ERROR", 0L, null);
+        }
+    }
+
+    /**
+     * 전체 발급 수량 (샤드별 ZCARD 합)
+     */
+    public long getIssuedCount(Long couponId, int shardCount) {
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) {
+                for (int shard = 0; shard < shardCount; shard++) {
+                    operations.opsForZSet().zCard(issuedKey(couponId, shard));
+                }
+                return null;
+            }
+        });
+        return sum(results);
+    }
+
+    /**
+     * 사용자 발급 수량 (사용자 샤드에서만 조회)
+     */
+    public Long getUserIssuedCount(Long couponId, Long userId, int shardCount) {
+        Object value = stringRedisTemplate.opsForHash()
+            .get(userCountKey(couponId, shardOf(userId, shardCount)), userId.toString());
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    /**
+     * 샤드 잔여 수량 합 (미초기화 샤드는 0)
+     */
+    public long getRemainingQuota(Long couponId, int shardCount) {
+        List<String> keys = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            keys.add(quotaKey(couponId, shard));
+        }
+
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return 0L;
+        }
+        return values.stream().filter(v -> v != null).mapToLong(Long::parseLong).sum();
+    }
+
+    /**
+     * 전체 샤드 발급 내역 순회 (샤드별 ZSCAN, 순서 없음)
+     */
+    public void forEachIssuedUser(Long couponId, int shardCount, int batchSize,
+                                  Consumer<CouponRedisRepository.IssueRecord> action) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            couponRedisRepository.scanIssued(issuedKey(couponId, shard), batchSize, action);
+        }
+    }
+
+    /**
+     * 전체 샤드 선착순 상위 N명 (샤드별 상위 N명을 발급 타임스탬프로 병합)
+     */
+    public List<CouponRedisRepository.IssueRecord> getTopIssuedUsers(Long couponId, int topN, int shardCount) {
+        List<CouponRedisRepository.IssueRecord> merged = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            merged.addAll(couponRedisRepository.rangeIssued(issuedKey(couponId, shard), topN - 1));
+        }
+        return CouponRedisRepository.ranked(merged, topN);
+    }
+
+    /**
+     * 전체 샤드 발급 내역 (순위 순서, 전체를 List로 적재 - 대량 발급 쿠폰은 forEachIssuedUser 사용)
+     */
+    public List<CouponRedisRepository.IssueRecord> getAllIssuedUsers(Long couponId, int shardCount) {
+        List<CouponRedisRepository.IssueRecord> merged = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            merged.addAll(couponRedisRepository.rangeIssued(issuedKey(couponId, shard), -1));
+        }
+        return CouponRedisRepository.ranked(merged, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 전체 샤드 발급 통계 (발급 수량 = 샤드 ZCARD 합, 사용자 수량 = 샤드별 HSCAN 합)
+     */
+    public CouponRedisRepository.CouponIssueStats getIssueStats(Long couponId, int shardCount) {
+        List<String> userCountKeys = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            userCountKeys.add(userCountKey(couponId, shard));
+        }
+        return couponRedisRepository.issueStatsOf(couponId, getIssuedCount(couponId, shardCount), userCountKeys);
+    }
+
+    /**
+     * 샤드 키 전체 삭제
+     */
+    public void clear(Long couponId, int shardCount) {
+        List<String> keys = new ArrayList<>(shardCount * 3);
+        for (int shard = 0; shard < shardCount; shard++) {
+            keys.add(issuedKey(couponId, shard));
+            keys.add(userCountKey(couponId, shard));
+            keys.add(quotaKey(couponId, shard));
+        }
+        stringRedisTemplate.delete(keys);
+    }
+
+    /**
+     * 사용자 샤드 (userId % K)
+     */
+    public static int shardOf(Long userId, int shardCount) {
+        return (int) Math.floorMod(userId, (long) shardCount);
+    }
+
+    /**
+     * 샤드 초기 분배분 (나머지는 앞 샤드부터 1개씩)
+     */
+    static long shareOf(int totalQuantity, int shard, int shardCount) {
+        return totalQuantity / shardCount + (shard < totalQuantity % shardCount ? 1 : 0);
+    }
+
+    private List<Object> issueInShard(Long couponId, Long userId, Integer totalQuantity, Integer maxIssuePerUser,
+                                      int shard, int shardCount) {
+        return evalList(SHARD_ISSUE_SCRIPT, 3,
+            RedisBytes.utf8(issuedKey(couponId, shard)),
+            RedisBytes.utf8(userCountKey(couponId, shard)),
+            RedisBytes.utf8(quotaKey(couponId, shard)),
+            RedisBytes.ascii(userId),
+            RedisBytes.ascii(maxIssuePerUser),
+            RedisBytes.ascii(System.currentTimeMillis()),
+            COUPON_DATA_TTL_SECONDS_BYTES,
+            RedisBytes.ascii(shareOf(totalQuantity, shard, shardCount))
+        );
+    }
+
+    private long steal(Long couponId, int donor, long donorShare) {
+        Long stolen = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+            redisScriptRegistry.eval(connection, SHARD_STEAL_SCRIPT, ReturnType.INTEGER, 1,
+                RedisBytes.utf8(quotaKey(couponId, donor)),
+                RedisBytes.ascii(donorShare),
+                COUPON_DATA_TTL_SECONDS_BYTES));
+        return stolen != null ? stolen : 0L;
+    }
+
+    /**
+     * 전체 발급 수량 + 다른 샤드의 더 이른 발급 수 (파이프라인 1회)
+     *
+     * @return [전체 발급 수량, 다른 샤드에서 score 이전에 발급된 수]
+     */
+    private long[] aggregate(Long couponId, int home, long score, int shardCount) {
+        List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) {
+                for (int shard = 0; shard < shardCount; shard++) {
+                    operations.opsForZSet().zCard(issuedKey(couponId, shard));
+                }
+                for (int shard = 0; shard < shardCount; shard++) {
+                    if (shard != home) {
+                        operations.opsForZSet().count(issuedKey(couponId, shard), Double.NEGATIVE_INFINITY, score - 1);
+                    }
+                }
+                return null;
+            }
+        });
+
+        return new long[] {
+            sum(results.subList(0, shardCount)),
+            sum(results.subList(shardCount, results.size()))
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> evalList(String script, int numKeys, byte[]... keysAndArgs) {
+        List<Object> result = stringRedisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            Object evalResult = redisScriptRegistry.eval(connection, script, ReturnType.MULTI, numKeys, keysAndArgs);
+            return evalResult instanceof List ? (List<Object>) evalResult : Collections.emptyList();
+        });
+        return result != null ? result : Collections.emptyList();
+    }
+
+    private String issuedKey(Long couponId, int shard) {
+        return COUPON_ISSUED_PREFIX + hashTag(couponId, shard);
+    }
+
+    private String userCountKey(Long couponId, int shard) {
+        return COUPON_USER_COUNT_PREFIX + hashTag(couponId, shard);
+    }
+
+    private String quotaKey(Long couponId, int shard) {
+        return COUPON_QUOTA_PREFIX + hashTag(couponId, shard);
+    }
+
+    private String hashTag(Long couponId, int shard) {
+        return "{" + couponId + ":" + shard + "}";
+    }
+
+    private String messageOf(List<Object> result) {
+        return result.size() > 1 ? toString(result.get(1)) : "";
+    }
+
+    private long sum(List<Object> values) {
+        long total = 0L;
+        for (Object value : values) {
+            if (value instanceof Number) {
+                total += ((Number) value).longValue();
+            }
+        }
+        return total;
+    }
+
+    private long toLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return Long.parseLong(toString(value));
+    }
+
+    private String toString(Object value) {
+        if (value instanceof byte[]) {
+            return RedisBytes.utf8((byte[]) value);
+        }
+        return value != null ? value.toString() : "";
+    }
+}
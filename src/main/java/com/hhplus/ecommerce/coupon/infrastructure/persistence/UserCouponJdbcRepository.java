@@ -0,0 +1,80 @@
+package com.hhplus.ecommerce.coupon.infrastructure.persistence;
+
+import com.hhplus.ecommerce.coupon.domain.UserCouponStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 쿠폰 JDBC Repository
+ *
+ * Infrastructure Layer - 데이터베이스 접근 계층
+ *
+ * 책임:
+ * - 사용자 쿠폰 대량 발급 INSERT (JDBC batch)
+ *
+ * JPA를 사용하지 않는 이유:
+ * - UserCoupon은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못함
+ * - 발급 이벤트 N건 → batchUpdate 1회 (rewriteBatchedStatements=true 시 multi-row INSERT)
+ *
+ * Use Cases:
+ * - UC-017: 쿠폰 발급 (Kafka 배치 리스너 DB 동기화)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCouponJdbcRepository {
+
+    private static final String INSERT_ISSUED_SQL =
+        "INSERT INTO user_coupons (user_id, coupon_id, status, issued_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 발급 쿠폰 일괄 저장
+     *
+     * @param rows 저장할 발급 정보
+     * @return 저장된 행 수
+     */
+    public int batchInsertIssued(List<IssuedRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_ISSUED_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getUserId());
+            ps.setLong(2, row.getCouponId());
+            ps.setString(3, UserCouponStatus.ISSUED.name());
+            ps.setTimestamp(4, Timestamp.valueOf(row.getIssuedAt()));
+        });
+
+        return rows.size() - countFailed(results);
+    }
+
+    private int countFailed(int[][] results) {
+        int failed = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                if (count == Statement.EXECUTE_FAILED) {
+                    failed++;
+                }
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 발급 INSERT 행
+     */
+    @lombok.Builder
+    @lombok.Getter
+    public static class IssuedRow {
+        private Long userId;
+        private Long couponId;
+        private LocalDateTime issuedAt;
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -93,6 +94,26 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
            "WHERE uc.user = :user AND uc.coupon = :coupon")
     Long countByUserAndCoupon(@Param("user") User user, @Param("coupon") Coupon coupon);
 
+    /**
+     * 쿠폰을 이미 발급받은 사용자 ID 조회 (대량 중복 체크)
+     *
+     * Use Case:
+     * - UC-017: Kafka 배치 리스너 멱등성 보장 (이벤트 N건 → 쿼리 1회)
+     *
+     * 성능 최적화:
+     * - idx_user_coupon 복합 인덱스 사용
+     *
+     * @param couponId 쿠폰 ID
+     * @param userIds 확인할 사용자 ID 목록
+     * @return 이미 발급받은 사용자 ID 목록
+     */
+    @Query("SELECT uc.user.id FROM UserCoupon uc " +
+           "WHERE uc.coupon.id = :couponId AND uc.user.id IN :userIds")
+    List<Long> findIssuedUserIds(
+        @Param("couponId") Long couponId,
+        @Param("userIds") Collection<Long> userIds
+    );
+
     /**
      * 사용자별 특정 상태의 쿠폰 목록 조회
      *
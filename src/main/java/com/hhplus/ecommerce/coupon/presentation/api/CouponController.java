@@ -1,9 +1,12 @@
 package com.hhplus.ecommerce.coupon.presentation.api;
 
+import com.hhplus.ecommerce.coupon.application.CouponIssueExportService;
+import com.hhplus.ecommerce.coupon.application.CouponQueueService;
 import com.hhplus.ecommerce.coupon.application.CouponService;
 import com.hhplus.ecommerce.coupon.domain.Coupon;
 import com.hhplus.ecommerce.coupon.domain.UserCoupon;
 import com.hhplus.ecommerce.coupon.presentation.api.dto.IssueCouponRequest;
+import com.hhplus.ecommerce.coupon.presentation.api.dto.CouponQueueResponse;
 import com.hhplus.ecommerce.coupon.presentation.api.dto.CouponResponse;
 import com.hhplus.ecommerce.coupon.presentation.api.dto.UserCouponResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,9 +15,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -25,14 +31,15 @@ import java.util.List;
  *
  * 책임:
  * - HTTP 요청 처리 및 응답 변환
- * - UC-017: 선착순 쿠폰 발급
+ * - UC-017: 선착순 쿠폰 발급 (즉시 발급 / 대기열)
  * - UC-018: 발급 가능한 쿠폰 목록 조회
  * - UC-019: 내 쿠폰 목록 조회
+ * - 발급 내역 내보내기 (NDJSON/CSV 스트리밍)
  * - Request DTO 검증
  * - Response DTO 변환
  *
  * 레이어 의존성:
- * - Application Layer: CouponService
+ * - Application Layer: CouponService, CouponQueueService, CouponIssueExportService
  */
 @Slf4j
 @RestController
@@ -42,6 +49,8 @@ import java.util.List;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponQueueService couponQueueService;
+    private final CouponIssueExportService couponIssueExportService;
 
     /**
      * 선착순 쿠폰 발급
@@ -93,6 +102,112 @@ public class CouponController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    /**
+     * 선착순 쿠폰 발급 대기열 진입
+     *
+     * Use Case: UC-017 (대기열)
+     *
+     * Endpoint: POST /api/coupons/{couponId}/queue
+     *
+     * Success Response (202 Accepted):
+     * {
+     *   "couponId": 1,
+     *   "userId": 1,
+     *   "status": "WAITING",
+     *   "position": 42
+     * }
+     *
+     * Error Responses:
+     * - 409 Conflict: 대기열 비활성화, 쿠폰 소진
+     *
+     * @param couponId 쿠폰 ID
+     * @param request 진입 요청 (userId)
+     * @return 대기 순번
+     */
+    @PostMapping("/{couponId}/queue")
+    @Operation(summary = "쿠폰 발급 대기열 진입", description = "발급 대기열에 진입합니다. 입장 순서대로 발급되며, 결과는 대기 상태 조회로 확인합니다.")
+    public ResponseEntity<CouponQueueResponse> enqueue(
+            @Parameter(description = "쿠폰 ID", required = true, example = "1")
+            @PathVariable Long couponId,
+            @Valid @RequestBody IssueCouponRequest request) {
+
+        log.debug("POST /api/coupons/{}/queue - userId: {}", couponId, request.getUserId());
+
+        CouponQueueService.QueueTicket ticket = couponQueueService.enqueue(couponId, request.getUserId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(CouponQueueResponse.from(ticket));
+    }
+
+    /**
+     * 쿠폰 발급 대기 상태 조회 (폴링)
+     *
+     * Use Case: UC-017 (대기열)
+     *
+     * Endpoint: GET /api/coupons/{couponId}/queue/{userId}
+     *
+     * Success Response (200 OK):
+     * - WAITING: position(대기 순번), waitingCount(전체 대기 인원)
+     * - ISSUED / SOLD_OUT / FAILED(message) / NOT_IN_QUEUE
+     *
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 대기 상태
+     */
+    @GetMapping("/{couponId}/queue/{userId}")
+    @Operation(summary = "쿠폰 발급 대기 상태 조회", description = "대기 순번 또는 입장 후 발급 결과를 조회합니다.")
+    public ResponseEntity<CouponQueueResponse> getQueueStatus(
+            @Parameter(description = "쿠폰 ID", required = true, example = "1")
+            @PathVariable Long couponId,
+            @Parameter(description = "사용자 ID", required = true, example = "1")
+            @PathVariable Long userId) {
+
+        CouponQueueService.QueueTicket ticket = couponQueueService.getTicket(couponId, userId);
+        return ResponseEntity.ok(CouponQueueResponse.from(ticket));
+    }
+
+    /**
+     * 쿠폰 발급 내역 내보내기 (스트리밍)
+     *
+     * Endpoint: GET /api/coupons/{couponId}/issued/export?format=ndjson|csv
+     *
+     * Success Response (200 OK, 첨부 파일):
+     * - ndjson: {"userId":1,"issueSequence":1,"issuedTimestamp":1730880000000} (한 줄에 1건)
+     * - csv: userId,issueSequence,issuedTimestamp
+     *
+     * Redis 발급 내역을 ZSCAN으로 읽으며 바로 응답에 기록 (발급 건수와 무관하게 메모리 일정, 순서 없음)
+     * - ZSCAN 특성상 같은 발급 건이 2번 이상 기록될 수 있음 → 수신 측에서 (userId, issueSequence)로 중복 제거
+     * - 비동기 요청 타임아웃: spring.mvc.async.request-timeout (기본 30분)
+     *
+     * Error Responses:
+     * - 400 Bad Request: 쿠폰을 찾을 수 없음, 지원하지 않는 형식
+     *
+     * @param couponId 쿠폰 ID
+     * @param format 출력 형식 (기본값: ndjson)
+     * @return 스트리밍 응답
+     */
+    @GetMapping("/{couponId}/issued/export")
+    @Operation(summary = "쿠폰 발급 내역 내보내기", description = "발급 내역을 NDJSON 또는 CSV로 스트리밍합니다.")
+    public ResponseEntity<StreamingResponseBody> exportIssuedUsers(
+            @Parameter(description = "쿠폰 ID", required = true, example = "1")
+            @PathVariable Long couponId,
+            @Parameter(description = "출력 형식 (ndjson, csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        log.info("GET /api/coupons/{}/issued/export - format: {}", couponId, format);
+
+        // 응답 스트림을 열기 전에 검증 (오류 시 일반 에러 응답)
+        CouponIssueExportService.ExportFormat exportFormat = CouponIssueExportService.ExportFormat.from(format);
+        couponIssueExportService.validateCoupon(couponId);
+
+        StreamingResponseBody body = outputStream ->
+            couponIssueExportService.export(couponId, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"coupon-" + couponId + "-issued." + exportFormat.getExtension() + "\"")
+            .body(body);
+    }
+
     /**
      * 발급 가능한 쿠폰 목록 조회
      *
@@ -0,0 +1,51 @@
+package com.hhplus.ecommerce.coupon.presentation.api.dto;
+
+import com.hhplus.ecommerce.coupon.application.CouponQueueService;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쿠폰 발급 대기열 응답 DTO
+ *
+ * Use Case: UC-017 (선착순 쿠폰 발급 - 대기열)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "쿠폰 발급 대기열 상태")
+public class CouponQueueResponse {
+
+    @Schema(description = "쿠폰 ID", example = "1")
+    private Long couponId;
+
+    @Schema(description = "사용자 ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "대기 상태", example = "WAITING",
+            allowableValues = {"WAITING", "ISSUED", "SOLD_OUT", "FAILED", "NOT_IN_QUEUE"})
+    private CouponQueueService.QueueStatus status;
+
+    @Schema(description = "대기 순번 (WAITING일 때, 1부터 시작)", example = "42")
+    private Long position;
+
+    @Schema(description = "전체 대기 인원 (순번 조회 시)", example = "1200")
+    private Long waitingCount;
+
+    @Schema(description = "발급 실패 사유 (FAILED일 때)", example = "이미 최대 발급 수량을 받았습니다. (발급 횟수: 1/1)")
+    private String message;
+
+    public static CouponQueueResponse from(CouponQueueService.QueueTicket ticket) {
+        return CouponQueueResponse.builder()
+            .couponId(ticket.getCouponId())
+            .userId(ticket.getUserId())
+            .status(ticket.getStatus())
+            .position(ticket.getPosition())
+            .waitingCount(ticket.getWaitingCount())
+            .message(ticket.getMessage())
+            .build();
+    }
+}
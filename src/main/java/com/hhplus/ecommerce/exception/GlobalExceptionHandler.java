@@ -1,5 +1,6 @@
 package com.hhplus.ecommerce.exception;
 
+import com.hhplus.ecommerce.common.infrastructure.bulkhead.BulkheadFullException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -162,6 +163,31 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    /**
+     * BulkheadFullException (503 Service Unavailable)
+     *
+     * 발생 상황:
+     * - DB/Redis 커넥션 벌크헤드 permit 대기 시간 초과 (일시적 과부하)
+     *
+     * 처리:
+     * - 비즈니스 상태 충돌(409)과 구분하여 클라이언트에게 재시도 요청
+     *
+     * @param ex BulkheadFullException
+     * @return 에러 응답
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFullException(BulkheadFullException ex) {
+        log.warn("벌크헤드 포화: {}", ex.getMessage());
+
+        ErrorResponse response = ErrorResponse.builder()
+            .code("SERVICE_BUSY")
+            .message(ex.getMessage())
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
     /**
      * 예상치 못한 예외 (500 Internal Server Error)
      *
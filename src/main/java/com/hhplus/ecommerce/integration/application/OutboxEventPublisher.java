@@ -0,0 +1,122 @@
+package com.hhplus.ecommerce.integration.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.config.OutboxProperties;
+import com.hhplus.ecommerce.integration.domain.EventType;
+import com.hhplus.ecommerce.integration.domain.OutboundEvent;
+import com.hhplus.ecommerce.integration.infrastructure.persistence.OutboundEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 Saga 이벤트 발행 서비스 (Transactional Outbox)
+ *
+ * Application Layer - Use Case 실행 계층
+ *
+ * 책임:
+ * - 비즈니스 트랜잭션 안에서 발행할 이벤트를 outbound_events에 기록
+ * - Outbox 비활성화 시 기존과 동일하게 KafkaTemplate으로 직접 발행
+ *
+ * 기존 경로와의 차이:
+ * - 기존: 트랜잭션 내 kafkaTemplate.send → 커밋 실패 시에도 이벤트가 이미 발행됨,
+ *   브로커 지연 시 사용자 비관적 락 보유 시간 증가
+ * - Outbox: 이벤트 row는 비즈니스 데이터와 함께 커밋/롤백,
+ *   실제 발행은 OutboxRelayService가 트랜잭션 밖에서 비동기로 처리
+ *
+ * 활성화:
+ * - order.outbox.enabled=true (기본값 false, 직접 발행 유지)
+ *
+ * 레이어 의존성:
+ * - Infrastructure Layer: OutboundEventRepository, KafkaTemplate
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboundEventRepository outboundEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties outboxProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Saga 이벤트 발행
+     *
+     * - Outbox 활성화: 현재 트랜잭션에 이벤트 row 기록 (커밋 후 릴레이가 발행)
+     * - Outbox 비활성화: KafkaTemplate으로 즉시 발행
+     *
+     * append의 MANDATORY는 같은 빈 내부 호출이라 프록시를 거치지 않으므로 여기서 직접 확인
+     *
+     * @param eventType 이벤트 타입
+     * @param entityId 엔티티 ID (주문 ID)
+     * @param topic Kafka 토픽
+     * @param key 파티션 키
+     * @param payload 이벤트 객체
+     * @throws IllegalTransactionStateException Outbox 활성화 상태에서 진행 중인 트랜잭션이 없음
+     */
+    public void publish(EventType eventType, Long entityId, String topic, String key, Object payload) {
+        if (!outboxProperties.isEnabled()) {
+            kafkaTemplate.send(SagaMetrics.toRecord(topic, key, payload, LocalDateTime.now()));
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalTransactionStateException(
+                "Outbox 이벤트는 진행 중인 트랜잭션 안에서만 기록할 수 있습니다. - type: " + eventType);
+        }
+
+        append(eventType, entityId, topic, key, payload);
+    }
+
+    /**
+     * Outbox 이벤트 기록
+     *
+     * 진행 중인 비즈니스 트랜잭션이 필수 (MANDATORY)
+     * - 트랜잭션 없이 호출되면 이벤트와 비즈니스 데이터의 원자성이 깨지므로 예외
+     *
+     * @return 저장된 Outbox 이벤트
+     * @throws IllegalStateException 페이로드 직렬화 실패, 이벤트 타입과 페이로드 클래스 불일치 (OutboxPayloadTypes)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboundEvent append(EventType eventType, Long entityId, String topic, String key, Object payload) {
+        OutboxPayloadTypes.validate(eventType, payload);
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox 이벤트 직렬화에 실패했습니다.", e);
+        }
+
+        OutboundEvent event = outboundEventRepository.save(OutboundEvent.builder()
+            .eventType(eventType)
+            .entityId(entityId)
+            .topic(topic)
+            .partitionKey(key)
+            .payloadType(payload.getClass().getName())
+            .payload(json)
+            .build());
+
+        Counter.builder("outbox.events.appended")
+            .tag("topic", topic)
+            .register(meterRegistry)
+            .increment();
+
+        log.debug("[Outbox] 이벤트 기록 - id: {}, type: {}, topic: {}, entityId: {}",
+                  event.getId(), eventType, topic, entityId);
+
+        return event;
+    }
+}
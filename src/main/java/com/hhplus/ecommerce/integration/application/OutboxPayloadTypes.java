@@ -0,0 +1,54 @@
+package com.hhplus.ecommerce.integration.application;
+
+import com.hhplus.ecommerce.integration.domain.EventType;
+import com.hhplus.ecommerce.order.domain.event.OrderCompletedEvent;
+import com.hhplus.ecommerce.order.domain.event.OrderCreatedEvent;
+import com.hhplus.ecommerce.product.application.BalanceDeductionEvent;
+
+import java.util.Map;
+
+/**
+ * Outbox 이벤트 타입별 페이로드 클래스 (허용 목록)
+ *
+ * Application Layer - Outbox 지원
+ *
+ * 책임:
+ * - 기록 시: 이벤트 타입과 페이로드 클래스 일치 검증
+ * - 릴레이 시: 저장된 클래스명(payload_type) 대신 이벤트 타입으로 역직렬화 클래스 결정
+ *   (DB 값으로 임의 클래스를 로드/역직렬화하지 않음)
+ *
+ * 새 Saga 이벤트를 Outbox로 발행하려면 여기에 등록해야 함
+ */
+final class OutboxPayloadTypes {
+
+    private static final Map<EventType, Class<?>> PAYLOAD_TYPES = Map.of(
+        EventType.ORDER_CREATED, OrderCreatedEvent.class,
+        EventType.STOCK_DEDUCTED, BalanceDeductionEvent.class,
+        EventType.ORDER_PAID, OrderCompletedEvent.class
+    );
+
+    private OutboxPayloadTypes() {
+    }
+
+    /**
+     * @throws IllegalStateException Outbox 발행 대상으로 등록되지 않은 이벤트 타입
+     */
+    static Class<?> resolve(EventType eventType) {
+        Class<?> payloadType = PAYLOAD_TYPES.get(eventType);
+        if (payloadType == null) {
+            throw new IllegalStateException("Outbox 발행 대상이 아닌 이벤트 타입입니다. - type: " + eventType);
+        }
+        return payloadType;
+    }
+
+    /**
+     * @throws IllegalStateException 등록되지 않은 이벤트 타입 또는 페이로드 클래스 불일치
+     */
+    static void validate(EventType eventType, Object payload) {
+        Class<?> payloadType = resolve(eventType);
+        if (!payloadType.isInstance(payload)) {
+            throw new IllegalStateException("이벤트 타입과 페이로드 클래스가 일치하지 않습니다. - type: " + eventType
+                + ", 기대: " + payloadType.getName() + ", 실제: " + payload.getClass().getName());
+        }
+    }
+}
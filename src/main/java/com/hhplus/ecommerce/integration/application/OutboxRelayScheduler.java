@@ -0,0 +1,52 @@
+package com.hhplus.ecommerce.integration.application;
+
+import com.hhplus.ecommerce.config.OutboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 릴레이 스케줄러
+ *
+ * Infrastructure Layer - 배치 작업 스케줄링
+ *
+ * 책임:
+ * - outbound_events 적재 이벤트의 Kafka 발행 트리거
+ *
+ * 실행 주기:
+ * - 100ms 간격 (order.outbox.relay-delay-ms)
+ * - 배치가 가득 차면 max-drain-batches까지 연속 실행 (적체 해소)
+ *
+ * 동시성 제어:
+ * - 분산락 없음: FOR UPDATE SKIP LOCKED로 인스턴스별 서로 다른 배치 선점
+ *
+ * 실행 조건:
+ * - order.outbox.enabled=true 인 경우에만 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+    private final OutboxRelayService outboxRelayService;
+    private final OutboxProperties outboxProperties;
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay-delay-ms:100}")
+    public void relay() {
+        if (!outboxProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < outboxProperties.getMaxDrainBatches(); i++) {
+                OutboxRelayService.RelayResult result = outboxRelayService.relayBatch();
+                if (result.getClaimed() < outboxProperties.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[Outbox] 릴레이 실패 - 다음 주기 재시도", e);
+        }
+    }
+}
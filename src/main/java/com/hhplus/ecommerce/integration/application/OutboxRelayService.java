@@ -0,0 +1,213 @@
+package com.hhplus.ecommerce.integration.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.config.OutboxProperties;
+import com.hhplus.ecommerce.integration.domain.OutboundEvent;
+import com.hhplus.ecommerce.integration.infrastructure.persistence.OutboundEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox 릴레이 서비스
+ *
+ * Application Layer - Use Case 실행 계층
+ *
+ * 책임:
+ * - outbound_events 발행 대상 선점 (FOR UPDATE SKIP LOCKED)
+ * - Kafka 비동기 발행 후 결과 일괄 반영
+ * - 릴레이 처리량/지연 메트릭 기록
+ *
+ * 처리 흐름:
+ * 1. [선점 트랜잭션] 발행 대상 최대 batch-size건 선점 (다른 인스턴스가 잠근 row는 건너뜀)
+ *    → SENDING + 임대 만료 시각(claim-lease-ms) 기록 후 커밋 (row 락 해제)
+ * 2. [트랜잭션 밖] 건별 kafkaTemplate.send (응답 대기 없이 전부 전송, 생성 시각 헤더 포함)
+ * 3. [트랜잭션 밖] send-timeout-ms 안에서 전송 결과 수집
+ * 4. [결과 반영 트랜잭션] 성공 건 UPDATE ... WHERE id IN (...) 1회,
+ *    실패 건 재시도 예약 (지수 백오프, 최대 횟수 초과 시 DEAD_LETTER)
+ *
+ * 페이로드 역직렬화:
+ * - 클래스는 이벤트 타입으로 결정 (OutboxPayloadTypes 허용 목록, 저장된 payload_type 미사용)
+ *
+ * 전달 보장:
+ * - At-least-once (발행 후 결과 반영 전 장애 시 임대 만료 후 재발행 가능)
+ * - 소비 측은 주문 상태 검증으로 중복 이벤트를 흡수
+ *
+ * 메트릭:
+ * - outbox.relay.published / outbox.relay.failed (topic 태그)
+ * - outbox.relay.batch: 배치 처리 시간
+ * - outbox.relay.lag: 가장 오래 대기한 이벤트의 대기 시간 (최근 배치 기준)
+ *
+ * 레이어 의존성:
+ * - Infrastructure Layer: OutboundEventRepository, KafkaTemplate
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelayService {
+
+    private final OutboundEventRepository outboundEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties outboxProperties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    // 최근 배치에서 가장 오래 대기한 이벤트의 대기 시간 (ms)
+    private final AtomicLong relayLagMillis = new AtomicLong();
+
+    private Timer batchTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        TimeGauge.builder("outbox.relay.lag", relayLagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("Outbox 이벤트 생성부터 릴레이 선점까지의 대기 시간")
+            .register(meterRegistry);
+
+        batchTimer = Timer.builder("outbox.relay.batch")
+            .description("Outbox 릴레이 배치 처리 시간")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 발행 대상 1배치 릴레이
+     *
+     * 트랜잭션은 선점/결과 반영 단계에만 짧게 사용하고 Kafka 전송/응답 대기는 트랜잭션 밖에서 수행
+     * (브로커 지연이 DB 커넥션/row 락 보유 시간으로 번지지 않도록)
+     *
+     * @return 선점/발행/실패 건수
+     */
+    public RelayResult relayBatch() {
+        long startNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        // Step 1: 선점 트랜잭션 (SKIP LOCKED + SENDING 표시 후 즉시 커밋)
+        List<OutboundEvent> events = transactionTemplate.execute(status -> claim(now));
+        if (events == null || events.isEmpty()) {
+            relayLagMillis.set(0L);
+            return RelayResult.builder().claimed(0).published(0).failed(0).build();
+        }
+
+        events.stream()
+            .map(OutboundEvent::getCreatedAt)
+            .min(Comparator.naturalOrder())
+            .ifPresent(oldest -> relayLagMillis.set(Math.max(0L, Duration.between(oldest, now).toMillis())));
+
+        // Step 2: 비동기 전송 (브로커 응답을 기다리지 않고 배치 전체 전송)
+        Map<OutboundEvent, CompletableFuture<?>> futures = new LinkedHashMap<>();
+        Map<Long, String> failures = new LinkedHashMap<>();
+        for (OutboundEvent event : events) {
+            try {
+                Object payload = objectMapper.readValue(event.getPayload(), OutboxPayloadTypes.resolve(event.getEventType()));
+                futures.put(event, kafkaTemplate.send(SagaMetrics.toRecord(
+                    event.getTopic(), event.getPartitionKey(), payload, event.getCreatedAt())));
+            } catch (Exception e) {
+                failures.put(event.getId(), e.getMessage());
+            }
+        }
+
+        // Step 3: 전송 결과 수집 (배치 전체 대기 시간 제한)
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(outboxProperties.getSendTimeoutMs());
+        List<Long> publishedIds = new ArrayList<>(futures.size());
+        for (Map.Entry<OutboundEvent, CompletableFuture<?>> entry : futures.entrySet()) {
+            try {
+                entry.getValue().get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                publishedIds.add(entry.getKey().getId());
+                countPublished(entry.getKey().getTopic());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.put(entry.getKey().getId(), "릴레이 중단");
+            } catch (ExecutionException e) {
+                failures.put(entry.getKey().getId(), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            } catch (TimeoutException e) {
+                failures.put(entry.getKey().getId(), "전송 응답 시간 초과");
+            }
+        }
+
+        // Step 4: 결과 반영 트랜잭션 (성공 일괄 UPDATE + 실패 건 재시도 예약)
+        transactionTemplate.executeWithoutResult(status -> applyResults(publishedIds, failures));
+
+        batchTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        log.debug("[Outbox] 릴레이 완료 - 선점: {}, 발행: {}, 실패: {}, lag: {}ms",
+                  events.size(), publishedIds.size(), failures.size(), relayLagMillis.get());
+
+        return RelayResult.builder()
+            .claimed(events.size())
+            .published(publishedIds.size())
+            .failed(failures.size())
+            .build();
+    }
+
+    /**
+     * 발행 대상 선점 후 SENDING + 임대 만료 시각 기록
+     * - 커밋 후에는 row 락 없이 상태로 다른 릴레이의 선점을 막음 (임대 만료 시 재선점)
+     */
+    private List<OutboundEvent> claim(LocalDateTime now) {
+        List<OutboundEvent> events = outboundEventRepository.claimRelayBatch(now, outboxProperties.getBatchSize());
+        if (events.isEmpty()) {
+            return events;
+        }
+
+        List<Long> ids = events.stream().map(OutboundEvent::getId).toList();
+        outboundEventRepository.markAllAsSending(ids, now, now.plus(Duration.ofMillis(outboxProperties.getClaimLeaseMs())));
+        return events;
+    }
+
+    private void applyResults(List<Long> publishedIds, Map<Long, String> failures) {
+        if (!publishedIds.isEmpty()) {
+            outboundEventRepository.markAllAsSuccess(publishedIds, LocalDateTime.now());
+        }
+
+        if (failures.isEmpty()) {
+            return;
+        }
+        for (OutboundEvent event : outboundEventRepository.findAllById(failures.keySet())) {
+            String reason = failures.get(event.getId());
+            event.markAsFailedAndScheduleRetry(reason);
+            countFailed(event.getTopic());
+            log.warn("[Outbox] 발행 실패 - id: {}, topic: {}, retryCount: {}, status: {}, reason: {}",
+                     event.getId(), event.getTopic(), event.getRetryCount(), event.getStatus(), reason);
+        }
+    }
+
+    public long getRelayLagMillis() {
+        return relayLagMillis.get();
+    }
+
+    private void countPublished(String topic) {
+        Counter.builder("outbox.relay.published").tag("topic", String.valueOf(topic)).register(meterRegistry).increment();
+    }
+
+    private void countFailed(String topic) {
+        Counter.builder("outbox.relay.failed").tag("topic", String.valueOf(topic)).register(meterRegistry).increment();
+    }
+
+    @lombok.Builder
+    @lombok.Getter
+    public static class RelayResult {
+        private int claimed;
+        private int published;
+        private int failed;
+    }
+}
@@ -0,0 +1,170 @@
+package com.hhplus.ecommerce.integration.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 Saga 메트릭
+ *
+ * Application Layer - 관측 지원
+ *
+ * 책임:
+ * - Saga 이벤트에 생성 시각 헤더 부여 (x-event-created-at, epoch ms)
+ * - 구간별 대기 시간 (이벤트 생성 → Consumer 수신) 기록
+ * - 구간별 처리 시간 (Consumer 처리 시작 → 종료) 기록
+ * - 주문 PENDING → PAID 종단 지연 시간 기록
+ * - 보상 트랜잭션 실행 횟수 기록
+ *
+ * Saga 구간 (hop 태그 = 수신 토픽):
+ * - order.create: OrderService.createOrder (락 획득 ~ 커밋)
+ * - order-events: StockKafkaConsumer (재고 차감)
+ * - stock-events: PaymentKafkaConsumer (잔액 차감 + 결제 완료)
+ * - payment-events: OrderCompletedKafkaConsumer (쿠폰 사용 + 인기상품 집계)
+ *
+ * 메트릭 (모두 percentile histogram 노출, /actuator/prometheus):
+ * - order.saga.hop.queue{hop}: 이벤트 생성 → 수신 대기 시간 (Outbox 릴레이 지연 + Kafka lag 포함)
+ * - order.saga.hop.processing{hop, outcome}: 구간 처리 시간 (outcome: success, compensated, error, retry)
+ * - order.saga.end_to_end: 주문 생성(orderedAt) → 결제 완료(paidAt)
+ * - order.saga.compensations{step}: 보상 트랜잭션 실행 횟수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaMetrics {
+
+    public static final String EVENT_CREATED_AT_HEADER = "x-event-created-at";
+
+    public static final String HOP_ORDER_CREATE = "order.create";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_COMPENSATED = "compensated";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_RETRY = "retry";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 생성 시각 헤더를 포함한 ProducerRecord 생성
+     *
+     * @param createdAt 이벤트 생성 시각 (Outbox는 row 생성 시각, 직접 발행은 발행 시각)
+     */
+    public static ProducerRecord<String, Object> toRecord(String topic, String key, Object payload,
+                                                          LocalDateTime createdAt) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(topic, key, payload);
+        if (createdAt == null) {
+            return record;
+        }
+
+        long createdAtMillis = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        record.headers().add(EVENT_CREATED_AT_HEADER,
+                             String.valueOf(createdAtMillis).getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    /**
+     * 구간 대기 시간 기록 (이벤트 생성 → Consumer 수신)
+     *
+     * 헤더가 없거나 잘못된 이벤트(배포 전 발행분 등)는 건너뜀
+     *
+     * @param hop 수신 토픽
+     * @param createdAtHeader x-event-created-at 헤더 값
+     */
+    public void recordQueueDelay(String hop, byte[] createdAtHeader) {
+        if (createdAtHeader == null) {
+            return;
+        }
+
+        try {
+            long createdAtMillis = Long.parseLong(new String(createdAtHeader, StandardCharsets.UTF_8).trim());
+            long delayMillis = Math.max(0L, System.currentTimeMillis() - createdAtMillis);
+            queueTimer(hop).record(delayMillis, TimeUnit.MILLISECONDS);
+        } catch (NumberFormatException e) {
+            log.debug("[Saga 메트릭] 잘못된 생성 시각 헤더 - hop: {}", hop);
+        }
+    }
+
+    /**
+     * 구간 처리 시간 기록
+     *
+     * @param hop 구간 (수신 토픽 또는 order.create)
+     * @param outcome success, compensated, error
+     * @param startNanos 처리 시작 시각 (System.nanoTime)
+     */
+    public void recordProcessing(String hop, String outcome, long startNanos) {
+        Timer.builder("order.saga.hop.processing")
+            .description("Saga 구간 처리 시간")
+            .tag("hop", hop)
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 주문 PENDING → PAID 종단 지연 시간 기록
+     *
+     * 결제 트랜잭션이 커밋된 경우에만 기록 (롤백 후 재전달 시 중복 기록 방지)
+     *
+     * @param orderedAt 주문 생성 시각
+     * @param paidAt 결제 완료 시각
+     */
+    public void recordOrderPaid(LocalDateTime orderedAt, LocalDateTime paidAt) {
+        if (orderedAt == null || paidAt == null) {
+            return;
+        }
+
+        Duration latency = Duration.between(orderedAt, paidAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            endToEndTimer().record(latency);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                endToEndTimer().record(latency);
+            }
+        });
+    }
+
+    /**
+     * 보상 트랜잭션 실행 횟수 기록
+     *
+     * @param step 보상 단계 (stock, payment, balance-refund)
+     */
+    public void countCompensation(String step) {
+        Counter.builder("order.saga.compensations")
+            .description("Saga 보상 트랜잭션 실행 횟수")
+            .tag("step", step)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private Timer queueTimer(String hop) {
+        return Timer.builder("order.saga.hop.queue")
+            .description("Saga 이벤트 생성부터 Consumer 수신까지의 대기 시간")
+            .tag("hop", hop)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private Timer endToEndTimer() {
+        return Timer.builder("order.saga.end_to_end")
+            .description("주문 생성(PENDING)부터 결제 완료(PAID)까지의 시간")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+}
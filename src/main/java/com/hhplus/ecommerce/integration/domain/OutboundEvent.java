@@ -28,6 +28,17 @@ public class OutboundEvent {
     @Column(nullable = false)
     private Long entityId;
 
+    // Kafka 발행 대상 (Outbox 릴레이)
+    @Column(length = 100)
+    private String topic;
+
+    @Column(length = 100)
+    private String partitionKey;
+
+    // 기록 시점 페이로드 클래스명 (조회/추적용, 릴레이 역직렬화 클래스는 eventType으로 결정)
+    @Column(length = 255)
+    private String payloadType;
+
     @Column(nullable = false, columnDefinition = "TEXT")
     private String payload;
 
@@ -67,6 +78,10 @@ public class OutboundEvent {
         if (this.maxRetryCount == null) {
             this.maxRetryCount = 3;
         }
+        if (this.nextRetryAt == null) {
+            // 신규 이벤트는 즉시 릴레이 대상 (status, nextRetryAt 인덱스로 선점)
+            this.nextRetryAt = this.createdAt;
+        }
     }
 
     // 비즈니스 로직: 전송 시작
@@ -118,7 +133,7 @@ public class OutboundEvent {
         }
         this.status = EventStatus.PENDING;
         this.retryCount = 0;
-        this.nextRetryAt = null;
+        this.nextRetryAt = LocalDateTime.now();
         this.errorMessage = null;
     }
 }
@@ -4,11 +4,13 @@ import com.hhplus.ecommerce.integration.domain.EventStatus;
 import com.hhplus.ecommerce.integration.domain.EventType;
 import com.hhplus.ecommerce.integration.domain.OutboundEvent;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,6 +27,7 @@ import java.util.List;
  * - UC-012: 주문 생성 시 이벤트 발행
  * - UC-015: 주문 취소 시 이벤트 발행
  * - 배치 작업: 실패 이벤트 재시도
+ * - Outbox 릴레이: 주문 Saga 이벤트 Kafka 발행
  */
 @Repository
 public interface OutboundEventRepository extends JpaRepository<OutboundEvent, Long> {
@@ -114,4 +117,75 @@ public interface OutboundEventRepository extends JpaRepository<OutboundEvent, Lo
            "WHERE oe.status = 'SUCCESS' " +
            "AND oe.completedAt < :beforeDate")
     List<OutboundEvent> findOldSuccessEvents(@Param("beforeDate") LocalDateTime beforeDate);
+
+    /**
+     * Outbox 릴레이 대상 선점 (FOR UPDATE SKIP LOCKED)
+     *
+     * Use Case:
+     * - Outbox 릴레이: 주문 Saga 이벤트 Kafka 발행
+     *
+     * 동시성 제어:
+     * - 다른 릴레이 인스턴스가 잠근 row는 대기 없이 건너뜀
+     * - 분산락 없이 다중 인스턴스가 서로 다른 배치를 병렬 처리
+     * - 같은 짧은 트랜잭션에서 markAllAsSending 후 커밋 → row 락은 Kafka 전송 전에 해제
+     *
+     * 선점 대상:
+     * - PENDING/FAILED: 재시도 시각 도래
+     * - SENDING: 선점 임대 만료 (선점 후 결과 반영 전에 인스턴스 장애)
+     *
+     * 성능 최적화:
+     * - idx_status_next_retry_at 복합 인덱스 사용
+     *
+     * @param now 현재 시각
+     * @param limit 최대 선점 건수
+     * @return 선점한 이벤트 목록 (nextRetryAt, id 순)
+     */
+    @Query(value = "SELECT * FROM outbound_events " +
+                   "WHERE status IN ('PENDING', 'FAILED', 'SENDING') " +
+                   "AND next_retry_at <= :now " +
+                   "AND retry_count < max_retry_count " +
+                   "ORDER BY next_retry_at ASC, id ASC " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboundEvent> claimRelayBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 선점 표시 일괄 처리 (SENDING + 임대 만료 시각)
+     *
+     * Use Case:
+     * - Outbox 릴레이: 선점 트랜잭션 안에서 claimRelayBatch 직후 호출
+     *
+     * 임대:
+     * - nextRetryAt = 임대 만료 시각 → 만료 전에는 다른 릴레이가 선점하지 않음
+     * - 결과 반영 전 장애 시 만료 후 재선점 (At-least-once)
+     *
+     * @param ids 선점한 이벤트 ID 목록
+     * @param sentAt 선점(전송 시작) 시각
+     * @param leaseExpiresAt 임대 만료 시각
+     * @return 변경된 row 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboundEvent oe " +
+           "SET oe.status = 'SENDING', oe.sentAt = :sentAt, oe.nextRetryAt = :leaseExpiresAt " +
+           "WHERE oe.id IN :ids")
+    int markAllAsSending(@Param("ids") Collection<Long> ids,
+                         @Param("sentAt") LocalDateTime sentAt,
+                         @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    /**
+     * 발행 완료 일괄 처리
+     *
+     * Use Case:
+     * - Outbox 릴레이: 배치 발행 결과 반영 (건별 UPDATE 대신 1회)
+     *
+     * @param ids 발행 완료 이벤트 ID 목록
+     * @param completedAt 완료 시각
+     * @return 변경된 row 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboundEvent oe " +
+           "SET oe.status = 'SUCCESS', oe.sentAt = :completedAt, oe.completedAt = :completedAt " +
+           "WHERE oe.id IN :ids")
+    int markAllAsSuccess(@Param("ids") Collection<Long> ids, @Param("completedAt") LocalDateTime completedAt);
 }
@@ -2,13 +2,12 @@ package com.hhplus.ecommerce.order.application;
 
 import com.hhplus.ecommerce.config.KafkaConfig;
 import com.hhplus.ecommerce.coupon.domain.UserCoupon;
+import com.hhplus.ecommerce.integration.application.SagaMetrics;
 import com.hhplus.ecommerce.coupon.infrastructure.persistence.UserCouponRepository;
 import com.hhplus.ecommerce.order.domain.Order;
 import com.hhplus.ecommerce.order.domain.event.OrderCompletedEvent;
 import com.hhplus.ecommerce.order.infrastructure.persistence.OrderRepository;
-import com.hhplus.ecommerce.product.domain.Product;
-import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository;
-import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.product.application.PopularProductAggregator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -20,6 +19,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+
 /**
  * 주문 완료 후처리 Kafka Consumer (payment-events)
  *
@@ -29,7 +30,10 @@ import org.springframework.transaction.annotation.Transactional;
  * 처리 흐름:
  * 1. payment-events 토픽에서 OrderCompletedEvent 수신
  * 2. 쿠폰 사용 처리 (있는 경우)
- * 3. 인기상품 집계 처리
+ * 3. 인기상품 집계 처리 (주문 전 상품을 파이프라인으로 일괄 반영)
+ *
+ * 메트릭 (SagaMetrics, hop=payment-events):
+ * - 이벤트 생성 시각 헤더 기준 대기 시간, 처리 시간
  */
 @Slf4j
 @Component
@@ -38,8 +42,8 @@ public class OrderCompletedKafkaConsumer {
 
     private final UserCouponRepository userCouponRepository;
     private final OrderRepository orderRepository;
-    private final ProductRedisRepository productRedisRepository;
-    private final ProductRepository productRepository;
+    private final PopularProductAggregator popularProductAggregator;
+    private final SagaMetrics sagaMetrics;
 
     @KafkaListener(
         topics = KafkaConfig.TOPIC_PAYMENT_EVENTS,
@@ -51,8 +55,12 @@ public class OrderCompletedKafkaConsumer {
             @Payload OrderCompletedEvent event,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(name = SagaMetrics.EVENT_CREATED_AT_HEADER, required = false) byte[] eventCreatedAt,
             Acknowledgment ack) {
 
+        long startNanos = System.nanoTime();
+        sagaMetrics.recordQueueDelay(KafkaConfig.TOPIC_PAYMENT_EVENTS, eventCreatedAt);
+
         log.info("[Kafka] 주문 완료 후처리 시작 - partition: {}, offset: {}, orderId: {}",
                  partition, offset, event.getOrderId());
 
@@ -66,10 +74,12 @@ public class OrderCompletedKafkaConsumer {
             processPopularProductAggregation(event);
 
             ack.acknowledge();
+            sagaMetrics.recordProcessing(KafkaConfig.TOPIC_PAYMENT_EVENTS, SagaMetrics.OUTCOME_SUCCESS, startNanos);
 
         } catch (Exception e) {
             log.error("[Kafka] 주문 완료 후처리 실패 - orderId: {}", event.getOrderId(), e);
             ack.acknowledge();  // 실패해도 커밋 (쿠폰/인기상품은 주문 성공에 영향 없음)
+            sagaMetrics.recordProcessing(KafkaConfig.TOPIC_PAYMENT_EVENTS, SagaMetrics.OUTCOME_ERROR, startNanos);
         }
     }
 
@@ -110,26 +120,10 @@ public class OrderCompletedKafkaConsumer {
             log.info("[Kafka] 인기상품 집계 시작 - orderId: {}, 상품 수: {}",
                      event.getOrderId(), event.getOrderProducts().size());
 
-            for (OrderCompletedEvent.OrderProductInfo productInfo : event.getOrderProducts()) {
-                try {
-                    productRedisRepository.incrementPopularityScore(
-                        productInfo.getProductId(),
-                        productInfo.getQuantity()
-                    );
-
-                    Product product = productRepository.findById(productInfo.getProductId()).orElse(null);
-                    if (product != null) {
-                        productRedisRepository.cacheProductInfo(product);
-                    }
-
-                    log.debug("[Kafka] 인기도 스코어 증가 완료 - productId: {}, quantity: {}",
-                             productInfo.getProductId(), productInfo.getQuantity());
-
-                } catch (Exception e) {
-                    log.warn("[Kafka] 인기도 스코어 증가 실패 (Redis 장애) - productId: {}, error: {}",
-                             productInfo.getProductId(), e.getMessage());
-                }
-            }
+            LinkedHashMap<Long, Integer> quantities = new LinkedHashMap<>();
+            event.getOrderProducts().forEach(productInfo ->
+                quantities.merge(productInfo.getProductId(), productInfo.getQuantity(), Integer::sum));
+            popularProductAggregator.aggregate(quantities);
 
             log.info("[Kafka] 인기상품 집계 완료 - orderId: {}", event.getOrderId());
 
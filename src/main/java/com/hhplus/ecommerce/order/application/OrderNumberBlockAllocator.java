@@ -0,0 +1,124 @@
+package com.hhplus.ecommerce.order.application;
+
+import com.hhplus.ecommerce.config.OrderSequenceProperties;
+import com.hhplus.ecommerce.order.domain.OrderSequence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주문 번호 블록 할당기 (hi/lo)
+ *
+ * Application Layer - 주문 번호 생성
+ *
+ * 책임:
+ * - order_sequences row에서 시퀀스 블록(기본 1,000개)을 임대
+ * - 블록 내 번호는 AtomicLong으로 DB 접근 없이 발급
+ * - 블록 소진 시에만 OrderSequenceService.leaseBlock 호출 (REQUIRES_NEW + SELECT FOR UPDATE)
+ *
+ * 기존 방식과의 차이:
+ * - 기존: 주문 1건마다 order_sequences row 락 → 전 노드의 주문 생성이 한 row에서 직렬화
+ * - 블록: 블록당 1회 row 락 → 락 빈도 1/blockSize
+ *
+ * 자정 처리:
+ * - 현재 블록의 날짜와 주문 날짜가 다르면 새 날짜로 블록 재임대 (시퀀스 1부터)
+ * - 자정 직전에 시작해 이미 다음 날 블록이 임대된 요청은 다음 날 번호로 발급
+ *
+ * 주의사항:
+ * - 노드별로 블록을 나눠 가지므로 노드 간 번호는 시간순이 아님 (유일성만 보장)
+ * - 재시작/자정 시 미사용 번호는 버려짐 (번호 구멍 발생, 일일 한도 999,999)
+ *
+ * 활성화:
+ * - order.sequence.block-allocation-enabled=true
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderNumberBlockAllocator {
+
+    private final OrderSequenceService orderSequenceService;
+    private final OrderSequenceProperties orderSequenceProperties;
+
+    private final AtomicReference<LeasedBlock> currentBlock = new AtomicReference<>();
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    /**
+     * 주문 번호 발급
+     *
+     * @return 주문 번호 (예: ORD-20251120-000001)
+     */
+    public String nextOrderNumber() {
+        return nextOrderNumber(LocalDate.now());
+    }
+
+    /**
+     * 주문 번호 발급 (주문 날짜 지정)
+     *
+     * @param orderDate 주문 날짜
+     * @return 주문 번호
+     */
+    String nextOrderNumber(LocalDate orderDate) {
+        while (true) {
+            LeasedBlock block = currentBlock.get();
+            LocalDate date = orderDate;
+
+            if (block != null && block.date.isAfter(date)) {
+                // 자정을 넘기는 사이 다른 스레드가 다음 날 블록을 임대함
+                date = block.date;
+            }
+
+            if (block != null && block.date.equals(date)) {
+                long sequence = block.next.getAndIncrement();
+                if (sequence <= block.hi) {
+                    return OrderSequence.formatOrderNumber(date.toString(), sequence);
+                }
+            }
+
+            refill(block, date);
+        }
+    }
+
+    /**
+     * 블록 재임대
+     *
+     * 한 스레드만 임대하고, 대기하던 스레드는 교체된 블록에서 발급
+     */
+    private void refill(LeasedBlock exhausted, LocalDate date) {
+        refillLock.lock();
+        try {
+            if (currentBlock.get() != exhausted) {
+                return; // 다른 스레드가 이미 교체
+            }
+
+            OrderSequenceService.SequenceBlock leased =
+                orderSequenceService.leaseBlock(date, orderSequenceProperties.getBlockSize());
+            currentBlock.set(new LeasedBlock(leased.getDate(), leased.getLo(), leased.getHi()));
+
+            if (exhausted != null && !exhausted.date.equals(date)) {
+                log.info("주문 번호 블록 날짜 변경 - {} → {}", exhausted.date, date);
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    /**
+     * 임대한 블록 (날짜 + 다음 발급 번호 + 구간 끝)
+     */
+    private static final class LeasedBlock {
+        private final LocalDate date;
+        private final AtomicLong next;
+        private final long hi;
+
+        private LeasedBlock(LocalDate date, long lo, long hi) {
+            this.date = date;
+            this.next = new AtomicLong(lo);
+            this.hi = hi;
+        }
+    }
+}
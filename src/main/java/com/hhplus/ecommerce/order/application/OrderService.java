@@ -1,15 +1,30 @@
 package com.hhplus.ecommerce.order.application;
 
+import com.hhplus.ecommerce.cart.application.CartStoreService;
 import com.hhplus.ecommerce.cart.domain.Cart;
 import com.hhplus.ecommerce.cart.domain.CartItem;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRedisRepository.CartLine;
+import com.hhplus.ecommerce.common.application.HistoryWriter;
+import com.hhplus.ecommerce.common.application.KeysetLimit;
+import com.hhplus.ecommerce.common.domain.KeysetCursor;
+import com.hhplus.ecommerce.common.domain.KeysetSlice;
+import com.hhplus.ecommerce.common.infrastructure.lock.FencedLockService;
+import com.hhplus.ecommerce.config.FencedLockProperties;
+import com.hhplus.ecommerce.config.KafkaConfig;
+import com.hhplus.ecommerce.config.OrderSequenceProperties;
 import com.hhplus.ecommerce.coupon.domain.Coupon;
 import com.hhplus.ecommerce.coupon.domain.UserCoupon;
+import com.hhplus.ecommerce.integration.application.OutboxEventPublisher;
+import com.hhplus.ecommerce.integration.application.SagaMetrics;
+import com.hhplus.ecommerce.integration.domain.EventType;
 import com.hhplus.ecommerce.order.domain.Order;
 import com.hhplus.ecommerce.order.domain.OrderItem;
 import com.hhplus.ecommerce.order.domain.OrderStatus;
 import com.hhplus.ecommerce.payment.domain.Payment;
 import com.hhplus.ecommerce.payment.domain.PaymentMethod;
 import com.hhplus.ecommerce.payment.domain.PaymentStatus;
+import com.hhplus.ecommerce.product.application.StockBulkService;
+import com.hhplus.ecommerce.product.application.StockReservationService;
 import com.hhplus.ecommerce.order.domain.event.OrderCompletedEvent;
 import com.hhplus.ecommerce.order.domain.event.OrderCreatedEvent;
 import com.hhplus.ecommerce.product.domain.Product;
@@ -21,16 +36,14 @@ import com.hhplus.ecommerce.user.domain.User;
 import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRepository;
 import com.hhplus.ecommerce.coupon.infrastructure.persistence.UserCouponRepository;
 import com.hhplus.ecommerce.order.infrastructure.persistence.OrderRepository;
+import com.hhplus.ecommerce.order.infrastructure.persistence.OrderSummaryView;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
-import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
-import com.hhplus.ecommerce.user.infrastructure.persistence.BalanceHistoryRepository;
 import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
@@ -43,7 +56,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -79,21 +94,28 @@ public class OrderService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final CartRepository cartRepository;
+    private final CartStoreService cartStoreService;
     private final UserCouponRepository userCouponRepository;
-    private final BalanceHistoryRepository balanceHistoryRepository;
-    private final StockHistoryRepository stockHistoryRepository;
+    private final HistoryWriter historyWriter;
 
     // Services
     private final OrderSequenceService orderSequenceService;
+    private final OrderNumberBlockAllocator orderNumberBlockAllocator;
+    private final OrderSequenceProperties orderSequenceProperties;
+    private final StockReservationService stockReservationService;
+    private final StockBulkService stockBulkService;
 
     // Redisson
     private final RedissonClient redissonClient;
+    private final FencedLockService fencedLockService;
+    private final FencedLockProperties fencedLockProperties;
 
     // Event Publisher
     private final ApplicationEventPublisher eventPublisher;
 
     // Kafka Template
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final SagaMetrics sagaMetrics;
 
     // Self-reference for proxy invocation
     private OrderService self;
@@ -136,13 +158,19 @@ public class OrderService {
      *
      * 동시성 제어:
      * - 분산락: Redisson RLock (userId 기반, 동일 사용자의 동시 주문 방지)
+     *   (lock.fenced.enabled=true 이면 펜싱 락: SET NX PX 1회 획득 + users.lock_fence_token 검증)
      * - 재고: 낙관적 락 (@Version) + 재시도 (@Retryable, 최대 5회) - 이벤트 리스너에서 처리
+     *   (stock.reservation.enabled=true 이면 Redis 재고 원장에서 전 라인 원자적 예약)
      * - 잔액: 비관적 락 (SELECT FOR UPDATE) - 이벤트 리스너에서 처리
      * - 주문 번호: 비관적 락 (SELECT FOR UPDATE) + REQUIRES_NEW 트랜잭션
+     *   (order.sequence.block-allocation-enabled=true 이면 블록 임대 후 메모리에서 발급)
      *
      * 멱등성 보장:
      * - idempotencyKey로 중복 결제 방지 (네트워크 재시도 대응)
      *
+     * 메트릭:
+     * - order.saga.hop.processing{hop=order.create}: 락 획득 ~ 커밋 (@Retryable 시도마다 기록)
+     *
      * 보상 트랜잭션:
      * - 재고 차감 실패 → 주문 취소
      * - 잔액 차감 실패 → 재고 복구 + 주문 취소
@@ -163,6 +191,23 @@ public class OrderService {
     public Order createOrder(Long userId, Long userCouponId, String idempotencyKey) {
         log.info("[UC-012] 주문 생성 시작 - userId: {}, idempotencyKey: {}", userId, idempotencyKey);
 
+        long startNanos = System.nanoTime();
+        String outcome = SagaMetrics.OUTCOME_ERROR;
+        try {
+            Order order = fencedLockProperties.isEnabled()
+                ? createOrderWithFencedLock(userId, userCouponId, idempotencyKey)
+                : createOrderWithRedissonLock(userId, userCouponId, idempotencyKey);
+            outcome = SagaMetrics.OUTCOME_SUCCESS;
+            return order;
+        } finally {
+            sagaMetrics.recordProcessing(SagaMetrics.HOP_ORDER_CREATE, outcome, startNanos);
+        }
+    }
+
+    /**
+     * Redisson RLock으로 주문 생성
+     */
+    private Order createOrderWithRedissonLock(Long userId, Long userCouponId, String idempotencyKey) {
         // Redisson 분산락 획득 (userId 기반)
         // 중요: 잔액 수정을 포함하므로 BalanceService와 동일한 락 키 사용
         // 주문 생성 시 balance 차감이 발생하므로 같은 user의 balance 충전과 동기화 필요
@@ -201,6 +246,47 @@ public class OrderService {
         }
     }
 
+    /**
+     * 펜싱 락으로 주문 생성
+     *
+     * 처리 흐름:
+     * 1. 펜싱 락 획득 (Lua Script 1회: SET NX PX + 토큰 발급)
+     * 2. 트랜잭션 내에서 토큰 검증 후 주문 생성
+     * 3. 커밋 후 락 해제 (Lua Script 1회: compare-and-delete)
+     *
+     * Watchdog 갱신이 없으므로 lease 만료 후 다른 요청이 락을 획득할 수 있음
+     * → 이전 보유자는 토큰 검증(users.lock_fence_token)에서 거부되어 롤백
+     */
+    private Order createOrderWithFencedLock(Long userId, Long userCouponId, String idempotencyKey) {
+        String lockKey = USER_BALANCE_LOCK_PREFIX + userId;
+        FencedLockService.FencedLock lock = null;
+
+        try {
+            lock = fencedLockService.tryLock(
+                lockKey,
+                fencedLockProperties.getWaitTimeMs(),
+                fencedLockProperties.getLeaseTimeMs(),
+                fencedLockProperties.getRetryIntervalMs()
+            ).orElseThrow(() -> {
+                log.warn("[UC-012] 펜싱 락 획득 실패 - 다른 요청이 주문 처리 중: userId: {}", userId);
+                return new IllegalStateException("주문 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            });
+
+            log.debug("[UC-012] 펜싱 락 획득 완료 - lockKey: {}, token: {}", lockKey, lock.getFencingToken());
+
+            return self.createOrderWithTransaction(userId, userCouponId, idempotencyKey, lock.getFencingToken());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[UC-012] 락 획득 중 인터럽트 발생 - userId: {}", userId, e);
+            throw new IllegalStateException("주문 처리 중 오류가 발생했습니다.", e);
+        } finally {
+            if (lock != null) {
+                fencedLockService.unlock(lock);
+            }
+        }
+    }
+
     /**
      * 트랜잭션 내에서 주문 생성 처리
      * (Redisson 분산락과 트랜잭션 분리를 위한 내부 메서드)
@@ -210,6 +296,20 @@ public class OrderService {
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public Order createOrderWithTransaction(Long userId, Long userCouponId, String idempotencyKey) {
+        return createOrderWithTransaction(userId, userCouponId, idempotencyKey, null);
+    }
+
+    /**
+     * 트랜잭션 내에서 주문 생성 처리 (펜싱 토큰 검증)
+     *
+     * fencingToken이 있으면 사용자 비관적 락 조회 대신 토큰 조건부 UPDATE로 검증
+     * - UPDATE가 사용자 row 쓰기 락을 함께 획득
+     * - 더 최신 토큰이 이미 기록되어 있으면 IllegalStateException (lease 만료된 보유자)
+     *
+     * @param fencingToken 펜싱 락 토큰 (null이면 기존 비관적 락 조회)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Order createOrderWithTransaction(Long userId, Long userCouponId, String idempotencyKey, Long fencingToken) {
         // Step 1: 멱등성 키 중복 확인 (멱등성 보장: 기존 주문 반환)
         Optional<Order> existingOrder = orderRepository.findByIdempotencyKey(idempotencyKey);
         if (existingOrder.isPresent()) {
@@ -218,20 +318,37 @@ public class OrderService {
             return existingOrder.get();
         }
 
-        // Step 2: 사용자 조회 (비관적 락)
-        User user = userRepository.findByIdWithLock(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        // Step 2: 사용자 조회 (비관적 락, 펜싱 락 모드는 토큰 검증 UPDATE로 row 락 획득)
+        User user;
+        if (fencingToken != null) {
+            validateFencingToken(userId, fencingToken);
+            user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        } else {
+            user = userRepository.findByIdWithLock(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        }
 
-        // Step 3: 장바구니 조회
-        Cart cart = cartRepository.findByUserWithItems(user)
-            .orElseThrow(() -> new IllegalArgumentException("장바구니가 비어있습니다"));
+        // Step 3: 장바구니 조회 (Redis 장바구니 모드: Hash 1회 조회, 미적재 시 DB에서 적재)
+        Cart cart = null;
+        LinkedHashMap<Long, Integer> cartLines;
+        if (cartStoreService.isEnabled()) {
+            cartLines = new LinkedHashMap<>();
+            for (CartLine line : cartStoreService.getLines(userId)) {
+                cartLines.put(line.getProductId(), line.getQuantity());
+            }
+        } else {
+            cart = cartRepository.findByUserWithItems(user)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니가 비어있습니다"));
+            cartLines = toCartLines(cart.getItems());
+        }
 
-        if (cart.getItems().isEmpty()) {
+        if (cartLines.isEmpty()) {
             throw new IllegalArgumentException("장바구니가 비어있습니다");
         }
 
         // Step 4: 주문 항목 준비 및 재고 확인
-        List<OrderLineItem> orderLineItems = prepareOrderItems(cart.getItems());
+        List<OrderLineItem> orderLineItems = prepareOrderItems(cartLines);
 
         // Step 5: 쿠폰 검증 (선택)
         UserCoupon userCoupon = null;
@@ -242,6 +359,11 @@ public class OrderService {
         // Step 6: 금액 계산
         OrderAmountCalculation calculation = calculateOrderAmount(orderLineItems, userCoupon);
 
+        // Step 6-1: 재고 예약 (Redis 재고 원장 모드, 트랜잭션 롤백 시 자동 반환)
+        if (stockReservationService.isEnabled()) {
+            stockReservationService.reserve(toReservationLines(orderLineItems));
+        }
+
         // Step 7: 주문 엔티티 생성 (PENDING 상태)
         Order order = createOrderEntity(user, orderLineItems, calculation, idempotencyKey);
         order = orderRepository.save(order);
@@ -256,8 +378,12 @@ public class OrderService {
         order.setPayment(payment);
         order = orderRepository.save(order);
 
-        // Step 9: 장바구니 비우기
-        cart.clear();
+        // Step 9: 장바구니 비우기 (Redis 장바구니 모드: DB 항목은 이 트랜잭션에서 삭제, Redis는 커밋 후 주문 수량 차감)
+        if (cart != null) {
+            cart.clear();
+        } else {
+            cartStoreService.removeOrderedLines(userId, cartLines);
+        }
 
         // Step 10: OrderCreatedEvent 발행
         // 이벤트 리스너에서 재고 차감 → 잔액 차감 → 결제 완료 → 쿠폰 사용 → 인기상품 집계
@@ -280,7 +406,9 @@ public class OrderService {
             .build();
 
         // Kafka로 이벤트 발행 (orderId를 파티션 키로 사용 → 동일 주문은 동일 파티션에서 순서 보장)
-        kafkaTemplate.send("order-events", order.getId().toString(), event);
+        // Outbox 모드: 주문과 같은 트랜잭션에 이벤트 row 기록, 커밋 후 릴레이가 발행
+        outboxEventPublisher.publish(EventType.ORDER_CREATED, order.getId(),
+                                     KafkaConfig.TOPIC_ORDER_EVENTS, order.getId().toString(), event);
 
         log.info("[UC-012] 주문 생성 이벤트 발행 (Kafka) - orderId: {}, orderNumber: {}, 상품 수: {}",
                  order.getId(), order.getOrderNumber(), orderProducts.size());
@@ -296,21 +424,29 @@ public class OrderService {
      *
      * Use Case: UC-013
      * - 주문 정보 조회 (N+1 방지)
+     * - SELECT 2회 고정: 항목/상품/결제 Fetch Join 1회 + 적용 쿠폰 Fetch Join 1회
+     *   (orderItems, orderCoupons 두 List는 한 쿼리로 Fetch Join 불가 → MultipleBagFetchException)
      *
      * @param orderId 주문 ID
-     * @return 주문 상세 정보
+     * @return 주문 상세 정보 (항목, 상품, 결제, 적용 쿠폰 초기화)
      */
     public Order getOrder(Long orderId) {
         log.info("[UC-013] 주문 조회 - orderId: {}", orderId);
 
-        return orderRepository.findByIdWithDetails(orderId)
+        Order order = orderRepository.findByIdWithDetails(orderId)
             .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다"));
+
+        // 같은 영속성 컨텍스트의 order 인스턴스에 orderCoupons 초기화
+        orderRepository.findByIdWithCoupons(orderId);
+
+        return order;
     }
 
     /**
      * 주문 번호로 조회
      *
      * Use Case: UC-013 (변형)
+     * - 주문 번호로 ID 조회 후 getOrder()와 동일하게 Fetch Join 조회
      *
      * @param orderNumber 주문 번호
      * @return 주문 정보
@@ -318,8 +454,10 @@ public class OrderService {
     public Order getOrderByNumber(String orderNumber) {
         log.info("[UC-013] 주문 번호로 조회 - orderNumber: {}", orderNumber);
 
-        return orderRepository.findByOrderNumber(orderNumber)
+        Long orderId = orderRepository.findIdByOrderNumber(orderNumber)
             .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다"));
+
+        return getOrder(orderId);
     }
 
     /**
@@ -342,6 +480,54 @@ public class OrderService {
         return orderRepository.findByUserOrderByOrderedAtDesc(user, pageable);
     }
 
+    /**
+     * 사용자별 주문 목록 요약 조회 (API 응답용 Projection)
+     *
+     * Use Case: UC-014
+     * - 사용자 존재 확인 1회 + 목록 SELECT 1회 + COUNT 1회
+     *
+     * @param userId 사용자 ID
+     * @param pageable 페이징 정보
+     * @return 주문 요약 페이지
+     */
+    public Page<OrderSummaryView> getUserOrderSummaries(Long userId, Pageable pageable) {
+        log.info("[UC-014] 사용자 주문 목록 요약 조회 - userId: {}", userId);
+
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
+
+        return orderRepository.findSummariesByUserId(userId, pageable);
+    }
+
+    /**
+     * 사용자별 주문 목록 조회 (키셋 페이지네이션)
+     *
+     * Use Case: UC-014
+     * - 최신 주문순, 커서 이후 size건 조회 (COUNT/OFFSET 없이 과거 주문까지 일정한 비용)
+     *
+     * @param userId 사용자 ID
+     * @param after 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 주문 요약 Slice (orderedAt DESC, id DESC)
+     */
+    public KeysetSlice<OrderSummaryView> getUserOrdersAfter(Long userId, String after, int size) {
+        log.info("[UC-014] 사용자 주문 목록 키셋 조회 - userId: {}, after: {}, size: {}", userId, after, size);
+
+        Pageable limit = KeysetLimit.of(size);
+        KeysetCursor cursor = KeysetCursor.parse(after);
+
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
+
+        List<OrderSummaryView> rows = cursor == null
+            ? orderRepository.findFirstPageByUserId(userId, limit)
+            : orderRepository.findPageByUserIdAfter(userId, cursor.getTimestamp(), cursor.getId(), limit);
+
+        return KeysetSlice.of(rows, size, OrderSummaryView::getOrderedAt, OrderSummaryView::getId);
+    }
+
     /**
      * 주문 취소
      *
@@ -388,7 +574,12 @@ public class OrderService {
             "주문 취소 환불: " + order.getOrderNumber()
         );
 
-        // Step 6: 재고 이력 기록
+        // Step 6: 재고 이력 기록 (재고 원장 모드는 write-back 시 기록)
+        if (stockReservationService.isEnabled()) {
+            log.info("[UC-015] 주문 취소 완료 - orderId: {}", orderId);
+            return;
+        }
+
         order.getOrderItems().forEach(orderItem -> {
             StockHistory history = StockHistory.builder()
                 .product(orderItem.getProduct())
@@ -400,7 +591,7 @@ public class OrderService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-            stockHistoryRepository.save(history);
+            historyWriter.record(history);
         });
 
         log.info("[UC-015] 주문 취소 완료 - orderId: {}", orderId);
@@ -408,37 +599,120 @@ public class OrderService {
 
     // ========== Private Helper Methods ==========
 
+    /**
+     * UC-012 Step 2: 펜싱 토큰 검증 (펜싱 락 모드)
+     */
+    private void validateFencingToken(Long userId, Long fencingToken) {
+        if (userRepository.advanceLockFenceToken(userId, fencingToken) == 0) {
+            if (!userRepository.existsById(userId)) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+            }
+            log.warn("[UC-012] 만료된 펜싱 토큰 - userId: {}, token: {}", userId, fencingToken);
+            throw new IllegalStateException("주문 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * UC-012 Step 3: 장바구니 항목 → 주문 라인 (상품 ID → 수량, 순서 유지)
+     */
+    private LinkedHashMap<Long, Integer> toCartLines(List<CartItem> cartItems) {
+        LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+        for (CartItem cartItem : cartItems) {
+            lines.merge(cartItem.getProduct().getId(), cartItem.getQuantity(), Integer::sum);
+        }
+        return lines;
+    }
 
     /**
      * UC-012 Step 4: 주문 항목 준비 및 재고 확인
+     *
+     * @param cartLines 상품 ID → 수량
      */
-    private List<OrderLineItem> prepareOrderItems(List<CartItem> cartItems) {
+    private List<OrderLineItem> prepareOrderItems(LinkedHashMap<Long, Integer> cartLines) {
+        // 재고 일괄 처리 모드: 전 상품 IN 조회 1회
+        if (stockBulkService.isEnabled()) {
+            return prepareOrderItemsInBulk(cartLines);
+        }
+
         List<OrderLineItem> orderLineItems = new ArrayList<>();
 
-        for (CartItem cartItem : cartItems) {
-            Product product = productRepository.findByIdWithLock(cartItem.getProduct().getId())
+        for (Map.Entry<Long, Integer> cartLine : cartLines.entrySet()) {
+            Long productId = cartLine.getKey();
+            Integer quantity = cartLine.getValue();
+
+            // 재고 원장 모드: 재고 확인은 Step 6-1 예약에서 원자적으로 처리
+            if (stockReservationService.isEnabled()) {
+                Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다"));
+                orderLineItems.add(new OrderLineItem(product, quantity));
+                continue;
+            }
+
+            Product product = productRepository.findByIdWithLock(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다"));
 
             // 재고 확인
-            if (product.getStock() < cartItem.getQuantity()) {
-                throw new IllegalStateException(
-                    new StringBuilder("상품 '")
-                        .append(product.getName())
-                        .append("'의 재고가 부족합니다. 요청: ")
-                        .append(cartItem.getQuantity())
-                        .append("개, 가능: ")
-                        .append(product.getStock())
-                        .append("개")
-                        .toString()
-                );
+            validateStock(product, quantity);
+
+            orderLineItems.add(new OrderLineItem(product, quantity));
+        }
+
+        return orderLineItems;
+    }
+
+    /**
+     * UC-012 Step 4: 주문 항목 준비 및 재고 확인 (재고 일괄 처리 모드)
+     *
+     * - 장바구니 전 상품을 IN 조회 1회로 확인 (라인별 SELECT 없음)
+     * - 여기서의 재고 확인은 사전 검증이며, 최종 차감은 재고 차감 단계의 조건부 UPDATE가 보장
+     */
+    private List<OrderLineItem> prepareOrderItemsInBulk(LinkedHashMap<Long, Integer> cartLines) {
+        Map<Long, Product> products = stockBulkService.findProducts(cartLines.keySet());
+        List<OrderLineItem> orderLineItems = new ArrayList<>();
+
+        for (Map.Entry<Long, Integer> cartLine : cartLines.entrySet()) {
+            Product product = products.get(cartLine.getKey());
+            if (product == null) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다");
             }
 
-            orderLineItems.add(new OrderLineItem(product, cartItem.getQuantity()));
+            // 재고 원장 모드: 재고 확인은 Step 6-1 예약에서 원자적으로 처리
+            if (!stockReservationService.isEnabled()) {
+                validateStock(product, cartLine.getValue());
+            }
+
+            orderLineItems.add(new OrderLineItem(product, cartLine.getValue()));
         }
 
         return orderLineItems;
     }
 
+    private void validateStock(Product product, Integer quantity) {
+        if (product.getStock() < quantity) {
+            throw new IllegalStateException(
+                new StringBuilder("상품 '")
+                    .append(product.getName())
+                    .append("'의 재고가 부족합니다. 요청: ")
+                    .append(quantity)
+                    .append("개, 가능: ")
+                    .append(product.getStock())
+                    .append("개")
+                    .toString()
+            );
+        }
+    }
+
+    /**
+     * UC-012 Step 6-1: 재고 예약 라인 변환 (상품 ID → 수량)
+     */
+    private LinkedHashMap<Long, Integer> toReservationLines(List<OrderLineItem> items) {
+        LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+        for (OrderLineItem item : items) {
+            lines.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+        }
+        return lines;
+    }
+
     /**
      * UC-012 Step 5: 쿠폰 검증
      */
@@ -461,8 +735,10 @@ public class OrderService {
 
     /**
      * UC-012 Step 6: 주문 금액 계산
+     *
+     * 인스턴스 상태를 사용하지 않으므로 static (JMH 벤치마크에서 Spring 컨텍스트 없이 호출)
      */
-    private OrderAmountCalculation calculateOrderAmount(
+    static OrderAmountCalculation calculateOrderAmount(
             List<OrderLineItem> items,
             UserCoupon userCoupon) {
 
@@ -553,10 +829,14 @@ public class OrderService {
      * - REQUIRES_NEW 트랜잭션으로 시퀀스 증가를 즉시 커밋
      * - 비관적 락 (SELECT FOR UPDATE)으로 동시 접근 제어
      * - 주문 실패 시에도 시퀀스 번호는 롤백되지 않음 (의도된 동작)
+     * - 블록 할당 모드: 블록 소진 시에만 락 획득 (OrderNumberBlockAllocator)
      *
      * @return 생성된 주문 번호 (예: ORD-20251120-000001)
      */
     private String generateOrderNumber() {
+        if (orderSequenceProperties.isBlockAllocationEnabled()) {
+            return orderNumberBlockAllocator.nextOrderNumber();
+        }
         return orderSequenceService.generateOrderNumber();
     }
 
@@ -579,7 +859,7 @@ public class OrderService {
             .createdAt(LocalDateTime.now())
             .build();
 
-        balanceHistoryRepository.save(history);
+        historyWriter.record(history);
     }
 
     /**
@@ -601,7 +881,7 @@ public class OrderService {
             .createdAt(LocalDateTime.now())
             .build();
 
-        balanceHistoryRepository.save(history);
+        historyWriter.record(history);
     }
 
     /**
@@ -621,7 +901,7 @@ public class OrderService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-            stockHistoryRepository.save(history);
+            historyWriter.record(history);
         }
     }
 
@@ -630,6 +910,26 @@ public class OrderService {
      * UC-015: 재고 복구
      */
     private void restoreProductStock(Order order) {
+        // 재고 원장 모드: 원장에 반환 (DB는 write-back 시 반영)
+        if (stockReservationService.isEnabled()) {
+            LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+            order.getOrderItems().forEach(orderItem ->
+                lines.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum));
+            stockReservationService.releaseAfterCommit(order.getId(), lines);
+            return;
+        }
+
+        // 재고 일괄 처리 모드: 조건 없는 복구 UPDATE 1회
+        if (stockBulkService.isEnabled()) {
+            LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+            order.getOrderItems().forEach(orderItem ->
+                lines.merge(orderItem.getProduct().getId(), orderItem.getQuantity(), Integer::sum));
+            if (stockBulkService.increase(lines) != lines.size()) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다");
+            }
+            return;
+        }
+
         for (OrderItem orderItem : order.getOrderItems()) {
             Product product = productRepository.findByIdWithLock(orderItem.getProduct().getId())
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다"));
@@ -645,7 +945,7 @@ public class OrderService {
      */
     @lombok.Getter
     @lombok.AllArgsConstructor
-    private static class OrderLineItem {
+    static class OrderLineItem {
         private Product product;
         private Integer quantity;
     }
@@ -655,7 +955,7 @@ public class OrderService {
      */
     @lombok.Getter
     @lombok.AllArgsConstructor
-    private static class OrderAmountCalculation {
+    static class OrderAmountCalculation {
         private BigDecimal totalAmount;      // 총 상품 금액
         private BigDecimal discountAmount;   // 할인 금액
         private BigDecimal finalAmount;      // 최종 결제 금액
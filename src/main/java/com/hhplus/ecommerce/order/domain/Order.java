@@ -19,7 +19,8 @@ import java.util.List;
         @Index(name = "idx_order_number", columnList = "orderNumber"),
         @Index(name = "idx_status", columnList = "status"),
         @Index(name = "idx_idempotency_key", columnList = "idempotencyKey"),
-        @Index(name = "idx_ordered_at", columnList = "orderedAt")
+        @Index(name = "idx_ordered_at", columnList = "orderedAt"),
+        @Index(name = "idx_user_ordered_at", columnList = "user_id, orderedAt")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
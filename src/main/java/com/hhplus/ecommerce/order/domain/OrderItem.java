@@ -17,8 +17,17 @@ import java.math.BigDecimal;
 @Builder
 public class OrderItem {
 
+    // ID: id_generators 기반 pooled 할당 (INSERT 배치용, 근거는 scripts/init.sql id_generators 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "orderItemIdGenerator")
+    @TableGenerator(
+        name = "orderItemIdGenerator",
+        table = "id_generators",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "order_items",
+        allocationSize = 100
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -46,6 +46,11 @@ public class OrderSequence {
     @Column(nullable = false)
     private Long sequence;
 
+    /**
+     * 일일 최대 시퀀스 (주문 번호 6자리)
+     */
+    public static final long MAX_DAILY_SEQUENCE = 999_999L;
+
     // Note: @Version을 사용하지 않음
     // - 비관적 락(PESSIMISTIC_WRITE)으로 동시성 제어하므로 낙관적 락(@Version)은 불필요
     // - 두 락을 동시에 사용하면 충돌 발생 가능
@@ -60,6 +65,28 @@ public class OrderSequence {
         return this.sequence;
     }
 
+    /**
+     * 비즈니스 로직: 시퀀스 블록 할당 (hi/lo)
+     *
+     * 시퀀스를 blockSize만큼 한 번에 증가시키고 할당된 구간의 마지막 번호를 반환
+     * - 예: sequence=1000, blockSize=1000 → sequence=2000, 반환 2000 (할당 구간: 1001~2000)
+     * - 일일 한도(999,999)를 넘는 구간은 잘라서 할당
+     *
+     * @param blockSize 블록 크기
+     * @return 할당된 구간의 마지막 시퀀스 번호
+     * @throws IllegalStateException 일일 주문 번호 소진
+     */
+    public Long allocateBlock(long blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("블록 크기는 0보다 커야 합니다.");
+        }
+        if (this.sequence >= MAX_DAILY_SEQUENCE) {
+            throw new IllegalStateException("오늘 발급 가능한 주문 번호가 모두 소진되었습니다.");
+        }
+        this.sequence = Math.min(this.sequence + blockSize, MAX_DAILY_SEQUENCE);
+        return this.sequence;
+    }
+
     /**
      * 정적 팩토리 메서드: 새로운 날짜의 시퀀스 생성
      *
@@ -79,8 +106,19 @@ public class OrderSequence {
      * @return 주문 번호 (예: "ORD-20251120-000001")
      */
     public String generateOrderNumber() {
-        String datePart = this.date.replace("-", "");
-        String sequencePart = String.valueOf(1000000 + this.sequence).substring(1);
+        return formatOrderNumber(this.date, this.sequence);
+    }
+
+    /**
+     * 주문 번호 포맷팅 (블록 할당기에서 DB 조회 없이 사용)
+     *
+     * @param date 주문 날짜 (yyyy-MM-dd)
+     * @param sequence 시퀀스 번호
+     * @return 주문 번호 (예: "ORD-20251120-000001")
+     */
+    public static String formatOrderNumber(String date, long sequence) {
+        String datePart = date.replace("-", "");
+        String sequencePart = String.valueOf(1000000 + sequence).substring(1);
         return new StringBuilder("ORD-")
             .append(datePart)
             .append("-")
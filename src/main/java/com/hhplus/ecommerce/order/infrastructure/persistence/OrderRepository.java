@@ -64,6 +64,18 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE o.orderNumber = :orderNumber")
     Optional<Order> findByOrderNumber(@Param("orderNumber") String orderNumber);
 
+    /**
+     * 주문 번호로 주문 ID 조회
+     *
+     * Use Case:
+     * - UC-013: 주문 상세 조회 (주문번호 기반 → ID 기반 Fetch Join 조회로 위임)
+     *
+     * @param orderNumber 주문 번호
+     * @return 주문 ID (Optional)
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.orderNumber = :orderNumber")
+    Optional<Long> findIdByOrderNumber(@Param("orderNumber") String orderNumber);
+
     /**
      * 특정 시간 범위의 주문 수 조회
      *
@@ -88,7 +100,7 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * - UC-014: 주문 목록 조회
      *
      * 성능 최적화:
-     * - idx_orders_user_ordered 복합 인덱스 사용
+     * - idx_user_ordered_at (user_id, ordered_at) 복합 인덱스 사용
      *
      * @param user 사용자
      * @param pageable 페이징 정보
@@ -97,6 +109,75 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE o.user = :user ORDER BY o.orderedAt DESC")
     Page<Order> findByUserOrderByOrderedAtDesc(@Param("user") User user, Pageable pageable);
 
+    /**
+     * 사용자별 주문 목록 조회 (Projection, 최신순, 페이징)
+     *
+     * Use Case:
+     * - UC-014: 주문 목록 조회 API
+     *
+     * 성능 최적화:
+     * - 엔티티 대신 목록 컬럼만 조회 → 주문마다 payment(@OneToOne mappedBy) SELECT 없음
+     * - 목록 SELECT 1회 + COUNT 1회
+     *
+     * @param userId 사용자 ID
+     * @param pageable 페이징 정보
+     * @return 주문 요약 페이지
+     */
+    @Query(value = "SELECT o.id AS id, o.orderNumber AS orderNumber, o.status AS status, " +
+                   "o.totalAmount AS totalAmount, o.discountAmount AS discountAmount, " +
+                   "o.finalAmount AS finalAmount, o.orderedAt AS orderedAt, " +
+                   "o.paidAt AS paidAt, o.cancelledAt AS cancelledAt " +
+                   "FROM Order o WHERE o.user.id = :userId ORDER BY o.orderedAt DESC, o.id DESC",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.user.id = :userId")
+    Page<OrderSummaryView> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자별 주문 목록 첫 페이지 (키셋 페이지네이션)
+     *
+     * Use Case:
+     * - UC-014: 주문 목록 조회 (무한 스크롤)
+     *
+     * 성능 최적화:
+     * - idx_user_ordered_at 역순 스캔 (보조 인덱스에 PK가 포함되어 id 동률 정렬도 인덱스로 처리)
+     * - COUNT 쿼리, OFFSET 스캔 없음
+     * - Projection 조회 (주문마다 payment SELECT 없음)
+     *
+     * @param userId 사용자 ID
+     * @param limit 조회 건수 (size + 1)
+     * @return 주문 요약 목록 (orderedAt DESC, id DESC)
+     */
+    @Query("SELECT o.id AS id, o.orderNumber AS orderNumber, o.status AS status, " +
+           "o.totalAmount AS totalAmount, o.discountAmount AS discountAmount, " +
+           "o.finalAmount AS finalAmount, o.orderedAt AS orderedAt, " +
+           "o.paidAt AS paidAt, o.cancelledAt AS cancelledAt " +
+           "FROM Order o WHERE o.user.id = :userId ORDER BY o.orderedAt DESC, o.id DESC")
+    List<OrderSummaryView> findFirstPageByUserId(@Param("userId") Long userId, Pageable limit);
+
+    /**
+     * 사용자별 주문 목록 다음 페이지 (키셋 페이지네이션)
+     *
+     * 커서 (orderedAt, id) 이후 행만 조회 → 페이지 깊이와 무관하게 일정한 비용
+     *
+     * @param userId 사용자 ID
+     * @param orderedAt 커서 orderedAt
+     * @param id 커서 id
+     * @param limit 조회 건수 (size + 1)
+     * @return 주문 요약 목록 (orderedAt DESC, id DESC)
+     */
+    @Query("SELECT o.id AS id, o.orderNumber AS orderNumber, o.status AS status, " +
+           "o.totalAmount AS totalAmount, o.discountAmount AS discountAmount, " +
+           "o.finalAmount AS finalAmount, o.orderedAt AS orderedAt, " +
+           "o.paidAt AS paidAt, o.cancelledAt AS cancelledAt " +
+           "FROM Order o WHERE o.user.id = :userId " +
+           "AND (o.orderedAt < :orderedAt OR (o.orderedAt = :orderedAt AND o.id < :id)) " +
+           "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<OrderSummaryView> findPageByUserIdAfter(
+        @Param("userId") Long userId,
+        @Param("orderedAt") LocalDateTime orderedAt,
+        @Param("id") Long id,
+        Pageable limit
+    );
+
     /**
      * 사용자별 특정 상태의 주문 목록 조회
      *
@@ -125,6 +206,7 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * Fetch Join:
      * - orderItems: 주문 항목
      * - orderItems.product: 상품 정보
+     * - payment: 결제 정보 (@OneToOne mappedBy는 지연 로딩되지 않아 Fetch Join하지 않으면 SELECT 추가)
      *
      * Note: Multiple bags (orderItems, orderCoupons) cannot be fetch joined simultaneously
      * to avoid MultipleBagFetchException. orderCoupons should be fetched separately if needed.
@@ -135,9 +217,27 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o " +
            "LEFT JOIN FETCH o.orderItems oi " +
            "LEFT JOIN FETCH oi.product " +
+           "LEFT JOIN FETCH o.payment " +
            "WHERE o.id = :id")
     Optional<Order> findByIdWithDetails(@Param("id") Long id);
 
+    /**
+     * ID로 주문 조회 (적용 쿠폰 Fetch Join)
+     *
+     * Use Case:
+     * - UC-013: 주문 상세 조회 (findByIdWithDetails 이후 같은 영속성 컨텍스트에서 호출)
+     *
+     * 영속성 컨텍스트의 같은 주문 인스턴스에 orderCoupons 컬렉션을 초기화
+     * → 주문 상세는 SELECT 2회로 고정 (항목/상품/결제 1회 + 쿠폰 1회)
+     *
+     * @param id 주문 ID
+     * @return 주문 엔티티 (Optional)
+     */
+    @Query("SELECT o FROM Order o " +
+           "LEFT JOIN FETCH o.orderCoupons " +
+           "WHERE o.id = :id")
+    Optional<Order> findByIdWithCoupons(@Param("id") Long id);
+
     /**
      * 특정 기간 동안의 주문 목록 조회
      *
@@ -0,0 +1,34 @@
+package com.hhplus.ecommerce.order.infrastructure.persistence;
+
+import com.hhplus.ecommerce.order.domain.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 조회용 Projection
+ *
+ * 주문 엔티티를 로딩하지 않고 목록에 필요한 컬럼만 조회
+ * - Order.payment(@OneToOne mappedBy)는 지연 로딩이 되지 않아 엔티티 조회 시 주문마다 SELECT 추가 발생
+ * - Projection은 orders 테이블 단일 SELECT로 끝남
+ */
+public interface OrderSummaryView {
+
+    Long getId();
+
+    String getOrderNumber();
+
+    OrderStatus getStatus();
+
+    BigDecimal getTotalAmount();
+
+    BigDecimal getDiscountAmount();
+
+    BigDecimal getFinalAmount();
+
+    LocalDateTime getOrderedAt();
+
+    LocalDateTime getPaidAt();
+
+    LocalDateTime getCancelledAt();
+}
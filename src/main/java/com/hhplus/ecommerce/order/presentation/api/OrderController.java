@@ -1,7 +1,10 @@
 package com.hhplus.ecommerce.order.presentation.api;
 
+import com.hhplus.ecommerce.common.domain.KeysetSlice;
 import com.hhplus.ecommerce.order.application.OrderService;
 import com.hhplus.ecommerce.order.domain.Order;
+import com.hhplus.ecommerce.order.presentation.api.dto.OrderDetailResponse;
+import com.hhplus.ecommerce.order.presentation.api.dto.OrderSummaryResponse;
 import com.hhplus.ecommerce.order.presentation.api.dto.CancelOrderRequest;
 import com.hhplus.ecommerce.order.presentation.api.dto.CreateOrderRequest;
 import io.swagger.v3.oas.annotations.Operation;
@@ -83,16 +86,16 @@ public class OrderController {
      * - GET /api/orders/{orderId}
      *
      * @param orderId 주문 ID
-     * @return 주문 상세 정보
+     * @return 주문 상세 정보 (SELECT 2회: 항목/상품/결제 + 적용 쿠폰)
      */
     @Operation(summary = "주문 상세 조회", description = "주문의 상세 정보를 조회합니다")
     @GetMapping("/{orderId}")
-    public ResponseEntity<Order> getOrder(@PathVariable Long orderId) {
+    public ResponseEntity<OrderDetailResponse> getOrder(@PathVariable Long orderId) {
         log.info("[API] GET /api/orders/{}", orderId);
 
         Order order = orderService.getOrder(orderId);
 
-        return ResponseEntity.ok(order);
+        return ResponseEntity.ok(OrderDetailResponse.from(order));
     }
 
     /**
@@ -106,12 +109,12 @@ public class OrderController {
      */
     @Operation(summary = "주문 번호로 조회", description = "주문 번호로 주문 정보를 조회합니다")
     @GetMapping("/by-number/{orderNumber}")
-    public ResponseEntity<Order> getOrderByNumber(@PathVariable String orderNumber) {
+    public ResponseEntity<OrderDetailResponse> getOrderByNumber(@PathVariable String orderNumber) {
         log.info("[API] GET /api/orders/by-number/{}", orderNumber);
 
         Order order = orderService.getOrderByNumber(orderNumber);
 
-        return ResponseEntity.ok(order);
+        return ResponseEntity.ok(OrderDetailResponse.from(order));
     }
 
     /**
@@ -122,24 +125,53 @@ public class OrderController {
      *
      * @param userId 사용자 ID
      * @param pageable 페이징 정보 (기본: page=0, size=20)
-     * @return 주문 목록 페이지
+     * @return 주문 요약 페이지 (사용자 확인 + 목록 SELECT + COUNT)
      */
     @Operation(
         summary = "사용자별 주문 목록 조회",
         description = "사용자의 주문 목록을 최신순으로 조회합니다"
     )
     @GetMapping
-    public ResponseEntity<Page<Order>> getUserOrders(
+    public ResponseEntity<Page<OrderSummaryResponse>> getUserOrders(
             @RequestParam Long userId,
             @PageableDefault(size = 20) Pageable pageable) {
 
         log.info("[API] GET /api/orders?userId={}", userId);
 
-        Page<Order> orders = orderService.getUserOrders(userId, pageable);
+        Page<OrderSummaryResponse> orders = orderService.getUserOrderSummaries(userId, pageable)
+            .map(OrderSummaryResponse::from);
 
         return ResponseEntity.ok(orders);
     }
 
+    /**
+     * 사용자별 주문 목록 조회 (키셋 페이지네이션)
+     *
+     * Use Case: UC-014
+     * - GET /api/orders/keyset?userId={userId}&after={orderedAt},{id}&size=20
+     * - 응답의 nextCursor를 다음 요청의 after로 전달
+     *
+     * @param userId 사용자 ID
+     * @param after 이전 페이지의 nextCursor (생략 시 첫 페이지)
+     * @param size 페이지 크기
+     * @return 주문 요약 Slice
+     */
+    @Operation(
+        summary = "사용자별 주문 목록 조회 (키셋)",
+        description = "커서 기반으로 사용자의 주문 목록을 최신순으로 조회합니다"
+    )
+    @GetMapping("/keyset")
+    public ResponseEntity<KeysetSlice<OrderSummaryResponse>> getUserOrdersKeyset(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("[API] GET /api/orders/keyset?userId={} - after: {}", userId, after);
+
+        return ResponseEntity.ok(orderService.getUserOrdersAfter(userId, after, size)
+            .map(OrderSummaryResponse::from));
+    }
+
     /**
      * 주문 취소
      *
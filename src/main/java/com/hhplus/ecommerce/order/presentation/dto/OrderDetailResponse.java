@@ -0,0 +1,178 @@
+package com.hhplus.ecommerce.order.presentation.api.dto;
+
+import com.hhplus.ecommerce.coupon.domain.OrderCoupon;
+import com.hhplus.ecommerce.order.domain.Order;
+import com.hhplus.ecommerce.order.domain.OrderItem;
+import com.hhplus.ecommerce.order.domain.OrderStatus;
+import com.hhplus.ecommerce.payment.domain.Payment;
+import com.hhplus.ecommerce.payment.domain.PaymentMethod;
+import com.hhplus.ecommerce.payment.domain.PaymentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 상세 응답 DTO
+ *
+ * Use Case: UC-013
+ * - OrderService.getOrder()가 Fetch Join으로 초기화한 항목/쿠폰/결제만 사용
+ * - 연관 엔티티는 ID만 노출 (프록시 초기화 없음)
+ */
+@Schema(description = "주문 상세 응답")
+@Getter
+@Builder
+public class OrderDetailResponse {
+
+    @Schema(description = "주문 ID", example = "1")
+    private Long orderId;
+
+    @Schema(description = "주문 번호", example = "ORD-20251105-000001")
+    private String orderNumber;
+
+    @Schema(description = "주문 상태", example = "PAID")
+    private OrderStatus status;
+
+    @Schema(description = "총 상품 금액", example = "50000")
+    private BigDecimal totalAmount;
+
+    @Schema(description = "할인 금액", example = "5000")
+    private BigDecimal discountAmount;
+
+    @Schema(description = "최종 결제 금액", example = "45000")
+    private BigDecimal finalAmount;
+
+    @Schema(description = "주문 일시", example = "2025-11-05T12:30:00")
+    private LocalDateTime orderedAt;
+
+    @Schema(description = "결제 일시", example = "2025-11-05T12:30:01")
+    private LocalDateTime paidAt;
+
+    @Schema(description = "취소 일시")
+    private LocalDateTime cancelledAt;
+
+    @Schema(description = "취소 사유")
+    private String cancellationReason;
+
+    @Schema(description = "주문 항목")
+    private List<Item> items;
+
+    @Schema(description = "적용 쿠폰")
+    private List<AppliedCoupon> coupons;
+
+    @Schema(description = "결제 정보 (결제 전이면 null)")
+    private PaymentInfo payment;
+
+    /**
+     * Entity → DTO 변환
+     */
+    public static OrderDetailResponse from(Order order) {
+        return OrderDetailResponse.builder()
+            .orderId(order.getId())
+            .orderNumber(order.getOrderNumber())
+            .status(order.getStatus())
+            .totalAmount(order.getTotalAmount())
+            .discountAmount(order.getDiscountAmount())
+            .finalAmount(order.getFinalAmount())
+            .orderedAt(order.getOrderedAt())
+            .paidAt(order.getPaidAt())
+            .cancelledAt(order.getCancelledAt())
+            .cancellationReason(order.getCancellationReason())
+            .items(order.getOrderItems().stream().map(Item::from).toList())
+            .coupons(order.getOrderCoupons().stream().map(AppliedCoupon::from).toList())
+            .payment(order.getPayment() != null ? PaymentInfo.from(order.getPayment()) : null)
+            .build();
+    }
+
+    @Schema(description = "주문 항목")
+    @Getter
+    @Builder
+    public static class Item {
+
+        @Schema(description = "상품 ID", example = "1")
+        private Long productId;
+
+        @Schema(description = "주문 시점 상품명", example = "노트북")
+        private String productName;
+
+        @Schema(description = "주문 시점 단가", example = "25000")
+        private BigDecimal price;
+
+        @Schema(description = "수량", example = "2")
+        private Integer quantity;
+
+        @Schema(description = "소계", example = "50000")
+        private BigDecimal subtotal;
+
+        static Item from(OrderItem orderItem) {
+            return Item.builder()
+                .productId(orderItem.getProduct().getId())
+                .productName(orderItem.getProductName())
+                .price(orderItem.getPrice())
+                .quantity(orderItem.getQuantity())
+                .subtotal(orderItem.getSubtotal())
+                .build();
+        }
+    }
+
+    @Schema(description = "적용 쿠폰")
+    @Getter
+    @Builder
+    public static class AppliedCoupon {
+
+        @Schema(description = "사용자 쿠폰 ID", example = "10")
+        private Long userCouponId;
+
+        @Schema(description = "할인 금액", example = "5000")
+        private BigDecimal discountAmount;
+
+        @Schema(description = "적용 일시", example = "2025-11-05T12:30:00")
+        private LocalDateTime appliedAt;
+
+        static AppliedCoupon from(OrderCoupon orderCoupon) {
+            return AppliedCoupon.builder()
+                .userCouponId(orderCoupon.getUserCoupon().getId())
+                .discountAmount(orderCoupon.getDiscountAmount())
+                .appliedAt(orderCoupon.getAppliedAt())
+                .build();
+        }
+    }
+
+    @Schema(description = "결제 정보")
+    @Getter
+    @Builder
+    public static class PaymentInfo {
+
+        @Schema(description = "결제 ID", example = "1")
+        private Long paymentId;
+
+        @Schema(description = "결제 금액", example = "45000")
+        private BigDecimal amount;
+
+        @Schema(description = "결제 수단", example = "BALANCE")
+        private PaymentMethod method;
+
+        @Schema(description = "결제 상태", example = "COMPLETED")
+        private PaymentStatus status;
+
+        @Schema(description = "결제 완료 일시", example = "2025-11-05T12:30:01")
+        private LocalDateTime completedAt;
+
+        @Schema(description = "실패 사유")
+        private String failureReason;
+
+        static PaymentInfo from(Payment payment) {
+            return PaymentInfo.builder()
+                .paymentId(payment.getId())
+                .amount(payment.getAmount())
+                .method(payment.getMethod())
+                .status(payment.getStatus())
+                .completedAt(payment.getCompletedAt())
+                .failureReason(payment.getFailureReason())
+                .build();
+        }
+    }
+}
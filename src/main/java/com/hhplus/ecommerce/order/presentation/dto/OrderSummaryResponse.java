@@ -0,0 +1,66 @@
+package com.hhplus.ecommerce.order.presentation.api.dto;
+
+import com.hhplus.ecommerce.order.domain.OrderStatus;
+import com.hhplus.ecommerce.order.infrastructure.persistence.OrderSummaryView;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록 항목 응답 DTO
+ *
+ * Use Case: UC-014
+ * - 주문 목록 Projection(OrderSummaryView) 변환
+ */
+@Schema(description = "주문 목록 항목")
+@Getter
+@Builder
+public class OrderSummaryResponse {
+
+    @Schema(description = "주문 ID", example = "1")
+    private Long orderId;
+
+    @Schema(description = "주문 번호", example = "ORD-20251105-000001")
+    private String orderNumber;
+
+    @Schema(description = "주문 상태", example = "PAID")
+    private OrderStatus status;
+
+    @Schema(description = "총 상품 금액", example = "50000")
+    private BigDecimal totalAmount;
+
+    @Schema(description = "할인 금액", example = "5000")
+    private BigDecimal discountAmount;
+
+    @Schema(description = "최종 결제 금액", example = "45000")
+    private BigDecimal finalAmount;
+
+    @Schema(description = "주문 일시", example = "2025-11-05T12:30:00")
+    private LocalDateTime orderedAt;
+
+    @Schema(description = "결제 일시", example = "2025-11-05T12:30:01")
+    private LocalDateTime paidAt;
+
+    @Schema(description = "취소 일시")
+    private LocalDateTime cancelledAt;
+
+    /**
+     * Projection → DTO 변환
+     */
+    public static OrderSummaryResponse from(OrderSummaryView view) {
+        return OrderSummaryResponse.builder()
+            .orderId(view.getId())
+            .orderNumber(view.getOrderNumber())
+            .status(view.getStatus())
+            .totalAmount(view.getTotalAmount())
+            .discountAmount(view.getDiscountAmount())
+            .finalAmount(view.getFinalAmount())
+            .orderedAt(view.getOrderedAt())
+            .paidAt(view.getPaidAt())
+            .cancelledAt(view.getCancelledAt())
+            .build();
+    }
+}
@@ -1,19 +1,27 @@
 package com.hhplus.ecommerce.payment.application;
 
 import com.hhplus.ecommerce.common.application.DomainEventStoreService;
+import com.hhplus.ecommerce.common.application.HistoryWriter;
 import com.hhplus.ecommerce.common.domain.DomainEventStore;
 import com.hhplus.ecommerce.common.domain.event.BalanceDeductionPayload;
+import com.hhplus.ecommerce.common.infrastructure.bulkhead.BulkheadFullException;
 import com.hhplus.ecommerce.config.KafkaConfig;
+import com.hhplus.ecommerce.integration.application.OutboxEventPublisher;
+import com.hhplus.ecommerce.integration.application.SagaMetrics;
+import com.hhplus.ecommerce.integration.domain.EventType;
 import com.hhplus.ecommerce.order.domain.Order;
 import com.hhplus.ecommerce.payment.domain.Payment;
 import com.hhplus.ecommerce.order.domain.event.OrderCompletedEvent;
 import com.hhplus.ecommerce.order.infrastructure.persistence.OrderRepository;
 import com.hhplus.ecommerce.product.application.BalanceDeductionEvent;
+import com.hhplus.ecommerce.product.application.StockBulkService;
+import com.hhplus.ecommerce.product.application.StockReservationService;
 import com.hhplus.ecommerce.product.domain.Product;
 import com.hhplus.ecommerce.product.domain.StockHistory;
 import com.hhplus.ecommerce.product.domain.StockTransactionType;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
-import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
+import com.hhplus.ecommerce.user.application.BalanceLedger;
+import com.hhplus.ecommerce.user.application.BalanceLedgerTimeoutException;
 import com.hhplus.ecommerce.user.domain.BalanceHistory;
 import com.hhplus.ecommerce.user.domain.BalanceTransactionType;
 import com.hhplus.ecommerce.user.domain.User;
@@ -22,7 +30,6 @@ import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
@@ -35,6 +42,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 
 /**
  * 결제 처리 Kafka Consumer (stock-events → payment-events)
@@ -44,11 +52,19 @@ import java.time.LocalDateTime;
  *
  * 처리 흐름:
  * 1. stock-events 토픽에서 BalanceDeductionEvent 수신
- * 2. 잔액 차감 처리 (비관적 락)
+ * 2. 잔액 차감 처리 (비관적 락, balance.ledger.group-commit-enabled=true면 그룹 커밋 원장)
  * 3. 잔액 이력 기록
  * 4. Order 및 Payment 완료 처리
  * 5. 성공 시: payment-events 토픽으로 OrderCompletedEvent 발행
  * 6. 실패 시: 보상 트랜잭션 (재고 복구 + 주문 취소)
+ *    - 벌크헤드 포화(BulkheadFullException)는 일시적 과부하 → 보상/ack 없이 재전달
+ *      (원장 차감이 이미 커밋됐으면 재전달 시 중복 차감되지 않도록 환불만 수행)
+ *    - 원장 대기 시간 초과(BalanceLedgerTimeoutException)도 보상/ack 없이 재전달
+ *      (결과 미확인 차감은 커밋됐을 수 있으므로 재전달 시 잔액 이력으로 확인 후 차감 생략)
+ *
+ * 메트릭 (SagaMetrics, hop=stock-events):
+ * - 이벤트 생성 시각 헤더 기준 대기 시간, 처리 시간, 보상 횟수
+ * - 결제 완료 시 주문 PENDING → PAID 종단 지연 시간
  */
 @Slf4j
 @Component
@@ -57,11 +73,20 @@ public class PaymentKafkaConsumer {
 
     private final UserRepository userRepository;
     private final BalanceHistoryRepository balanceHistoryRepository;
+    private final HistoryWriter historyWriter;
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
-    private final StockHistoryRepository stockHistoryRepository;
     private final DomainEventStoreService eventStoreService;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final StockReservationService stockReservationService;
+    private final StockBulkService stockBulkService;
+    private final BalanceLedger balanceLedger;
+    private final SagaMetrics sagaMetrics;
+
+    private static final String PAYMENT_DESCRIPTION_PREFIX = "주문 결제: ";
+    private static final String LEDGER_REFUND_DESCRIPTION_PREFIX = "결제 처리 실패 환불: ";
+    // 이전 시도 차감 확인 범위 (재전달은 수 분 안에 일어나므로 최근 이력만 조회)
+    private static final long LEDGER_DEDUCTION_LOOKBACK_HOURS = 24L;
 
     @KafkaListener(
         topics = KafkaConfig.TOPIC_STOCK_EVENTS,
@@ -78,36 +103,30 @@ public class PaymentKafkaConsumer {
             @Payload BalanceDeductionEvent event,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(name = SagaMetrics.EVENT_CREATED_AT_HEADER, required = false) byte[] eventCreatedAt,
             Acknowledgment ack) {
 
+        long startNanos = System.nanoTime();
+        sagaMetrics.recordQueueDelay(KafkaConfig.TOPIC_STOCK_EVENTS, eventCreatedAt);
+
         log.info("[Kafka] 잔액 차감 시작 - partition: {}, offset: {}, orderId: {}, userId: {}, amount: {}",
                  partition, offset, event.getOrderId(), event.getUserId(), event.getAmount());
 
+        boolean ledgerDeducted = false;
+
         try {
             // 잔액 차감
-            User user = userRepository.findByIdWithLock(event.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException(
-                    "사용자를 찾을 수 없습니다. userId: " + event.getUserId()));
-
-            BigDecimal balanceBefore = user.getBalance();
-            user.useBalance(event.getAmount());
-            userRepository.save(user);
-
-            // 잔액 이력 기록
-            BalanceHistory history = BalanceHistory.builder()
-                .user(user)
-                .type(BalanceTransactionType.USE)
-                .amount(event.getAmount())
-                .balanceBefore(balanceBefore)
-                .balanceAfter(user.getBalance())
-                .description("주문 결제: " + event.getOrderNumber())
-                .createdAt(LocalDateTime.now())
-                .build();
-
-            balanceHistoryRepository.save(history);
+            BigDecimal balanceAfter;
+            if (balanceLedger.isEnabled()) {
+                // 그룹 커밋 원장: 같은 사용자의 대기 요청과 한 트랜잭션으로 반영 (별도 커밋)
+                balanceAfter = deductWithLedger(event);
+                ledgerDeducted = true;
+            } else {
+                balanceAfter = deductBalanceWithLock(event);
+            }
 
             log.info("[Kafka] 잔액 차감 성공 - orderId: {}, userId: {}, balanceAfter: {}",
-                     event.getOrderId(), event.getUserId(), user.getBalance());
+                     event.getOrderId(), event.getUserId(), balanceAfter);
 
             // Order 및 Payment 완료 처리
             completeOrderAndPayment(event.getOrderId());
@@ -126,10 +145,19 @@ public class PaymentKafkaConsumer {
                     .toList())
                 .build();
 
-            kafkaTemplate.send(KafkaConfig.TOPIC_PAYMENT_EVENTS, event.getOrderId().toString(), completedEvent);
+            outboxEventPublisher.publish(EventType.ORDER_PAID, event.getOrderId(),
+                                         KafkaConfig.TOPIC_PAYMENT_EVENTS, event.getOrderId().toString(), completedEvent);
             log.info("[Kafka] payment-events 발행 - orderId: {}", event.getOrderId());
 
             ack.acknowledge();
+            sagaMetrics.recordProcessing(KafkaConfig.TOPIC_STOCK_EVENTS, SagaMetrics.OUTCOME_SUCCESS, startNanos);
+
+        } catch (BalanceLedgerTimeoutException e) {
+            // 원장 적체: 차감 거절이 아니므로 보상하지 않음 (결과 미확인이면 이미 커밋됐을 수 있음)
+            log.warn("[Kafka] 잔액 차감 보류 (원장 대기 시간 초과, 결과 미확인: {}) - orderId: {}, 재전달 시 재시도",
+                     e.isOutcomeUnknown(), event.getOrderId());
+            sagaMetrics.recordProcessing(KafkaConfig.TOPIC_STOCK_EVENTS, SagaMetrics.OUTCOME_RETRY, startNanos);
+            throw e;  // 보상/ack 없이 재전달
 
         } catch (IllegalStateException e) {
             log.error("[Kafka] 잔액 차감 실패 - orderId: {}, reason: {}",
@@ -137,15 +165,95 @@ public class PaymentKafkaConsumer {
             restoreStockAndCancelOrder(event, "잔액 차감 실패: " + e.getMessage());
             saveToDomainEventStore(event, e.getMessage());
             ack.acknowledge();
+            sagaMetrics.recordProcessing(KafkaConfig.TOPIC_STOCK_EVENTS, SagaMetrics.OUTCOME_COMPENSATED, startNanos);
 
         } catch (Exception e) {
+            if (ledgerDeducted) {
+                // 원장 차감은 이미 커밋됨 → 재전달 시 중복 차감되지 않도록 환불
+                refundLedgerDeduction(event);
+            }
+
+            if (BulkheadFullException.isCauseOf(e)) {
+                log.warn("[Kafka] 잔액 차감 보류 (벌크헤드 포화) - orderId: {}, 재전달 시 재시도", event.getOrderId());
+                sagaMetrics.recordProcessing(KafkaConfig.TOPIC_STOCK_EVENTS, SagaMetrics.OUTCOME_RETRY, startNanos);
+                throw e;  // 보상/ack 없이 재전달
+            }
+
             log.error("[Kafka] 잔액 차감 중 예외 발생 - orderId: {}", event.getOrderId(), e);
             restoreStockAndCancelOrder(event, "잔액 차감 중 예외 발생: " + e.getMessage());
             saveToDomainEventStore(event, e.getMessage());
+            sagaMetrics.recordProcessing(KafkaConfig.TOPIC_STOCK_EVENTS, SagaMetrics.OUTCOME_ERROR, startNanos);
             throw e;
         }
     }
 
+    private BigDecimal deductBalanceWithLock(BalanceDeductionEvent event) {
+        User user = userRepository.findByIdWithLock(event.getUserId())
+            .orElseThrow(() -> new IllegalArgumentException(
+                "사용자를 찾을 수 없습니다. userId: " + event.getUserId()));
+
+        BigDecimal balanceBefore = user.getBalance();
+        user.useBalance(event.getAmount());
+        userRepository.save(user);
+
+        // 잔액 이력 기록
+        BalanceHistory history = BalanceHistory.builder()
+            .user(user)
+            .type(BalanceTransactionType.USE)
+            .amount(event.getAmount())
+            .balanceBefore(balanceBefore)
+            .balanceAfter(user.getBalance())
+            .description(PAYMENT_DESCRIPTION_PREFIX + event.getOrderNumber())
+            .createdAt(LocalDateTime.now())
+            .build();
+
+        historyWriter.record(history);
+
+        return user.getBalance();
+    }
+
+    /**
+     * 원장 차감 (재전달 시 중복 차감 방지)
+     *
+     * 이전 시도가 결과 미확인(BalanceLedgerTimeoutException)으로 끝났으면 차감이 커밋됐을 수 있으므로
+     * 이 주문의 차감 이력이 환불 이력보다 많으면 다시 차감하지 않음
+     *
+     * 비동기 이력 Writer(history.async-writer-enabled) 사용 시 이력은 커밋 직후 짧은 지연 후 저장됨
+     * → 재전달 백오프가 그보다 길어야 확인 가능
+     *
+     * @return 차감 후 잔액 (이미 차감됨: null)
+     */
+    private BigDecimal deductWithLedger(BalanceDeductionEvent event) {
+        if (isLedgerDeductionCommitted(event)) {
+            log.info("[Kafka] 이전 시도의 원장 차감이 이미 커밋됨 - 차감 생략, orderId: {}", event.getOrderId());
+            return null;
+        }
+        return balanceLedger.deduct(event.getUserId(), event.getAmount(), PAYMENT_DESCRIPTION_PREFIX + event.getOrderNumber());
+    }
+
+    private boolean isLedgerDeductionCommitted(BalanceDeductionEvent event) {
+        LocalDateTime since = LocalDateTime.now().minusHours(LEDGER_DEDUCTION_LOOKBACK_HOURS);
+        long deducted = balanceHistoryRepository.countByUserIdAndTypeAndDescriptionSince(
+            event.getUserId(), BalanceTransactionType.USE, PAYMENT_DESCRIPTION_PREFIX + event.getOrderNumber(), since);
+        if (deducted == 0) {
+            return false;
+        }
+
+        long refunded = balanceHistoryRepository.countByUserIdAndTypeAndDescriptionSince(
+            event.getUserId(), BalanceTransactionType.REFUND, LEDGER_REFUND_DESCRIPTION_PREFIX + event.getOrderNumber(), since);
+        return deducted > refunded;
+    }
+
+    private void refundLedgerDeduction(BalanceDeductionEvent event) {
+        try {
+            balanceLedger.refund(event.getUserId(), event.getAmount(), LEDGER_REFUND_DESCRIPTION_PREFIX + event.getOrderNumber());
+            sagaMetrics.countCompensation("balance-refund");
+        } catch (Exception e) {
+            log.error("[보상] 원장 차감 환불 실패 - orderId: {}, userId: {}, amount: {}",
+                      event.getOrderId(), event.getUserId(), event.getAmount(), e);
+        }
+    }
+
     private void completeOrderAndPayment(Long orderId) {
         try {
             Order order = orderRepository.findById(orderId).orElseThrow();
@@ -156,6 +264,7 @@ public class PaymentKafkaConsumer {
                 log.info("[Kafka] 결제 완료 처리 - orderId: {}, paymentId: {}", orderId, payment.getId());
             }
             orderRepository.save(order);
+            sagaMetrics.recordOrderPaid(order.getOrderedAt(), order.getPaidAt());
         } catch (Exception e) {
             log.error("[Kafka] 주문 및 결제 완료 처리 실패 - orderId: {}", orderId, e);
         }
@@ -163,23 +272,36 @@ public class PaymentKafkaConsumer {
 
     private void restoreStockAndCancelOrder(BalanceDeductionEvent event, String reason) {
         try {
-            for (var productInfo : event.getOrderProducts()) {
-                Product product = productRepository.findByIdWithLock(productInfo.getProductId()).orElse(null);
-                if (product != null) {
-                    int stockBefore = product.getStock();
-                    product.increaseStock(productInfo.getQuantity());
-                    productRepository.save(product);
-
-                    StockHistory history = StockHistory.builder()
-                        .product(product)
-                        .type(StockTransactionType.INCREASE)
-                        .quantity(productInfo.getQuantity())
-                        .stockBefore(stockBefore)
-                        .stockAfter(product.getStock())
-                        .reason("잔액 차감 실패로 재고 복구: " + event.getOrderNumber())
-                        .createdAt(LocalDateTime.now())
-                        .build();
-                    stockHistoryRepository.save(history);
+            // 재고 원장 모드: 원장에 반환 (DB는 write-back 시 반영)
+            if (stockReservationService.isEnabled()) {
+                LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+                event.getOrderProducts().forEach(productInfo ->
+                    lines.merge(productInfo.getProductId(), productInfo.getQuantity(), Integer::sum));
+                stockReservationService.releaseAfterCommit(event.getOrderId(), lines);
+            } else if (stockBulkService.isEnabled()) {
+                LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+                event.getOrderProducts().forEach(productInfo ->
+                    lines.merge(productInfo.getProductId(), productInfo.getQuantity(), Integer::sum));
+                stockBulkService.increase(lines, "잔액 차감 실패로 재고 복구: " + event.getOrderNumber());
+            } else {
+                for (var productInfo : event.getOrderProducts()) {
+                    Product product = productRepository.findByIdWithLock(productInfo.getProductId()).orElse(null);
+                    if (product != null) {
+                        int stockBefore = product.getStock();
+                        product.increaseStock(productInfo.getQuantity());
+                        productRepository.save(product);
+
+                        StockHistory history = StockHistory.builder()
+                            .product(product)
+                            .type(StockTransactionType.INCREASE)
+                            .quantity(productInfo.getQuantity())
+                            .stockBefore(stockBefore)
+                            .stockAfter(product.getStock())
+                            .reason("잔액 차감 실패로 재고 복구: " + event.getOrderNumber())
+                            .createdAt(LocalDateTime.now())
+                            .build();
+                        historyWriter.record(history);
+                    }
                 }
             }
 
@@ -187,6 +309,7 @@ public class PaymentKafkaConsumer {
             if (order != null) {
                 order.cancel(reason);
                 orderRepository.save(order);
+                sagaMetrics.countCompensation("payment");
                 log.info("[보상] 재고 복구 및 주문 취소 완료 - orderId: {}", event.getOrderId());
             }
         } catch (Exception e) {
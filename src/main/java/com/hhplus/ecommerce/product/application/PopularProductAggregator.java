@@ -0,0 +1,70 @@
+package com.hhplus.ecommerce.product.application;
+
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기상품 판매 집계기
+ *
+ * Application Layer - 인기상품 집계 공통 처리
+ *
+ * 책임:
+ * - 주문 상품 판매 수량을 인기도 스코어에 반영
+ * - 오래된 상품 정보 Hash만 DB에서 다시 읽어 갱신
+ *
+ * 처리 비용 (주문 상품 N개):
+ * - 기존: 상품마다 ZINCRBY 파이프라인 + findById + HSET + EXPIRE (Redis 3N회 왕복, DB N회)
+ * - 집계기: 파이프라인 1회 (ZINCRBY/TTL 확인) + 갱신 대상만 findAllById 1회 + 파이프라인 1회 (HSET/EXPIRE)
+ *   → 갱신 주기(product.ranking.info-refresh-seconds) 이내 재주문 상품은 DB 조회/HSET 생략
+ *
+ * 사용처:
+ * - OrderCompletedKafkaConsumer, PopularProductEventListener, DomainEventRetryService
+ * - 여러 주문을 합산한 수량(Kafka poll 단위 등)도 그대로 전달 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularProductAggregator {
+
+    private final ProductRedisRepository productRedisRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * 판매 수량 집계 (현재 시각 버킷)
+     *
+     * @param quantities 상품 ID → 판매 수량
+     */
+    public void aggregate(Map<Long, Integer> quantities) {
+        aggregate(quantities, LocalDateTime.now());
+    }
+
+    /**
+     * 판매 수량 집계
+     *
+     * @param quantities 상품 ID → 판매 수량
+     * @param occurredAt 판매 발생 시각 (재처리 이벤트는 원래 주문 시각 버킷에 반영)
+     */
+    public void aggregate(Map<Long, Integer> quantities, LocalDateTime occurredAt) {
+        Set<Long> staleProductIds = productRedisRepository.incrementPopularityScores(quantities, occurredAt);
+        if (staleProductIds.isEmpty()) {
+            return;
+        }
+
+        List<Product> products = productRepository.findAllById(staleProductIds);
+        if (products.size() < staleProductIds.size()) {
+            log.warn("[인기상품] 상품 정보 갱신 대상 중 존재하지 않는 상품 제외 - 대상: {}개, 조회: {}개",
+                     staleProductIds.size(), products.size());
+        }
+
+        productRedisRepository.cacheProductInfos(products);
+    }
+}
@@ -4,9 +4,6 @@ import com.hhplus.ecommerce.common.application.DomainEventStoreService;
 import com.hhplus.ecommerce.common.domain.DomainEventStore;
 import com.hhplus.ecommerce.common.domain.event.PopularProductAggregationPayload;
 import com.hhplus.ecommerce.order.domain.event.OrderCompletedEvent;
-import com.hhplus.ecommerce.product.domain.Product;
-import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository;
-import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -16,6 +13,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.LinkedHashMap;
+
 /**
  * 인기상품 집계 이벤트 리스너
  *
@@ -31,7 +30,8 @@ import org.springframework.transaction.event.TransactionalEventListener;
  *
  * 처리 내용:
  * 1. Redis Sorted Set에 상품별 인기도 스코어 증가
- * 2. Redis Hash에 상품 정보 캐싱
+ * 2. Redis Hash에 상품 정보 캐싱 (갱신 주기 경과 상품만)
+ * → PopularProductAggregator로 주문 전 상품을 파이프라인 일괄 반영
  *
  * 트랜잭션:
  * - REQUIRES_NEW: 독립적인 새 트랜잭션 생성
@@ -52,8 +52,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class PopularProductEventListener {
 
-    private final ProductRedisRepository productRedisRepository;
-    private final ProductRepository productRepository;
+    private final PopularProductAggregator popularProductAggregator;
     private final DomainEventStoreService eventStoreService;
 
     /**
@@ -63,8 +62,8 @@ public class PopularProductEventListener {
      * - 주문 트랜잭션 커밋 성공
      *
      * 처리 내용:
-     * 1. 주문된 각 상품의 인기도 스코어 증가
-     * 2. 상품 정보를 Redis 캐시에 저장
+     * 1. 주문된 전 상품의 인기도 스코어 증가 (파이프라인 1회)
+     * 2. 갱신 주기가 지난 상품 정보만 Redis 캐시에 저장
      *
      * 예외 처리:
      * - Redis 장애 시: 로그만 기록 (주문은 정상 완료)
@@ -80,34 +79,11 @@ public class PopularProductEventListener {
                  event.getOrderId(), event.getOrderProducts().size());
 
         try {
-            // 각 주문 상품별로 인기도 스코어 증가
-            for (OrderCompletedEvent.OrderProductInfo productInfo : event.getOrderProducts()) {
-                try {
-                    // Step 1: 인기도 스코어 증가 (Redis Sorted Set)
-                    productRedisRepository.incrementPopularityScore(
-                        productInfo.getProductId(),
-                        productInfo.getQuantity()
-                    );
-
-                    // Step 2: 상품 정보 캐싱 (Redis Hash)
-                    // 상품 정보 조회 (읽기 전용)
-                    Product product = productRepository.findById(productInfo.getProductId())
-                        .orElse(null);
-
-                    if (product != null) {
-                        productRedisRepository.cacheProductInfo(product);
-                        log.debug("[이벤트] 인기상품 집계 완료 - productId: {}, quantity: {}",
-                                 productInfo.getProductId(), productInfo.getQuantity());
-                    } else {
-                        log.warn("[이벤트] 상품을 찾을 수 없음 - productId: {}", productInfo.getProductId());
-                    }
-
-                } catch (Exception e) {
-                    // 개별 상품 처리 실패 시 다음 상품 계속 처리
-                    log.error("[이벤트] 인기상품 집계 실패 (개별 상품) - productId: {}, orderId: {}",
-                              productInfo.getProductId(), event.getOrderId(), e);
-                }
-            }
+            // 인기도 스코어 증가 + 상품 정보 캐싱 (주문 전 상품 일괄)
+            LinkedHashMap<Long, Integer> quantities = new LinkedHashMap<>();
+            event.getOrderProducts().forEach(productInfo ->
+                quantities.merge(productInfo.getProductId(), productInfo.getQuantity(), Integer::sum));
+            popularProductAggregator.aggregate(quantities);
 
             log.info("[이벤트] 인기상품 집계 완료 - orderId: {}, 처리된 상품 수: {}",
                      event.getOrderId(), event.getOrderProducts().size());
@@ -0,0 +1,298 @@
+package com.hhplus.ecommerce.product.application;
+
+import com.hhplus.ecommerce.config.PopularRankingProperties;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 실시간 인기상품 랭킹 스냅샷 생성기
+ *
+ * Application Layer - 조회 모델 생성
+ *
+ * 책임:
+ * - Redis 랭킹(ZSET) + 상품 정보 캐시(Hash)를 합쳐 상위 N개 불변 스냅샷 생성
+ * - 집계 구간(snapshot-windows)별 스냅샷을 한 번에 생성
+ * - 스냅샷 묶음을 AtomicReference로 교체하여 조회 요청에 제공
+ *
+ * 기존 경로(getRealtimePopularProductsWithStats)와의 차이:
+ * - 기존: 요청마다 ZREVRANGE + findAllById + 상품 매칭
+ * - 스냅샷: 요청은 메모리 참조만 읽음 (Redis/DB 접근 없음), 생성은 백그라운드에서 수행
+ *
+ * 재생성 조건 (refresh-delay-ms 주기로 확인):
+ * - 이 인스턴스에서 인기도 스코어가 변경됨 (ProductRedisRepository 변경 횟수 비교)
+ * - 마지막 생성 후 max-age-ms 경과 (다른 인스턴스의 변경 반영, 시간 버킷 경계 통과)
+ *
+ * 상품 정보:
+ * - info:product:{id} Hash 우선 사용 (cacheProductInfo가 저장)
+ * - Hash가 없는 상품만 DB에서 일괄 조회 (백그라운드 생성 시에만)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularProductRankingMaterializer {
+
+    private final ProductRedisRepository productRedisRepository;
+    private final ProductRepository productRepository;
+    private final PopularRankingProperties popularRankingProperties;
+
+    private static final int WINDOW_ALL_TIME = 0;
+
+    // 집계 구간(시간) → 스냅샷 (불변 Map, 통째로 교체)
+    private final AtomicReference<Map<Integer, RankingSnapshot>> snapshots =
+        new AtomicReference<>(Map.of(WINDOW_ALL_TIME, RankingSnapshot.empty()));
+
+    /**
+     * 상위 N개 랭킹 조회 (전체 누적, 메모리 스냅샷)
+     *
+     * @param topN 조회할 상위 개수 (스냅샷 크기 초과 시 스냅샷 전체)
+     * @return 순위 순 랭킹 목록
+     */
+    public List<RankingEntry> getTop(int topN) {
+        return getTop(topN, WINDOW_ALL_TIME);
+    }
+
+    /**
+     * 최근 N시간 상위 랭킹 조회 (메모리 스냅샷)
+     *
+     * @param windowHours 집계 구간 (0 = 전체 누적)
+     * @throws IllegalArgumentException 스냅샷을 유지하지 않는 구간
+     */
+    public List<RankingEntry> getTop(int topN, int windowHours) {
+        return getSnapshot(windowHours).top(topN);
+    }
+
+    public RankingSnapshot getSnapshot() {
+        return getSnapshot(WINDOW_ALL_TIME);
+    }
+
+    public RankingSnapshot getSnapshot(int windowHours) {
+        int window = Math.max(windowHours, WINDOW_ALL_TIME);
+        RankingSnapshot snapshot = snapshots.get().get(window);
+        if (snapshot == null) {
+            if (!popularRankingProperties.getSnapshotWindows().contains(window)) {
+                throw new IllegalArgumentException(
+                    "지원하지 않는 집계 구간입니다. 가능: " + popularRankingProperties.getSnapshotWindows());
+            }
+            return RankingSnapshot.empty(); // 첫 생성 전
+        }
+        return snapshot;
+    }
+
+    /**
+     * 변경 또는 만료 시 스냅샷 재생성
+     */
+    @Scheduled(fixedDelayString = "${product.ranking.refresh-delay-ms:500}")
+    public void refreshIfStale() {
+        long mutationCount = productRedisRepository.getPopularityMutationCount();
+        RankingSnapshot current = getSnapshot();
+
+        boolean changed = mutationCount != current.getMutationCount();
+        boolean expired = !LocalDateTime.now()
+            .isBefore(current.getBuiltAt().plus(Duration.ofMillis(popularRankingProperties.getMaxAgeMs())));
+
+        if (changed || expired) {
+            rebuild(mutationCount);
+        }
+    }
+
+    /**
+     * 스냅샷 즉시 재생성
+     *
+     * @return 전체 누적 스냅샷
+     */
+    public RankingSnapshot rebuild() {
+        rebuild(productRedisRepository.getPopularityMutationCount());
+        return getSnapshot();
+    }
+
+    /**
+     * 구간별 스냅샷 생성 후 일괄 교체
+     *
+     * 변경 횟수는 생성 전에 읽음 → 생성 중 발생한 변경은 다음 주기에 다시 반영
+     * 구간별 생성 실패(Redis 장애 등 예외) 시 해당 구간은 기존 스냅샷 유지
+     * - 랭킹 조회는 장애를 빈 목록으로 바꾸지 않고 예외로 전달 → 장애 중 빈 스냅샷 게시 방지
+     */
+    private synchronized void rebuild(long mutationCount) {
+        Map<Integer, RankingSnapshot> previous = snapshots.get();
+        Map<Integer, RankingSnapshot> rebuilt = new HashMap<>();
+        LocalDateTime baseTime = LocalDateTime.now();
+
+        for (Integer windowHours : popularRankingProperties.getSnapshotWindows()) {
+            RankingSnapshot snapshot = build(windowHours, baseTime, mutationCount);
+            if (snapshot == null) {
+                snapshot = previous.getOrDefault(windowHours, RankingSnapshot.empty());
+            }
+            rebuilt.put(windowHours, snapshot);
+        }
+        rebuilt.putIfAbsent(WINDOW_ALL_TIME, previous.getOrDefault(WINDOW_ALL_TIME, RankingSnapshot.empty()));
+
+        snapshots.set(Map.copyOf(rebuilt));
+    }
+
+    private RankingSnapshot build(int windowHours, LocalDateTime baseTime, long mutationCount) {
+        try {
+            List<ProductRedisRepository.PopularProduct> ranking = productRedisRepository.getTopPopularProducts(
+                popularRankingProperties.getSnapshotSize(), windowHours, baseTime);
+
+            List<Long> productIds = ranking.stream()
+                .map(ProductRedisRepository.PopularProduct::getProductId)
+                .toList();
+            List<Map<String, String>> productInfos =
+                validProductInfos(productIds, productRedisRepository.getCachedProductInfos(productIds));
+            Map<Long, Product> uncachedProducts = findUncachedProducts(productIds, productInfos);
+
+            List<RankingEntry> entries = new ArrayList<>(ranking.size());
+            for (int i = 0; i < ranking.size(); i++) {
+                ProductRedisRepository.PopularProduct popularProduct = ranking.get(i);
+                long rank = entries.size() + 1L;
+
+                RankingEntry entry = productInfos.get(i) != null
+                    ? RankingEntry.of(rank, popularProduct.getSalesCount(), productInfos.get(i))
+                    : RankingEntry.of(rank, popularProduct.getSalesCount(), uncachedProducts.get(popularProduct.getProductId()));
+
+                if (entry != null) {
+                    entries.add(entry);
+                }
+            }
+
+            log.debug("[랭킹 스냅샷] 재생성 완료 - 구간: {}시간, 상품 수: {}, DB 보완: {}",
+                      windowHours, entries.size(), uncachedProducts.size());
+            return new RankingSnapshot(List.copyOf(entries), LocalDateTime.now(), mutationCount);
+
+        } catch (Exception e) {
+            log.error("[랭킹 스냅샷] 재생성 실패 - 구간: {}시간, 기존 스냅샷 유지", windowHours, e);
+            return null;
+        }
+    }
+
+    /**
+     * 형식이 잘못된 상품 정보 Hash는 미적재로 취급 (DB 보완 대상)
+     * - 필드 누락/만료 중 일부 필드만 남은 Hash 1개로 전체 재생성이 실패하지 않도록 함
+     */
+    private List<Map<String, String>> validProductInfos(List<Long> productIds, List<Map<String, String>> productInfos) {
+        List<Map<String, String>> valid = new ArrayList<>(productInfos);
+        for (int i = 0; i < valid.size(); i++) {
+            Map<String, String> productInfo = valid.get(i);
+            if (productInfo != null && !RankingEntry.isValid(productInfo)) {
+                log.warn("[랭킹 스냅샷] 상품 정보 Hash 형식 오류 - DB로 보완: productId={}, fields={}",
+                         productIds.get(i), productInfo.keySet());
+                valid.set(i, null);
+            }
+        }
+        return valid;
+    }
+
+    private Map<Long, Product> findUncachedProducts(List<Long> productIds, List<Map<String, String>> productInfos) {
+        List<Long> uncachedIds = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            if (productInfos.get(i) == null) {
+                uncachedIds.add(productIds.get(i));
+            }
+        }
+
+        if (uncachedIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findAllById(uncachedIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+
+    /**
+     * 랭킹 스냅샷 (불변)
+     */
+    @lombok.Getter
+    @lombok.AllArgsConstructor
+    public static class RankingSnapshot {
+        private final List<RankingEntry> entries;
+        private final LocalDateTime builtAt;
+        private final long mutationCount;
+
+        static RankingSnapshot empty() {
+            return new RankingSnapshot(List.of(), LocalDateTime.MIN, -1L);
+        }
+
+        public List<RankingEntry> top(int topN) {
+            return entries.subList(0, Math.max(0, Math.min(topN, entries.size())));
+        }
+    }
+
+    /**
+     * 랭킹 항목 (순위 + 스코어 + 상품 정보)
+     */
+    @lombok.Builder
+    @lombok.Getter
+    public static class RankingEntry {
+        private final Long rank;
+        private final Long productId;
+        private final Long salesCount;
+        private final String name;
+        private final BigDecimal price;
+        private final Integer stock;
+        private final Long categoryId;
+        private final String status;
+
+        /**
+         * 상품 정보 Hash 필드 검증 (of(Map) 변환 가능 여부)
+         */
+        static boolean isValid(Map<String, String> productInfo) {
+            try {
+                String categoryId = productInfo.get("categoryId");
+                Long.parseLong(productInfo.get("id"));
+                new BigDecimal(productInfo.get("price"));
+                Integer.parseInt(productInfo.get("stock"));
+                if (categoryId != null && !categoryId.isEmpty()) {
+                    Long.parseLong(categoryId);
+                }
+                return productInfo.get("name") != null && productInfo.get("status") != null;
+            } catch (NumberFormatException | NullPointerException e) {
+                return false;
+            }
+        }
+
+        static RankingEntry of(long rank, Long salesCount, Map<String, String> productInfo) {
+            String categoryId = productInfo.get("categoryId");
+            return RankingEntry.builder()
+                .rank(rank)
+                .productId(Long.parseLong(productInfo.get("id")))
+                .salesCount(salesCount)
+                .name(productInfo.get("name"))
+                .price(new BigDecimal(productInfo.get("price")))
+                .stock(Integer.parseInt(productInfo.get("stock")))
+                .categoryId(categoryId == null || categoryId.isEmpty() ? null : Long.parseLong(categoryId))
+                .status(productInfo.get("status"))
+                .build();
+        }
+
+        static RankingEntry of(long rank, Long salesCount, Product product) {
+            if (product == null) {
+                return null;
+            }
+            return RankingEntry.builder()
+                .rank(rank)
+                .productId(product.getId())
+                .salesCount(salesCount)
+                .name(product.getName())
+                .price(product.getPrice())
+                .stock(product.getStock())
+                .categoryId(product.getCategory() != null ? product.getCategory().getId() : null)
+                .status(product.getStatus().toString())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.hhplus.ecommerce.product.application;
+
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기존 누적 인기상품 랭킹 이관
+ *
+ * Application Layer - 데이터 이관 (1회성)
+ *
+ * 책임:
+ * - 기존 누적 ZSET(popular:products)을 전체 랭킹(popular:products:all-time)과
+ *   판매 수량 카운터(popular:products:total-sales)에 복사
+ *
+ * 실행 조건:
+ * - product.ranking.legacy-migration-enabled=true 인 경우에만 빈 생성 (기본: 비활성화)
+ * - 이관 배포 시에만 켜고, 완료 후 다시 끔
+ *
+ * 재실행/다중 인스턴스:
+ * - 이관 완료 마커(SET NX)로 한 번만 반영 → 여러 인스턴스가 동시에 기동해도 중복 합산 없음
+ * - 기존 ZSET은 삭제하지 않음 (검증 후 운영자가 정리)
+ *
+ * 실패 시:
+ * - 예외를 전파하여 기동 중단 (명시적으로 요청한 이관이 조용히 누락되지 않도록)
+ * - Lua 스크립트 단위로 원자적이므로 원인 해결 후 재기동하면 처음부터 다시 이관
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.ranking.legacy-migration-enabled", havingValue = "true")
+public class PopularRankingLegacyMigration implements ApplicationRunner {
+
+    private final ProductRedisRepository productRedisRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long legacyTotal = productRedisRepository.migrateLegacyRanking();
+
+        if (legacyTotal < 0) {
+            log.info("[인기상품] 기존 누적 랭킹 이관 생략 - 이미 이관됨 (legacy-migration-enabled 해제 필요)");
+            return;
+        }
+        log.info("[인기상품] 기존 누적 랭킹 이관 완료 - 판매 수량 합계: {} (원본 popular:products 보존)", legacyTotal);
+    }
+}
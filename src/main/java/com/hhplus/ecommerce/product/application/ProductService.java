@@ -1,10 +1,16 @@
 package com.hhplus.ecommerce.product.application;
 
+import com.hhplus.ecommerce.common.application.KeysetLimit;
+import com.hhplus.ecommerce.common.domain.KeysetCursor;
+import com.hhplus.ecommerce.common.domain.KeysetSlice;
 import com.hhplus.ecommerce.config.CacheNames;
 import com.hhplus.ecommerce.product.domain.Product;
 import com.hhplus.ecommerce.product.domain.ProductStatistics;
+import com.hhplus.ecommerce.product.domain.StockHistory;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductSummaryView;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductStatisticsRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
@@ -19,9 +25,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 상품 애플리케이션 서비스
@@ -32,6 +42,7 @@ import java.util.concurrent.TimeUnit;
  * - UC-003: 상품 목록 조회
  * - UC-004: 상품 상세 조회
  * - UC-006: 인기 상품 조회 (Redis 분산락 + 캐시)
+ * - 상품별 재고 이력 조회 (키셋 페이지네이션)
  *
  * 레이어 의존성:
  * - Infrastructure Layer: ProductRepository, ProductStatisticsRepository
@@ -51,6 +62,7 @@ public class ProductService {
     private final com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository productRedisRepository;
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedissonClient redissonClient;
+    private final StockHistoryRepository stockHistoryRepository;
 
     private static final String CACHE_KEY_POPULAR_PRODUCTS_TOP5 = "cache:popular:products:top5";
     private static final long CACHE_TTL_POPULAR_PRODUCTS_TOP5_MINUTES = 10L;
@@ -75,6 +87,68 @@ public class ProductService {
         return productRepository.findByCategoryId(categoryId, pageable);
     }
 
+    /**
+     * 상품 목록 요약 조회 (UC-003, API 응답용 Projection)
+     *
+     * 목록 SELECT 1회 + COUNT 1회 (카테고리명 JOIN 포함)
+     */
+    public Page<ProductSummaryView> getAvailableProductSummaries(Pageable pageable) {
+        log.info("[UC-003] 상품 목록 요약 조회 - page: {}, size: {}",
+                 pageable.getPageNumber(), pageable.getPageSize());
+
+        return productRepository.findAvailableSummaries(pageable);
+    }
+
+    /**
+     * 카테고리별 상품 목록 요약 조회 (UC-003, API 응답용 Projection)
+     */
+    public Page<ProductSummaryView> getProductSummariesByCategory(Long categoryId, Pageable pageable) {
+        log.info("[UC-003] 카테고리별 상품 요약 조회 - categoryId: {}", categoryId);
+
+        return productRepository.findSummariesByCategoryId(categoryId, pageable);
+    }
+
+    /**
+     * 상품 목록 조회 - 키셋 페이지네이션 (UC-003)
+     *
+     * @param after 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 상품 요약 Slice (createdAt DESC, id DESC)
+     */
+    public KeysetSlice<ProductSummaryView> getAvailableProductsAfter(String after, int size) {
+        log.info("[UC-003] 상품 목록 키셋 조회 - after: {}, size: {}", after, size);
+
+        Pageable limit = KeysetLimit.of(size);
+        KeysetCursor cursor = KeysetCursor.parse(after);
+
+        List<ProductSummaryView> rows = cursor == null
+            ? productRepository.findAvailableFirstPage(limit)
+            : productRepository.findAvailableAfter(cursor.getTimestamp(), cursor.getId(), limit);
+
+        return KeysetSlice.of(rows, size, ProductSummaryView::getCreatedAt, ProductSummaryView::getId);
+    }
+
+    /**
+     * 카테고리별 상품 목록 조회 - 키셋 페이지네이션 (UC-003)
+     *
+     * @param categoryId 카테고리 ID
+     * @param after 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 상품 요약 Slice (createdAt DESC, id DESC)
+     */
+    public KeysetSlice<ProductSummaryView> getProductsByCategoryAfter(Long categoryId, String after, int size) {
+        log.info("[UC-003] 카테고리별 상품 키셋 조회 - categoryId: {}, after: {}", categoryId, after);
+
+        Pageable limit = KeysetLimit.of(size);
+        KeysetCursor cursor = KeysetCursor.parse(after);
+
+        List<ProductSummaryView> rows = cursor == null
+            ? productRepository.findFirstPageByCategoryId(categoryId, limit)
+            : productRepository.findPageByCategoryIdAfter(categoryId, cursor.getTimestamp(), cursor.getId(), limit);
+
+        return KeysetSlice.of(rows, size, ProductSummaryView::getCreatedAt, ProductSummaryView::getId);
+    }
+
     /**
      * 상품 상세 조회 (UC-004)
      */
@@ -86,6 +160,31 @@ public class ProductService {
             .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다"));
     }
 
+    /**
+     * 상품별 재고 이력 조회 (키셋 페이지네이션)
+     *
+     * @param productId 상품 ID
+     * @param after 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 재고 이력 Slice (createdAt DESC, id DESC)
+     */
+    public KeysetSlice<StockHistory> getStockHistory(Long productId, String after, int size) {
+        log.info("재고 이력 조회 - productId: {}, after: {}, size: {}", productId, after, size);
+
+        Pageable limit = KeysetLimit.of(size);
+        KeysetCursor cursor = KeysetCursor.parse(after);
+
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다");
+        }
+
+        List<StockHistory> rows = cursor == null
+            ? stockHistoryRepository.findFirstPageByProductId(productId, limit)
+            : stockHistoryRepository.findPageByProductIdAfter(productId, cursor.getTimestamp(), cursor.getId(), limit);
+
+        return KeysetSlice.of(rows, size, StockHistory::getCreatedAt, StockHistory::getId);
+    }
+
     /**
      * 인기 상품 조회 (UC-006)
      * 최근 3일 판매량 기준 TOP 5, Redis 캐시 사용 (TTL: 10분)
@@ -189,10 +288,24 @@ public class ProductService {
      * 실시간 인기 상품 조회 (UC-006 - Redis 기반)
      */
     public List<Product> getRealtimePopularProducts(int topN) {
-        log.info("[UC-006] 실시간 인기 상품 조회 (Redis) - TOP {}", topN);
+        return getRealtimePopularProducts(topN, 0);
+    }
+
+    /**
+     * 최근 N시간 실시간 인기 상품 조회 (UC-006 - Redis 시간 버킷 기반)
+     *
+     * @param windowHours 집계 구간 (0 = 전체 누적)
+     */
+    public List<Product> getRealtimePopularProducts(int topN, int windowHours) {
+        log.info("[UC-006] 실시간 인기 상품 조회 (Redis) - TOP {}, 구간: {}시간", topN, windowHours);
+        productRedisRepository.validateWindowHours(windowHours);
 
         try {
-            List<Long> productIds = productRedisRepository.getTopPopularProductIds(topN);
+            List<Long> productIds = windowHours > 0
+                ? productRedisRepository.getTopPopularProducts(topN, windowHours).stream()
+                    .map(com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository.PopularProduct::getProductId)
+                    .toList()
+                : productRedisRepository.getTopPopularProductIds(topN);
 
             if (productIds.isEmpty()) {
                 log.info("[UC-006] Redis 인기상품 데이터 없음 - 기본 목록 반환");
@@ -226,11 +339,21 @@ public class ProductService {
      * 실시간 인기 상품 조회 (UC-006 - 통계 포함)
      */
     public List<PopularProductInfo> getRealtimePopularProductsWithStats(int topN) {
-        log.info("[UC-006] 실시간 인기 상품 조회 (통계 포함) - TOP {}", topN);
+        return getRealtimePopularProductsWithStats(topN, 0);
+    }
+
+    /**
+     * 최근 N시간 실시간 인기 상품 조회 (UC-006 - 통계 포함)
+     *
+     * @param windowHours 집계 구간 (0 = 전체 누적)
+     */
+    public List<PopularProductInfo> getRealtimePopularProductsWithStats(int topN, int windowHours) {
+        log.info("[UC-006] 실시간 인기 상품 조회 (통계 포함) - TOP {}, 구간: {}시간", topN, windowHours);
+        productRedisRepository.validateWindowHours(windowHours);
 
         try {
             List<com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository.PopularProduct> popularProducts
-                = productRedisRepository.getTopPopularProducts(topN);
+                = productRedisRepository.getTopPopularProducts(topN, windowHours);
 
             if (popularProducts.isEmpty()) {
                 log.info("[UC-006] Redis 인기상품 데이터 없음");
@@ -241,27 +364,24 @@ public class ProductService {
                 .map(com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository.PopularProduct::getProductId)
                 .toList();
 
-            List<Product> products = productRepository.findAllById(productIds);
-
-            List<PopularProductInfo> result = popularProducts.stream()
-                .map(pp -> {
-                    Product product = products.stream()
-                        .filter(p -> p.getId().equals(pp.getProductId()))
-                        .findFirst()
-                        .orElse(null);
-
-                    if (product == null) {
-                        return null;
-                    }
-
-                    return PopularProductInfo.builder()
-                        .product(product)
-                        .salesCount(pp.getSalesCount())
-                        .rank(popularProducts.indexOf(pp) + 1L)
-                        .build();
-                })
-                .filter(Objects::nonNull)
-                .toList();
+            Map<Long, Product> productsById = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+            List<PopularProductInfo> result = new ArrayList<>(popularProducts.size());
+            for (int i = 0; i < popularProducts.size(); i++) {
+                com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository.PopularProduct pp
+                    = popularProducts.get(i);
+                Product product = productsById.get(pp.getProductId());
+                if (product == null) {
+                    continue;
+                }
+
+                result.add(PopularProductInfo.builder()
+                    .product(product)
+                    .salesCount(pp.getSalesCount())
+                    .rank(i + 1L)
+                    .build());
+            }
 
             log.info("[UC-006] 실시간 인기 상품 조회 완료 (통계 포함) - {} 개 반환", result.size());
             return result;
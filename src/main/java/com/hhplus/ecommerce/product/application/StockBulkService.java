@@ -0,0 +1,174 @@
+package com.hhplus.ecommerce.product.application;
+
+import com.hhplus.ecommerce.common.application.HistoryWriter;
+import com.hhplus.ecommerce.config.StockBulkProperties;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.domain.StockHistory;
+import com.hhplus.ecommerce.product.domain.StockTransactionType;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductStockJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 재고 일괄 처리 애플리케이션 서비스
+ *
+ * Application Layer - Use Case 실행 계층
+ *
+ * 책임:
+ * - 주문 전 라인 상품 일괄 조회 (IN 조회 1회, ID 오름차순)
+ * - 주문 전 라인 재고 차감/복구 (조건부 UPDATE 1회) 및 재고 이력 기록
+ *
+ * 기존 경로와의 차이:
+ * - 기존: 라인별 findByIdWithLock + version 조건 UPDATE (라인 N개 → 2N회), 충돌 시 @Retryable 재시도
+ * - 일괄: SELECT 1회 + UPDATE 1회, 초과 차감은 WHERE stock >= 수량 조건으로 방지
+ *
+ * 실패 처리:
+ * - 한 라인이라도 차감 불가면 전 라인 미반영 (SAVEPOINT 롤백) 후 예외
+ *   → 호출 측 트랜잭션에서 보상(주문 취소)을 이어서 커밋할 수 있음
+ *
+ * 트랜잭션:
+ * - 호출 측 트랜잭션 안에서 호출 (SAVEPOINT 사용)
+ * - 메서드에 @Transactional을 두지 않음: 참여 트랜잭션에서 예외가 경계를 넘으면
+ *   호출 측 트랜잭션이 rollback-only가 되어 보상 커밋이 불가능해짐
+ *
+ * 활성화:
+ * - stock.bulk.enabled=true (기본값 false, 기존 경로 유지)
+ *
+ * 레이어 의존성:
+ * - Infrastructure Layer: ProductRepository, ProductStockJdbcRepository, HistoryWriter
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockBulkService {
+
+    private final ProductRepository productRepository;
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+    private final HistoryWriter historyWriter;
+    private final StockBulkProperties stockBulkProperties;
+
+    public boolean isEnabled() {
+        return stockBulkProperties.isEnabled();
+    }
+
+    /**
+     * 상품 일괄 조회
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID → 상품 (ID 오름차순, 존재하지 않는 상품은 제외)
+     */
+    public Map<Long, Product> findProducts(Collection<Long> productIds) {
+        return productRepository.findAllByIdInOrderById(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * 재고 일괄 차감 + 재고 이력 기록
+     *
+     * 처리 흐름:
+     * 1. 조건부 UPDATE 1회 (전 라인 stock >= 수량일 때만 반영)
+     * 2. 차감 후 상품 IN 조회 1회 → 라인별 재고 이력 기록
+     *
+     * @param lines 상품 ID → 차감 수량
+     * @param reason 재고 이력 사유
+     * @throws IllegalArgumentException 상품 없음
+     * @throws IllegalStateException 재고 부족 (전 라인 미반영)
+     */
+    public void decrease(Map<Long, Integer> lines, String reason) {
+        if (!productStockJdbcRepository.decreaseAll(lines)) {
+            throw decreaseFailure(lines);
+        }
+
+        recordHistories(lines, StockTransactionType.DECREASE, reason);
+        log.debug("[재고 일괄] 차감 완료 - 상품 수: {}", lines.size());
+    }
+
+    /**
+     * 재고 일괄 복구 (이력 없음)
+     *
+     * @param lines 상품 ID → 복구 수량
+     * @return 복구된 상품 수 (존재하지 않는 상품은 제외)
+     */
+    public int increase(Map<Long, Integer> lines) {
+        return productStockJdbcRepository.increaseAll(lines);
+    }
+
+    /**
+     * 재고 일괄 복구 + 재고 이력 기록 (존재하지 않는 상품은 건너뜀)
+     *
+     * @param lines 상품 ID → 복구 수량
+     * @param reason 재고 이력 사유
+     */
+    public void increase(Map<Long, Integer> lines, String reason) {
+        int restored = productStockJdbcRepository.increaseAll(lines);
+        if (restored < lines.size()) {
+            log.warn("[재고 일괄] 존재하지 않는 상품 제외 - 요청: {}개, 복구: {}개", lines.size(), restored);
+        }
+
+        recordHistories(lines, StockTransactionType.INCREASE, reason);
+    }
+
+    /**
+     * 변경 후 재고 기준 이력 기록 (변경 전 재고 = 변경 후 재고 ∓ 수량)
+     */
+    private void recordHistories(Map<Long, Integer> lines, StockTransactionType type, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Product product : productRepository.findAllByIdInOrderById(lines.keySet())) {
+            int quantity = lines.get(product.getId());
+            int stockAfter = product.getStock();
+            int stockBefore = type == StockTransactionType.DECREASE ? stockAfter + quantity : stockAfter - quantity;
+
+            StockHistory history = StockHistory.builder()
+                .product(product)
+                .type(type)
+                .quantity(quantity)
+                .stockBefore(stockBefore)
+                .stockAfter(stockAfter)
+                .reason(reason)
+                .createdAt(now)
+                .build();
+
+            historyWriter.record(history);
+        }
+    }
+
+    /**
+     * 차감 실패 원인 확인 (실패 시에만 조회)
+     */
+    private RuntimeException decreaseFailure(Map<Long, Integer> lines) {
+        Map<Long, Product> products = findProducts(lines.keySet());
+
+        for (Map.Entry<Long, Integer> line : new TreeMap<>(lines).entrySet()) {
+            Product product = products.get(line.getKey());
+            if (product == null) {
+                return new IllegalArgumentException("상품을 찾을 수 없습니다. productId: " + line.getKey());
+            }
+
+            if (product.getStock() < line.getValue()) {
+                return new IllegalStateException(
+                    new StringBuilder("상품 '")
+                        .append(product.getName())
+                        .append("'의 재고가 부족합니다. 요청: ")
+                        .append(line.getValue())
+                        .append("개, 가능: ")
+                        .append(product.getStock())
+                        .append("개")
+                        .toString()
+                );
+            }
+        }
+
+        return new IllegalStateException("재고 차감에 실패했습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
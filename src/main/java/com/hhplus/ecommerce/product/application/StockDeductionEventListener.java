@@ -1,6 +1,7 @@
 package com.hhplus.ecommerce.product.application;
 
 import com.hhplus.ecommerce.common.application.DomainEventStoreService;
+import com.hhplus.ecommerce.common.application.HistoryWriter;
 import com.hhplus.ecommerce.common.domain.DomainEventStore;
 import com.hhplus.ecommerce.common.domain.event.StockDeductionPayload;
 import com.hhplus.ecommerce.order.domain.Order;
@@ -10,7 +11,6 @@ import com.hhplus.ecommerce.product.domain.Product;
 import com.hhplus.ecommerce.product.domain.StockHistory;
 import com.hhplus.ecommerce.product.domain.StockTransactionType;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
-import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -62,7 +62,7 @@ import java.time.LocalDateTime;
 public class StockDeductionEventListener {
 
     private final ProductRepository productRepository;
-    private final StockHistoryRepository stockHistoryRepository;
+    private final HistoryWriter historyWriter;
     private final OrderRepository orderRepository;
     private final DomainEventStoreService eventStoreService;
     private final ApplicationEventPublisher eventPublisher;
@@ -117,7 +117,7 @@ public class StockDeductionEventListener {
                     .createdAt(LocalDateTime.now())
                     .build();
 
-                stockHistoryRepository.save(history);
+                historyWriter.record(history);
 
                 log.debug("[이벤트] 재고 차감 완료 - productId: {}, quantity: {}, stockAfter: {}",
                          productInfo.getProductId(), productInfo.getQuantity(), product.getStock());
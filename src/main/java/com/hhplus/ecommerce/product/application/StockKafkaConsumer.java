@@ -1,9 +1,14 @@
 package com.hhplus.ecommerce.product.application;
 
 import com.hhplus.ecommerce.common.application.DomainEventStoreService;
+import com.hhplus.ecommerce.common.application.HistoryWriter;
 import com.hhplus.ecommerce.common.domain.DomainEventStore;
 import com.hhplus.ecommerce.common.domain.event.StockDeductionPayload;
+import com.hhplus.ecommerce.common.infrastructure.bulkhead.BulkheadFullException;
 import com.hhplus.ecommerce.config.KafkaConfig;
+import com.hhplus.ecommerce.integration.application.OutboxEventPublisher;
+import com.hhplus.ecommerce.integration.application.SagaMetrics;
+import com.hhplus.ecommerce.integration.domain.EventType;
 import com.hhplus.ecommerce.order.domain.Order;
 import com.hhplus.ecommerce.order.domain.event.OrderCreatedEvent;
 import com.hhplus.ecommerce.order.infrastructure.persistence.OrderRepository;
@@ -11,11 +16,9 @@ import com.hhplus.ecommerce.product.domain.Product;
 import com.hhplus.ecommerce.product.domain.StockHistory;
 import com.hhplus.ecommerce.product.domain.StockTransactionType;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
-import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
@@ -27,6 +30,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 
 /**
  * 재고 차감 Kafka Consumer (order-events → stock-events)
@@ -37,9 +41,16 @@ import java.time.LocalDateTime;
  * 처리 흐름:
  * 1. order-events 토픽에서 OrderCreatedEvent 수신
  * 2. 재고 차감 처리 (낙관적 락)
+ *    - 재고 원장 모드(stock.reservation.enabled=true)는 주문 생성 시 예약 완료 → 차감 생략
+ *    - 재고 일괄 처리 모드(stock.bulk.enabled=true)는 주문당 조건부 UPDATE 1회
  * 3. 재고 이력 기록
  * 4. 성공 시: stock-events 토픽으로 BalanceDeductionEvent 발행
  * 5. 실패 시: 보상 트랜잭션 (주문 취소)
+ *    - 재고 원장 모드는 주문 생성 시 예약한 재고를 커밋 후 원장에 반환
+ *    - 벌크헤드 포화(BulkheadFullException)는 일시적 과부하 → 보상/ack 없이 재전달
+ *
+ * 메트릭 (SagaMetrics, hop=order-events):
+ * - 이벤트 생성 시각 헤더 기준 대기 시간, 처리 시간, 보상 횟수
  */
 @Slf4j
 @Component
@@ -47,10 +58,13 @@ import java.time.LocalDateTime;
 public class StockKafkaConsumer {
 
     private final ProductRepository productRepository;
-    private final StockHistoryRepository stockHistoryRepository;
+    private final HistoryWriter historyWriter;
     private final OrderRepository orderRepository;
     private final DomainEventStoreService eventStoreService;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final StockReservationService stockReservationService;
+    private final StockBulkService stockBulkService;
+    private final SagaMetrics sagaMetrics;
 
     @KafkaListener(
         topics = KafkaConfig.TOPIC_ORDER_EVENTS,
@@ -67,34 +81,45 @@ public class StockKafkaConsumer {
             @Payload OrderCreatedEvent event,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(name = SagaMetrics.EVENT_CREATED_AT_HEADER, required = false) byte[] eventCreatedAt,
             Acknowledgment ack) {
 
+        long startNanos = System.nanoTime();
+        sagaMetrics.recordQueueDelay(KafkaConfig.TOPIC_ORDER_EVENTS, eventCreatedAt);
+
         log.info("[Kafka] 재고 차감 시작 - partition: {}, offset: {}, orderId: {}, 상품 수: {}",
                  partition, offset, event.getOrderId(), event.getOrderProducts().size());
 
         try {
-            // 재고 차감
-            for (OrderCreatedEvent.OrderProductInfo productInfo : event.getOrderProducts()) {
-                Product product = productRepository.findByIdWithLock(productInfo.getProductId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                        "상품을 찾을 수 없습니다. productId: " + productInfo.getProductId()));
-
-                int stockBefore = product.getStock();
-                product.decreaseStock(productInfo.getQuantity());
-                productRepository.save(product);
-
-                // 재고 이력 기록
-                StockHistory history = StockHistory.builder()
-                    .product(product)
-                    .type(StockTransactionType.DECREASE)
-                    .quantity(productInfo.getQuantity())
-                    .stockBefore(stockBefore)
-                    .stockAfter(product.getStock())
-                    .reason("주문: " + event.getOrderNumber())
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-                stockHistoryRepository.save(history);
+            // 재고 차감 (재고 원장 모드는 주문 생성 시 Redis에서 예약, DB는 write-back으로 반영)
+            if (!stockReservationService.isEnabled() && stockBulkService.isEnabled()) {
+                LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+                event.getOrderProducts().forEach(productInfo ->
+                    lines.merge(productInfo.getProductId(), productInfo.getQuantity(), Integer::sum));
+                stockBulkService.decrease(lines, "주문: " + event.getOrderNumber());
+            } else if (!stockReservationService.isEnabled()) {
+                for (OrderCreatedEvent.OrderProductInfo productInfo : event.getOrderProducts()) {
+                    Product product = productRepository.findByIdWithLock(productInfo.getProductId())
+                        .orElseThrow(() -> new IllegalArgumentException(
+                            "상품을 찾을 수 없습니다. productId: " + productInfo.getProductId()));
+
+                    int stockBefore = product.getStock();
+                    product.decreaseStock(productInfo.getQuantity());
+                    productRepository.save(product);
+
+                    // 재고 이력 기록
+                    StockHistory history = StockHistory.builder()
+                        .product(product)
+                        .type(StockTransactionType.DECREASE)
+                        .quantity(productInfo.getQuantity())
+                        .stockBefore(stockBefore)
+                        .stockAfter(product.getStock())
+                        .reason("주문: " + event.getOrderNumber())
+                        .createdAt(LocalDateTime.now())
+                        .build();
+
+                    historyWriter.record(history);
+                }
             }
 
             log.info("[Kafka] 재고 차감 성공 - orderId: {}", event.getOrderId());
@@ -110,32 +135,53 @@ public class StockKafkaConsumer {
                 .orderProducts(event.getOrderProducts())
                 .build();
 
-            kafkaTemplate.send(KafkaConfig.TOPIC_STOCK_EVENTS, event.getOrderId().toString(), balanceEvent);
+            outboxEventPublisher.publish(EventType.STOCK_DEDUCTED, event.getOrderId(),
+                                         KafkaConfig.TOPIC_STOCK_EVENTS, event.getOrderId().toString(), balanceEvent);
             log.info("[Kafka] stock-events 발행 - orderId: {}", event.getOrderId());
 
             ack.acknowledge();
+            sagaMetrics.recordProcessing(KafkaConfig.TOPIC_ORDER_EVENTS, SagaMetrics.OUTCOME_SUCCESS, startNanos);
 
         } catch (IllegalStateException e) {
             log.error("[Kafka] 재고 차감 실패 - orderId: {}, reason: {}",
                       event.getOrderId(), e.getMessage());
-            cancelOrderCompensation(event.getOrderId(), "재고 차감 실패: " + e.getMessage());
+            cancelOrderCompensation(event, "재고 차감 실패: " + e.getMessage());
             saveToDomainEventStore(event, e.getMessage());
             ack.acknowledge();  // 재시도하지 않고 커밋
+            sagaMetrics.recordProcessing(KafkaConfig.TOPIC_ORDER_EVENTS, SagaMetrics.OUTCOME_COMPENSATED, startNanos);
 
         } catch (Exception e) {
+            if (BulkheadFullException.isCauseOf(e)) {
+                log.warn("[Kafka] 재고 차감 보류 (벌크헤드 포화) - orderId: {}, 재전달 시 재시도", event.getOrderId());
+                sagaMetrics.recordProcessing(KafkaConfig.TOPIC_ORDER_EVENTS, SagaMetrics.OUTCOME_RETRY, startNanos);
+                throw e;  // 보상/ack 없이 재전달
+            }
+
             log.error("[Kafka] 재고 차감 중 예외 발생 - orderId: {}", event.getOrderId(), e);
-            cancelOrderCompensation(event.getOrderId(), "재고 차감 중 예외 발생: " + e.getMessage());
+            cancelOrderCompensation(event, "재고 차감 중 예외 발생: " + e.getMessage());
             saveToDomainEventStore(event, e.getMessage());
+            sagaMetrics.recordProcessing(KafkaConfig.TOPIC_ORDER_EVENTS, SagaMetrics.OUTCOME_ERROR, startNanos);
             throw e;  // 재시도 또는 DLQ
         }
     }
 
-    private void cancelOrderCompensation(Long orderId, String reason) {
+    private void cancelOrderCompensation(OrderCreatedEvent event, String reason) {
+        Long orderId = event.getOrderId();
         try {
             Order order = orderRepository.findById(orderId).orElse(null);
             if (order != null) {
                 order.cancel(reason);
                 orderRepository.save(order);
+
+                // 재고 원장 모드: 주문 생성 시 예약한 재고 반환 (이미 취소된 주문은 cancel에서 예외 → 중복 반환 없음)
+                if (stockReservationService.isEnabled()) {
+                    LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+                    event.getOrderProducts().forEach(productInfo ->
+                        lines.merge(productInfo.getProductId(), productInfo.getQuantity(), Integer::sum));
+                    stockReservationService.releaseAfterCommit(orderId, lines);
+                }
+
+                sagaMetrics.countCompensation("stock");
                 log.info("[보상] 주문 취소 완료 - orderId: {}", orderId);
             }
         } catch (Exception e) {
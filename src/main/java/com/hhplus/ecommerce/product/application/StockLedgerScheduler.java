@@ -0,0 +1,125 @@
+package com.hhplus.ecommerce.product.application;
+
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductStockRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 재고 원장 스케줄러
+ *
+ * Infrastructure Layer - 배치 작업 스케줄링
+ *
+ * 책임:
+ * - 원장 변동량의 products 테이블 일괄 반영 (write-back)
+ * - products 테이블 기준 원장 정합성 보정 (Reconciliation)
+ *
+ * 실행 주기:
+ * - write-back: 1초 간격 (stock.reservation.write-back-delay-ms)
+ * - 정합성 보정: 5분 간격 (stock.reservation.reconcile-delay-ms)
+ *
+ * 동시성 제어:
+ * - write-back과 정합성 보정은 동일한 Redisson 분산락 사용
+ *   (델타 인출 ~ DB 커밋 사이에 보정이 끼어들면 원장이 이중 반영되므로)
+ * - 다중 인스턴스 환경에서 하나의 서버만 실행
+ *
+ * 실행 조건:
+ * - stock.reservation.enabled=true 인 경우에만 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockLedgerScheduler {
+
+    private final StockReservationService stockReservationService;
+    private final ProductStockRedisRepository productStockRedisRepository;
+    private final RedissonClient redissonClient;
+
+    // Scheduler Constants
+    private static final String LOCK_KEY_STOCK_LEDGER = "lock:batch:stock-ledger";
+    private static final long WAIT_TIME_SECONDS = 0L;
+    private static final long LEASE_TIME_SECONDS = 30L;
+
+    /**
+     * 원장 변동량 DB 반영 (write-back)
+     *
+     * 처리 흐름:
+     * 1. DB 미반영 델타 일괄 인출 (Lua: HGETALL + DEL)
+     * 2. 상품별 델타를 한 트랜잭션에서 반영
+     * 3. 반영 실패 시 인출한 델타를 원장에 되돌림 (다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${stock.reservation.write-back-delay-ms:1000}")
+    public void writeBack() {
+        if (!stockReservationService.isEnabled()) {
+            return;
+        }
+
+        runWithLock(() -> {
+            Map<Long, Integer> deltas = productStockRedisRepository.drainPendingDeltas();
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                Map<Long, Integer> rejected = stockReservationService.applyWriteBack(deltas);
+                if (!rejected.isEmpty()) {
+                    productStockRedisRepository.restorePendingDeltas(rejected);
+                }
+
+                log.info("[재고 원장] write-back 완료 - 반영: {}개 상품, 보류: {}개 상품",
+                         deltas.size() - rejected.size(), rejected.size());
+
+            } catch (Exception e) {
+                log.error("[재고 원장] write-back 실패 - 델타 복구 후 다음 주기 재시도: {}", deltas, e);
+                productStockRedisRepository.restorePendingDeltas(deltas);
+            }
+        });
+    }
+
+    /**
+     * 원장 정합성 보정
+     *
+     * 기준: 원장 재고 == products.stock + DB 미반영 델타
+     */
+    @Scheduled(fixedDelayString = "${stock.reservation.reconcile-delay-ms:300000}")
+    public void reconcile() {
+        if (!stockReservationService.isEnabled()) {
+            return;
+        }
+
+        runWithLock(() -> {
+            int corrected = stockReservationService.reconcile();
+            if (corrected > 0) {
+                log.warn("[재고 원장] 정합성 보정 완료 - 보정된 상품 수: {}", corrected);
+            }
+        });
+    }
+
+    private void runWithLock(Runnable task) {
+        RLock lock = redissonClient.getLock(LOCK_KEY_STOCK_LEDGER);
+
+        try {
+            boolean isLocked = lock.tryLock(WAIT_TIME_SECONDS, LEASE_TIME_SECONDS, TimeUnit.SECONDS);
+            if (!isLocked) {
+                log.debug("[재고 원장] 다른 인스턴스에서 실행 중 - 스킵");
+                return;
+            }
+
+            task.run();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[재고 원장] 락 획득 중 인터럽트 발생", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.hhplus.ecommerce.product.application;
+
+import com.hhplus.ecommerce.common.application.HistoryWriter;
+import com.hhplus.ecommerce.config.StockReservationProperties;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.domain.StockHistory;
+import com.hhplus.ecommerce.product.domain.StockTransactionType;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductStockRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 재고 예약 애플리케이션 서비스 (Redis 재고 원장)
+ *
+ * Application Layer - Use Case 실행 계층
+ *
+ * 책임:
+ * - 주문 생성 시 장바구니 전체 라인 재고 예약 (Lua Script 1회 호출)
+ * - 주문 트랜잭션 롤백 시 예약 재고 자동 반환
+ * - 주문 취소/결제 실패 시 재고 반환
+ * - 원장 변동량의 products 테이블 일괄 반영 (write-back)
+ * - products 테이블 기준 원장 정합성 보정
+ *
+ * 기존 경로와의 차이:
+ * - 기존: 라인별 findByIdWithLock (낙관적 락) + 충돌 시 @Retryable 재시도
+ * - 원장: 예약은 Redis에서 원자적으로 처리, DB는 스케줄러가 상품별 델타를 묶어 반영
+ *   → 인기 상품 단일 row에 대한 version 충돌/재시도 제거
+ *
+ * 활성화:
+ * - stock.reservation.enabled=true (기본값 false, 기존 경로 유지)
+ *
+ * 레이어 의존성:
+ * - Infrastructure Layer: ProductStockRedisRepository, ProductRepository, HistoryWriter
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final ProductStockRedisRepository productStockRedisRepository;
+    private final ProductRepository productRepository;
+    private final HistoryWriter historyWriter;
+    private final StockReservationProperties stockReservationProperties;
+
+    public boolean isEnabled() {
+        return stockReservationProperties.isEnabled();
+    }
+
+    /**
+     * 재고 예약
+     *
+     * 처리 흐름:
+     * 1. Lua Script로 전 라인 재고 확인 + 차감 (All-or-Nothing)
+     * 2. 원장 미적재 상품이 있으면 DB 재고로 적재 후 1회 재시도
+     * 3. 진행 중인 트랜잭션이 있으면 롤백 시 예약 반환 등록
+     *
+     * @param lines 상품 ID → 수량
+     * @throws IllegalStateException 재고 부족
+     */
+    public void reserve(LinkedHashMap<Long, Integer> lines) {
+        ProductStockRedisRepository.ReservationResult result = productStockRedisRepository.reserve(lines);
+
+        if (!result.isSuccess() && "NOT_INITIALIZED".equals(result.getMessage())) {
+            lines.keySet().forEach(this::loadToLedger);
+            result = productStockRedisRepository.reserve(lines);
+        }
+
+        if (!result.isSuccess()) {
+            log.warn("[재고 예약] 실패 - productId: {}, reason: {}, 가능: {}",
+                     result.getFailedProductId(), result.getMessage(), result.getAvailableStock());
+
+            throw new IllegalStateException(
+                new StringBuilder("상품(ID: ")
+                    .append(result.getFailedProductId())
+                    .append(")의 재고가 부족합니다. 요청: ")
+                    .append(lines.get(result.getFailedProductId()))
+                    .append("개, 가능: ")
+                    .append(result.getAvailableStock() != null ? result.getAvailableStock() : 0)
+                    .append("개")
+                    .toString()
+            );
+        }
+
+        log.debug("[재고 예약] 성공 - 잔여 재고: {}", result.getRemainingStocks());
+
+        // 주문 트랜잭션이 롤백되면 예약 재고 반환
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        log.info("[재고 예약] 트랜잭션 롤백 - 예약 재고 반환: {}", lines);
+                        release(lines);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 예약 재고 반환 (주문 취소, 결제 실패 보상)
+     *
+     * DB 재고는 직접 수정하지 않음 (write-back 시 반영)
+     *
+     * @param lines 상품 ID → 수량
+     */
+    public void release(LinkedHashMap<Long, Integer> lines) {
+        productStockRedisRepository.release(lines);
+        log.debug("[재고 반환] 완료 - lines: {}", lines);
+    }
+
+    /**
+     * 트랜잭션 커밋 후 주문 예약 재고 반환
+     *
+     * 보상 트랜잭션(주문 취소 등)이 롤백되면 재고도 반환하지 않음
+     * - 진행 중인 트랜잭션이 없으면 즉시 반환
+     * - 같은 주문은 1회만 반환 (주문 취소, Saga 보상, 이벤트 재시도 경로가 겹쳐도 중복 반환 없음)
+     *
+     * @param orderId 주문 ID
+     * @param lines 상품 ID → 수량
+     */
+    public void releaseAfterCommit(Long orderId, LinkedHashMap<Long, Integer> lines) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseOrder(orderId, lines);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseOrder(orderId, lines);
+            }
+        });
+    }
+
+    private void releaseOrder(Long orderId, LinkedHashMap<Long, Integer> lines) {
+        if (productStockRedisRepository.releaseOrder(orderId, lines)) {
+            log.debug("[재고 반환] 완료 - orderId: {}, lines: {}", orderId, lines);
+        } else {
+            log.info("[재고 반환] 이미 반환된 주문 - orderId: {}", orderId);
+        }
+    }
+
+    /**
+     * 원장 변동량 DB 반영 (write-back)
+     *
+     * 처리 흐름:
+     * 1. 상품별 누적 델타를 한 트랜잭션에서 반영 (주문 N건 → 상품당 UPDATE 1회)
+     * 2. 상품별 재고 이력 1건 기록
+     * 3. 반영 불가 상품(상품 삭제, 음수 재고)은 반환하여 호출 측에서 원장에 되돌림
+     *
+     * 주의: 트랜잭션 커밋 실패 시 호출 측(StockLedgerScheduler)에서 전체 델타를 되돌림
+     *
+     * @param deltas 상품 ID → 변동량 (차감은 음수)
+     * @return 반영하지 못한 델타 (상품 ID → 변동량)
+     */
+    @Transactional
+    public Map<Long, Integer> applyWriteBack(Map<Long, Integer> deltas) {
+        Map<Long, Integer> rejected = new LinkedHashMap<>();
+
+        for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+            Long productId = entry.getKey();
+            int delta = entry.getValue();
+
+            Product product = productRepository.findById(productId).orElse(null);
+            if (product == null || product.getStock() + delta < 0) {
+                log.error("[재고 write-back] 반영 불가 - productId: {}, delta: {}", productId, delta);
+                rejected.put(productId, delta);
+                continue;
+            }
+
+            int stockBefore = product.getStock();
+            product.adjustStock(stockBefore + delta);
+
+            StockHistory history = StockHistory.builder()
+                .product(product)
+                .type(delta < 0 ? StockTransactionType.DECREASE : StockTransactionType.INCREASE)
+                .quantity(Math.abs(delta))
+                .stockBefore(stockBefore)
+                .stockAfter(product.getStock())
+                .reason("재고 원장 반영 (Redis write-back)")
+                .createdAt(LocalDateTime.now())
+                .build();
+
+            historyWriter.record(history);
+        }
+
+        return rejected;
+    }
+
+    /**
+     * 원장 정합성 보정 (Reconciliation)
+     *
+     * 기준: 원장 재고 == products.stock + DB 미반영 델타
+     * - 관리자 재고 조정 등 원장을 거치지 않은 DB 변경을 원장에 반영
+     * - Redis 재시작 등으로 유실된 원장 복구
+     *
+     * @return 보정된 상품 수
+     */
+    @Transactional(readOnly = true)
+    public int reconcile() {
+        int corrected = 0;
+
+        for (Long productId : productStockRedisRepository.getLedgerProductIds()) {
+            Product product = productRepository.findById(productId).orElse(null);
+            if (product == null) {
+                productStockRedisRepository.evict(productId);
+                continue;
+            }
+
+            ProductStockRedisRepository.SyncResult result =
+                productStockRedisRepository.reconcile(productId, product.getStock());
+
+            if (result.isCorrected()) {
+                corrected++;
+                log.warn("[재고 정합성] 원장 보정 - productId: {}, 원장: {} → {}, DB: {}",
+                         productId, result.getPreviousLedgerStock(), result.getLedgerStock(), product.getStock());
+            }
+        }
+
+        return corrected;
+    }
+
+    /**
+     * 원장 미적재 상품 적재 (DB 재고 + DB 미반영 델타)
+     */
+    private void loadToLedger(Long productId) {
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다"));
+
+        Long ledgerStock = productStockRedisRepository.initializeIfAbsent(productId, product.getStock());
+        log.info("[재고 원장] 적재 - productId: {}, DB: {}, 원장: {}", productId, product.getStock(), ledgerStock);
+    }
+}
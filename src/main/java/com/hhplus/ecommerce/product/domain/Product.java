@@ -10,7 +10,9 @@ import java.math.BigDecimal;
 @Table(name = "products", indexes = {
         @Index(name = "idx_name", columnList = "name"),
         @Index(name = "idx_category_id", columnList = "category_id"),
-        @Index(name = "idx_status_stock", columnList = "status, stock")
+        @Index(name = "idx_status_stock", columnList = "status, stock"),
+        @Index(name = "idx_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_category_status_created_at", columnList = "category_id, status, created_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
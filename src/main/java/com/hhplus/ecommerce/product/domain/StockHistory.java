@@ -7,7 +7,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "stock_histories", indexes = {
-        @Index(name = "idx_product_id_type", columnList = "product_id, type")
+        @Index(name = "idx_product_id_type", columnList = "product_id, type"),
+        @Index(name = "idx_product_created_at", columnList = "product_id, created_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -15,12 +16,24 @@ import java.time.LocalDateTime;
 @Builder
 public class StockHistory {
 
+    // ID: id_generators 기반 pooled 할당 (INSERT 배치용, 근거는 scripts/init.sql id_generators 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "stockHistoryIdGenerator")
+    @TableGenerator(
+        name = "stockHistoryIdGenerator",
+        table = "id_generators",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "stock_histories",
+        allocationSize = 100
+    )
     private Long id;
 
+    /**
+     * FK 제약 없음: 월별 RANGE 파티셔닝 테이블은 외래 키를 가질 수 없음 (scripts/history-partitioning.sql)
+     */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "product_id", nullable = false)
+    @JoinColumn(name = "product_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Product product;
 
     @Enumerated(EnumType.STRING)
@@ -44,7 +57,10 @@ public class StockHistory {
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        // 비동기 Writer/재시도 경로는 변경 시점(createdAt)을 유지한 채 저장
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 
     // 정적 팩토리 메서드
@@ -57,6 +73,7 @@ public class StockHistory {
                 .stockBefore(stockBefore)
                 .stockAfter(stockAfter)
                 .reason(reason)
+                .createdAt(LocalDateTime.now())
                 .build();
     }
 }
@@ -1,15 +1,28 @@
 package com.hhplus.ecommerce.product.infrastructure.persistence;
 
+import com.hhplus.ecommerce.common.infrastructure.redis.RedisBytes;
+import com.hhplus.ecommerce.common.infrastructure.redis.RedisScriptRegistry;
+import com.hhplus.ecommerce.config.PopularRankingProperties;
 import com.hhplus.ecommerce.product.domain.Product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 상품 Redis Repository
@@ -23,11 +36,18 @@ import java.util.concurrent.TimeUnit;
  *
  * Redis 자료구조:
  * 1. Sorted Set: 인기상품 순위
- *    - Key: popular:products
  *    - Member: productId
  *    - Score: 판매 수량 (주문 수량 누적)
  *    - 연산: ZINCRBY (스코어 증가), ZREVRANGE (높은 순위부터 조회)
  *
+ *    - 시간 버킷: popular:products:hour:{yyyyMMddHH} (TTL: bucket-retention-hours)
+ *    - 구간 랭킹: popular:products:window:{N}h:{yyyyMMddHH} (최근 N시간 버킷 ZUNIONSTORE, 짧은 TTL)
+ *    - 전체 랭킹: popular:products:all-time (시간 버킷과 같은 파이프라인에서 ZINCRBY, 만료 없음 → 조회는 키 직접 사용)
+ *    - 전체 판매 수량: popular:products:total-sales (INCRBY 누적 카운터, 통계 O(1) 조회)
+ *
+ *    - 기존 누적 키 popular:products는 더 이상 기록하지 않음
+ *      명시적 이관(migrateLegacyRanking)으로 전체 랭킹/판매 수량에 1회 복사 (원본은 보존)
+ *
  * 2. Hash: 상품 정보 캐시
  *    - Key: info:product:{productId}
  *    - Fields: id, name, description, price, stock, categoryId
@@ -43,23 +63,105 @@ import java.util.concurrent.TimeUnit;
 public class ProductRedisRepository {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final PopularRankingProperties popularRankingProperties;
+    private final RedisScriptRegistry redisScriptRegistry;
 
     // Redis Constants
-    private static final String PRODUCT_POPULAR_RANKING = "popular:products";
+    private static final String LEGACY_POPULAR_RANKING = "popular:products";
+    private static final String PRODUCT_POPULAR_ALL_TIME = "popular:products:all-time";
+    private static final String PRODUCT_POPULAR_LEGACY_MIGRATED = "popular:products:legacy-migrated";
+    private static final String PRODUCT_POPULAR_HOURLY_PREFIX = "popular:products:hour:";
+    private static final String PRODUCT_POPULAR_WINDOW_PREFIX = "popular:products:window:";
+    private static final String PRODUCT_POPULAR_TOTAL_SALES = "popular:products:total-sales";
+    private static final DateTimeFormatter HOURLY_BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
     private static final String PRODUCT_INFO_REDIS_PREFIX = "info:product:";
     private static final long PRODUCT_INFO_REDIS_TTL_HOURS = 24L;
 
+    // 이 인스턴스에서 발생한 인기도 스코어 변경 횟수 (랭킹 스냅샷 재생성 트리거)
+    private final AtomicLong popularityMutationCount = new AtomicLong();
+
+    /**
+     * 기존 누적 랭킹 → 전체 랭킹/판매 수량 카운터 복사 (원자적, 1회)
+     * - KEYS[1]: popular:products (기존 누적 ZSET, 읽기만 함)
+     * - KEYS[2]: popular:products:all-time, KEYS[3]: popular:products:total-sales
+     * - KEYS[4]: popular:products:legacy-migrated (이관 완료 마커)
+     * - 마커가 있으면 아무것도 하지 않음 (반환: -1) → 재실행해도 중복 합산 없음
+     * - 상품별 ZINCRBY + 합계 INCRBY: 이관 전 새 키에 쌓인 판매와 합산 (반환: 기존 스코어 합계)
+     */
+    private static final String LEGACY_RANKING_MIGRATION_SCRIPT =
+        "if redis.call('SET', KEYS[4], '1', 'NX') == false then\n" +
+        "    return -1\n" +
+        "end\n" +
+        "local scores = redis.call('ZRANGE', KEYS[1], 0, -1, 'WITHSCORES')\n" +
+        "local legacyTotal = 0\n" +
+        "for i = 1, #scores, 2 do\n" +
+        "    redis.call('ZINCRBY', KEYS[2], scores[i + 1], scores[i])\n" +
+        "    legacyTotal = legacyTotal + tonumber(scores[i + 1])\n" +
+        "end\n" +
+        "legacyTotal = math.floor(legacyTotal)\n" +
+        "redis.call('INCRBY', KEYS[3], legacyTotal)\n" +
+        "return legacyTotal\n";
+
+    /**
+     * 기존 누적 랭킹(popular:products)을 전체 랭킹/판매 수량 카운터에 1회 복사
+     *
+     * 처리 흐름:
+     * 1. 이관 완료 마커 SET NX → 이미 이관했으면 종료
+     * 2. 기존 ZSET 스코어를 popular:products:all-time에 상품별 합산
+     * 3. 기존 스코어 합계를 total-sales에 합산
+     *
+     * 기존 ZSET은 삭제하지 않음 (롤백/검증용으로 보존, 정리는 운영자가 별도로 수행)
+     * 호출: PopularRankingLegacyMigration (product.ranking.legacy-migration-enabled=true)
+     *
+     * @return 이관한 스코어 합계 (이미 이관됨: -1)
+     */
+    public long migrateLegacyRanking() {
+        Long legacyTotal = redisTemplate.execute((RedisCallback<Long>) connection ->
+            redisScriptRegistry.eval(connection, LEGACY_RANKING_MIGRATION_SCRIPT, ReturnType.INTEGER, 4,
+                RedisBytes.utf8(LEGACY_POPULAR_RANKING), RedisBytes.utf8(PRODUCT_POPULAR_ALL_TIME),
+                RedisBytes.utf8(PRODUCT_POPULAR_TOTAL_SALES), RedisBytes.utf8(PRODUCT_POPULAR_LEGACY_MIGRATED)));
+        return legacyTotal != null ? legacyTotal : -1L;
+    }
+
     /**
      * 인기상품 스코어 증가 (ZINCRBY 원자적 연산)
      */
     public void incrementPopularityScore(Long productId, Integer quantity) {
-        try {
-            // Sorted Set에 스코어 증가 (원자적 연산)
-            Double newScore = redisTemplate.opsForZSet()
-                .incrementScore(PRODUCT_POPULAR_RANKING, productId.toString(), quantity.doubleValue());
+        incrementPopularityScore(productId, quantity, LocalDateTime.now());
+    }
 
-            log.debug("인기상품 스코어 증가 - productId: {}, quantity: {}, newScore: {}",
-                     productId, quantity, newScore);
+    /**
+     * 인기상품 스코어 증가 (발생 시각 기준 시간 버킷 반영)
+     *
+     * 파이프라인 1회 왕복:
+     * - ZINCRBY popular:products:hour:{발생 시각} + EXPIRE (구간 랭킹용 버킷)
+     * - ZINCRBY popular:products:all-time (전체 랭킹)
+     * - INCRBY popular:products:total-sales (통계 카운터)
+     *
+     * @param occurredAt 판매 발생 시각 (재처리 이벤트는 원래 주문 시각 버킷에 반영)
+     */
+    public void incrementPopularityScore(Long productId, Integer quantity, LocalDateTime occurredAt) {
+        try {
+            String member = productId.toString();
+            String bucketKey = hourlyBucketKey(occurredAt);
+            long bucketTtlSeconds = Duration.ofHours(popularRankingProperties.getBucketRetentionHours()).toSeconds();
+
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                public Object execute(RedisOperations operations) {
+                    operations.opsForZSet().incrementScore(bucketKey, member, quantity.doubleValue());
+                    operations.expire(bucketKey, bucketTtlSeconds, TimeUnit.SECONDS);
+                    operations.opsForZSet().incrementScore(PRODUCT_POPULAR_ALL_TIME, member, quantity.doubleValue());
+                    operations.opsForValue().increment(PRODUCT_POPULAR_TOTAL_SALES, quantity.longValue());
+                    return null;
+                }
+            });
+
+            popularityMutationCount.incrementAndGet();
+
+            log.debug("인기상품 스코어 증가 - productId: {}, quantity: {}, newScore: {}, bucket: {}",
+                     productId, quantity, results.get(0), bucketKey);
 
         } catch (Exception e) {
             log.error("인기상품 스코어 증가 실패 - productId: {}, quantity: {}", productId, quantity, e);
@@ -67,18 +169,109 @@ public class ProductRedisRepository {
         }
     }
 
+    /**
+     * 판매 수량 일괄 집계 (주문 1건 또는 여러 주문 합산, 파이프라인 1회 왕복)
+     *
+     * 파이프라인 구성:
+     * - 상품별 ZINCRBY popular:products:hour:{발생 시각}, popular:products:all-time
+     * - 버킷 EXPIRE 1회, INCRBY popular:products:total-sales 1회 (합계)
+     * - 상품별 TTL info:product:{id} → 상품 정보 Hash 갱신 필요 여부 판단
+     *
+     * 상품 정보 Hash 갱신 생략 기준:
+     * - 남은 TTL > (Hash TTL - info-refresh-seconds) → 마지막 저장 후 갱신 주기 이내
+     *
+     * @param quantities 상품 ID → 판매 수량
+     * @param occurredAt 판매 발생 시각
+     * @return 상품 정보 Hash 갱신이 필요한 상품 ID (캐시 없음 또는 갱신 주기 경과, Redis 장애 시 빈 Set)
+     */
+    public Set<Long> incrementPopularityScores(Map<Long, Integer> quantities, LocalDateTime occurredAt) {
+        if (quantities.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        try {
+            List<Long> productIds = new ArrayList<>(quantities.keySet());
+            String bucketKey = hourlyBucketKey(occurredAt);
+            long bucketTtlSeconds = Duration.ofHours(popularRankingProperties.getBucketRetentionHours()).toSeconds();
+            long totalQuantity = quantities.values().stream().mapToLong(Integer::longValue).sum();
+
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                public Object execute(RedisOperations operations) {
+                    for (Long productId : productIds) {
+                        double quantity = quantities.get(productId).doubleValue();
+                        operations.opsForZSet().incrementScore(bucketKey, productId.toString(), quantity);
+                        operations.opsForZSet().incrementScore(PRODUCT_POPULAR_ALL_TIME, productId.toString(), quantity);
+                    }
+                    operations.expire(bucketKey, bucketTtlSeconds, TimeUnit.SECONDS);
+                    operations.opsForValue().increment(PRODUCT_POPULAR_TOTAL_SALES, totalQuantity);
+                    for (Long productId : productIds) {
+                        operations.getExpire(PRODUCT_INFO_REDIS_PREFIX + productId, TimeUnit.SECONDS);
+                    }
+                    return null;
+                }
+            });
+
+            popularityMutationCount.incrementAndGet();
+
+            long freshTtlSeconds = TimeUnit.HOURS.toSeconds(PRODUCT_INFO_REDIS_TTL_HOURS)
+                - popularRankingProperties.getInfoRefreshSeconds();
+            int ttlOffset = productIds.size() * 2 + 2;
+
+            Set<Long> staleProductIds = new LinkedHashSet<>();
+            for (int i = 0; i < productIds.size(); i++) {
+                Object ttl = results.get(ttlOffset + i);
+                if (!(ttl instanceof Long remaining) || remaining <= freshTtlSeconds) {
+                    staleProductIds.add(productIds.get(i));
+                }
+            }
+
+            log.debug("인기상품 스코어 일괄 증가 - 상품 수: {}, 수량 합계: {}, 상품 정보 갱신 대상: {}, bucket: {}",
+                     productIds.size(), totalQuantity, staleProductIds.size(), bucketKey);
+            return staleProductIds;
+
+        } catch (Exception e) {
+            log.error("인기상품 스코어 일괄 증가 실패 - quantities: {}", quantities, e);
+            // Redis 장애 시에도 주문 프로세스는 계속 진행 (인기상품 집계는 부가 기능)
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * 상품 정보 캐시 일괄 저장 (파이프라인 HSET + EXPIRE)
+     */
+    public void cacheProductInfos(Collection<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                public Object execute(RedisOperations operations) {
+                    for (Product product : products) {
+                        String key = PRODUCT_INFO_REDIS_PREFIX + product.getId();
+                        operations.opsForHash().putAll(key, toProductInfo(product));
+                        operations.expire(key, PRODUCT_INFO_REDIS_TTL_HOURS, TimeUnit.HOURS);
+                    }
+                    return null;
+                }
+            });
+
+            log.debug("상품 정보 캐시 일괄 저장 - 상품 수: {}", products.size());
+
+        } catch (Exception e) {
+            log.error("상품 정보 캐시 일괄 저장 실패 - 상품 수: {}", products.size(), e);
+        }
+    }
+
     public void cacheProductInfo(Product product) {
         String key = PRODUCT_INFO_REDIS_PREFIX + product.getId();
 
         try {
-            Map<String, String> productInfo = new HashMap<>();
-            productInfo.put("id", product.getId().toString());
-            productInfo.put("name", product.getName());
-            productInfo.put("description", product.getDescription() != null ? product.getDescription() : "");
-            productInfo.put("price", product.getPrice().toString());
-            productInfo.put("stock", product.getStock().toString());
-            productInfo.put("categoryId", product.getCategory() != null ? product.getCategory().getId().toString() : "");
-            productInfo.put("status", product.getStatus().toString());
+            Map<String, String> productInfo = toProductInfo(product);
 
             // Hash에 상품 정보 저장
             redisTemplate.opsForHash().putAll(key, productInfo);
@@ -93,6 +286,18 @@ public class ProductRedisRepository {
         }
     }
 
+    private Map<String, String> toProductInfo(Product product) {
+        Map<String, String> productInfo = new HashMap<>();
+        productInfo.put("id", product.getId().toString());
+        productInfo.put("name", product.getName());
+        productInfo.put("description", product.getDescription() != null ? product.getDescription() : "");
+        productInfo.put("price", product.getPrice().toString());
+        productInfo.put("stock", product.getStock().toString());
+        productInfo.put("categoryId", product.getCategory() != null ? product.getCategory().getId().toString() : "");
+        productInfo.put("status", product.getStatus().toString());
+        return productInfo;
+    }
+
     public Map<String, String> getCachedProductInfo(Long productId) {
         String key = PRODUCT_INFO_REDIS_PREFIX + productId;
 
@@ -115,11 +320,55 @@ public class ProductRedisRepository {
         }
     }
 
+    /**
+     * 상품 정보 캐시 일괄 조회 (파이프라인 HGETALL)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 입력 순서와 동일한 상품 정보 목록 (캐시 없는 상품은 null)
+     */
+    public List<Map<String, String>> getCachedProductInfos(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> rawMaps = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) {
+                for (Long productId : productIds) {
+                    operations.opsForHash().entries(PRODUCT_INFO_REDIS_PREFIX + productId);
+                }
+                return null;
+            }
+        });
+
+        List<Map<String, String>> productInfos = new ArrayList<>(productIds.size());
+        for (Object rawMap : rawMaps) {
+            if (!(rawMap instanceof Map<?, ?> map) || map.isEmpty()) {
+                productInfos.add(null);
+                continue;
+            }
+
+            Map<String, String> productInfo = new HashMap<>();
+            map.forEach((k, v) -> productInfo.put(k.toString(), v.toString()));
+            productInfos.add(productInfo);
+        }
+        return productInfos;
+    }
+
+    /**
+     * 이 인스턴스의 인기도 스코어 변경 횟수
+     * - 랭킹 스냅샷이 마지막 생성 이후 변경 여부 판단에 사용
+     */
+    public long getPopularityMutationCount() {
+        return popularityMutationCount.get();
+    }
+
     public List<Long> getTopPopularProductIds(int topN) {
         try {
             // Sorted Set에서 높은 스코어 순으로 조회 (ZREVRANGE)
             Set<Object> productIds = redisTemplate.opsForZSet()
-                .reverseRange(PRODUCT_POPULAR_RANKING, 0, topN - 1);
+                .reverseRange(PRODUCT_POPULAR_ALL_TIME, 0, topN - 1);
 
             if (productIds == null || productIds.isEmpty()) {
                 log.debug("인기상품 데이터 없음");
@@ -137,35 +386,111 @@ public class ProductRedisRepository {
     }
 
     public List<PopularProduct> getTopPopularProducts(int topN) {
-        try {
-            // Sorted Set에서 높은 스코어 순으로 조회 (WITH SCORES)
-            Set<ZSetOperations.TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
-                .reverseRangeWithScores(PRODUCT_POPULAR_RANKING, 0, topN - 1);
+        return getTopPopularProducts(topN, 0);
+    }
 
-            if (tuples == null || tuples.isEmpty()) {
-                log.debug("인기상품 데이터 없음");
-                return Collections.emptyList();
-            }
+    /**
+     * 최근 N시간 인기상품 TOP N 조회
+     *
+     * @param windowHours 집계 구간 (0 이하: 전체 누적)
+     */
+    public List<PopularProduct> getTopPopularProducts(int topN, int windowHours) {
+        return getTopPopularProducts(topN, windowHours, LocalDateTime.now());
+    }
 
-            return tuples.stream()
-                .map(tuple -> {
-                    Long productId = Long.parseLong(tuple.getValue().toString());
-                    Long salesCount = tuple.getScore() != null ? tuple.getScore().longValue() : 0L;
-                    return new PopularProduct(productId, salesCount);
-                })
-                .toList();
+    /**
+     * 기준 시각으로부터 최근 N시간 인기상품 TOP N 조회
+     *
+     * 처리 흐름:
+     * 1. 전체 누적(0 이하)은 popular:products:all-time, 1시간은 현재 시간 버킷을 그대로 사용
+     * 2. 구간 랭킹 키가 있으면 그대로 사용 (merged-ttl-seconds 동안 재사용)
+     * 3. 없으면 최근 N개 시간 버킷을 ZUNIONSTORE (버킷별 가중치 = hourly-decay^경과시간)
+     * 4. ZREVRANGE WITHSCORES
+     *
+     * @param windowHours 집계 구간 (0 이하: 전체 누적, 최대 bucket-retention-hours)
+     * @param baseTime 기준 시각 (해당 시각의 시간 버킷까지 포함)
+     * @return 순위 순 목록 (판매 없음 = 빈 목록)
+     * @throws IllegalArgumentException 버킷 보관 기간을 넘는 구간
+     * @throws org.springframework.dao.DataAccessException Redis 장애
+     *         (빈 목록으로 삼키지 않음 → 랭킹 스냅샷은 기존 스냅샷 유지, 조회 경로는 호출자에서 대체 응답)
+     */
+    public List<PopularProduct> getTopPopularProducts(int topN, int windowHours, LocalDateTime baseTime) {
+        validateWindowHours(windowHours);
+
+        String rankingKey;
+        if (windowHours <= 0) {
+            rankingKey = PRODUCT_POPULAR_ALL_TIME;
+        } else if (windowHours == 1) {
+            rankingKey = hourlyBucketKey(baseTime);
+        } else {
+            rankingKey = mergeWindow(windowHours, baseTime);
+        }
 
-        } catch (Exception e) {
-            log.error("인기상품 TOP {} 조회 실패 (스코어 포함)", topN, e);
+        Set<ZSetOperations.TypedTuple<Object>> tuples = redisTemplate.opsForZSet()
+            .reverseRangeWithScores(rankingKey, 0, topN - 1);
+
+        if (tuples == null || tuples.isEmpty()) {
             return Collections.emptyList();
         }
+
+        return tuples.stream()
+            .map(tuple -> new PopularProduct(
+                Long.parseLong(tuple.getValue().toString()),
+                tuple.getScore() != null ? tuple.getScore().longValue() : 0L))
+            .toList();
     }
 
+    private String mergeWindow(int windowHours, LocalDateTime baseTime) {
+        String windowKey = PRODUCT_POPULAR_WINDOW_PREFIX + windowHours + "h:" + HOURLY_BUCKET_FORMAT.format(baseTime);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(windowKey))) {
+            return windowKey;
+        }
+        return unionBuckets(windowKey, windowHours, popularRankingProperties.getHourlyDecay(), baseTime);
+    }
+
+    private String unionBuckets(String targetKey, int windowHours, double hourlyDecay, LocalDateTime baseTime) {
+        List<String> bucketKeys = new ArrayList<>(windowHours);
+        double[] weights = new double[windowHours];
+        for (int i = 0; i < windowHours; i++) {
+            bucketKeys.add(hourlyBucketKey(baseTime.minusHours(i)));
+            weights[i] = Math.pow(hourlyDecay, i);
+        }
+        long mergedTtlSeconds = popularRankingProperties.getMergedTtlSeconds();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) {
+                operations.opsForZSet().unionAndStore(
+                    bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), targetKey,
+                    Aggregate.SUM, Weights.of(weights));
+                operations.expire(targetKey, mergedTtlSeconds, TimeUnit.SECONDS);
+                return null;
+            }
+        });
+
+        return targetKey;
+    }
+
+    public void validateWindowHours(int windowHours) {
+        if (windowHours > popularRankingProperties.getBucketRetentionHours()) {
+            throw new IllegalArgumentException(
+                "집계 구간은 최대 " + popularRankingProperties.getBucketRetentionHours() + "시간까지 조회할 수 있습니다.");
+        }
+    }
+
+    private String hourlyBucketKey(LocalDateTime time) {
+        return PRODUCT_POPULAR_HOURLY_PREFIX + HOURLY_BUCKET_FORMAT.format(time);
+    }
+
+    /**
+     * 전체 누적 기준 순위 (1부터 시작)
+     */
     public Long getProductRank(Long productId) {
         try {
             // Sorted Set에서 순위 조회 (ZREVRANK - 높은 스코어부터 순위 매김)
             Long rank = redisTemplate.opsForZSet()
-                .reverseRank(PRODUCT_POPULAR_RANKING, productId.toString());
+                .reverseRank(PRODUCT_POPULAR_ALL_TIME, productId.toString());
 
             // rank는 0부터 시작하므로 +1
             return rank != null ? rank + 1 : null;
@@ -176,10 +501,13 @@ public class ProductRedisRepository {
         }
     }
 
+    /**
+     * 전체 누적 판매 수량
+     */
     public Long getProductScore(Long productId) {
         try {
             Double score = redisTemplate.opsForZSet()
-                .score(PRODUCT_POPULAR_RANKING, productId.toString());
+                .score(PRODUCT_POPULAR_ALL_TIME, productId.toString());
 
             return score != null ? score.longValue() : 0L;
 
@@ -191,7 +519,18 @@ public class ProductRedisRepository {
 
     public void resetPopularProducts() {
         try {
-            redisTemplate.delete(PRODUCT_POPULAR_RANKING);
+            List<String> keys = new ArrayList<>();
+            keys.add(LEGACY_POPULAR_RANKING);
+            keys.add(PRODUCT_POPULAR_LEGACY_MIGRATED);
+            keys.add(PRODUCT_POPULAR_ALL_TIME);
+            keys.add(PRODUCT_POPULAR_TOTAL_SALES);
+
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i <= popularRankingProperties.getBucketRetentionHours(); i++) {
+                keys.add(hourlyBucketKey(now.minusHours(i)));
+            }
+
+            redisTemplate.delete(keys);
             log.info("인기상품 데이터 초기화 완료");
 
         } catch (Exception e) {
@@ -211,24 +550,29 @@ public class ProductRedisRepository {
         }
     }
 
+    /**
+     * 인기상품 통계 조회
+     * - 상품 수: 전체 랭킹 ZCARD
+     * - 전체 판매 수량: 누적 카운터 (incrementPopularityScore에서 INCRBY, 기존 누적 랭킹은 migrateLegacyRanking으로 이관)
+     */
     public PopularProductStats getStats() {
         try {
-            Long totalProducts = redisTemplate.opsForZSet().size(PRODUCT_POPULAR_RANKING);
-
-            // 전체 판매 수량 합계
-            Set<ZSetOperations.TypedTuple<Object>> all = redisTemplate.opsForZSet()
-                .reverseRangeWithScores(PRODUCT_POPULAR_RANKING, 0, -1);
-
-            long totalSales = 0L;
-            if (all != null) {
-                totalSales = all.stream()
-                    .mapToLong(tuple -> tuple.getScore() != null ? tuple.getScore().longValue() : 0L)
-                    .sum();
-            }
+            List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                public Object execute(RedisOperations operations) {
+                    operations.opsForZSet().zCard(PRODUCT_POPULAR_ALL_TIME);
+                    operations.opsForValue().get(PRODUCT_POPULAR_TOTAL_SALES);
+                    return null;
+                }
+            });
+
+            Object totalProducts = results.get(0);
+            Object totalSales = results.get(1);
 
             return PopularProductStats.builder()
-                .totalProducts(totalProducts != null ? totalProducts : 0L)
-                .totalSales(totalSales)
+                .totalProducts(totalProducts != null ? Long.parseLong(totalProducts.toString()) : 0L)
+                .totalSales(totalSales != null ? Long.parseLong(totalSales.toString()) : 0L)
                 .build();
 
         } catch (Exception e) {
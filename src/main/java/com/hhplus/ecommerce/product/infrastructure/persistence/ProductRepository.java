@@ -11,6 +11,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +53,19 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    /**
+     * 상품 ID 목록으로 일괄 조회 (ID 오름차순)
+     *
+     * Use Case:
+     * - UC-012: 주문 생성 시 장바구니 전 상품 재고 확인 (라인 N개 → IN 조회 1회)
+     * - UC-005: 재고 일괄 차감 후 재고 이력 기록
+     *
+     * @param ids 상품 ID 목록
+     * @return 상품 목록 (id ASC, 존재하지 않는 ID는 제외)
+     */
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id ASC")
+    List<Product> findAllByIdInOrderById(@Param("ids") Collection<Long> ids);
+
     /**
      * 판매 가능한 상품 목록 조회 (페이징)
      *
@@ -86,6 +101,126 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
            "ORDER BY p.createdAt DESC")
     Page<Product> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
 
+    /**
+     * 판매 가능한 상품 목록 조회 (Projection, 페이징)
+     *
+     * Use Case:
+     * - UC-003: 상품 목록 조회 API
+     *
+     * 성능 최적화:
+     * - 카테고리명을 LEFT JOIN으로 함께 조회 → 상품마다 category SELECT 없음
+     * - 목록 SELECT 1회 + COUNT 1회
+     *
+     * @param pageable 페이징 정보
+     * @return 상품 요약 페이지
+     */
+    @Query(value = "SELECT p.id AS id, p.name AS name, p.price AS price, p.stock AS stock, " +
+                   "p.status AS status, c.id AS categoryId, c.name AS categoryName, p.createdAt AS createdAt " +
+                   "FROM Product p LEFT JOIN p.category c " +
+                   "WHERE p.status = 'AVAILABLE' AND p.stock > 0 " +
+                   "ORDER BY p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.status = 'AVAILABLE' AND p.stock > 0")
+    Page<ProductSummaryView> findAvailableSummaries(Pageable pageable);
+
+    /**
+     * 카테고리별 상품 목록 조회 (Projection, 페이징)
+     *
+     * Use Case:
+     * - UC-003: 카테고리별 상품 목록 조회 API
+     *
+     * @param categoryId 카테고리 ID
+     * @param pageable 페이징 정보
+     * @return 상품 요약 페이지
+     */
+    @Query(value = "SELECT p.id AS id, p.name AS name, p.price AS price, p.stock AS stock, " +
+                   "p.status AS status, c.id AS categoryId, c.name AS categoryName, p.createdAt AS createdAt " +
+                   "FROM Product p LEFT JOIN p.category c " +
+                   "WHERE p.category.id = :categoryId " +
+                   "AND p.status = 'AVAILABLE' AND p.stock > 0 " +
+                   "ORDER BY p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category.id = :categoryId " +
+                        "AND p.status = 'AVAILABLE' AND p.stock > 0")
+    Page<ProductSummaryView> findSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * 판매 가능한 상품 목록 첫 페이지 (키셋 페이지네이션)
+     *
+     * 성능 최적화:
+     * - idx_status_created_at 역순 스캔, stock > 0은 스캔 중 필터
+     * - COUNT 쿼리, OFFSET 스캔 없음
+     * - Projection 조회 (상품마다 category SELECT 없음)
+     *
+     * @param limit 조회 건수 (size + 1)
+     * @return 상품 요약 목록 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT p.id AS id, p.name AS name, p.price AS price, p.stock AS stock, " +
+           "p.status AS status, c.id AS categoryId, c.name AS categoryName, p.createdAt AS createdAt " +
+           "FROM Product p LEFT JOIN p.category c " +
+           "WHERE p.status = 'AVAILABLE' AND p.stock > 0 " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductSummaryView> findAvailableFirstPage(Pageable limit);
+
+    /**
+     * 판매 가능한 상품 목록 다음 페이지 (키셋 페이지네이션)
+     *
+     * @param createdAt 커서 createdAt
+     * @param id 커서 id
+     * @param limit 조회 건수 (size + 1)
+     * @return 상품 요약 목록 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT p.id AS id, p.name AS name, p.price AS price, p.stock AS stock, " +
+           "p.status AS status, c.id AS categoryId, c.name AS categoryName, p.createdAt AS createdAt " +
+           "FROM Product p LEFT JOIN p.category c " +
+           "WHERE p.status = 'AVAILABLE' AND p.stock > 0 " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductSummaryView> findAvailableAfter(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable limit
+    );
+
+    /**
+     * 카테고리별 상품 목록 첫 페이지 (키셋 페이지네이션)
+     *
+     * 성능 최적화:
+     * - idx_category_status_created_at 역순 스캔
+     *
+     * @param categoryId 카테고리 ID
+     * @param limit 조회 건수 (size + 1)
+     * @return 상품 요약 목록 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT p.id AS id, p.name AS name, p.price AS price, p.stock AS stock, " +
+           "p.status AS status, c.id AS categoryId, c.name AS categoryName, p.createdAt AS createdAt " +
+           "FROM Product p LEFT JOIN p.category c " +
+           "WHERE p.category.id = :categoryId " +
+           "AND p.status = 'AVAILABLE' AND p.stock > 0 " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductSummaryView> findFirstPageByCategoryId(@Param("categoryId") Long categoryId, Pageable limit);
+
+    /**
+     * 카테고리별 상품 목록 다음 페이지 (키셋 페이지네이션)
+     *
+     * @param categoryId 카테고리 ID
+     * @param createdAt 커서 createdAt
+     * @param id 커서 id
+     * @param limit 조회 건수 (size + 1)
+     * @return 상품 요약 목록 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT p.id AS id, p.name AS name, p.price AS price, p.stock AS stock, " +
+           "p.status AS status, c.id AS categoryId, c.name AS categoryName, p.createdAt AS createdAt " +
+           "FROM Product p LEFT JOIN p.category c " +
+           "WHERE p.category.id = :categoryId " +
+           "AND p.status = 'AVAILABLE' AND p.stock > 0 " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductSummaryView> findPageByCategoryIdAfter(
+        @Param("categoryId") Long categoryId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable limit
+    );
+
     /**
      * 안전 재고 이하 상품 목록 조회
      *
@@ -0,0 +1,158 @@
+package com.hhplus.ecommerce.product.infrastructure.persistence;
+
+import com.hhplus.ecommerce.product.domain.ProductStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품 재고 일괄 변경 JDBC Repository
+ *
+ * Infrastructure Layer - 데이터베이스 접근 계층
+ *
+ * 책임:
+ * - 주문 1건의 전 라인 재고를 조건부 UPDATE 1회로 차감/복구
+ *
+ * JPA를 사용하지 않는 이유:
+ * - 상품별 수량이 다른 UPDATE는 CASE 식을 라인 수만큼 동적으로 만들어야 함
+ * - 엔티티 경로는 라인마다 SELECT + version 조건 UPDATE (라인 N개 → 2N회)
+ *
+ * 동시성 제어:
+ * - WHERE stock >= 차감 수량 조건으로 초과 차감 방지 (낙관적 락 재시도 불필요)
+ * - PK IN 범위 스캔은 id 오름차순으로 행 락 획득 → 주문 간 교착 상태 방지
+ * - 일부 라인만 조건을 만족하면 SAVEPOINT로 되돌려 전 라인 미반영 (호출 측 트랜잭션은 유지)
+ * - version 증가 → 엔티티 경로(낙관적 락)와 혼용 시에도 충돌 감지
+ *
+ * 주의:
+ * - 트랜잭션 안에서 호출해야 함 (SAVEPOINT는 auto-commit 모드에서 사용 불가)
+ * - 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 이미 조회한 Product 엔티티는 갱신되지 않음
+ *
+ * Use Cases:
+ * - UC-005: 재고 차감
+ * - UC-015: 주문 취소 (재고 복구)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전 라인 재고 차감 (전부 성공 또는 전부 미반영)
+     *
+     * 상태 갱신은 Product.updateStatus()와 동일 (재고 0 → OUT_OF_STOCK, 그 외 AVAILABLE)
+     * MySQL은 SET 절을 왼쪽부터 평가하므로 status를 stock보다 먼저 계산
+     *
+     * @param lines 상품 ID → 차감 수량
+     * @return 전 라인 차감 성공 시 true, 재고 부족/상품 없음이 하나라도 있으면 false
+     */
+    public boolean decreaseAll(Map<Long, Integer> lines) {
+        if (lines.isEmpty()) {
+            return true;
+        }
+
+        Map<Long, Integer> sorted = new TreeMap<>(lines);
+        String quantityCase = quantityCase(sorted.size());
+        String sql = new StringBuilder("UPDATE products SET status = CASE WHEN stock - ")
+            .append(quantityCase)
+            .append(" = 0 THEN '").append(ProductStatus.OUT_OF_STOCK.name())
+            .append("' ELSE '").append(ProductStatus.AVAILABLE.name()).append("' END, ")
+            .append("stock = stock - ").append(quantityCase)
+            .append(", version = version + 1, updated_at = ? WHERE id IN (")
+            .append(placeholders(sorted.size()))
+            .append(") AND stock >= ").append(quantityCase)
+            .toString();
+
+        List<Object> params = new ArrayList<>();
+        addCaseParams(params, sorted);
+        addCaseParams(params, sorted);
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(sorted.keySet());
+        addCaseParams(params, sorted);
+
+        return executeAllOrNothing(sql, params, sorted.size());
+    }
+
+    /**
+     * 전 라인 재고 복구
+     *
+     * @param lines 상품 ID → 복구 수량
+     * @return 복구된 상품 수 (존재하지 않는 상품은 제외)
+     */
+    public int increaseAll(Map<Long, Integer> lines) {
+        if (lines.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Integer> sorted = new TreeMap<>(lines);
+        String sql = new StringBuilder("UPDATE products SET status = '")
+            .append(ProductStatus.AVAILABLE.name())
+            .append("', stock = stock + ").append(quantityCase(sorted.size()))
+            .append(", version = version + 1, updated_at = ? WHERE id IN (")
+            .append(placeholders(sorted.size()))
+            .append(")")
+            .toString();
+
+        List<Object> params = new ArrayList<>();
+        addCaseParams(params, sorted);
+        params.add(Timestamp.valueOf(LocalDateTime.now()));
+        params.addAll(sorted.keySet());
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    /**
+     * UPDATE 실행 - 갱신 행 수가 라인 수와 다르면 SAVEPOINT로 되돌림
+     */
+    private boolean executeAllOrNothing(String sql, List<Object> params, int expectedRows) {
+        Boolean applied = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+
+            int updated;
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                for (int i = 0; i < params.size(); i++) {
+                    ps.setObject(i + 1, params.get(i));
+                }
+                updated = ps.executeUpdate();
+            }
+
+            if (updated != expectedRows) {
+                connection.rollback(savepoint);
+                return false;
+            }
+
+            connection.releaseSavepoint(savepoint);
+            return true;
+        });
+        return Boolean.TRUE.equals(applied);
+    }
+
+    private String quantityCase(int size) {
+        return new StringBuilder("(CASE id ")
+            .append(String.join(" ", Collections.nCopies(size, "WHEN ? THEN ?")))
+            .append(" END)")
+            .toString();
+    }
+
+    private String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    private void addCaseParams(List<Object> params, Map<Long, Integer> sorted) {
+        for (Map.Entry<Long, Integer> line : sorted.entrySet()) {
+            params.add(line.getKey());
+            params.add(line.getValue());
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package com.hhplus.ecommerce.product.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 상품 재고 Redis Repository (재고 원장)
+ *
+ * Infrastructure Layer - Redis 데이터 접근 계층
+ *
+ * 책임:
+ * - 주문 생성 시 장바구니 전체 라인의 재고를 원자적으로 예약
+ * - 주문 취소/보상 시 예약 재고 반환
+ * - DB write-back 대기 중인 재고 변동량(델타) 누적
+ * - DB 재고와의 정합성 보정 (Reconciliation)
+ *
+ * Redis 자료구조:
+ * 1. String: 상품별 가용 재고
+ *    - Key: stock:product:{productId}
+ *    - Value: 현재 가용 재고 (DECRBY / INCRBY)
+ *
+ * 2. Hash: DB 미반영 재고 델타
+ *    - Key: stock:pending
+ *    - Field: {productId}
+ *    - Value: 아직 products 테이블에 반영되지 않은 변동량 (차감은 음수)
+ *
+ * 3. Set: 원장에 적재된 상품 ID
+ *    - Key: stock:ledger:products
+ *    - 용도: 정합성 보정 대상 조회
+ *
+ * 4. String: 주문별 반환 완료 마커
+ *    - Key: stock:released:{orderId} (TTL 7일)
+ *    - 용도: 주문 취소/보상/재시도 경로가 겹쳐도 주문당 1회만 반환
+ *
+ * 불변식:
+ * - stock:product:{id} == products.stock + stock:pending[id]
+ * - 예약/반환/적재/보정 모두 Lua Script로 실행하여 불변식 유지
+ *
+ * 주의사항:
+ * - 다중 키 Lua Script이므로 Redis Cluster 환경에서는 Hash Tag로 슬롯을 맞춰야 함
+ *   (현재 구성은 단일 Redis 노드)
+ *
+ * Use Cases:
+ * - UC-012: 주문 생성 (재고 예약)
+ * - UC-015: 주문 취소 (재고 반환)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // Redis Constants
+    private static final String STOCK_KEY_PREFIX = "stock:product:";
+    private static final String STOCK_PENDING_KEY = "stock:pending";
+    private static final String STOCK_LEDGER_PRODUCTS_KEY = "stock:ledger:products";
+    private static final String STOCK_RELEASED_PREFIX = "stock:released:";
+    private static final long RELEASED_MARKER_TTL_SECONDS = 7L * 24 * 60 * 60;
+
+    /**
+     * Lua Script: 장바구니 전체 라인 재고 예약
+     *
+     * KEYS[1] = stock:pending, KEYS[2..n+1] = stock:product:{productId}
+     * ARGV = {productId1, quantity1, productId2, quantity2, ...}
+     *
+     * 프로세스:
+     * 1. 모든 라인의 재고 확인 (하나라도 부족하면 아무것도 차감하지 않음)
+     * 2. 모든 라인 DECRBY + write-back 델타 누적 (HINCRBY)
+     *
+     * 반환값:
+     * - {1, "SUCCESS", remain1, remain2, ...}: 예약 성공 (라인별 잔여 재고)
+     * - {0, "NOT_INITIALIZED", lineIndex}: 원장에 재고 미적재
+     * - {0, "INSUFFICIENT_STOCK", lineIndex, currentStock}: 재고 부족
+     */
+    private static final String RESERVE_SCRIPT =
+        "local pendingKey = KEYS[1]\n" +
+        "local lineCount = #KEYS - 1\n" +
+        "\n" +
+        "-- 1. 전 라인 재고 확인 (All-or-Nothing)\n" +
+        "for i = 1, lineCount do\n" +
+        "    local stock = redis.call('GET', KEYS[i + 1])\n" +
+        "    if not stock then\n" +
+        "        return {0, 'NOT_INITIALIZED', i}\n" +
+        "    end\n" +
+        "    if tonumber(stock) < tonumber(ARGV[i * 2]) then\n" +
+        "        return {0, 'INSUFFICIENT_STOCK', i, tonumber(stock)}\n" +
+        "    end\n" +
+        "end\n" +
+        "\n" +
+        "-- 2. 전 라인 차감 + DB 미반영 델타 누적\n" +
+        "local result = {1, 'SUCCESS'}\n" +
+        "for i = 1, lineCount do\n" +
+        "    local quantity = tonumber(ARGV[i * 2])\n" +
+        "    local remain = redis.call('DECRBY', KEYS[i + 1], quantity)\n" +
+        "    redis.call('HINCRBY', pendingKey, ARGV[i * 2 - 1], -quantity)\n" +
+        "    result[#result + 1] = remain\n" +
+        "end\n" +
+        "return result\n";
+
+    /**
+     * Lua Script: 예약 재고 반환
+     *
+     * KEYS, ARGV 형식은 RESERVE_SCRIPT와 동일
+     * - 원장에 없는 상품은 델타만 누적 (다음 적재 시 DB + 델타로 복원됨)
+     */
+    private static final String RELEASE_SCRIPT =
+        "local pendingKey = KEYS[1]\n" +
+        "for i = 1, #KEYS - 1 do\n" +
+        "    local quantity = tonumber(ARGV[i * 2])\n" +
+        "    if redis.call('EXISTS', KEYS[i + 1]) == 1 then\n" +
+        "        redis.call('INCRBY', KEYS[i + 1], quantity)\n" +
+        "    end\n" +
+        "    redis.call('HINCRBY', pendingKey, ARGV[i * 2 - 1], quantity)\n" +
+        "end\n" +
+        "return 1\n";
+
+    /**
+     * Lua Script: 주문 예약 재고 반환 (주문당 1회)
+     *
+     * KEYS[1] = stock:released:{orderId}, KEYS[2] = stock:pending, KEYS[3..n+2] = stock:product:{productId}
+     * ARGV[1] = 마커 TTL(초), ARGV[2..] = {productId1, quantity1, ...}
+     *
+     * 반환값:
+     * - {1}: 반환
+     * - {0}: 이미 반환된 주문 (변경 없음)
+     */
+    private static final String RELEASE_ORDER_SCRIPT =
+        "if not redis.call('SET', KEYS[1], '1', 'NX', 'EX', ARGV[1]) then\n" +
+        "    return {0}\n" +
+        "end\n" +
+        "local pendingKey = KEYS[2]\n" +
+        "for i = 1, #KEYS - 2 do\n" +
+        "    local quantity = tonumber(ARGV[i * 2 + 1])\n" +
+        "    if redis.call('EXISTS', KEYS[i + 2]) == 1 then\n" +
+        "        redis.call('INCRBY', KEYS[i + 2], quantity)\n" +
+        "    end\n" +
+        "    redis.call('HINCRBY', pendingKey, ARGV[i * 2], quantity)\n" +
+        "end\n" +
+        "return {1}\n";
+
+    /**
+     * Lua Script: 원장 적재 / 정합성 보정
+     *
+     * KEYS[1] = stock:product:{productId}, KEYS[2] = stock:pending, KEYS[3] = stock:ledger:products
+     * ARGV[1] = productId, ARGV[2] = DB 재고, ARGV[3] = 모드 (INIT: 없을 때만 적재, RECONCILE: 불일치 시 덮어쓰기)
+     *
+     * 기대값 = DB 재고 + DB 미반영 델타
+     *
+     * 반환값:
+     * - {0, current}: 변경 없음
+     * - {1, expected, previous}: 적재 또는 보정됨 (previous = -1 이면 신규 적재)
+     */
+    private static final String SYNC_SCRIPT =
+        "local current = redis.call('GET', KEYS[1])\n" +
+        "if current and ARGV[3] == 'INIT' then\n" +
+        "    return {0, tonumber(current)}\n" +
+        "end\n" +
+        "local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0')\n" +
+        "local expected = tonumber(ARGV[2]) + pending\n" +
+        "if current and tonumber(current) == expected then\n" +
+        "    return {0, expected}\n" +
+        "end\n" +
+        "redis.call('SET', KEYS[1], expected)\n" +
+        "redis.call('SADD', KEYS[3], ARGV[1])\n" +
+        "return {1, expected, tonumber(current or '-1')}\n";
+
+    /**
+     * Lua Script: DB 미반영 델타 일괄 인출
+     *
+     * HGETALL + DEL을 원자적으로 실행하여
+     * 인출 이후 발생한 예약은 다음 write-back 대상이 되도록 분리
+     */
+    private static final String DRAIN_SCRIPT =
+        "local entries = redis.call('HGETALL', KEYS[1])\n" +
+        "redis.call('DEL', KEYS[1])\n" +
+        "return entries\n";
+
+    /**
+     * 장바구니 전체 라인 재고 예약
+     *
+     * @param lines 상품 ID → 수량 (순서 유지)
+     * @return 예약 결과
+     */
+    public ReservationResult reserve(LinkedHashMap<Long, Integer> lines) {
+        List<Long> productIds = new ArrayList<>(lines.keySet());
+        List<Object> result = eval(RESERVE_SCRIPT, toKeysAndArgs(lines), lines.size() + 1);
+
+        if (result.isEmpty()) {
+            log.error("재고 예약 Lua Script 실행 결과 없음 - productIds: {}", productIds);
+            return ReservationResult.failure("SCRIPT_ERROR", null, null);
+        }
+
+        int success = parseToInt(result.get(0));
+        String message = parseToString(result.get(1));
+
+        if (success == 1) {
+            Map<Long, Long> remainingStocks = new LinkedHashMap<>();
+            for (int i = 0; i < productIds.size(); i++) {
+                remainingStocks.put(productIds.get(i), parseToLong(result.get(i + 2)));
+            }
+            return ReservationResult.success(remainingStocks);
+        }
+
+        // Lua 배열은 1-based
+        Long failedProductId = productIds.get(parseToInt(result.get(2)) - 1);
+        Long availableStock = result.size() > 3 ? parseToLong(result.get(3)) : null;
+        return ReservationResult.failure(message, failedProductId, availableStock);
+    }
+
+    /**
+     * 예약 재고 반환
+     *
+     * @param lines 상품 ID → 수량
+     */
+    public void release(LinkedHashMap<Long, Integer> lines) {
+        eval(RELEASE_SCRIPT, toKeysAndArgs(lines), lines.size() + 1);
+    }
+
+    /**
+     * 주문 예약 재고 반환 (같은 주문은 1회만 반환)
+     *
+     * @param orderId 주문 ID
+     * @param lines 상품 ID → 수량
+     * @return 반환했으면 true, 이미 반환된 주문이면 false
+     */
+    public boolean releaseOrder(Long orderId, LinkedHashMap<Long, Integer> lines) {
+        byte[][] lineKeysAndArgs = toKeysAndArgs(lines);
+        int lineKeyCount = lines.size() + 1;
+
+        // KEYS = {marker, stock:pending, stock:product:{id}...}, ARGV = {ttl, id, quantity, ...}
+        byte[][] keysAndArgs = new byte[lineKeysAndArgs.length + 2][];
+        keysAndArgs[0] = bytes(STOCK_RELEASED_PREFIX + orderId);
+        System.arraycopy(lineKeysAndArgs, 0, keysAndArgs, 1, lineKeyCount);
+        keysAndArgs[lineKeyCount + 1] = bytes(String.valueOf(RELEASED_MARKER_TTL_SECONDS));
+        System.arraycopy(lineKeysAndArgs, lineKeyCount, keysAndArgs, lineKeyCount + 2,
+                         lineKeysAndArgs.length - lineKeyCount);
+
+        List<Object> result = eval(RELEASE_ORDER_SCRIPT, keysAndArgs, lineKeyCount + 1);
+        return !result.isEmpty() && parseToInt(result.get(0)) == 1;
+    }
+
+    /**
+     * 원장에 재고 적재 (이미 있으면 유지)
+     *
+     * @param productId 상품 ID
+     * @param dbStock products 테이블 재고
+     * @return 원장 재고
+     */
+    public Long initializeIfAbsent(Long productId, int dbStock) {
+        List<Object> result = sync(productId, dbStock, "INIT");
+        return result.isEmpty() ? null : parseToLong(result.get(1));
+    }
+
+    /**
+     * DB 재고 기준 정합성 보정
+     *
+     * 주의: DB 미반영 델타를 인출 중인 write-back과 동시에 실행하면 안 됨
+     * (호출 측에서 write-back과 동일한 분산락으로 보호)
+     *
+     * @param productId 상품 ID
+     * @param dbStock products 테이블 재고
+     * @return 보정 결과
+     */
+    public SyncResult reconcile(Long productId, int dbStock) {
+        List<Object> result = sync(productId, dbStock, "RECONCILE");
+        if (result.isEmpty()) {
+            return SyncResult.builder().productId(productId).corrected(false).build();
+        }
+
+        boolean corrected = parseToInt(result.get(0)) == 1;
+        return SyncResult.builder()
+            .productId(productId)
+            .corrected(corrected)
+            .ledgerStock(parseToLong(result.get(1)))
+            .previousLedgerStock(corrected ? parseToLong(result.get(2)) : null)
+            .build();
+    }
+
+    /**
+     * DB 미반영 델타 일괄 인출
+     *
+     * @return 상품 ID → 변동량 (0인 항목 제외)
+     */
+    public Map<Long, Integer> drainPendingDeltas() {
+        List<Object> entries = eval(DRAIN_SCRIPT, new byte[][]{bytes(STOCK_PENDING_KEY)}, 1);
+
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            int delta = parseToInt(entries.get(i + 1));
+            if (delta != 0) {
+                deltas.put(parseToLong(entries.get(i)), delta);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 인출한 델타 되돌리기 (DB 반영 실패 시)
+     *
+     * @param deltas 상품 ID → 변동량
+     */
+    public void restorePendingDeltas(Map<Long, Integer> deltas) {
+        deltas.forEach((productId, delta) ->
+            stringRedisTemplate.opsForHash().increment(STOCK_PENDING_KEY, productId.toString(), delta));
+    }
+
+    public Long getStock(Long productId) {
+        String value = stringRedisTemplate.opsForValue().get(STOCK_KEY_PREFIX + productId);
+        return value != null ? Long.parseLong(value) : null;
+    }
+
+    public Integer getPendingDelta(Long productId) {
+        Object value = stringRedisTemplate.opsForHash().get(STOCK_PENDING_KEY, productId.toString());
+        return value != null ? Integer.parseInt(value.toString()) : 0;
+    }
+
+    public Set<Long> getLedgerProductIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(STOCK_LEDGER_PRODUCTS_KEY);
+        if (members == null || members.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<Long> productIds = new HashSet<>();
+        for (String member : members) {
+            productIds.add(Long.parseLong(member));
+        }
+        return productIds;
+    }
+
+    public void evict(Long productId) {
+        stringRedisTemplate.delete(STOCK_KEY_PREFIX + productId);
+        stringRedisTemplate.opsForHash().delete(STOCK_PENDING_KEY, productId.toString());
+        stringRedisTemplate.opsForSet().remove(STOCK_LEDGER_PRODUCTS_KEY, productId.toString());
+
+        log.info("상품 재고 원장 삭제 - productId: {}", productId);
+    }
+
+    private List<Object> sync(Long productId, int dbStock, String mode) {
+        byte[][] keysAndArgs = new byte[][]{
+            bytes(STOCK_KEY_PREFIX + productId),
+            bytes(STOCK_PENDING_KEY),
+            bytes(STOCK_LEDGER_PRODUCTS_KEY),
+            bytes(productId.toString()),
+            bytes(String.valueOf(dbStock)),
+            bytes(mode)
+        };
+        return eval(SYNC_SCRIPT, keysAndArgs, 3);
+    }
+
+    /**
+     * KEYS = {stock:pending, stock:product:{id}...}, ARGV = {id, quantity, ...}
+     */
+    private byte[][] toKeysAndArgs(LinkedHashMap<Long, Integer> lines) {
+        byte[][] keysAndArgs = new byte[1 + lines.size() * 3][];
+        keysAndArgs[0] = bytes(STOCK_PENDING_KEY);
+
+        int keyIndex = 1;
+        int argIndex = 1 + lines.size();
+        for (Map.Entry<Long, Integer> line : lines.entrySet()) {
+            keysAndArgs[keyIndex++] = bytes(STOCK_KEY_PREFIX + line.getKey());
+            keysAndArgs[argIndex++] = bytes(line.getKey().toString());
+            keysAndArgs[argIndex++] = bytes(line.getValue().toString());
+        }
+        return keysAndArgs;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> eval(String script, byte[][] keysAndArgs, int numKeys) {
+        List<Object> result = stringRedisTemplate.execute((RedisCallback<List<Object>>) connection -> {
+            Object evalResult = connection.eval(bytes(script), ReturnType.MULTI, numKeys, keysAndArgs);
+            if (evalResult instanceof List) {
+                return (List<Object>) evalResult;
+            }
+            return Collections.emptyList();
+        });
+        return result != null ? result : Collections.emptyList();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private int parseToInt(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return Integer.parseInt(parseToString(value));
+    }
+
+    private Long parseToLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return Long.parseLong(parseToString(value));
+    }
+
+    private String parseToString(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof byte[]) {
+            return new String((byte[]) value, StandardCharsets.UTF_8);
+        }
+        return value.toString();
+    }
+
+    @lombok.Builder
+    @lombok.Getter
+    public static class ReservationResult {
+        private boolean success;
+        private String message;
+        private Long failedProductId;
+        private Long availableStock;
+        private Map<Long, Long> remainingStocks; // 상품 ID → 예약 후 잔여 재고
+
+        public static ReservationResult success(Map<Long, Long> remainingStocks) {
+            return ReservationResult.builder()
+                .success(true)
+                .message("SUCCESS")
+                .remainingStocks(remainingStocks)
+                .build();
+        }
+
+        public static ReservationResult failure(String message, Long failedProductId, Long availableStock) {
+            return ReservationResult.builder()
+                .success(false)
+                .message(message)
+                .failedProductId(failedProductId)
+                .availableStock(availableStock)
+                .remainingStocks(Collections.emptyMap())
+                .build();
+        }
+    }
+
+    @lombok.Builder
+    @lombok.Getter
+    public static class SyncResult {
+        private Long productId;
+        private boolean corrected;
+        private Long ledgerStock;
+        private Long previousLedgerStock;
+    }
+}
@@ -0,0 +1,31 @@
+package com.hhplus.ecommerce.product.infrastructure.persistence;
+
+import com.hhplus.ecommerce.product.domain.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 조회용 Projection
+ *
+ * 상품 + 카테고리명을 LEFT JOIN 단일 SELECT로 조회
+ * - 엔티티 직렬화 시 category 프록시 초기화(상품마다 SELECT) 없음
+ */
+public interface ProductSummaryView {
+
+    Long getId();
+
+    String getName();
+
+    BigDecimal getPrice();
+
+    Integer getStock();
+
+    ProductStatus getStatus();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    LocalDateTime getCreatedAt();
+}
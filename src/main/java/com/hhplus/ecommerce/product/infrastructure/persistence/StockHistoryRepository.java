@@ -67,4 +67,37 @@ public interface StockHistoryRepository extends JpaRepository<StockHistory, Long
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
+
+    /**
+     * 상품별 재고 이력 첫 페이지 (키셋 페이지네이션)
+     *
+     * 성능 최적화:
+     * - idx_product_created_at 인덱스 역순 스캔, OFFSET/COUNT 없음
+     *
+     * @param productId 상품 ID
+     * @param limit 조회 건수 (size + 1)
+     * @return 재고 이력 목록 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT sh FROM StockHistory sh WHERE sh.product.id = :productId " +
+           "ORDER BY sh.createdAt DESC, sh.id DESC")
+    List<StockHistory> findFirstPageByProductId(@Param("productId") Long productId, Pageable limit);
+
+    /**
+     * 상품별 재고 이력 다음 페이지 (키셋 페이지네이션)
+     *
+     * @param productId 상품 ID
+     * @param createdAt 커서 createdAt
+     * @param id 커서 id
+     * @param limit 조회 건수 (size + 1)
+     * @return 재고 이력 목록 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT sh FROM StockHistory sh WHERE sh.product.id = :productId " +
+           "AND (sh.createdAt < :createdAt OR (sh.createdAt = :createdAt AND sh.id < :id)) " +
+           "ORDER BY sh.createdAt DESC, sh.id DESC")
+    List<StockHistory> findPageByProductIdAfter(
+        @Param("productId") Long productId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable limit
+    );
 }
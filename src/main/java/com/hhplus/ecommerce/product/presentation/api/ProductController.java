@@ -1,7 +1,12 @@
 package com.hhplus.ecommerce.product.presentation.api;
 
+import com.hhplus.ecommerce.common.domain.KeysetSlice;
+import com.hhplus.ecommerce.product.application.PopularProductRankingMaterializer;
 import com.hhplus.ecommerce.product.application.ProductService;
 import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.domain.StockHistory;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductSummaryView;
+import com.hhplus.ecommerce.product.presentation.api.dto.ProductSummaryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +41,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final PopularProductRankingMaterializer popularProductRankingMaterializer;
 
     /**
      * 상품 목록 조회
@@ -44,17 +50,18 @@ public class ProductController {
      * - GET /api/products
      *
      * @param pageable 페이징 정보 (기본: page=0, size=20)
-     * @return 상품 페이지
+     * @return 상품 요약 페이지 (목록 SELECT 1회 + COUNT 1회)
      */
     @Operation(summary = "상품 목록 조회", description = "판매 가능한 상품 목록을 조회합니다")
     @GetMapping
-    public ResponseEntity<Page<Product>> getProducts(
+    public ResponseEntity<Page<ProductSummaryResponse>> getProducts(
             @PageableDefault(size = 20) Pageable pageable) {
 
         log.info("[API] GET /api/products - page: {}, size: {}",
                  pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Product> products = productService.getAvailableProducts(pageable);
+        Page<ProductSummaryResponse> products = productService.getAvailableProductSummaries(pageable)
+            .map(ProductSummaryResponse::from);
 
         return ResponseEntity.ok(products);
     }
@@ -67,21 +74,51 @@ public class ProductController {
      *
      * @param categoryId 카테고리 ID
      * @param pageable 페이징 정보
-     * @return 상품 페이지
+     * @return 상품 요약 페이지 (목록 SELECT 1회 + COUNT 1회)
      */
     @Operation(summary = "카테고리별 상품 조회", description = "특정 카테고리의 상품 목록을 조회합니다")
     @GetMapping(params = "categoryId")
-    public ResponseEntity<Page<Product>> getProductsByCategory(
+    public ResponseEntity<Page<ProductSummaryResponse>> getProductsByCategory(
             @RequestParam Long categoryId,
             @PageableDefault(size = 20) Pageable pageable) {
 
         log.info("[API] GET /api/products?categoryId={}", categoryId);
 
-        Page<Product> products = productService.getProductsByCategory(categoryId, pageable);
+        Page<ProductSummaryResponse> products = productService.getProductSummariesByCategory(categoryId, pageable)
+            .map(ProductSummaryResponse::from);
 
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 상품 목록 조회 (키셋 페이지네이션)
+     *
+     * Use Case: UC-003
+     * - GET /api/products/keyset?after={createdAt},{id}&size=20
+     * - GET /api/products/keyset?categoryId={categoryId}&after=...
+     * - 응답의 nextCursor를 다음 요청의 after로 전달
+     *
+     * @param categoryId 카테고리 ID (생략 시 전체)
+     * @param after 이전 페이지의 nextCursor (생략 시 첫 페이지)
+     * @param size 페이지 크기
+     * @return 상품 요약 Slice
+     */
+    @Operation(summary = "상품 목록 조회 (키셋)", description = "커서 기반으로 판매 가능한 상품 목록을 조회합니다")
+    @GetMapping("/keyset")
+    public ResponseEntity<KeysetSlice<ProductSummaryResponse>> getProductsKeyset(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("[API] GET /api/products/keyset - categoryId: {}, after: {}", categoryId, after);
+
+        KeysetSlice<ProductSummaryView> products = categoryId == null
+            ? productService.getAvailableProductsAfter(after, size)
+            : productService.getProductsByCategoryAfter(categoryId, after, size);
+
+        return ResponseEntity.ok(products.map(ProductSummaryResponse::from));
+    }
+
     /**
      * 상품 상세 조회
      *
@@ -101,6 +138,29 @@ public class ProductController {
         return ResponseEntity.ok(product);
     }
 
+    /**
+     * 상품별 재고 이력 조회 (키셋 페이지네이션)
+     *
+     * - GET /api/products/{productId}/stock-history?after={createdAt},{id}&size=20
+     * - 응답의 nextCursor를 다음 요청의 after로 전달
+     *
+     * @param productId 상품 ID
+     * @param after 이전 페이지의 nextCursor (생략 시 첫 페이지)
+     * @param size 페이지 크기
+     * @return 재고 이력 Slice
+     */
+    @Operation(summary = "재고 이력 조회", description = "커서 기반으로 상품의 재고 변동 이력을 조회합니다")
+    @GetMapping("/{productId}/stock-history")
+    public ResponseEntity<KeysetSlice<StockHistory>> getStockHistory(
+            @PathVariable Long productId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("[API] GET /api/products/{}/stock-history - after: {}", productId, after);
+
+        return ResponseEntity.ok(productService.getStockHistory(productId, after, size));
+    }
+
     /**
      * 인기 상품 조회 (DB 기반)
      *
@@ -132,19 +192,21 @@ public class ProductController {
      * - 주문 즉시 반영
      *
      * @param topN 조회할 상위 개수 (기본 10개)
+     * @param windowHours 집계 구간 - 최근 N시간 (기본 0 = 전체 누적)
      * @return 실시간 인기 상품 목록
      */
     @Operation(
         summary = "실시간 인기 상품 조회 (Redis 기반)",
-        description = "Redis Sorted Set 기반으로 실시간 인기 상품을 조회합니다 (주문 즉시 반영)"
+        description = "Redis Sorted Set 기반으로 실시간 인기 상품을 조회합니다 (주문 즉시 반영, windowHours로 최근 N시간 집계)"
     )
     @GetMapping("/popular/realtime")
     public ResponseEntity<List<Product>> getRealtimePopularProducts(
-            @RequestParam(defaultValue = "10") int topN) {
+            @RequestParam(defaultValue = "10") int topN,
+            @RequestParam(defaultValue = "0") int windowHours) {
 
-        log.info("[API] GET /api/products/popular/realtime - topN: {}", topN);
+        log.info("[API] GET /api/products/popular/realtime - topN: {}, windowHours: {}", topN, windowHours);
 
-        List<Product> products = productService.getRealtimePopularProducts(topN);
+        List<Product> products = productService.getRealtimePopularProducts(topN, windowHours);
 
         return ResponseEntity.ok(products);
     }
@@ -157,21 +219,49 @@ public class ProductController {
      * - 판매 수량, 순위 정보 포함
      *
      * @param topN 조회할 상위 개수 (기본 10개)
+     * @param windowHours 집계 구간 - 최근 N시간 (기본 0 = 전체 누적)
      * @return 실시간 인기 상품 목록 (통계 포함)
      */
     @Operation(
         summary = "실시간 인기 상품 조회 (통계 포함)",
-        description = "판매 수량, 순위 정보가 포함된 실시간 인기 상품을 조회합니다"
+        description = "판매 수량, 순위 정보가 포함된 실시간 인기 상품을 조회합니다 (windowHours로 최근 N시간 집계)"
     )
     @GetMapping("/popular/realtime/stats")
     public ResponseEntity<List<ProductService.PopularProductInfo>> getRealtimePopularProductsWithStats(
-            @RequestParam(defaultValue = "10") int topN) {
+            @RequestParam(defaultValue = "10") int topN,
+            @RequestParam(defaultValue = "0") int windowHours) {
 
-        log.info("[API] GET /api/products/popular/realtime/stats - topN: {}", topN);
+        log.info("[API] GET /api/products/popular/realtime/stats - topN: {}, windowHours: {}", topN, windowHours);
 
         List<ProductService.PopularProductInfo> products =
-            productService.getRealtimePopularProductsWithStats(topN);
+            productService.getRealtimePopularProductsWithStats(topN, windowHours);
 
         return ResponseEntity.ok(products);
     }
+
+    /**
+     * 실시간 인기 상품 랭킹 스냅샷 조회
+     *
+     * Use Case: UC-006 (실시간 버전 + 통계, 조회 전용 모델)
+     * - GET /api/products/popular/realtime/snapshot
+     * - 백그라운드에서 생성한 불변 스냅샷을 반환 (요청 시 Redis/DB 접근 없음)
+     * - 반영 지연: 최대 product.ranking.max-age-ms
+     *
+     * @param topN 조회할 상위 개수 (기본 10개, 최대 product.ranking.snapshot-size)
+     * @param windowHours 집계 구간 - 최근 N시간 (기본 0 = 전체 누적, product.ranking.snapshot-windows 중 하나)
+     * @return 순위, 판매 수량, 상품 정보
+     */
+    @Operation(
+        summary = "실시간 인기 상품 랭킹 스냅샷 조회",
+        description = "미리 생성된 랭킹 스냅샷에서 순위/판매 수량/상품 정보를 조회합니다 (DB 조회 없음)"
+    )
+    @GetMapping("/popular/realtime/snapshot")
+    public ResponseEntity<List<PopularProductRankingMaterializer.RankingEntry>> getPopularRankingSnapshot(
+            @RequestParam(defaultValue = "10") int topN,
+            @RequestParam(defaultValue = "0") int windowHours) {
+
+        log.debug("[API] GET /api/products/popular/realtime/snapshot - topN: {}, windowHours: {}", topN, windowHours);
+
+        return ResponseEntity.ok(popularProductRankingMaterializer.getTop(topN, windowHours));
+    }
 }
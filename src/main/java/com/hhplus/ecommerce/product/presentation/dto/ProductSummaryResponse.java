@@ -0,0 +1,62 @@
+package com.hhplus.ecommerce.product.presentation.api.dto;
+
+import com.hhplus.ecommerce.product.domain.ProductStatus;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductSummaryView;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 항목 응답 DTO
+ *
+ * Use Case: UC-003
+ * - 상품 목록 Projection(ProductSummaryView) 변환
+ */
+@Schema(description = "상품 목록 항목")
+@Getter
+@Builder
+public class ProductSummaryResponse {
+
+    @Schema(description = "상품 ID", example = "1")
+    private Long productId;
+
+    @Schema(description = "상품명", example = "노트북")
+    private String name;
+
+    @Schema(description = "가격", example = "1500000")
+    private BigDecimal price;
+
+    @Schema(description = "재고", example = "100")
+    private Integer stock;
+
+    @Schema(description = "상품 상태", example = "AVAILABLE")
+    private ProductStatus status;
+
+    @Schema(description = "카테고리 ID", example = "1")
+    private Long categoryId;
+
+    @Schema(description = "카테고리명", example = "전자기기")
+    private String categoryName;
+
+    @Schema(description = "등록 일시", example = "2025-11-01T09:00:00")
+    private LocalDateTime createdAt;
+
+    /**
+     * Projection → DTO 변환
+     */
+    public static ProductSummaryResponse from(ProductSummaryView view) {
+        return ProductSummaryResponse.builder()
+            .productId(view.getId())
+            .name(view.getName())
+            .price(view.getPrice())
+            .stock(view.getStock())
+            .status(view.getStatus())
+            .categoryId(view.getCategoryId())
+            .categoryName(view.getCategoryName())
+            .createdAt(view.getCreatedAt())
+            .build();
+    }
+}
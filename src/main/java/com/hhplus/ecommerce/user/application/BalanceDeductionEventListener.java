@@ -1,6 +1,7 @@
 package com.hhplus.ecommerce.user.application;
 
 import com.hhplus.ecommerce.common.application.DomainEventStoreService;
+import com.hhplus.ecommerce.common.application.HistoryWriter;
 import com.hhplus.ecommerce.common.domain.DomainEventStore;
 import com.hhplus.ecommerce.common.domain.event.BalanceDeductionPayload;
 import com.hhplus.ecommerce.order.domain.Order;
@@ -12,11 +13,9 @@ import com.hhplus.ecommerce.product.domain.Product;
 import com.hhplus.ecommerce.product.domain.StockHistory;
 import com.hhplus.ecommerce.product.domain.StockTransactionType;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
-import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
 import com.hhplus.ecommerce.user.domain.BalanceHistory;
 import com.hhplus.ecommerce.user.domain.BalanceTransactionType;
 import com.hhplus.ecommerce.user.domain.User;
-import com.hhplus.ecommerce.user.infrastructure.persistence.BalanceHistoryRepository;
 import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -72,10 +71,9 @@ import java.util.stream.Collectors;
 public class BalanceDeductionEventListener {
 
     private final UserRepository userRepository;
-    private final BalanceHistoryRepository balanceHistoryRepository;
+    private final HistoryWriter historyWriter;
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
-    private final StockHistoryRepository stockHistoryRepository;
     private final DomainEventStoreService eventStoreService;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -128,7 +126,7 @@ public class BalanceDeductionEventListener {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-            balanceHistoryRepository.save(history);
+            historyWriter.record(history);
 
             log.info("[이벤트] 잔액 차감 성공 - orderId: {}, userId: {}, balanceAfter: {}",
                      event.getOrderId(), event.getUserId(), user.getBalance());
@@ -243,7 +241,7 @@ public class BalanceDeductionEventListener {
                         .createdAt(LocalDateTime.now())
                         .build();
 
-                    stockHistoryRepository.save(history);
+                    historyWriter.record(history);
 
                     log.info("[보상 트랜잭션] 재고 복구 완료 - productId: {}, quantity: {}, stockAfter: {}",
                              productInfo.getProductId(), productInfo.getQuantity(), product.getStock());
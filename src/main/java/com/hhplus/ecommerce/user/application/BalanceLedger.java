@@ -0,0 +1,276 @@
+package com.hhplus.ecommerce.user.application;
+
+import com.hhplus.ecommerce.config.BalanceLedgerProperties;
+import com.hhplus.ecommerce.user.domain.BalanceTransactionType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 잔액 그룹 커밋 원장
+ *
+ * Application Layer - 동시성 제어
+ *
+ * 책임:
+ * - 사용자별 잔액 변경 요청(충전/차감/환불) 큐잉
+ * - 같은 사용자의 대기 요청을 한 트랜잭션으로 묶어 반영 (BalanceLedgerWriter)
+ * - 요청별 결과를 각 호출자에게 개별 전달 (잔액 부족 차감만 거절)
+ *
+ * 기존 경로와의 차이:
+ * - 기존: 충전 1건 = Redisson 락 + 트랜잭션(조회/UPDATE/이력 INSERT),
+ *   결제 차감 1건 = 비관적 락 → 헤비 유저의 동시 요청이 두 락 뒤에 줄을 섬
+ * - 원장: 큐에 쌓인 요청 N건 = 비관적 락 1회 + 잔액 UPDATE 1회 + 이력 N건 일괄 저장
+ *
+ * 그룹 커밋 방식 (leader/follower):
+ * - 요청을 큐에 넣은 스레드 중 하나가 leader가 되어 배치 반영
+ * - leader는 최대 max-batches-per-leader개 배치만 반영 후 다음 대기 요청의 스레드에 leader를 넘김
+ *   (한 호출자가 헤비 유저의 적체를 계속 떠안아 자기 응답이 무한정 늦어지지 않도록)
+ * - 나머지 스레드는 자신의 결과(CompletableFuture) 또는 leader 인계만 대기
+ * - 대기 시간 초과 시 아직 배치에 포함되지 않은 요청은 취소 (반영되지 않음 보장)
+ * - 이미 배치에 포함된 요청은 commit-wait-timeout-ms까지만 결과 대기 (초과 시 결과 미확인 예외)
+ * - 두 경우 모두 BalanceLedgerTimeoutException (재시도 대상, outcomeUnknown으로 구분)
+ *
+ * 다중 인스턴스:
+ * - 큐는 인스턴스 로컬, 인스턴스 간 동일 사용자 배치는 DB 비관적 락으로 직렬화
+ *
+ * 활성화:
+ * - balance.ledger.group-commit-enabled=true (기본값 false)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceLedger {
+
+    private final BalanceLedgerWriter balanceLedgerWriter;
+    private final BalanceLedgerProperties balanceLedgerProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<Long, UserQueue> queues = new ConcurrentHashMap<>();
+
+    private DistributionSummary batchSizeSummary;
+
+    @PostConstruct
+    void registerMetrics() {
+        batchSizeSummary = DistributionSummary.builder("balance.ledger.batch.size")
+            .description("잔액 그룹 커밋 1회당 요청 수")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return balanceLedgerProperties.isGroupCommitEnabled();
+    }
+
+    /**
+     * 잔액 충전
+     *
+     * @return 충전 후 잔액
+     */
+    public BigDecimal charge(Long userId, BigDecimal amount, String description) {
+        return submit(userId, BalanceTransactionType.CHARGE, amount, description);
+    }
+
+    /**
+     * 잔액 차감
+     *
+     * @return 차감 후 잔액
+     * @throws IllegalArgumentException 잔액 부족 (해당 요청만 거절)
+     */
+    public BigDecimal deduct(Long userId, BigDecimal amount, String description) {
+        return submit(userId, BalanceTransactionType.USE, amount, description);
+    }
+
+    /**
+     * 잔액 환불 (차감 보상)
+     *
+     * @return 환불 후 잔액
+     */
+    public BigDecimal refund(Long userId, BigDecimal amount, String description) {
+        return submit(userId, BalanceTransactionType.REFUND, amount, description);
+    }
+
+    private BigDecimal submit(Long userId, BalanceTransactionType type, BigDecimal amount, String description) {
+        BalanceOperation operation = new BalanceOperation(type, amount, description);
+
+        UserQueue queue = queues.computeIfAbsent(userId, id -> new UserQueue());
+        queue.pending.add(operation);
+        drain(userId, queue);
+
+        return await(userId, queue, operation);
+    }
+
+    /**
+     * 큐 비우기 (leader만 실행)
+     *
+     * draining 해제 후 큐를 다시 확인하여, leader가 빠져나가는 사이 들어온 요청이 방치되지 않도록 함
+     * 배치 한도에 도달하면 남은 요청은 다음 대기 스레드에 인계하고 반환
+     */
+    private void drain(Long userId, UserQueue queue) {
+        while (!queue.pending.isEmpty() && queue.draining.compareAndSet(false, true)) {
+            int batches = 0;
+            try {
+                List<BalanceOperation> batch = pollBatch(queue);
+                while (!batch.isEmpty()) {
+                    commit(userId, batch);
+                    if (++batches >= balanceLedgerProperties.getMaxBatchesPerLeader()) {
+                        break;
+                    }
+                    batch = pollBatch(queue);
+                }
+            } finally {
+                queue.draining.set(false);
+            }
+
+            if (batches >= balanceLedgerProperties.getMaxBatchesPerLeader()) {
+                handOff(queue);
+                return;
+            }
+        }
+
+        if (queue.pending.isEmpty()) {
+            queues.remove(userId, queue);
+        }
+    }
+
+    /**
+     * leader 인계: 아직 배치에 포함되지 않은 첫 요청의 스레드를 깨워 큐 비우기를 이어받게 함
+     */
+    private void handOff(UserQueue queue) {
+        for (BalanceOperation next : queue.pending) {
+            if (!next.claimed.get()) {
+                next.leadership.complete(null);
+                return;
+            }
+        }
+    }
+
+    private List<BalanceOperation> pollBatch(UserQueue queue) {
+        List<BalanceOperation> batch = new ArrayList<>();
+        BalanceOperation operation;
+        while (batch.size() < balanceLedgerProperties.getMaxBatchSize() && (operation = queue.pending.poll()) != null) {
+            // 대기 시간 초과로 취소된 요청 제외
+            if (operation.claimed.compareAndSet(false, true)) {
+                batch.add(operation);
+            }
+        }
+        return batch;
+    }
+
+    private void commit(Long userId, List<BalanceOperation> batch) {
+        try {
+            List<BalanceLedgerWriter.Result> results = balanceLedgerWriter.applyBatch(userId, batch);
+            batchSizeSummary.record(batch.size());
+
+            for (int i = 0; i < batch.size(); i++) {
+                BalanceLedgerWriter.Result result = results.get(i);
+                if (result.isApplied()) {
+                    batch.get(i).result.complete(result.getBalanceAfter());
+                } else {
+                    batch.get(i).result.completeExceptionally(new IllegalArgumentException(result.getRejectedReason()));
+                }
+            }
+
+        } catch (Exception e) {
+            log.error("[잔액 원장] 그룹 커밋 실패 - userId: {}, 요청: {}건", userId, batch.size(), e);
+            batch.forEach(operation -> operation.result.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * 결과 대기
+     *
+     * 처리 흐름:
+     * 1. 결과 또는 leader 인계를 wait-timeout-ms까지 대기 (인계받으면 직접 큐 비우기)
+     * 2. 시간 초과 + 배치 미포함 → 요청 취소 후 예외 (다음 대기 스레드에 leader 인계)
+     * 3. 시간 초과 + 이미 배치 포함 → commit-wait-timeout-ms까지만 커밋 결과 대기
+     *
+     * @throws BalanceLedgerTimeoutException 대기 시간 초과 (취소 또는 결과 미확인)
+     */
+    private BigDecimal await(Long userId, UserQueue queue, BalanceOperation operation) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(balanceLedgerProperties.getWaitTimeoutMs());
+
+        try {
+            try {
+                CompletableFuture.anyOf(operation.result, operation.leadership)
+                    .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (!operation.result.isDone()) {
+                    drain(userId, queue);
+                }
+                return operation.result.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+            } catch (TimeoutException e) {
+                if (operation.claimed.compareAndSet(false, true)) {
+                    // 인계받은 leader였을 수 있으므로 다음 대기 스레드에 넘김
+                    handOff(queue);
+                    throw new BalanceLedgerTimeoutException("잔액 처리 요청이 많습니다. 잠시 후 다시 시도해주세요", false);
+                }
+                return awaitCommit(operation);
+            }
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("잔액 처리 중 오류가 발생했습니다", e.getCause());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("잔액 처리 중 오류가 발생했습니다", e);
+        }
+    }
+
+    /**
+     * 이미 배치에 포함된 요청의 커밋 결과 대기 (commit-wait-timeout-ms)
+     *
+     * @throws BalanceLedgerTimeoutException 커밋 결과 미확인 (반영 여부는 잔액/이력으로 확인 필요)
+     */
+    private BigDecimal awaitCommit(BalanceOperation operation)
+            throws ExecutionException, InterruptedException {
+        try {
+            return operation.result.get(balanceLedgerProperties.getCommitWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.error("[잔액 원장] 커밋 결과 대기 시간 초과 - type: {}, amount: {}",
+                      operation.type, operation.amount);
+            throw new BalanceLedgerTimeoutException(
+                "잔액 처리 결과를 확인하지 못했습니다. 잔액을 확인한 후 다시 시도해주세요", true, e);
+        }
+    }
+
+    private static class UserQueue {
+        private final Queue<BalanceOperation> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+    }
+
+    public static class BalanceOperation {
+        @Getter
+        private final BalanceTransactionType type;
+        @Getter
+        private final BigDecimal amount;
+        @Getter
+        private final String description;
+        private final CompletableFuture<BigDecimal> result = new CompletableFuture<>();
+        private final CompletableFuture<Void> leadership = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        BalanceOperation(BalanceTransactionType type, BigDecimal amount, String description) {
+            this.type = type;
+            this.amount = amount;
+            this.description = description;
+        }
+    }
+}
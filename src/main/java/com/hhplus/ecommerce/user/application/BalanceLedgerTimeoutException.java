@@ -0,0 +1,45 @@
+package com.hhplus.ecommerce.user.application;
+
+import lombok.Getter;
+
+/**
+ * 잔액 그룹 커밋 원장 대기 시간 초과 (일시적 과부하)
+ *
+ * Application Layer - 동시성 제어
+ *
+ * 비즈니스 실패(잔액 부족 등)와 구분:
+ * - 요청 자체는 유효하고 원장이 잠시 밀린 상태 → 보상 없이 재시도 대상
+ * - Kafka Consumer: 보상/ack 없이 예외 전파 (컨테이너 재전달)
+ * - HTTP: 기존과 같은 IllegalStateException 응답 (하위 타입)
+ *
+ * 반영 여부:
+ * - outcomeUnknown=false: 배치에 포함되기 전에 취소됨 (반영되지 않음 보장)
+ * - outcomeUnknown=true: 이미 배치에 포함됨 (커밋됐을 수 있음 → 잔액 이력으로 확인 후 처리)
+ */
+@Getter
+public class BalanceLedgerTimeoutException extends IllegalStateException {
+
+    private final boolean outcomeUnknown;
+
+    public BalanceLedgerTimeoutException(String message, boolean outcomeUnknown) {
+        super(message);
+        this.outcomeUnknown = outcomeUnknown;
+    }
+
+    public BalanceLedgerTimeoutException(String message, boolean outcomeUnknown, Throwable cause) {
+        super(message, cause);
+        this.outcomeUnknown = outcomeUnknown;
+    }
+
+    /**
+     * 예외 원인 체인에 원장 대기 시간 초과가 포함되어 있는지 확인
+     */
+    public static boolean isCauseOf(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BalanceLedgerTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,102 @@
+package com.hhplus.ecommerce.user.application;
+
+import com.hhplus.ecommerce.common.application.HistoryWriter;
+import com.hhplus.ecommerce.user.domain.BalanceHistory;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 잔액 그룹 커밋 반영기
+ *
+ * Application Layer - 트랜잭션 경계
+ *
+ * 책임:
+ * - 한 사용자의 잔액 변경 요청 묶음을 단일 트랜잭션으로 반영
+ * - 요청별 성공/거절 결과 반환 (잔액 부족 차감은 해당 요청만 거절)
+ *
+ * 처리 흐름:
+ * 1. 사용자 row 비관적 락 1회 (다른 노드의 동일 사용자 배치와 직렬화)
+ * 2. 요청 순서대로 도메인 로직 적용 (충전/사용/환불)
+ * 3. 잔액 UPDATE 1회 (dirty checking) + 이력 일괄 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceLedgerWriter {
+
+    private final UserRepository userRepository;
+    private final HistoryWriter historyWriter;
+
+    /**
+     * 요청 묶음 반영
+     *
+     * @param userId 사용자 ID
+     * @param operations 요청 목록 (도착 순서)
+     * @return 요청별 결과 (operations와 같은 순서)
+     * @throws IllegalArgumentException 사용자 없음 (묶음 전체 실패)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<Result> applyBatch(Long userId, List<BalanceLedger.BalanceOperation> operations) {
+        User user = userRepository.findByIdWithLock(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId));
+
+        List<BalanceHistory> histories = new ArrayList<>(operations.size());
+        List<Result> results = new ArrayList<>(operations.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (BalanceLedger.BalanceOperation operation : operations) {
+            BigDecimal balanceBefore = user.getBalance();
+
+            try {
+                switch (operation.getType()) {
+                    case CHARGE -> user.chargeBalance(operation.getAmount());
+                    case USE -> user.useBalance(operation.getAmount());
+                    case REFUND -> user.refundBalance(operation.getAmount());
+                }
+            } catch (IllegalArgumentException e) {
+                results.add(Result.builder().rejectedReason(e.getMessage()).build());
+                continue;
+            }
+
+            histories.add(BalanceHistory.builder()
+                .user(user)
+                .type(operation.getType())
+                .amount(operation.getAmount())
+                .balanceBefore(balanceBefore)
+                .balanceAfter(user.getBalance())
+                .description(operation.getDescription())
+                .createdAt(now)
+                .build());
+
+            results.add(Result.builder().balanceAfter(user.getBalance()).build());
+        }
+
+        historyWriter.recordAll(histories);
+
+        log.debug("[잔액 원장] 그룹 커밋 - userId: {}, 요청: {}건, 반영: {}건, 잔액: {}",
+                  userId, operations.size(), histories.size(), user.getBalance());
+
+        return results;
+    }
+
+    @lombok.Builder
+    @lombok.Getter
+    public static class Result {
+        private BigDecimal balanceAfter;
+        private String rejectedReason;
+
+        public boolean isApplied() {
+            return rejectedReason == null;
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package com.hhplus.ecommerce.user.application;
 
+import com.hhplus.ecommerce.common.application.HistoryWriter;
+import com.hhplus.ecommerce.common.application.KeysetLimit;
+import com.hhplus.ecommerce.common.domain.KeysetCursor;
+import com.hhplus.ecommerce.common.domain.KeysetSlice;
+import com.hhplus.ecommerce.common.infrastructure.lock.FencedLockService;
+import com.hhplus.ecommerce.config.FencedLockProperties;
 import com.hhplus.ecommerce.user.domain.BalanceHistory;
 import com.hhplus.ecommerce.user.domain.BalanceTransactionType;
 import com.hhplus.ecommerce.user.domain.User;
@@ -17,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -29,10 +36,10 @@ import java.util.concurrent.TimeUnit;
  * - UC-002: 잔액 조회
  * - 트랜잭션 관리
  * - 잔액 이력 기록
- * - 동시성 제어 (Redisson 분산 락)
+ * - 동시성 제어 (Redisson 분산 락, 펜싱 락, 또는 그룹 커밋 원장)
  *
  * 레이어 의존성:
- * - Infrastructure Layer: UserRepository, BalanceHistoryRepository
+ * - Infrastructure Layer: UserRepository, BalanceHistoryRepository, HistoryWriter
  * - Domain Layer: User, BalanceHistory
  */
 @Slf4j
@@ -43,7 +50,11 @@ public class BalanceService {
 
     private final UserRepository userRepository;
     private final BalanceHistoryRepository balanceHistoryRepository;
+    private final HistoryWriter historyWriter;
     private final RedissonClient redissonClient;
+    private final BalanceLedger balanceLedger;
+    private final FencedLockService fencedLockService;
+    private final FencedLockProperties fencedLockProperties;
     private final org.springframework.context.ApplicationContext applicationContext;
 
     // Lock Constants
@@ -73,6 +84,12 @@ public class BalanceService {
      * - 트랜잭션 커밋 후 락 해제로 다음 트랜잭션이 최신 데이터 조회
      * - 잔액 정확성 보장
      *
+     * 그룹 커밋 모드 (balance.ledger.group-commit-enabled=true):
+     * - 분산 락 없이 BalanceLedger 큐에 등록, 같은 사용자의 대기 요청과 한 트랜잭션으로 반영
+     *
+     * 펜싱 락 모드 (lock.fenced.enabled=true):
+     * - Redisson RLock 대신 FencedLockService (주문 생성과 같은 락 키), 트랜잭션에서 펜싱 토큰 검증
+     *
      * @param userId 사용자 ID
      * @param amount 충전 금액
      * @return 충전 후 잔액
@@ -85,6 +102,16 @@ public class BalanceService {
         // Step 1: 입력 검증
         validateChargeAmount(amount);
 
+        if (balanceLedger.isEnabled()) {
+            BigDecimal balanceAfter = balanceLedger.charge(userId, amount, "잔액 충전");
+            log.info("[UC-001] 잔액 충전 완료 (그룹 커밋) - userId: {}, after: {}", userId, balanceAfter);
+            return balanceAfter;
+        }
+
+        if (fencedLockProperties.isEnabled()) {
+            return chargeBalanceWithFencedLock(userId, amount);
+        }
+
         // Step 2: 분산 락 획득
         String lockKey = USER_LOCK_PREFIX + userId;
         RLock lock = redissonClient.getLock(lockKey);
@@ -126,6 +153,40 @@ public class BalanceService {
         }
     }
 
+    /**
+     * 펜싱 락으로 잔액 충전
+     *
+     * 락 획득/해제는 각각 Lua Script 1회, lease 만료된 보유자는 토큰 검증에서 롤백
+     */
+    private BigDecimal chargeBalanceWithFencedLock(Long userId, BigDecimal amount) {
+        String lockKey = USER_LOCK_PREFIX + userId;
+        FencedLockService.FencedLock lock = null;
+
+        try {
+            lock = fencedLockService.tryLock(
+                lockKey,
+                fencedLockProperties.getWaitTimeMs(),
+                fencedLockProperties.getLeaseTimeMs(),
+                fencedLockProperties.getRetryIntervalMs()
+            ).orElseThrow(() -> {
+                log.warn("잔액 충전 펜싱 락 획득 실패 - userId: {}", userId);
+                return new IllegalStateException("잔액 처리 요청이 많습니다. 잠시 후 다시 시도해주세요");
+            });
+
+            BalanceService self = applicationContext.getBean(BalanceService.class);
+            return self.chargeBalanceWithLock(userId, amount, lock.getFencingToken());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("잔액 충전 중 인터럽트 발생 - userId: {}", userId, e);
+            throw new IllegalStateException("잔액 충전 중 오류가 발생했습니다");
+        } finally {
+            if (lock != null) {
+                fencedLockService.unlock(lock);
+            }
+        }
+    }
+
     /**
      * 락을 획득한 상태에서 잔액 충전 수행
      *
@@ -139,6 +200,26 @@ public class BalanceService {
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public BigDecimal chargeBalanceWithLock(Long userId, BigDecimal amount) {
+        return chargeBalanceWithLock(userId, amount, null);
+    }
+
+    /**
+     * 락을 획득한 상태에서 잔액 충전 수행 (펜싱 토큰 검증)
+     *
+     * @param fencingToken 펜싱 락 토큰 (null이면 검증 생략)
+     * @throws IllegalStateException 더 최신 토큰이 이미 기록됨 (lease 만료된 보유자)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public BigDecimal chargeBalanceWithLock(Long userId, BigDecimal amount, Long fencingToken) {
+        // 펜싱 토큰 검증 (조건부 UPDATE, 사용자 row 쓰기 락 획득)
+        if (fencingToken != null && userRepository.advanceLockFenceToken(userId, fencingToken) == 0) {
+            if (!userRepository.existsById(userId)) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId);
+            }
+            log.warn("잔액 충전 펜싱 토큰 만료 - userId: {}, token: {}", userId, fencingToken);
+            throw new IllegalStateException("잔액 처리 요청이 많습니다. 잠시 후 다시 시도해주세요");
+        }
+
         // 사용자 조회
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId));
@@ -207,6 +288,35 @@ public class BalanceService {
         return balanceHistoryRepository.findByUserOrderByCreatedAtDesc(user, pageable);
     }
 
+    /**
+     * 잔액 이력 조회 (키셋 페이지네이션)
+     *
+     * Use Case: UC-002 (확장)
+     * - OFFSET 없이 커서 이후 size건 조회 (이력이 누적되어도 페이지 조회 비용 일정)
+     *
+     * @param userId 사용자 ID
+     * @param after 이전 페이지의 nextCursor (null이면 첫 페이지)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 잔액 이력 Slice
+     * @throws IllegalArgumentException 사용자 없음, 잘못된 커서/페이지 크기
+     */
+    public KeysetSlice<BalanceHistory> getBalanceHistoryAfter(Long userId, String after, int size) {
+        log.info("[UC-002] 잔액 이력 키셋 조회 - userId: {}, after: {}, size: {}", userId, after, size);
+
+        Pageable limit = KeysetLimit.of(size);
+        KeysetCursor cursor = KeysetCursor.parse(after);
+
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
+
+        List<BalanceHistory> rows = cursor == null
+            ? balanceHistoryRepository.findFirstPageByUserId(userId, limit)
+            : balanceHistoryRepository.findPageByUserIdAfter(userId, cursor.getTimestamp(), cursor.getId(), limit);
+
+        return KeysetSlice.of(rows, size, BalanceHistory::getCreatedAt, BalanceHistory::getId);
+    }
+
     /**
      * 충전 금액 검증
      *
@@ -264,7 +374,7 @@ public class BalanceService {
             .createdAt(LocalDateTime.now())
             .build();
 
-        balanceHistoryRepository.save(history);
+        historyWriter.record(history);
 
         log.debug("잔액 이력 기록 - userId: {}, type: {}, amount: {}",
                   user.getId(), type, amount);
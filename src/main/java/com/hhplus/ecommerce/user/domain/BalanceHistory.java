@@ -8,7 +8,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "balance_histories", indexes = {
-        @Index(name = "idx_user_id_type", columnList = "user_id, type")
+        @Index(name = "idx_user_id_type", columnList = "user_id, type"),
+        @Index(name = "idx_user_created_at", columnList = "user_id, created_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,12 +17,24 @@ import java.time.LocalDateTime;
 @Builder
 public class BalanceHistory {
 
+    // ID: id_generators 기반 pooled 할당 (INSERT 배치용, 근거는 scripts/init.sql id_generators 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "balanceHistoryIdGenerator")
+    @TableGenerator(
+        name = "balanceHistoryIdGenerator",
+        table = "id_generators",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "balance_histories",
+        allocationSize = 100
+    )
     private Long id;
 
+    /**
+     * FK 제약 없음: 월별 RANGE 파티셔닝 테이블은 외래 키를 가질 수 없음 (scripts/history-partitioning.sql)
+     */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Enumerated(EnumType.STRING)
@@ -45,7 +58,10 @@ public class BalanceHistory {
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
+        // 비동기 Writer/재시도 경로는 변경 시점(createdAt)을 유지한 채 저장
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
     }
 
     // 정적 팩토리 메서드
@@ -58,6 +74,7 @@ public class BalanceHistory {
                 .balanceBefore(balanceBefore)
                 .balanceAfter(balanceAfter)
                 .description(description)
+                .createdAt(LocalDateTime.now())
                 .build();
     }
 }
@@ -41,6 +41,10 @@ public class User extends BaseEntity {
     @Column(nullable = false, length = 20)
     private UserStatus status;
 
+    // 펜싱 락 토큰: 잔액 락 보유자가 마지막으로 기록한 토큰 (lease 만료된 이전 보유자의 쓰기 차단)
+    @Column(name = "lock_fence_token")
+    private Long lockFenceToken;
+
     // 비즈니스 로직: 잔액 충전
     public void chargeBalance(BigDecimal amount) {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
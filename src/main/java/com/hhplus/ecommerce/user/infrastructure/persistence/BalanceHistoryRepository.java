@@ -1,6 +1,7 @@
 package com.hhplus.ecommerce.user.infrastructure.persistence;
 
 import com.hhplus.ecommerce.user.domain.BalanceHistory;
+import com.hhplus.ecommerce.user.domain.BalanceTransactionType;
 import com.hhplus.ecommerce.user.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -36,7 +37,7 @@ public interface BalanceHistoryRepository extends JpaRepository<BalanceHistory,
      * - UC-002: 잔액 조회 시 최근 이력 조회
      *
      * 성능 최적화:
-     * - idx_balance_histories_user_created 인덱스 사용
+     * - idx_user_created_at (user_id, created_at) 인덱스 사용
      *
      * @param user 사용자
      * @param pageable 페이징 정보
@@ -64,4 +65,64 @@ public interface BalanceHistoryRepository extends JpaRepository<BalanceHistory,
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
+
+    /**
+     * 사용자별 잔액 이력 첫 페이지 (키셋 페이지네이션)
+     *
+     * 성능 최적화:
+     * - idx_user_created_at 인덱스 역순 스캔, OFFSET/COUNT 없음
+     *
+     * @param userId 사용자 ID
+     * @param limit 조회 건수 (size + 1)
+     * @return 잔액 이력 목록 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT bh FROM BalanceHistory bh WHERE bh.user.id = :userId " +
+           "ORDER BY bh.createdAt DESC, bh.id DESC")
+    List<BalanceHistory> findFirstPageByUserId(@Param("userId") Long userId, Pageable limit);
+
+    /**
+     * 사용자별 잔액 이력 다음 페이지 (키셋 페이지네이션)
+     *
+     * 커서 (createdAt, id) 이후 행만 조회 → 페이지 깊이와 무관하게 일정한 비용
+     *
+     * @param userId 사용자 ID
+     * @param createdAt 커서 createdAt
+     * @param id 커서 id
+     * @param limit 조회 건수 (size + 1)
+     * @return 잔액 이력 목록 (createdAt DESC, id DESC)
+     */
+    @Query("SELECT bh FROM BalanceHistory bh WHERE bh.user.id = :userId " +
+           "AND (bh.createdAt < :createdAt OR (bh.createdAt = :createdAt AND bh.id < :id)) " +
+           "ORDER BY bh.createdAt DESC, bh.id DESC")
+    List<BalanceHistory> findPageByUserIdAfter(
+        @Param("userId") Long userId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
+        Pageable limit
+    );
+
+    /**
+     * 사용자별 특정 유형/설명 잔액 이력 건수 (기준 시각 이후)
+     *
+     * Use Case:
+     * - 결제 Consumer: 원장 차감 결과 미확인 후 재전달 시 이전 시도의 차감 커밋 여부 확인
+     *   (설명에 주문번호 포함: "주문 결제: {orderNumber}", "결제 처리 실패 환불: {orderNumber}")
+     *
+     * 성능 최적화:
+     * - idx_user_created_at (user_id, created_at) 인덱스로 최근 구간만 조회
+     *
+     * @param userId 사용자 ID
+     * @param type 거래 유형
+     * @param description 이력 설명
+     * @param since 조회 시작 시각
+     * @return 이력 건수
+     */
+    @Query("SELECT COUNT(bh) FROM BalanceHistory bh WHERE bh.user.id = :userId " +
+           "AND bh.createdAt >= :since AND bh.type = :type AND bh.description = :description")
+    long countByUserIdAndTypeAndDescriptionSince(
+        @Param("userId") Long userId,
+        @Param("type") BalanceTransactionType type,
+        @Param("description") String description,
+        @Param("since") LocalDateTime since
+    );
 }
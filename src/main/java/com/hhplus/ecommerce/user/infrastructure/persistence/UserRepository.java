@@ -3,11 +3,14 @@ package com.hhplus.ecommerce.user.infrastructure.persistence;
 import com.hhplus.ecommerce.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -46,6 +49,39 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.id = :id")
     Optional<User> findByIdWithLock(@Param("id") Long id);
 
+    /**
+     * 펜싱 토큰 검증 및 갱신
+     *
+     * Use Case:
+     * - UC-001: 잔액 충전 (펜싱 락 모드)
+     * - UC-012: 주문 생성 (펜싱 락 모드)
+     *
+     * 검증 전략:
+     * - 저장된 토큰보다 큰 토큰만 기록 (조건부 UPDATE 1회)
+     * - 0건 갱신 → lease가 만료되어 더 최신 토큰의 보유자가 이미 기록함 (또는 사용자 없음)
+     * - UPDATE가 사용자 row에 쓰기 락을 잡으므로 트랜잭션 종료까지 findByIdWithLock과 같은 효과
+     *
+     * @param id 사용자 ID
+     * @param token 펜싱 토큰
+     * @return 갱신된 row 수 (0 또는 1)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.lockFenceToken = :token " +
+           "WHERE u.id = :id AND (u.lockFenceToken IS NULL OR u.lockFenceToken < :token)")
+    int advanceLockFenceToken(@Param("id") Long id, @Param("token") Long token);
+
+    /**
+     * 존재하는 사용자 ID 조회
+     *
+     * Use Case:
+     * - UC-017: Kafka 배치 리스너에서 발급 대상 사용자 일괄 확인 (엔티티 로딩 없이 ID만 조회)
+     *
+     * @param ids 확인할 사용자 ID 목록
+     * @return 존재하는 사용자 ID 목록
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     /**
      * 이메일로 사용자 조회
      *
@@ -1,5 +1,6 @@
 package com.hhplus.ecommerce.user.presentation.api;
 
+import com.hhplus.ecommerce.common.domain.KeysetSlice;
 import com.hhplus.ecommerce.user.application.BalanceService;
 import com.hhplus.ecommerce.user.application.UserService;
 import com.hhplus.ecommerce.user.domain.BalanceHistory;
@@ -165,4 +166,28 @@ public class UserController {
 
         return ResponseEntity.ok(history);
     }
+
+    /**
+     * 잔액 이력 조회 (키셋 페이지네이션)
+     *
+     * Use Case: UC-002 (확장)
+     * - GET /api/users/{userId}/balance/history/keyset?after={createdAt},{id}&size=20
+     * - 응답의 nextCursor를 다음 요청의 after로 전달
+     *
+     * @param userId 사용자 ID
+     * @param after 이전 페이지의 nextCursor (생략 시 첫 페이지)
+     * @param size 페이지 크기
+     * @return 잔액 이력 Slice
+     */
+    @Operation(summary = "잔액 이력 조회 (키셋)", description = "커서 기반으로 사용자의 잔액 변동 이력을 조회합니다")
+    @GetMapping("/{userId}/balance/history/keyset")
+    public ResponseEntity<KeysetSlice<BalanceHistory>> getBalanceHistoryKeyset(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("[API] GET /api/users/{}/balance/history/keyset - after: {}", userId, after);
+
+        return ResponseEntity.ok(balanceService.getBalanceHistoryAfter(userId, after, size));
+    }
 }
@@ -0,0 +1,268 @@
+package com.hhplus.ecommerce.cart.application;
+
+import com.hhplus.ecommerce.cart.domain.Cart;
+import com.hhplus.ecommerce.cart.domain.CartItem;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRedisRepository;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRedisRepository.CartLine;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRepository;
+import com.hhplus.ecommerce.config.CartStoreProperties;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.order.application.OrderService;
+import com.hhplus.ecommerce.order.domain.Order;
+import com.hhplus.ecommerce.product.domain.Category;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.domain.ProductStatus;
+import com.hhplus.ecommerce.product.infrastructure.persistence.CategoryRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.domain.UserRole;
+import com.hhplus.ecommerce.user.domain.UserStatus;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.reset;
+
+/**
+ * Redis 장바구니 통합 테스트
+ *
+ * 검증 항목:
+ * - HINCRBY 기반 수량 누적, 담은 시점 가격 유지
+ * - 미적재 장바구니는 DB(carts/cart_items)에서 적재
+ * - write-back 스케줄러가 Redis 장바구니를 DB에 반영
+ * - 주문 생성 시 Redis 장바구니를 읽고, 주문 상품을 DB/Redis 장바구니에서 제거
+ * - 커밋 후 Redis 차감 실패 시 주문은 성공, Redis 장바구니 제거로 DB 기준 전환
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Redis 장바구니 통합 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class CartRedisStoreIntegrationTest {
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartWriteBackScheduler cartWriteBackScheduler;
+
+    @MockitoSpyBean
+    private CartRedisRepository cartRedisRepository;
+
+    @Autowired
+    private CartStoreProperties cartStoreProperties;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private User testUser;
+    private Product testProduct1;
+    private Product testProduct2;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Category category = categoryRepository.save(Category.builder()
+            .name("장바구니Redis_" + suffix)
+            .description("Redis 장바구니 테스트")
+            .build());
+
+        testUser = userRepository.save(User.builder()
+            .email("cart-redis-" + suffix + "@test.com")
+            .password("password123")
+            .name("장바구니Redis테스트")
+            .balance(BigDecimal.valueOf(1_000_000))
+            .role(UserRole.USER)
+            .status(UserStatus.ACTIVE)
+            .build());
+
+        testProduct1 = saveProduct("노트북_" + suffix, BigDecimal.valueOf(100000), category);
+        testProduct2 = saveProduct("마우스_" + suffix, BigDecimal.valueOf(20000), category);
+
+        cartStoreProperties.setRedisEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reset(cartRedisRepository);
+        cartStoreProperties.setRedisEnabled(false);
+        cartRedisRepository.evict(testUser.getId());
+    }
+
+    @Test
+    @DisplayName("같은 상품을 여러 번 담으면 수량이 누적되고 담은 시점 가격은 유지된다")
+    void add_IncrementsQuantity() {
+        // Given
+        Long userId = testUser.getId();
+        cartService.addToCart(userId, testProduct1.getId(), 1);
+
+        // When: 가격 변경 후 추가로 담기
+        testProduct1 = productRepository.findById(testProduct1.getId()).orElseThrow();
+        testProduct1.updatePrice(BigDecimal.valueOf(90000));
+        productRepository.save(testProduct1);
+        CartItem item = cartService.addToCart(userId, testProduct1.getId(), 2);
+
+        // Then
+        assertThat(item.getQuantity()).as("누적 수량").isEqualTo(3);
+        assertThat(item.getPriceAtAdd()).as("최초 담은 시점 가격").isEqualByComparingTo(BigDecimal.valueOf(100000));
+
+        Cart cart = cartService.getCart(userId);
+        assertThat(cart.getItems()).hasSize(1);
+        assertThat(cart.getItems().get(0).getQuantity()).isEqualTo(3);
+        assertThat(cartRepository.findByUserIdWithItems(userId))
+            .as("write-back 전 DB 장바구니 미반영").isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis에 없는 장바구니는 DB에서 적재한다")
+    void getCart_LoadsFromDatabase() {
+        // Given: DB 장바구니 (Redis 미적재)
+        Cart dbCart = Cart.builder().user(testUser).build();
+        dbCart.addItem(testProduct1, 2);
+        cartRepository.save(dbCart);
+
+        // When
+        Cart cart = cartService.getCart(testUser.getId());
+        cartService.addToCart(testUser.getId(), testProduct2.getId(), 1);
+
+        // Then
+        assertThat(cart.getItems()).hasSize(1);
+        assertThat(cart.getItems().get(0).getQuantity()).isEqualTo(2);
+
+        List<CartLine> lines = cartRedisRepository.findLines(testUser.getId());
+        assertThat(lines).as("DB 항목 + 추가 항목").hasSize(2);
+    }
+
+    @Test
+    @DisplayName("write-back 스케줄러가 Redis 장바구니를 DB에 반영한다")
+    void flushDirtyCarts_WritesBackToDatabase() {
+        // Given
+        Long userId = testUser.getId();
+        cartService.addToCart(userId, testProduct1.getId(), 2);
+        cartService.addToCart(userId, testProduct2.getId(), 1);
+        assertThat(cartRedisRepository.isDirty(userId)).isTrue();
+
+        // When
+        cartWriteBackScheduler.flushDirtyCarts();
+
+        // Then
+        assertThat(cartRedisRepository.isDirty(userId)).as("반영 후 dirty 해제").isFalse();
+        assertThat(dbQuantities(userId))
+            .containsEntry(testProduct1.getId(), 2)
+            .containsEntry(testProduct2.getId(), 1);
+
+        // When: 삭제/수량 변경 후 재반영
+        cartService.removeProduct(userId, testProduct2.getId());
+        cartService.updateProductQuantity(userId, testProduct1.getId(), 5);
+        cartWriteBackScheduler.flushDirtyCarts();
+
+        // Then
+        assertThat(dbQuantities(userId)).containsOnly(Map.entry(testProduct1.getId(), 5));
+    }
+
+    @Test
+    @DisplayName("장바구니에 없는 상품의 수량 변경은 실패한다")
+    void updateProductQuantity_NotInCart() {
+        cartService.addToCart(testUser.getId(), testProduct1.getId(), 1);
+
+        assertThatThrownBy(() -> cartService.updateProductQuantity(testUser.getId(), testProduct2.getId(), 3))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("장바구니에 해당 상품이 없습니다");
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 Redis 장바구니를 읽고 주문 상품을 장바구니에서 제거한다")
+    void createOrder_ReadsFromRedisCart() {
+        // Given: write-back 전 (DB 장바구니 없음)
+        Long userId = testUser.getId();
+        cartService.addToCart(userId, testProduct1.getId(), 2);
+        cartService.addToCart(userId, testProduct2.getId(), 1);
+
+        // When
+        Order order = orderService.createOrder(userId, null, UUID.randomUUID().toString());
+
+        // Then
+        assertThat(order.getOrderItems()).as("Redis 장바구니 항목으로 주문").hasSize(2);
+        assertThat(order.getTotalAmount()).isEqualByComparingTo(BigDecimal.valueOf(220000));
+        assertThat(cartRedisRepository.findLines(userId)).as("커밋 후 Redis 장바구니 차감").isEmpty();
+
+        cartWriteBackScheduler.flushDirtyCarts();
+        assertThat(dbQuantities(userId)).as("DB 장바구니").isEmpty();
+    }
+
+    @Test
+    @DisplayName("커밋 후 Redis 차감이 실패해도 주문은 성공하고 Redis 장바구니는 제거되어 DB가 기준이 된다")
+    void createOrder_RedisRemoveFails_FallsBackToDatabase() {
+        // Given
+        Long userId = testUser.getId();
+        cartService.addToCart(userId, testProduct1.getId(), 2);
+        cartService.addToCart(userId, testProduct2.getId(), 1);
+        willThrow(new RedisConnectionFailureException("테스트: Redis 장애"))
+            .given(cartRedisRepository).remove(eq(userId), anyMap(), anyLong());
+
+        // When
+        Order order = orderService.createOrder(userId, null, UUID.randomUUID().toString());
+
+        // Then
+        assertThat(order.getId()).as("주문 커밋").isNotNull();
+        assertThat(cartRedisRepository.findLines(userId)).as("Redis 장바구니 제거").isNull();
+        assertThat(cartRedisRepository.isDirty(userId)).as("주문 상품을 DB에 되살리지 않음").isFalse();
+        assertThat(dbQuantities(userId)).as("DB 장바구니").isEmpty();
+    }
+
+    private Map<Long, Integer> dbQuantities(Long userId) {
+        return cartRepository.findByUserIdWithItems(userId)
+            .map(cart -> cart.getItems().stream()
+                .collect(Collectors.toMap(item -> item.getProduct().getId(), CartItem::getQuantity)))
+            .orElse(Map.of());
+    }
+
+    private Product saveProduct(String name, BigDecimal price, Category category) {
+        return productRepository.save(Product.builder()
+            .name(name)
+            .description(name + " 설명")
+            .price(price)
+            .stock(100)
+            .safetyStock(10)
+            .category(category)
+            .status(ProductStatus.AVAILABLE)
+            .version(0L)
+            .build());
+    }
+}
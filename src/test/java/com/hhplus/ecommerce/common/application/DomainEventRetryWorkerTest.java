@@ -0,0 +1,209 @@
+package com.hhplus.ecommerce.common.application;
+
+import com.hhplus.ecommerce.common.domain.DomainEventStore;
+import com.hhplus.ecommerce.common.domain.event.PopularProductAggregationPayload;
+import com.hhplus.ecommerce.common.infrastructure.DomainEventStoreRepository;
+import com.hhplus.ecommerce.config.DomainEventRetryProperties;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 도메인 이벤트 재시도 워커 풀 테스트
+ *
+ * 검증 목표:
+ * - 동시 선점 시 서로 다른 이벤트를 가져감 (FOR UPDATE SKIP LOCKED + PROCESSING 커밋)
+ * - 선점한 배치를 병렬로 처리하여 전부 완료
+ * - 같은 aggregate의 앞선 이벤트가 실패하면 뒤 이벤트는 처리하지 않고 미룸
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("도메인 이벤트 재시도 워커 풀 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class DomainEventRetryWorkerTest {
+
+    private static final long NON_EXISTENT_PRODUCT_ID = 999_999L;
+
+    @Autowired
+    private DomainEventRetryWorker domainEventRetryWorker;
+
+    @Autowired
+    private DomainEventRetryService domainEventRetryService;
+
+    @Autowired
+    private DomainEventStoreService domainEventStoreService;
+
+    @Autowired
+    private DomainEventStoreRepository eventStoreRepository;
+
+    @Autowired
+    private DomainEventRetryProperties domainEventRetryProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long aggregateIdBase;
+
+    @BeforeEach
+    void setUp() {
+        eventStoreRepository.deleteAll();
+        aggregateIdBase = System.currentTimeMillis();
+    }
+
+    @AfterEach
+    void tearDown() {
+        domainEventRetryProperties.setWorkerPoolEnabled(false);
+        eventStoreRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시성: 동시 선점 시 서로 다른 이벤트를 가져감")
+    void claimRetryableEvents_Concurrent_Disjoint() throws Exception {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            saveEvent(DomainEventStore.EventType.POPULAR_PRODUCT_AGGREGATION, aggregateIdBase + i);
+        }
+        makeAllDue();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            // When
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return domainEventRetryService.claimRetryableEvents(5).stream()
+                        .map(DomainEventStore::getId)
+                        .toList();
+                }));
+            }
+            start.countDown();
+
+            List<Long> first = futures.get(0).get(10, TimeUnit.SECONDS);
+            List<Long> second = futures.get(1).get(10, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(first).as("선점 결과 중복 없음").doesNotContainAnyElementsOf(second);
+
+            Set<Long> all = new HashSet<>(first);
+            all.addAll(second);
+            assertThat(all).as("두 워커가 전체 이벤트를 나눠 선점").hasSize(10);
+
+            assertThat(eventStoreRepository.findByStatus(DomainEventStore.EventStatus.PROCESSING))
+                .as("선점된 이벤트는 PROCESSING")
+                .hasSize(10);
+
+            log.info("동시 선점 - 워커1: {}건, 워커2: {}건", first.size(), second.size());
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 적체 이벤트를 병렬 처리하여 모두 완료")
+    void drain_ProcessesBacklogInParallel() {
+        // Given
+        int eventCount = 30;
+        for (int i = 0; i < eventCount; i++) {
+            saveEvent(DomainEventStore.EventType.POPULAR_PRODUCT_AGGREGATION, aggregateIdBase + i);
+        }
+        makeAllDue();
+        domainEventRetryProperties.setWorkerPoolEnabled(true);
+
+        // When
+        long startTime = System.currentTimeMillis();
+        domainEventRetryWorker.drain();
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        // Then (스케줄 폴링과 나눠 처리될 수 있으므로 최종 상태로 검증)
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+            assertThat(eventStoreRepository.findByStatus(DomainEventStore.EventStatus.COMPLETED))
+                .as("모든 이벤트 완료")
+                .hasSize(eventCount));
+
+        log.info("재시도 워커 처리 - {}건, {}ms", eventCount, elapsed);
+    }
+
+    @Test
+    @DisplayName("순서 보장: 앞선 이벤트 실패 시 같은 aggregate의 뒤 이벤트는 미룸")
+    void drain_PreservesOrderWithinAggregate() {
+        // Given: 같은 주문에 대해 실패하는 이벤트(지원하지 않는 타입) → 정상 이벤트 순으로 저장
+        Long aggregateId = aggregateIdBase;
+        DomainEventStore failing = saveEvent(DomainEventStore.EventType.PAYMENT_COMPLETED, aggregateId);
+        DomainEventStore following = saveEvent(DomainEventStore.EventType.POPULAR_PRODUCT_AGGREGATION, aggregateId);
+        DomainEventStore independent = saveEvent(DomainEventStore.EventType.POPULAR_PRODUCT_AGGREGATION, aggregateId + 1);
+        makeAllDue();
+        domainEventRetryProperties.setWorkerPoolEnabled(true);
+
+        // When
+        domainEventRetryWorker.drain();
+
+        // Then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            DomainEventStore failed = eventStoreRepository.findById(failing.getId()).orElseThrow();
+            assertThat(failed.getStatus()).isEqualTo(DomainEventStore.EventStatus.PENDING);
+            assertThat(failed.getRetryCount()).as("실패 이벤트 재시도 횟수 증가").isEqualTo(1);
+            assertThat(failed.getNextRetryAt()).as("백오프 대기").isAfter(LocalDateTime.now());
+
+            DomainEventStore deferred = eventStoreRepository.findById(following.getId()).orElseThrow();
+            assertThat(deferred.getStatus()).as("앞 이벤트 재시도 전까지 대기").isEqualTo(DomainEventStore.EventStatus.PENDING);
+            assertThat(deferred.getRetryCount()).as("처리하지 않았으므로 재시도 횟수 유지").isZero();
+
+            assertThat(eventStoreRepository.findById(independent.getId()).orElseThrow().getStatus())
+                .as("다른 aggregate는 영향 없음")
+                .isEqualTo(DomainEventStore.EventStatus.COMPLETED);
+        });
+
+        // 앞 이벤트가 백오프 중이면 뒤 이벤트는 선점 대상에서 제외
+        assertThat(domainEventRetryService.claimRetryableEvents(10)).isEmpty();
+    }
+
+    private DomainEventStore saveEvent(DomainEventStore.EventType eventType, Long aggregateId) {
+        PopularProductAggregationPayload payload = PopularProductAggregationPayload.builder()
+            .orderId(aggregateId)
+            .userId(1L)
+            .orderProducts(List.of(PopularProductAggregationPayload.OrderProductInfo.builder()
+                .productId(NON_EXISTENT_PRODUCT_ID)
+                .quantity(1)
+                .build()))
+            .build();
+
+        return domainEventStoreService.saveEvent(eventType, aggregateId, "Order", payload).orElseThrow();
+    }
+
+    private void makeAllDue() {
+        jdbcTemplate.update("UPDATE domain_event_store SET next_retry_at = ?",
+                            Timestamp.valueOf(LocalDateTime.now().minusMinutes(1)));
+    }
+}
@@ -0,0 +1,259 @@
+package com.hhplus.ecommerce.common.application;
+
+import com.hhplus.ecommerce.common.domain.DomainEventStore;
+import com.hhplus.ecommerce.common.domain.KeysetSlice;
+import com.hhplus.ecommerce.common.domain.event.HistoryAppendPayload;
+import com.hhplus.ecommerce.common.infrastructure.DomainEventStoreRepository;
+import com.hhplus.ecommerce.config.HistoryProperties;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.user.application.BalanceService;
+import com.hhplus.ecommerce.user.domain.BalanceHistory;
+import com.hhplus.ecommerce.user.domain.BalanceTransactionType;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.domain.UserRole;
+import com.hhplus.ecommerce.user.domain.UserStatus;
+import com.hhplus.ecommerce.user.infrastructure.persistence.BalanceHistoryRepository;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 이력 Writer / 키셋 이력 조회 테스트
+ *
+ * 검증 목표:
+ * - 비동기 모드: 커밋된 변경의 이력만 Writer 스레드가 저장 (롤백 시 이력 없음)
+ * - 우회 저장(HISTORY_APPEND) 이벤트 재시도 시 이력 재적재 (변경 시점 createdAt 유지)
+ * - 우회 저장은 중복 검사 없이 묶음마다 별도 이벤트로 저장
+ * - 키셋 페이지네이션: (createdAt DESC, id DESC) 순서로 중복/누락 없이 조회
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("이력 Writer / 키셋 이력 조회 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class HistoryWriterTest {
+
+    @Autowired
+    private HistoryWriter historyWriter;
+
+    @Autowired
+    private HistoryProperties historyProperties;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DomainEventStoreService domainEventStoreService;
+
+    @Autowired
+    private DomainEventRetryService domainEventRetryService;
+
+    @Autowired
+    private DomainEventStoreRepository eventStoreRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        testUser = userRepository.save(User.builder()
+            .email("history-" + suffix + "@test.com")
+            .password("password123")
+            .name("이력테스트")
+            .balance(BigDecimal.valueOf(100_000))
+            .role(UserRole.USER)
+            .status(UserStatus.ACTIVE)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        historyWriter.flush();
+        historyProperties.setAsyncWriterEnabled(false);
+    }
+
+    @Test
+    @DisplayName("비동기 모드: 커밋된 이력만 저장, 롤백된 변경의 이력은 저장 안 함")
+    void asyncWriter_OnlyCommittedHistoriesPersisted() {
+        // Given
+        historyProperties.setAsyncWriterEnabled(true);
+
+        // When: 롤백된 변경
+        transactionTemplate.executeWithoutResult(status -> {
+            historyWriter.record(history("롤백", BigDecimal.valueOf(1000)));
+            status.setRollbackOnly();
+        });
+
+        // When: 커밋된 변경
+        transactionTemplate.executeWithoutResult(status ->
+            historyWriter.record(history("커밋", BigDecimal.valueOf(2000))));
+
+        // Then
+        await().atMost(Duration.ofSeconds(10))
+            .untilAsserted(() -> assertThat(descriptions()).as("Writer 스레드가 커밋 이력 저장").contains("커밋"));
+        historyWriter.flush();
+        assertThat(descriptions()).as("롤백된 변경의 이력 없음").containsExactly("커밋");
+    }
+
+    @Test
+    @DisplayName("우회 저장(HISTORY_APPEND) 재시도 시 이력 재적재, 변경 시점 유지")
+    void historyAppendEvent_RetryPersistsHistories() {
+        // Given: Writer가 버퍼 초과/저장 실패로 우회한 이력
+        LocalDateTime changedAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        HistoryAppendPayload payload = HistoryAppendPayload.builder()
+            .stockHistories(List.of())
+            .balanceHistories(List.of(HistoryAppendPayload.BalanceEntry.builder()
+                .userId(testUser.getId())
+                .type(BalanceTransactionType.USE)
+                .amount(BigDecimal.valueOf(3000))
+                .balanceBefore(BigDecimal.valueOf(100_000))
+                .balanceAfter(BigDecimal.valueOf(97_000))
+                .description("우회")
+                .createdAt(changedAt)
+                .build()))
+            .build();
+        DomainEventStore event = domainEventStoreService.appendEvent(
+            DomainEventStore.EventType.HISTORY_APPEND, 1L, "History", payload).orElseThrow();
+
+        try {
+            // When
+            domainEventRetryService.retryEvent(event);
+
+            // Then
+            List<BalanceHistory> histories = balanceHistoryRepository
+                .findFirstPageByUserId(testUser.getId(), PageRequest.of(0, 10));
+            assertThat(histories).as("재적재된 이력").hasSize(1);
+            assertThat(histories.get(0).getDescription()).isEqualTo("우회");
+            assertThat(histories.get(0).getCreatedAt()).as("변경 시점 유지").isEqualTo(changedAt);
+            assertThat(eventStoreRepository.findById(event.getId()).orElseThrow().getStatus())
+                .isEqualTo(DomainEventStore.EventStatus.COMPLETED);
+        } finally {
+            eventStoreRepository.deleteById(event.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("우회 저장(HISTORY_APPEND)은 같은 aggregateId여도 묶음마다 별도 이벤트로 저장")
+    void historyAppendEvent_NotDeduplicated() {
+        // Given
+        HistoryAppendPayload payload = HistoryAppendPayload.builder()
+            .stockHistories(List.of())
+            .balanceHistories(List.of())
+            .build();
+
+        // When
+        DomainEventStore first = domainEventStoreService.appendEvent(
+            DomainEventStore.EventType.HISTORY_APPEND, 1L, "History", payload).orElseThrow();
+        DomainEventStore second = domainEventStoreService.appendEvent(
+            DomainEventStore.EventType.HISTORY_APPEND, 1L, "History", payload).orElseThrow();
+
+        try {
+            // Then
+            assertThat(second.getId()).as("중복 검사 없이 각각 저장").isNotEqualTo(first.getId());
+        } finally {
+            eventStoreRepository.deleteById(first.getId());
+            eventStoreRepository.deleteById(second.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("키셋 페이지네이션: (createdAt DESC, id DESC) 순서로 중복/누락 없이 조회")
+    void getBalanceHistoryAfter_PagesInOrder() {
+        // Given: 5건 (2건은 같은 createdAt → id로 순서 결정)
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 10, 0, 0);
+        transactionTemplate.executeWithoutResult(status -> balanceHistoryRepository.saveAll(List.of(
+            history("h1", base),
+            history("h2", base.plusMinutes(1)),
+            history("h3", base.plusMinutes(1)),
+            history("h4", base.plusMinutes(2)),
+            history("h5", base.plusMinutes(3)))));
+
+        // When
+        List<BalanceHistory> collected = new ArrayList<>();
+        List<Boolean> hasNexts = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetSlice<BalanceHistory> slice = balanceService.getBalanceHistoryAfter(testUser.getId(), cursor, 2);
+            collected.addAll(slice.getContent());
+            hasNexts.add(slice.isHasNext());
+            cursor = slice.getNextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertThat(hasNexts).as("2 + 2 + 1건").containsExactly(true, true, false);
+        assertThat(collected).as("중복/누락 없음").hasSize(5)
+            .extracting(BalanceHistory::getId).doesNotHaveDuplicates();
+        for (int i = 1; i < collected.size(); i++) {
+            BalanceHistory prev = collected.get(i - 1);
+            BalanceHistory cur = collected.get(i);
+            boolean ordered = prev.getCreatedAt().isAfter(cur.getCreatedAt())
+                || (prev.getCreatedAt().isEqual(cur.getCreatedAt()) && prev.getId() > cur.getId());
+            assertThat(ordered).as("(createdAt DESC, id DESC) 정렬 - index %d", i).isTrue();
+        }
+        assertThat(collected.get(0).getDescription()).isEqualTo("h5");
+        assertThat(collected.get(4).getDescription()).isEqualTo("h1");
+    }
+
+    @Test
+    @DisplayName("키셋 페이지네이션: 잘못된 커서는 예외")
+    void getBalanceHistoryAfter_InvalidCursor() {
+        assertThatThrownBy(() -> balanceService.getBalanceHistoryAfter(testUser.getId(), "not-a-cursor", 20))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("커서");
+    }
+
+    private BalanceHistory history(String description, BigDecimal amount) {
+        return BalanceHistory.of(testUser, BalanceTransactionType.CHARGE, amount,
+            BigDecimal.valueOf(100_000), BigDecimal.valueOf(100_000).add(amount), description);
+    }
+
+    private BalanceHistory history(String description, LocalDateTime createdAt) {
+        return BalanceHistory.builder()
+            .user(testUser)
+            .type(BalanceTransactionType.CHARGE)
+            .amount(BigDecimal.valueOf(1000))
+            .balanceBefore(BigDecimal.valueOf(100_000))
+            .balanceAfter(BigDecimal.valueOf(101_000))
+            .description(description)
+            .createdAt(createdAt)
+            .build();
+    }
+
+    private List<String> descriptions() {
+        return balanceHistoryRepository.findFirstPageByUserId(testUser.getId(), PageRequest.of(0, 10)).stream()
+            .map(BalanceHistory::getDescription)
+            .toList();
+    }
+}
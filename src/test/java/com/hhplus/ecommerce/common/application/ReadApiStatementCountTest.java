@@ -0,0 +1,295 @@
+package com.hhplus.ecommerce.common.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.cart.domain.Cart;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRepository;
+import com.hhplus.ecommerce.cart.presentation.api.CartController;
+import com.hhplus.ecommerce.cart.presentation.api.dto.CartResponse;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.order.application.OrderService;
+import com.hhplus.ecommerce.order.domain.Order;
+import com.hhplus.ecommerce.order.domain.OrderStatus;
+import com.hhplus.ecommerce.order.infrastructure.persistence.OrderRepository;
+import com.hhplus.ecommerce.order.presentation.api.OrderController;
+import com.hhplus.ecommerce.order.presentation.api.dto.OrderDetailResponse;
+import com.hhplus.ecommerce.payment.domain.Payment;
+import com.hhplus.ecommerce.payment.domain.PaymentMethod;
+import com.hhplus.ecommerce.payment.domain.PaymentStatus;
+import com.hhplus.ecommerce.product.domain.Category;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.domain.ProductStatus;
+import com.hhplus.ecommerce.product.infrastructure.persistence.CategoryRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.product.presentation.api.ProductController;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.domain.UserRole;
+import com.hhplus.ecommerce.user.domain.UserStatus;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 API SQL 구문 수 테스트
+ *
+ * 측정 항목:
+ * - 컨트롤러 호출 + 응답 JSON 직렬화까지 실행된 SQL 구문 수 (Hibernate Statistics)
+ *
+ * 검증 목표:
+ * - 주문 상세: Fetch Join 2회 (항목/상품/결제 + 적용 쿠폰), 항목 수와 무관
+ * - 주문 목록/상품 목록: Projection 조회 + COUNT, 행 수와 무관
+ * - 장바구니: 사용자 + 장바구니/항목/상품 Fetch Join
+ * - 직렬화 중 지연 로딩 없음 (응답 DTO)
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("조회 API SQL 구문 수 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class ReadApiStatementCountTest {
+
+    private static final int ITEM_COUNT = 5;
+    private static final int ORDER_COUNT = 5;
+
+    @Autowired
+    private OrderController orderController;
+
+    @Autowired
+    private ProductController productController;
+
+    @Autowired
+    private CartController cartController;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+    private User testUser;
+    private Category testCategory;
+    private List<Product> testProducts;
+    private List<Order> testOrders;
+    private long lastStatementCount;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        testCategory = categoryRepository.save(Category.builder()
+            .name("구문수테스트_" + suffix)
+            .description("SQL 구문 수 측정용")
+            .build());
+
+        testUser = userRepository.save(User.builder()
+            .email("statement-" + suffix + "@test.com")
+            .password("password123")
+            .name("구문수테스트")
+            .balance(BigDecimal.valueOf(1_000_000))
+            .role(UserRole.USER)
+            .status(UserStatus.ACTIVE)
+            .build());
+
+        testProducts = new ArrayList<>();
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            testProducts.add(productRepository.save(Product.builder()
+                .name("구문수테스트상품_" + suffix + "_" + i)
+                .description("SQL 구문 수 측정용 상품 " + i)
+                .price(BigDecimal.valueOf(1000L * i))
+                .stock(100)
+                .safetyStock(10)
+                .category(testCategory)
+                .status(ProductStatus.AVAILABLE)
+                .version(0L)
+                .build()));
+        }
+
+        Cart cart = Cart.builder().user(testUser).build();
+        testProducts.forEach(product -> cart.addItem(product, 1));
+        cartRepository.save(cart);
+
+        testOrders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            testOrders.add(savePaidOrder());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("주문 상세 조회 - 항목/상품/결제 + 적용 쿠폰 SELECT 2회")
+    void getOrder_FixedStatementCount() {
+        Long orderId = testOrders.get(0).getId();
+
+        ResponseEntity<OrderDetailResponse> response = measure("주문 상세", () -> orderController.getOrder(orderId));
+
+        assertThat(lastStatementCount).as("주문 상세 SELECT 수").isEqualTo(2);
+        assertThat(response.getBody().getItems()).as("주문 항목").hasSize(ITEM_COUNT);
+        assertThat(response.getBody().getPayment()).as("결제 정보 (Fetch Join)").isNotNull();
+        assertThat(response.getBody().getCoupons()).as("적용 쿠폰").isEmpty();
+    }
+
+    @Test
+    @DisplayName("주문 번호로 조회 - ID 조회 1회 + 주문 상세 2회")
+    void getOrderByNumber_FixedStatementCount() {
+        String orderNumber = testOrders.get(0).getOrderNumber();
+
+        ResponseEntity<OrderDetailResponse> response =
+            measure("주문 번호 조회", () -> orderController.getOrderByNumber(orderNumber));
+
+        assertThat(lastStatementCount).as("주문 번호 조회 SELECT 수").isEqualTo(3);
+        assertThat(response.getBody().getOrderNumber()).isEqualTo(orderNumber);
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회 - 주문 수와 무관하게 사용자 확인 + 목록 + COUNT 이하")
+    void getUserOrders_FixedStatementCount() {
+        // Given: 엔티티 반환 경로 (변경 전) - 주문마다 payment(@OneToOne mappedBy) SELECT 발생
+        measure("주문 목록 (엔티티, 변경 전)",
+            () -> orderService.getUserOrders(testUser.getId(), PageRequest.of(0, 2)));
+        long entityStatements = lastStatementCount;
+
+        // When: Projection 경로 (페이지 크기 2 → COUNT 포함)
+        measure("주문 목록 (Projection)",
+            () -> orderController.getUserOrders(testUser.getId(), PageRequest.of(0, 2)));
+        long pageStatements = lastStatementCount;
+
+        measure("주문 목록 키셋 (Projection)",
+            () -> orderController.getUserOrdersKeyset(testUser.getId(), null, ORDER_COUNT));
+        long keysetStatements = lastStatementCount;
+
+        // Then
+        log.info("주문 목록 구문 수 - 엔티티: {}, Projection: {}, 키셋: {}",
+                 entityStatements, pageStatements, keysetStatements);
+        assertThat(pageStatements).as("사용자 확인 + 목록 + COUNT").isLessThanOrEqualTo(3);
+        assertThat(keysetStatements).as("사용자 확인 + 목록").isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 카테고리명 JOIN 포함 목록 + COUNT 이하")
+    void getProducts_FixedStatementCount() {
+        measure("상품 목록", () -> productController.getProducts(PageRequest.of(0, 20)));
+        assertThat(lastStatementCount).as("목록 + COUNT").isLessThanOrEqualTo(2);
+
+        measure("카테고리별 상품 목록",
+            () -> productController.getProductsByCategory(testCategory.getId(), PageRequest.of(0, 2)));
+        assertThat(lastStatementCount).as("목록 + COUNT").isLessThanOrEqualTo(2);
+
+        measure("상품 목록 키셋",
+            () -> productController.getProductsKeyset(testCategory.getId(), null, ITEM_COUNT));
+        assertThat(lastStatementCount).as("목록").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("장바구니 조회 - 사용자 + 장바구니/항목/상품 SELECT 2회")
+    void getCart_FixedStatementCount() {
+        ResponseEntity<CartResponse> response = measure("장바구니", () -> cartController.getCart(testUser.getId()));
+
+        assertThat(lastStatementCount).as("장바구니 SELECT 수").isEqualTo(2);
+        assertThat(response.getBody().getItems()).as("장바구니 항목").hasSize(ITEM_COUNT);
+    }
+
+    /**
+     * 호출 + 응답 직렬화까지의 SQL 구문 수 측정 (컨트롤러 응답만 직렬화)
+     */
+    private <T> T measure(String name, Supplier<T> call) {
+        statistics.clear();
+
+        T result = call.get();
+        if (result instanceof ResponseEntity<?> entity) {
+            try {
+                objectMapper.writeValueAsString(entity.getBody());
+            } catch (Exception e) {
+                throw new IllegalStateException(name + " 응답 직렬화 실패", e);
+            }
+        }
+
+        lastStatementCount = statistics.getPrepareStatementCount();
+        log.info("[{}] SQL 구문 수: {}", name, lastStatementCount);
+        return result;
+    }
+
+    /**
+     * 결제 완료 주문 저장 (항목 ITEM_COUNT개 + 결제)
+     */
+    private Order savePaidOrder() {
+        return transactionTemplate.execute(status -> {
+            BigDecimal totalAmount = testProducts.stream()
+                .map(Product::getPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+            Order order = Order.builder()
+                .orderNumber("STMT-" + UUID.randomUUID())
+                .user(testUser)
+                .totalAmount(totalAmount)
+                .discountAmount(BigDecimal.ZERO)
+                .finalAmount(totalAmount)
+                .status(OrderStatus.PAID)
+                .orderedAt(LocalDateTime.now())
+                .paidAt(LocalDateTime.now())
+                .idempotencyKey(UUID.randomUUID().toString())
+                .build();
+            testProducts.forEach(product -> order.addOrderItem(product, 1));
+            order.setPayment(Payment.builder()
+                .order(order)
+                .amount(totalAmount)
+                .method(PaymentMethod.BALANCE)
+                .status(PaymentStatus.COMPLETED)
+                .completedAt(LocalDateTime.now())
+                .build());
+
+            return orderRepository.save(order);
+        });
+    }
+}
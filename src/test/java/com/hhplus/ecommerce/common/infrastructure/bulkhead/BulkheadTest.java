@@ -0,0 +1,143 @@
+package com.hhplus.ecommerce.common.infrastructure.bulkhead;
+
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 벌크헤드 테스트
+ *
+ * 검증 목표:
+ * - 동시 점유 수가 permit 수를 넘지 않음
+ * - permit 대기 시간 초과 시 거절 + 거절 메트릭 기록
+ * - BulkheadDataSource: 커넥션 close 시 permit 반환 (중복 close는 1회만 반환)
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("벌크헤드 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class BulkheadTest {
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("동시 실행 수는 permit 수를 넘지 않음")
+    void call_LimitsConcurrency() throws InterruptedException {
+        // Given: permit 3개, 동시 요청 20개
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("test-concurrency-" + System.nanoTime(), 3);
+        int threadCount = 20;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    bulkhead.run(() -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(20);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        running.decrementAndGet();
+                    });
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        log.info("최대 동시 실행 수: {}", maxRunning.get());
+        assertThat(maxRunning.get()).as("동시 실행 수 <= permit").isLessThanOrEqualTo(3);
+        assertThat(bulkhead.getAvailablePermits()).as("모든 permit 반환").isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("permit 대기 시간 초과 시 거절, 거절 메트릭 증가")
+    void acquire_RejectsAfterTimeout() {
+        // Given: permit 1개를 점유
+        String name = "test-reject-" + System.nanoTime();
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name, 1);
+        bulkhead.acquire();
+
+        // When & Then
+        assertThatThrownBy(bulkhead::acquire)
+            .isInstanceOf(BulkheadFullException.class)
+            .isNotInstanceOf(IllegalStateException.class)
+            .hasMessageContaining(name);
+        assertThat(meterRegistry.get("bulkhead.rejected").tag("name", name).counter().count())
+            .as("거절 1회").isEqualTo(1);
+
+        // 반환 후 다시 획득 가능
+        bulkhead.release();
+        assertThat(bulkhead.call(() -> "ok")).isEqualTo("ok");
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("BulkheadDataSource: close 시 permit 반환, 중복 close는 1회만 반환")
+    void dataSource_ReleasesPermitOnClose() throws Exception {
+        // Given: permit 2개
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead("test-db-" + System.nanoTime(), 2);
+        BulkheadDataSource bulkheadDataSource = new BulkheadDataSource(dataSource, () -> bulkhead);
+
+        // When: 2개 커넥션 점유
+        List<Connection> connections = new ArrayList<>();
+        connections.add(bulkheadDataSource.getConnection());
+        connections.add(bulkheadDataSource.getConnection());
+
+        // Then: 세 번째 요청은 거절
+        assertThat(bulkhead.getAvailablePermits()).isZero();
+        assertThatThrownBy(bulkheadDataSource::getConnection).isInstanceOf(BulkheadFullException.class);
+
+        // When: 1개 close (중복 close 포함)
+        Connection first = connections.get(0);
+        first.close();
+        first.close();
+
+        // Then
+        assertThat(bulkhead.getAvailablePermits()).as("중복 close는 1회만 반환").isEqualTo(1);
+        try (Connection connection = bulkheadDataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+
+        connections.get(1).close();
+        assertThat(bulkhead.getAvailablePermits()).isEqualTo(2);
+    }
+}
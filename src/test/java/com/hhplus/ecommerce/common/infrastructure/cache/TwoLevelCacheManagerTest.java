@@ -0,0 +1,253 @@
+package com.hhplus.ecommerce.common.infrastructure.cache;
+
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import io.micrometer.core.instrument.search.Search;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 2단 캐시(Caffeine L1 + Redis L2) 테스트
+ *
+ * 검증 목표:
+ * - L1 히트 시 Redis 조회 없이 반환
+ * - 노드 A 변경(put/evict/clear) 시 노드 B의 L1 무효화 (Redis Pub/Sub)
+ * - 계층별 히트/미스 메트릭 기록
+ * - L1은 스냅샷 보관 → 반환 인스턴스 변경이 캐시에 반영되지 않음
+ * - 조회 지연 비교: Redis 단독 vs L1 히트
+ *
+ * 노드 구성:
+ * - 동일 Redis L2를 공유하는 TwoLevelCacheManager 2개로 다중 인스턴스 환경 재현
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("2단 캐시(Caffeine L1 + Redis L2) 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class TwoLevelCacheManagerTest {
+
+    private static final String CACHE_NAME = "two-level-test";
+    private static final String JSON_CACHE_NAME = "two-level-test-json";
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisCacheManager redisCacheManager;
+    private SimpleMeterRegistry meterRegistryA;
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String channel = "cache:invalidation:test:" + UUID.randomUUID();
+
+        redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+            .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(1))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())))
+            .withCacheConfiguration(JSON_CACHE_NAME, RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofMinutes(1))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())))
+            .build();
+        redisCacheManager.initializeCaches();
+        redisCacheManager.getCache(CACHE_NAME).clear();
+        redisCacheManager.getCache(JSON_CACHE_NAME).clear();
+
+        meterRegistryA = new SimpleMeterRegistry();
+        nodeA = newNode(channel, meterRegistryA);
+        nodeB = newNode(channel, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        containers.forEach(RedisMessageListenerContainer::stop);
+        containers.clear();
+        redisCacheManager.getCache(CACHE_NAME).clear();
+        redisCacheManager.getCache(JSON_CACHE_NAME).clear();
+    }
+
+    @Test
+    @DisplayName("L1 히트: Redis 키가 사라져도 로컬 캐시에서 반환")
+    void localHit_ServedWithoutRedis() {
+        // Given
+        Cache cacheA = nodeA.getCache(CACHE_NAME);
+        cacheA.put("1", "상품-1");
+
+        // When - L2 직접 삭제 (L1 무효화 메시지 없음)
+        stringRedisTemplate.delete(CACHE_NAME + "::1");
+
+        // Then
+        assertThat(cacheA.get("1", String.class)).as("노드 A: L1 히트").isEqualTo("상품-1");
+        assertThat(nodeB.getCache(CACHE_NAME).get("1")).as("노드 B: L1/L2 모두 미스").isNull();
+    }
+
+    @Test
+    @DisplayName("L1 스냅샷: 반환된 인스턴스를 변경해도 캐시 값은 그대로")
+    @SuppressWarnings("unchecked")
+    void localHit_ReturnsIndependentCopy() {
+        // Given
+        Cache cacheA = nodeA.getCache(JSON_CACHE_NAME);
+        List<String> loaded = cacheA.get("1", () -> new ArrayList<>(List.of("상품-1")));
+
+        // When - 로드한 호출자와 L1 히트 호출자가 각각 값 변경
+        loaded.add("로드 후 변경");
+        List<String> hit = cacheA.get("1", List.class);
+        hit.add("히트 후 변경");
+
+        // Then
+        assertThat(hit).as("로드한 인스턴스와 분리").containsExactly("상품-1", "히트 후 변경");
+        assertThat(cacheA.get("1", List.class)).as("L1 값 유지").containsExactly("상품-1");
+    }
+
+    @Test
+    @DisplayName("무효화 전파: 노드 A put/evict 시 노드 B의 L1 갱신")
+    void invalidation_PropagatesToOtherNode() {
+        // Given - 노드 B L1에 v1 적재
+        nodeA.getCache(CACHE_NAME).put("1", "v1");
+        assertThat(nodeB.getCache(CACHE_NAME).get("1", String.class)).isEqualTo("v1");
+
+        // When - 노드 A에서 변경
+        nodeA.getCache(CACHE_NAME).put("1", "v2");
+
+        // Then - 노드 B L1 무효화 후 L2에서 v2 조회
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertThat(nodeB.getCache(CACHE_NAME).get("1", String.class)).as("put 전파").isEqualTo("v2"));
+
+        // When - 노드 A에서 삭제
+        nodeA.getCache(CACHE_NAME).evict("1");
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+            assertThat(nodeB.getCache(CACHE_NAME).get("1")).as("evict 전파").isNull());
+    }
+
+    @Test
+    @DisplayName("무효화 전파: 노드 A clear 시 노드 B의 L1 전체 삭제")
+    void clear_PropagatesToOtherNode() {
+        // Given
+        Cache cacheB = nodeB.getCache(CACHE_NAME);
+        nodeA.getCache(CACHE_NAME).put("1", "v1");
+        nodeA.getCache(CACHE_NAME).put("2", "v2");
+        cacheB.get("1");
+        cacheB.get("2");
+
+        // When
+        nodeA.getCache(CACHE_NAME).clear();
+
+        // Then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(cacheB.get("1")).isNull();
+            assertThat(cacheB.get("2")).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("메트릭: L1/L2 계층별 히트/미스 기록")
+    void metrics_RecordedPerTier() {
+        // Given
+        Cache cacheA = nodeA.getCache(CACHE_NAME);
+
+        // When
+        cacheA.get("1", () -> "로드");  // L1 미스 → L2 미스 → 로드
+        cacheA.get("1", () -> "로드");  // L1 히트
+        nodeB.getCache(CACHE_NAME).get("1"); // (노드 B) L1 미스 → L2 히트
+
+        // Then
+        assertThat(gets("l1", "hit")).as("L1 히트").isEqualTo(1.0);
+        assertThat(gets("l1", "miss")).as("L1 미스").isEqualTo(1.0);
+        assertThat(gets("l2", "miss")).as("L2 미스").isEqualTo(1.0);
+        assertThat(meterRegistryA.get("cache.puts").tags("cache", CACHE_NAME, "tier", "l2").counter().count())
+            .as("L2 적재").isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("벤치마크: Redis 단독 vs L1 히트 조회 지연 (10,000회)")
+    void benchmark_RedisOnlyVsLocalHit() {
+        // Given
+        int reads = 10_000;
+        Cache redisOnly = redisCacheManager.getCache(CACHE_NAME);
+        Cache twoLevel = nodeA.getCache(CACHE_NAME);
+        twoLevel.put("hot", "인기 상품");
+
+        // When
+        long redisStart = System.nanoTime();
+        for (int i = 0; i < reads; i++) {
+            redisOnly.get("hot");
+        }
+        long redisNanos = System.nanoTime() - redisStart;
+
+        long localStart = System.nanoTime();
+        for (int i = 0; i < reads; i++) {
+            twoLevel.get("hot");
+        }
+        long localNanos = System.nanoTime() - localStart;
+
+        log.info("[벤치마크] 캐시 조회 {}회 - Redis 단독: 평균 {}us, L1 히트: 평균 {}us",
+                 reads, redisNanos / reads / 1_000, localNanos / reads / 1_000);
+
+        // Then
+        assertThat(localNanos).as("L1 히트가 Redis 왕복보다 빠름").isLessThan(redisNanos);
+    }
+
+    private double gets(String tier, String result) {
+        return Search.in(meterRegistryA)
+            .name("cache.gets")
+            .tags("cache", CACHE_NAME, "tier", tier, "result", result)
+            .meters().stream()
+            .mapToDouble(meter -> meter.measure().iterator().next().getValue())
+            .sum();
+    }
+
+    private TwoLevelCacheManager newNode(String channel, SimpleMeterRegistry meterRegistry) {
+        TwoLevelCacheManager node = new TwoLevelCacheManager(
+            redisCacheManager,
+            Map.of(),
+            TwoLevelCacheManager.LocalCacheSpec.builder().maximumSize(100).ttl(Duration.ofMinutes(1)).build(),
+            stringRedisTemplate,
+            channel,
+            meterRegistry
+        );
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(node, new ChannelTopic(channel));
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+
+        return node;
+    }
+}
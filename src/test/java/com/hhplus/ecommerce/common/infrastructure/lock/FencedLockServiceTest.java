@@ -0,0 +1,251 @@
+package com.hhplus.ecommerce.common.infrastructure.lock;
+
+import com.hhplus.ecommerce.cart.domain.Cart;
+import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRepository;
+import com.hhplus.ecommerce.config.FencedLockProperties;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.order.application.OrderService;
+import com.hhplus.ecommerce.product.domain.Category;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.domain.ProductStatus;
+import com.hhplus.ecommerce.product.infrastructure.persistence.CategoryRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.user.application.BalanceService;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.domain.UserRole;
+import com.hhplus.ecommerce.user.domain.UserStatus;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 펜싱 락 테스트
+ *
+ * 검증 목표:
+ * - SET NX PX 1회 획득: 보유 중에는 다른 요청이 획득하지 못함
+ * - 펜싱 토큰 단조 증가
+ * - compare-and-delete 해제: lease 만료 후 다른 요청이 획득한 락은 해제하지 않음
+ * - 만료된 토큰으로 사용자 잔액 변경 시 거부
+ * - 주문 생성 지연시간 비교 (Redisson RLock vs 펜싱 락, p50/p99)
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("펜싱 락 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class FencedLockServiceTest {
+
+    @Autowired
+    private FencedLockService fencedLockService;
+
+    @Autowired
+    private FencedLockProperties fencedLockProperties;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @MockitoBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+            .email("fenced_" + UUID.randomUUID() + "@example.com")
+            .password("password123")
+            .name("펜싱락사용자")
+            .balance(BigDecimal.valueOf(100000000))
+            .role(UserRole.USER)
+            .status(UserStatus.ACTIVE)
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        fencedLockProperties.setEnabled(false);
+    }
+
+    @Test
+    @DisplayName("락 보유 중에는 다른 요청이 획득하지 못하고, 해제 후 더 큰 토큰으로 재획득")
+    void tryLock_ExclusiveAndMonotonicToken() throws InterruptedException {
+        // Given
+        String name = "lock:test:" + UUID.randomUUID();
+
+        // When
+        FencedLockService.FencedLock first = fencedLockService.tryLock(name, 0, 30000, 5).orElseThrow();
+        Optional<FencedLockService.FencedLock> contended = fencedLockService.tryLock(name, 50, 30000, 5);
+        boolean released = fencedLockService.unlock(first);
+        FencedLockService.FencedLock second = fencedLockService.tryLock(name, 0, 30000, 5).orElseThrow();
+
+        // Then
+        assertThat(contended).as("보유 중인 락은 대기 시간 내 획득 불가").isEmpty();
+        assertThat(released).as("소유자 해제 성공").isTrue();
+        assertThat(second.getFencingToken()).as("재획득 시 토큰 증가").isGreaterThan(first.getFencingToken());
+
+        fencedLockService.unlock(second);
+    }
+
+    @Test
+    @DisplayName("lease 만료 후 이전 보유자의 해제는 새 보유자의 락을 지우지 않음")
+    void unlock_AfterLeaseExpired_DoesNotReleaseNewOwner() throws InterruptedException {
+        // Given: 짧은 lease로 획득 후 만료
+        String name = "lock:test:" + UUID.randomUUID();
+        FencedLockService.FencedLock stale = fencedLockService.tryLock(name, 0, 100, 5).orElseThrow();
+        Thread.sleep(200);
+        FencedLockService.FencedLock current = fencedLockService.tryLock(name, 0, 30000, 5).orElseThrow();
+
+        // When: 이전 보유자가 뒤늦게 해제
+        boolean staleReleased = fencedLockService.unlock(stale);
+
+        // Then: 새 보유자의 락은 유지
+        assertThat(staleReleased).as("만료된 보유자는 해제 불가").isFalse();
+        assertThat(fencedLockService.tryLock(name, 0, 30000, 5))
+            .as("새 보유자의 락이 유지되어 획득 불가").isEmpty();
+
+        fencedLockService.unlock(current);
+    }
+
+    @Test
+    @DisplayName("더 최신 토큰이 기록된 후 만료된 토큰으로 충전 시 거부되고 잔액 변경 없음")
+    void chargeBalance_WithStaleToken_Rejected() {
+        // Given: 최신 보유자가 토큰 10으로 충전
+        balanceService.chargeBalanceWithLock(testUser.getId(), BigDecimal.valueOf(1000), 10L);
+        BigDecimal balanceBefore = userRepository.findById(testUser.getId()).orElseThrow().getBalance();
+
+        // When & Then: lease 만료된 이전 보유자(토큰 9)의 충전 거부
+        assertThatThrownBy(() -> balanceService.chargeBalanceWithLock(testUser.getId(), BigDecimal.valueOf(1000), 9L))
+            .isInstanceOf(IllegalStateException.class);
+
+        User after = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(after.getBalance()).as("잔액 변경 없음").isEqualByComparingTo(balanceBefore);
+        assertThat(after.getLockFenceToken()).as("최신 토큰 유지").isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("펜싱 락 모드 충전: 락 획득 토큰이 사용자 row에 기록")
+    void chargeBalance_FencedMode_RecordsToken() {
+        // Given
+        fencedLockProperties.setEnabled(true);
+
+        // When
+        balanceService.chargeBalance(testUser.getId(), BigDecimal.valueOf(5000));
+        balanceService.chargeBalance(testUser.getId(), BigDecimal.valueOf(5000));
+
+        // Then
+        User after = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(after.getBalance()).isEqualByComparingTo(BigDecimal.valueOf(100010000));
+        assertThat(after.getLockFenceToken()).as("펜싱 토큰 기록").isNotNull().isPositive();
+    }
+
+    @Test
+    @DisplayName("벤치마크: 주문 생성 지연시간 (Redisson RLock vs 펜싱 락, p50/p99)")
+    void benchmark_CreateOrder_RedissonVsFencedLock() {
+        // Given
+        int warmup = 10;
+        int iterations = 100;
+        Product product = createProduct((warmup + iterations) * 2);
+
+        // When 1: Redisson RLock (Hash 재진입 락 + Pub/Sub 대기) + SELECT FOR UPDATE
+        fencedLockProperties.setEnabled(false);
+        List<Long> redissonLatencies = measureCreateOrder(product, warmup, iterations);
+
+        // When 2: 펜싱 락 (SET NX PX 1회) + 토큰 조건부 UPDATE
+        fencedLockProperties.setEnabled(true);
+        List<Long> fencedLatencies = measureCreateOrder(product, warmup, iterations);
+
+        // Then
+        log.info("=== 주문 생성 지연시간 ({}건) ===", iterations);
+        log.info("Redisson RLock: p50={}μs, p99={}μs",
+                 percentile(redissonLatencies, 50), percentile(redissonLatencies, 99));
+        log.info("펜싱 락:       p50={}μs, p99={}μs",
+                 percentile(fencedLatencies, 50), percentile(fencedLatencies, 99));
+
+        assertThat(redissonLatencies).hasSize(iterations);
+        assertThat(fencedLatencies).hasSize(iterations);
+        assertThat(userRepository.findById(testUser.getId()).orElseThrow().getLockFenceToken())
+            .as("펜싱 모드 주문마다 토큰 기록").isNotNull();
+    }
+
+    private List<Long> measureCreateOrder(Product product, int warmup, int iterations) {
+        List<Long> latencies = new ArrayList<>();
+
+        for (int i = 0; i < warmup + iterations; i++) {
+            Cart cart = cartRepository.findByUserWithItems(testUser)
+                .orElseGet(() -> cartRepository.save(Cart.builder().user(testUser).build()));
+            cart.addItem(product, 1);
+            cartRepository.save(cart);
+
+            long start = System.nanoTime();
+            orderService.createOrder(testUser.getId(), null, UUID.randomUUID().toString());
+            long elapsedMicros = (System.nanoTime() - start) / 1000;
+
+            if (i >= warmup) {
+                latencies.add(elapsedMicros);
+            }
+        }
+
+        return latencies;
+    }
+
+    private Product createProduct(int stock) {
+        Category category = categoryRepository.save(Category.builder()
+            .name("펜싱락카테고리_" + UUID.randomUUID())
+            .description("펜싱 락 테스트용")
+            .build());
+
+        return productRepository.save(Product.builder()
+            .name("펜싱락상품_" + UUID.randomUUID())
+            .description("펜싱 락 테스트용")
+            .price(BigDecimal.valueOf(1000))
+            .stock(stock)
+            .safetyStock(0)
+            .category(category)
+            .status(ProductStatus.AVAILABLE)
+            .build());
+    }
+
+    private long percentile(List<Long> latencies, int percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+}
@@ -36,6 +36,7 @@ public class TestContainersConfig {
                 .withDatabaseName("testdb")
                 .withUsername("test")
                 .withPassword("test")
+                .withUrlParam("rewriteBatchedStatements", "true") // JDBC 배치를 multi-row INSERT로 전송
                 .withReuse(true); // 컨테이너 재사용으로 테스트 속도 향상
     }
 
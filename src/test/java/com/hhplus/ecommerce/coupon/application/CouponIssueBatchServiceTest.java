@@ -0,0 +1,222 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.coupon.domain.Coupon;
+import com.hhplus.ecommerce.coupon.domain.CouponStatus;
+import com.hhplus.ecommerce.coupon.domain.CouponType;
+import com.hhplus.ecommerce.coupon.domain.event.CouponIssuedEvent;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.UserCouponRepository;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.domain.UserRole;
+import com.hhplus.ecommerce.user.domain.UserStatus;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 발급 배치 DB 동기화 테스트 / 벤치마크
+ *
+ * 검증 목표:
+ * - poll 1회분 이벤트가 한 번에 저장되고 issuedQuantity가 합계만큼 증가
+ * - DB 기발급/배치 내 중복/존재하지 않는 사용자 이벤트는 건너뜀
+ * - 총 수량 도달 시 EXHAUSTED 전환
+ * - 처리 시간 비교: 단건 리스너(이벤트당 트랜잭션) vs 배치 반영
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("쿠폰 발급 배치 DB 동기화 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class CouponIssueBatchServiceTest {
+
+    @Autowired
+    private CouponIssueBatchService couponIssueBatchService;
+
+    @Autowired
+    private CouponKafkaConsumer couponKafkaConsumer;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Coupon> createdCoupons = new ArrayList<>();
+    private final List<User> createdUsers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        userCouponRepository.deleteAll(
+            userCouponRepository.findAll().stream()
+                .filter(uc -> createdCoupons.stream().anyMatch(c -> c.getId().equals(uc.getCoupon().getId())))
+                .toList()
+        );
+        couponRepository.deleteAll(createdCoupons);
+        userRepository.deleteAll(createdUsers);
+        createdCoupons.clear();
+        createdUsers.clear();
+    }
+
+    @Test
+    @DisplayName("배치 반영: 이벤트 N건 저장 + 발급 수량 N 증가")
+    void persist_InsertsAllAndIncreasesQuantityOnce() {
+        // Given
+        Coupon coupon = createCoupon(100);
+        List<User> users = createUsers(50);
+        List<CouponIssuedEvent> events = toEvents(coupon, users);
+
+        // When
+        CouponIssueBatchService.BatchResult result = couponIssueBatchService.persist(events);
+
+        // Then
+        Coupon reloaded = couponRepository.findById(coupon.getId()).orElseThrow();
+        assertThat(result.getInserted()).as("저장 건수").isEqualTo(50);
+        assertThat(reloaded.getIssuedQuantity()).as("발급 수량").isEqualTo(50);
+        assertThat(reloaded.getVersion()).as("쿠폰 row UPDATE는 배치당 1회").isEqualTo(coupon.getVersion() + 1);
+        assertThat(reloaded.getStatus()).isEqualTo(CouponStatus.ACTIVE);
+        assertThat(countIssued(coupon)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("멱등성: DB 기발급, 배치 내 중복, 없는 사용자는 건너뜀")
+    void persist_SkipsDuplicatesAndUnknownUsers() {
+        // Given
+        Coupon coupon = createCoupon(100);
+        List<User> users = createUsers(10);
+        couponIssueBatchService.persist(toEvents(coupon, users.subList(0, 5))); // 0~4 기발급
+
+        List<CouponIssuedEvent> events = new ArrayList<>(toEvents(coupon, users)); // 0~4 중복, 5~9 신규
+        events.add(CouponIssuedEvent.of(coupon.getId(), users.get(9).getId(), 11L, 11L)); // 배치 내 중복
+        events.add(CouponIssuedEvent.of(coupon.getId(), Long.MAX_VALUE, 12L, 12L)); // 없는 사용자
+
+        // When
+        CouponIssueBatchService.BatchResult result = couponIssueBatchService.persist(events);
+
+        // Then
+        assertThat(result.getReceived()).isEqualTo(12);
+        assertThat(result.getInserted()).as("신규 발급").isEqualTo(5);
+        assertThat(result.getDuplicated()).as("중복").isEqualTo(6);
+        assertThat(result.getSkipped()).as("없는 사용자").isEqualTo(1);
+        assertThat(couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(10);
+        assertThat(countIssued(coupon)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("총 수량 도달 시 EXHAUSTED 전환")
+    void persist_ExhaustsCoupon() {
+        // Given
+        Coupon coupon = createCoupon(20);
+        List<User> users = createUsers(20);
+
+        // When
+        couponIssueBatchService.persist(toEvents(coupon, users));
+
+        // Then
+        Coupon reloaded = couponRepository.findById(coupon.getId()).orElseThrow();
+        assertThat(reloaded.getIssuedQuantity()).isEqualTo(20);
+        assertThat(reloaded.getStatus()).isEqualTo(CouponStatus.EXHAUSTED);
+    }
+
+    @Test
+    @DisplayName("벤치마크: 단건 리스너 vs 배치 반영 (이벤트 500건)")
+    void benchmark_SingleVsBatch() {
+        // Given
+        int eventCount = 500;
+        Coupon singleCoupon = createCoupon(eventCount);
+        Coupon batchCoupon = createCoupon(eventCount);
+        List<User> users = createUsers(eventCount);
+
+        // When - 단건 경로 (이벤트당 트랜잭션, poll 1회분 순차 처리)
+        long singleStart = System.nanoTime();
+        long offset = 0;
+        for (CouponIssuedEvent event : toEvents(singleCoupon, users)) {
+            couponKafkaConsumer.handleCouponIssued(event, 0, offset++, () -> { });
+        }
+        long singleMillis = (System.nanoTime() - singleStart) / 1_000_000;
+
+        // When - 배치 경로
+        long batchStart = System.nanoTime();
+        couponIssueBatchService.persist(toEvents(batchCoupon, users));
+        long batchMillis = (System.nanoTime() - batchStart) / 1_000_000;
+
+        log.info("[벤치마크] 쿠폰 발급 DB 동기화 {}건 - 단건: {}ms, 배치: {}ms", eventCount, singleMillis, batchMillis);
+
+        // Then - 결과 동일
+        assertThat(countIssued(singleCoupon)).isEqualTo(eventCount);
+        assertThat(countIssued(batchCoupon)).isEqualTo(eventCount);
+        assertThat(couponRepository.findById(singleCoupon.getId()).orElseThrow().getIssuedQuantity())
+            .isEqualTo(couponRepository.findById(batchCoupon.getId()).orElseThrow().getIssuedQuantity());
+    }
+
+    private long countIssued(Coupon coupon) {
+        return userCouponRepository.findAll().stream()
+            .filter(uc -> uc.getCoupon().getId().equals(coupon.getId()))
+            .count();
+    }
+
+    private List<CouponIssuedEvent> toEvents(Coupon coupon, List<User> users) {
+        List<CouponIssuedEvent> events = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            events.add(CouponIssuedEvent.of(coupon.getId(), users.get(i).getId(), (long) i + 1, (long) i + 1));
+        }
+        return events;
+    }
+
+    private List<User> createUsers(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                .email("batch-" + UUID.randomUUID() + "@test.com")
+                .password("password123")
+                .name("배치사용자" + i)
+                .balance(BigDecimal.ZERO)
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+        }
+        List<User> saved = userRepository.saveAll(users);
+        createdUsers.addAll(saved);
+        return saved;
+    }
+
+    private Coupon createCoupon(int totalQuantity) {
+        Coupon coupon = couponRepository.save(Coupon.builder()
+            .code("BATCH-" + UUID.randomUUID().toString().substring(0, 8))
+            .name("배치 테스트 쿠폰")
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(1000))
+            .totalQuantity(totalQuantity)
+            .issuedQuantity(0)
+            .maxIssuePerUser(1)
+            .issueStartAt(LocalDateTime.now().minusDays(1))
+            .issueEndAt(LocalDateTime.now().plusDays(1))
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(30))
+            .status(CouponStatus.ACTIVE)
+            .version(0L)
+            .build());
+        createdCoupons.add(coupon);
+        return coupon;
+    }
+}
@@ -0,0 +1,221 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import com.hhplus.ecommerce.config.CouponIssueProperties;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.coupon.application.CouponIssueExportService.ExportFormat;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRedisRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponShardedRedisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 쿠폰 발급 내역 내보내기 통합 테스트
+ *
+ * 검증 항목:
+ * - ZSCAN 순회로 전체 발급 내역을 NDJSON/CSV로 기록 (순회 중 변경이 없으면 누락/중복 없음)
+ * - 샤딩 사용 시 전체 샤드 발급 내역 기록
+ * - HSCAN 기반 발급 통계
+ * - 샤딩 사용 시 발급 통계/선착순 조회를 전체 샤드로 집계
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("쿠폰 발급 내역 내보내기 통합 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class CouponIssueExportIntegrationTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @Autowired
+    private CouponIssueExportService couponIssueExportService;
+
+    @Autowired
+    private CouponRedisRepository couponRedisRepository;
+
+    @Autowired
+    private CouponShardedRedisRepository couponShardedRedisRepository;
+
+    @Autowired
+    private CouponIssueProperties couponIssueProperties;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private Long couponId;
+
+    @BeforeEach
+    void setUp() {
+        couponId = System.nanoTime();
+    }
+
+    @AfterEach
+    void tearDown() {
+        couponIssueProperties.setShardCount(1);
+        stringRedisTemplate.delete(List.of("coupon:issued:" + couponId, "coupon:user:count:" + couponId));
+        couponShardedRedisRepository.clear(couponId, SHARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("NDJSON: 배치 크기(1000)를 넘는 발급 내역을 누락/중복 없이 한 줄에 1건씩 기록")
+    void export_Ndjson_AllRecords() throws IOException {
+        // Given: 발급 2,500건 (member = userId:1, score = 타임스탬프)
+        int issued = 2_500;
+        seedIssued(issued);
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long written = couponIssueExportService.export(couponId, ExportFormat.NDJSON, output);
+
+        // Then
+        List<String> lines = lines(output);
+        assertThat(written).isEqualTo(issued);
+        assertThat(lines).hasSize(issued);
+        assertThat(lines.get(0)).matches("\\{\"userId\":\\d+,\"issueSequence\":1,\"issuedTimestamp\":\\d+}");
+
+        Set<Long> userIds = lines.stream()
+            .map(line -> Long.parseLong(line.substring("{\"userId\":".length(), line.indexOf(','))))
+            .collect(Collectors.toSet());
+        assertThat(userIds).as("모든 사용자 1회씩").hasSize(issued);
+    }
+
+    @Test
+    @DisplayName("CSV: 헤더 + 발급 1건당 1행, 같은 사용자의 중복 발급은 issueSequence로 구분")
+    void export_Csv_WithIssueSequence() throws IOException {
+        // Given: 사용자 1은 2회, 사용자 2는 1회 발급
+        couponRedisRepository.issue(couponId, 1L, 100, 2);
+        couponRedisRepository.issue(couponId, 1L, 100, 2);
+        couponRedisRepository.issue(couponId, 2L, 100, 2);
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        couponIssueExportService.export(couponId, ExportFormat.CSV, output);
+
+        // Then
+        List<String> lines = lines(output);
+        assertThat(lines.get(0)).isEqualTo("userId,issueSequence,issuedTimestamp");
+        assertThat(lines.subList(1, lines.size()).stream().map(line -> line.substring(0, line.lastIndexOf(','))))
+            .containsExactlyInAnyOrder("1,1", "1,2", "2,1");
+    }
+
+    @Test
+    @DisplayName("샤딩 사용 시 전체 샤드의 발급 내역을 기록")
+    void export_Sharded() throws IOException {
+        // Given
+        couponIssueProperties.setShardCount(SHARD_COUNT);
+        for (long userId = 1; userId <= 20; userId++) {
+            couponShardedRedisRepository.issue(couponId, userId, 100, 1, SHARD_COUNT);
+        }
+
+        // When
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long written = couponIssueExportService.export(couponId, ExportFormat.NDJSON, output);
+
+        // Then
+        assertThat(written).isEqualTo(20);
+        assertThat(lines(output)).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("발급 통계: HSCAN으로 고유 사용자 수와 발급 수량 합산")
+    void getIssueStats_UsesHashScan() {
+        // Given
+        couponRedisRepository.issue(couponId, 1L, 100, 2);
+        couponRedisRepository.issue(couponId, 1L, 100, 2);
+        couponRedisRepository.issue(couponId, 2L, 100, 2);
+
+        // When
+        CouponRedisRepository.CouponIssueStats stats = couponRedisRepository.getIssueStats(couponId);
+
+        // Then
+        assertThat(stats.getIssuedCount()).isEqualTo(3L);
+        assertThat(stats.getUniqueUserCount()).as("고유 사용자 수").isEqualTo(2L);
+        assertThat(stats.getTotalIssueCount()).as("사용자별 발급 수량 합").isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("샤딩 사용 시 발급 통계와 선착순 조회는 전체 샤드를 집계한다")
+    void issueStatsAndRanking_Sharded() {
+        // Given: 사용자 20명이 4개 샤드에 분산 발급
+        couponIssueProperties.setShardCount(SHARD_COUNT);
+        for (long userId = 1; userId <= 20; userId++) {
+            couponShardedRedisRepository.issue(couponId, userId, 100, 1, SHARD_COUNT);
+        }
+
+        // When
+        CouponRedisRepository.CouponIssueStats stats = couponIssueExportService.getIssueStats(couponId);
+        List<CouponRedisRepository.IssueRecord> top = couponIssueExportService.getTopIssuedUsers(couponId, 5);
+        List<CouponRedisRepository.IssueRecord> all = couponIssueExportService.getAllIssuedUsers(couponId);
+
+        // Then
+        assertThat(stats.getIssuedCount()).as("샤드 ZCARD 합").isEqualTo(20L);
+        assertThat(stats.getUniqueUserCount()).as("샤드 HSCAN 합").isEqualTo(20L);
+        assertThat(stats.getTotalIssueCount()).isEqualTo(20L);
+
+        assertThat(top).hasSize(5);
+        assertThat(top).extracting(CouponRedisRepository.IssueRecord::getRank).containsExactly(1, 2, 3, 4, 5);
+        assertThat(all).hasSize(20);
+        assertThat(all).extracting(CouponRedisRepository.IssueRecord::getIssuedTimestamp).isSorted();
+        assertThat(all.subList(0, 5)).extracting(CouponRedisRepository.IssueRecord::getUserId)
+            .as("상위 N명 = 전체 발급 순서의 앞 N명")
+            .containsExactlyElementsOf(top.stream().map(CouponRedisRepository.IssueRecord::getUserId).toList());
+    }
+
+    @Test
+    @DisplayName("검증: 지원하지 않는 형식, 존재하지 않는 쿠폰은 IllegalArgumentException")
+    void validate() {
+        assertThatThrownBy(() -> ExportFormat.from("xml"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("지원하지 않는 내보내기 형식");
+        assertThat(ExportFormat.from("CSV")).isEqualTo(ExportFormat.CSV);
+
+        assertThatThrownBy(() -> couponIssueExportService.validateCoupon(Long.MAX_VALUE))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("쿠폰을 찾을 수 없습니다");
+    }
+
+    private void seedIssued(int count) {
+        String key = "coupon:issued:" + couponId;
+        long now = System.currentTimeMillis();
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            public Object execute(RedisOperations operations) {
+                for (long userId = 1; userId <= count; userId++) {
+                    operations.opsForZSet().add(key, userId + ":1", now + userId);
+                }
+                return null;
+            }
+        });
+    }
+
+    private List<String> lines(ByteArrayOutputStream output) {
+        return Arrays.stream(output.toString(StandardCharsets.UTF_8).split("\n"))
+            .filter(line -> !line.isEmpty())
+            .toList();
+    }
+}
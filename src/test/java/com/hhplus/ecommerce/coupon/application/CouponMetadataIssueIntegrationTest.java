@@ -0,0 +1,252 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import com.hhplus.ecommerce.config.CouponIssueProperties;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.coupon.domain.Coupon;
+import com.hhplus.ecommerce.coupon.domain.CouponStatus;
+import com.hhplus.ecommerce.coupon.domain.CouponType;
+import com.hhplus.ecommerce.coupon.domain.UserCoupon;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRedisRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRepository;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.domain.UserRole;
+import com.hhplus.ecommerce.user.domain.UserStatus;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 쿠폰 메타데이터 기반 발급 통합 테스트
+ *
+ * 검증 항목:
+ * - 적재된 쿠폰은 DB 쿼리 없이 발급 (Hibernate Statistics 구문 수 0)
+ * - 응답은 Redis 메타데이터로 구성
+ * - 발급 기간/수량/1인당 제한을 Lua에서 검증
+ * - 미적재 쿠폰은 DB에서 1회 적재 후 발급
+ * - 상태 변경 시 커밋 후 메타데이터 제거
+ *
+ * Hibernate Statistics는 전역 집계이므로, 발급 이벤트를 DB에 저장하는 Kafka 리스너를 테스트 동안 정지
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("쿠폰 메타데이터 기반 발급 통합 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class CouponMetadataIssueIntegrationTest {
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponMetadataWarmer couponMetadataWarmer;
+
+    @Autowired
+    private CouponIssueProperties couponIssueProperties;
+
+    @Autowired
+    private CouponRedisRepository couponRedisRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private List<MessageListenerContainer> pausedContainers;
+    private User testUser;
+    private User otherUser1;
+    private User otherUser2;
+    private Coupon testCoupon;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        testUser = saveUser("coupon-meta-" + suffix);
+        otherUser1 = saveUser("coupon-meta-1-" + suffix);
+        otherUser2 = saveUser("coupon-meta-2-" + suffix);
+
+        testCoupon = saveCoupon("META_" + suffix, 2, LocalDateTime.now().minusDays(1));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        couponIssueProperties.setMetadataEnabled(true);
+
+        pausedContainers = kafkaListenerEndpointRegistry.getListenerContainers().stream()
+            .filter(MessageListenerContainer::isRunning)
+            .toList();
+        pausedContainers.forEach(MessageListenerContainer::stop);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pausedContainers.forEach(MessageListenerContainer::start);
+        couponIssueProperties.setMetadataEnabled(false);
+        statistics.setStatisticsEnabled(false);
+        couponRedisRepository.deleteMetadata(testCoupon.getId());
+        couponRedisRepository.initializeCoupon(testCoupon.getId());
+    }
+
+    @Test
+    @DisplayName("적재된 쿠폰은 DB 쿼리 없이 발급되고, 응답은 메타데이터로 구성된다")
+    void issue_WithoutDatabase() {
+        // Given
+        couponMetadataWarmer.warm(testCoupon);
+        statistics.clear();
+
+        // When
+        UserCoupon userCoupon = couponService.issueCoupon(testUser.getId(), testCoupon.getId());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).as("발급 경로 DB 쿼리 없음").isZero();
+        assertThat(userCoupon.getCoupon().getId()).isEqualTo(testCoupon.getId());
+        assertThat(userCoupon.getCoupon().getName()).isEqualTo(testCoupon.getName());
+        assertThat(userCoupon.getCoupon().getDiscountValue()).isEqualByComparingTo(testCoupon.getDiscountValue());
+        assertThat(userCoupon.getUser().getId()).isEqualTo(testUser.getId());
+        assertThat(couponRedisRepository.getIssuedCount(testCoupon.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("1인당 제한과 총 수량을 메타데이터 기준으로 검증한다")
+    void issue_ValidatesLimits() {
+        // Given
+        couponMetadataWarmer.warm(testCoupon);
+        couponService.issueCoupon(testUser.getId(), testCoupon.getId());
+
+        // When & Then: 1인당 1개
+        assertThatThrownBy(() -> couponService.issueCoupon(testUser.getId(), testCoupon.getId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("이미 최대 발급 수량을 받았습니다. (발급 횟수: 1/1)");
+
+        // When & Then: 총 2개
+        couponService.issueCoupon(otherUser1.getId(), testCoupon.getId());
+        assertThatThrownBy(() -> couponService.issueCoupon(otherUser2.getId(), testCoupon.getId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("쿠폰이 모두 소진되었습니다");
+    }
+
+    @Test
+    @DisplayName("발급 시작 전 쿠폰은 Lua에서 거절된다")
+    void issue_NotStarted() {
+        // Given
+        Coupon upcoming = saveCoupon("META_UPCOMING_" + UUID.randomUUID().toString().substring(0, 8),
+            10, LocalDateTime.now().plusHours(1));
+        couponMetadataWarmer.warm(upcoming);
+
+        // When & Then
+        try {
+            assertThatThrownBy(() -> couponService.issueCoupon(testUser.getId(), upcoming.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("쿠폰 발급 기간이 아닙니다");
+            assertThat(couponRedisRepository.getIssuedCount(upcoming.getId())).isZero();
+        } finally {
+            couponRedisRepository.deleteMetadata(upcoming.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("미적재 쿠폰은 DB에서 1회 적재 후 발급하고, 이후 요청은 DB 쿼리가 없다")
+    void issue_WarmsOnFirstRequest() {
+        // Given: 메타데이터 미적재
+        couponRedisRepository.deleteMetadata(testCoupon.getId());
+
+        // When
+        couponService.issueCoupon(testUser.getId(), testCoupon.getId());
+        statistics.clear();
+        couponService.issueCoupon(otherUser1.getId(), testCoupon.getId());
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).as("적재 후 DB 쿼리 없음").isZero();
+        assertThat(couponRedisRepository.getIssuedCount(testCoupon.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("상태 변경 트랜잭션이 커밋된 뒤에 메타데이터가 제거되고, 다음 요청이 변경된 상태로 재적재한다")
+    void evictAfterCommit_ReloadsChangedStatus() {
+        // Given
+        couponMetadataWarmer.warm(testCoupon);
+        String metaKey = "coupon:meta:" + testCoupon.getId();
+
+        // When: 비활성화 트랜잭션
+        transactionTemplate.executeWithoutResult(status -> {
+            Coupon coupon = couponRepository.findById(testCoupon.getId()).orElseThrow();
+            coupon.deactivate();
+            couponMetadataWarmer.evictAfterCommit(coupon.getId());
+            assertThat(stringRedisTemplate.hasKey(metaKey)).as("커밋 전 유지").isTrue();
+        });
+
+        // Then
+        assertThat(stringRedisTemplate.hasKey(metaKey)).as("커밋 후 제거").isFalse();
+        assertThatThrownBy(() -> couponService.issueCoupon(testUser.getId(), testCoupon.getId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("발급할 수 없는 쿠폰입니다");
+        assertThat(stringRedisTemplate.<String, String>opsForHash().get(metaKey, "status"))
+            .as("변경된 상태로 재적재").isEqualTo(CouponStatus.INACTIVE.name());
+    }
+
+    private User saveUser(String prefix) {
+        return userRepository.save(User.builder()
+            .email(prefix + "@test.com")
+            .password("password123")
+            .name("메타데이터테스트")
+            .balance(BigDecimal.valueOf(100000))
+            .role(UserRole.USER)
+            .status(UserStatus.ACTIVE)
+            .build());
+    }
+
+    private Coupon saveCoupon(String code, int totalQuantity, LocalDateTime issueStartAt) {
+        return couponRepository.save(Coupon.builder()
+            .code(code)
+            .name("메타데이터 쿠폰 " + code)
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(3000))
+            .minimumOrderAmount(BigDecimal.valueOf(10000))
+            .totalQuantity(totalQuantity)
+            .issuedQuantity(0)
+            .maxIssuePerUser(1)
+            .issueStartAt(issueStartAt)
+            .issueEndAt(LocalDateTime.now().plusDays(7))
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(14))
+            .status(CouponStatus.ACTIVE)
+            .build());
+    }
+}
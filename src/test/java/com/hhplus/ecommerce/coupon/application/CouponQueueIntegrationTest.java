@@ -0,0 +1,261 @@
+package com.hhplus.ecommerce.coupon.application;
+
+import com.hhplus.ecommerce.config.CouponQueueProperties;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.coupon.application.CouponQueueService.QueueStatus;
+import com.hhplus.ecommerce.coupon.application.CouponQueueService.QueueTicket;
+import com.hhplus.ecommerce.coupon.domain.Coupon;
+import com.hhplus.ecommerce.coupon.domain.CouponStatus;
+import com.hhplus.ecommerce.coupon.domain.CouponType;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponQueueRedisRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRedisRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRepository;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.domain.UserRole;
+import com.hhplus.ecommerce.user.domain.UserStatus;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.reset;
+
+/**
+ * 쿠폰 발급 대기열 통합 테스트
+ *
+ * 검증 항목:
+ * - 대기열 진입 순번 (재진입 시 순번 유지)
+ * - 입장 처리 시 totalQuantity만큼만 발급, 나머지는 SOLD_OUT
+ * - 소진 후 발급/진입 요청은 Redis/DB 접근 없이 거절
+ * - 다른 인스턴스가 설정한 소진 마커 전파
+ * - 입장 발급 중 예기치 않은 예외는 해당 사용자만 FAILED, 결과는 항상 저장
+ *
+ * 입장 스케줄러와 경합하지 않도록 테스트 동안 입장 락을 점유하고 입장 처리는 직접 호출
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("쿠폰 발급 대기열 통합 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class CouponQueueIntegrationTest {
+
+    private static final String LOCK_KEY_COUPON_QUEUE_ADMIT = "lock:batch:coupon-queue-admit";
+
+    @Autowired
+    private CouponQueueService couponQueueService;
+
+    @Autowired
+    private CouponQueueScheduler couponQueueScheduler;
+
+    @MockitoSpyBean
+    private CouponService couponService;
+
+    @Autowired
+    private CouponSoldOutCache couponSoldOutCache;
+
+    @Autowired
+    private CouponQueueProperties couponQueueProperties;
+
+    @Autowired
+    private CouponQueueRedisRepository couponQueueRedisRepository;
+
+    @Autowired
+    private CouponRedisRepository couponRedisRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    private RLock admitLock;
+    private Coupon testCoupon;
+    private User user1;
+    private User user2;
+    private User user3;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user1 = saveUser("queue-1-" + suffix);
+        user2 = saveUser("queue-2-" + suffix);
+        user3 = saveUser("queue-3-" + suffix);
+
+        testCoupon = couponRepository.save(Coupon.builder()
+            .code("QUEUE_" + suffix)
+            .name("대기열 테스트 쿠폰")
+            .type(CouponType.FIXED_AMOUNT)
+            .discountValue(BigDecimal.valueOf(5000))
+            .minimumOrderAmount(BigDecimal.valueOf(10000))
+            .totalQuantity(2)
+            .issuedQuantity(0)
+            .maxIssuePerUser(1)
+            .issueStartAt(LocalDateTime.now().minusDays(1))
+            .issueEndAt(LocalDateTime.now().plusDays(7))
+            .validFrom(LocalDateTime.now().minusDays(1))
+            .validUntil(LocalDateTime.now().plusDays(14))
+            .status(CouponStatus.ACTIVE)
+            .build());
+
+        couponQueueProperties.setEnabled(true);
+        admitLock = redissonClient.getLock(LOCK_KEY_COUPON_QUEUE_ADMIT);
+        admitLock.lock();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reset(couponService);
+        admitLock.unlock();
+        couponQueueProperties.setEnabled(false);
+        couponSoldOutCache.evict(testCoupon.getId());
+        couponQueueRedisRepository.clear(testCoupon.getId());
+        couponRedisRepository.initializeCoupon(testCoupon.getId());
+    }
+
+    @Test
+    @DisplayName("대기열 진입 순서대로 순번이 부여되고, 재진입해도 순번이 유지된다")
+    void enqueue_AssignsPosition() {
+        // Given
+        Long couponId = testCoupon.getId();
+
+        // When
+        QueueTicket first = couponQueueService.enqueue(couponId, user1.getId());
+        QueueTicket second = couponQueueService.enqueue(couponId, user2.getId());
+        QueueTicket again = couponQueueService.enqueue(couponId, user1.getId());
+
+        // Then
+        assertThat(first.getPosition()).isEqualTo(1L);
+        assertThat(second.getPosition()).isEqualTo(2L);
+        assertThat(again.getPosition()).as("재진입 시 기존 순번 유지").isEqualTo(1L);
+
+        QueueTicket polled = couponQueueService.getTicket(couponId, user2.getId());
+        assertThat(polled.getStatus()).isEqualTo(QueueStatus.WAITING);
+        assertThat(polled.getPosition()).isEqualTo(2L);
+        assertThat(polled.getWaitingCount()).isEqualTo(2L);
+
+        assertThat(couponQueueService.getTicket(couponId, user3.getId()).getStatus())
+            .isEqualTo(QueueStatus.NOT_IN_QUEUE);
+    }
+
+    @Test
+    @DisplayName("입장 처리 시 총 수량만큼만 발급되고, 소진 후 요청은 메모리에서 거절된다")
+    void admit_IssuesUntilSoldOut() {
+        // Given: 총 수량 2개에 3명 대기
+        Long couponId = testCoupon.getId();
+        couponQueueService.enqueue(couponId, user1.getId());
+        couponQueueService.enqueue(couponId, user2.getId());
+        couponQueueService.enqueue(couponId, user3.getId());
+
+        // When
+        int issued = couponQueueScheduler.admitActiveCoupons();
+
+        // Then
+        assertThat(issued).isEqualTo(2);
+        assertThat(couponRedisRepository.getIssuedCount(couponId)).isEqualTo(2L);
+        assertThat(couponQueueService.getTicket(couponId, user1.getId()).getStatus()).isEqualTo(QueueStatus.ISSUED);
+        assertThat(couponQueueService.getTicket(couponId, user2.getId()).getStatus()).isEqualTo(QueueStatus.ISSUED);
+        assertThat(couponQueueService.getTicket(couponId, user3.getId()).getStatus()).isEqualTo(QueueStatus.SOLD_OUT);
+        assertThat(couponSoldOutCache.isSoldOut(couponId)).as("소진 플래그 설정").isTrue();
+
+        // When: Redis 발급 내역을 지워도 소진 플래그로 거절 (Redis/DB 미접근)
+        couponRedisRepository.initializeCoupon(couponId);
+
+        // Then
+        assertThatThrownBy(() -> couponService.issueCoupon(user3.getId(), couponId))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("쿠폰이 모두 소진되었습니다");
+        assertThatThrownBy(() -> couponQueueService.enqueue(couponId, user3.getId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("쿠폰이 모두 소진되었습니다");
+        assertThat(couponRedisRepository.getIssuedCount(couponId)).as("Lua 발급 미실행").isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 발급 없이 FAILED 처리된다")
+    void admit_UnknownUser() {
+        // Given
+        Long couponId = testCoupon.getId();
+        couponQueueService.enqueue(couponId, Long.MAX_VALUE);
+
+        // When
+        couponQueueService.admit(couponId);
+
+        // Then
+        QueueTicket ticket = couponQueueService.getTicket(couponId, Long.MAX_VALUE);
+        assertThat(ticket.getStatus()).isEqualTo(QueueStatus.FAILED);
+        assertThat(ticket.getMessage()).contains("사용자를 찾을 수 없습니다");
+        assertThat(couponRedisRepository.getIssuedCount(couponId)).isZero();
+    }
+
+    @Test
+    @DisplayName("입장 발급 중 예기치 않은 예외가 나도 해당 사용자만 FAILED, 나머지는 발급되고 결과가 저장된다")
+    void admit_UnexpectedFailure_SavesResults() {
+        // Given: user1 발급 시 DB 장애
+        Long couponId = testCoupon.getId();
+        couponQueueService.enqueue(couponId, user1.getId());
+        couponQueueService.enqueue(couponId, user2.getId());
+        willThrow(new DataAccessResourceFailureException("테스트: DB 장애"))
+            .given(couponService).issueAdmitted(eq(user1.getId()), any(Coupon.class));
+
+        // When
+        int issued = couponQueueService.admit(couponId);
+
+        // Then
+        assertThat(issued).isEqualTo(1);
+        QueueTicket failed = couponQueueService.getTicket(couponId, user1.getId());
+        assertThat(failed.getStatus()).as("인출 후 결과 누락 없음").isEqualTo(QueueStatus.FAILED);
+        assertThat(failed.getMessage()).contains("일시적인 오류");
+        assertThat(couponQueueService.getTicket(couponId, user2.getId()).getStatus()).isEqualTo(QueueStatus.ISSUED);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 설정한 소진 마커를 대기열 진입 시 확인해 소진 플래그로 전파한다")
+    void enqueue_SoldOutMarkerFromOtherInstance() {
+        // Given: 다른 인스턴스에서 소진 확인 (이 인스턴스 플래그는 미설정)
+        Long couponId = testCoupon.getId();
+        couponQueueRedisRepository.markSoldOut(couponId);
+        assertThat(couponSoldOutCache.isSoldOut(couponId)).isFalse();
+
+        // When & Then
+        assertThatThrownBy(() -> couponQueueService.enqueue(couponId, user1.getId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("쿠폰이 모두 소진되었습니다");
+        assertThat(couponSoldOutCache.isSoldOut(couponId)).as("소진 마커 → 로컬 플래그").isTrue();
+    }
+
+    private User saveUser(String prefix) {
+        return userRepository.save(User.builder()
+            .email(prefix + "@test.com")
+            .password("password123")
+            .name("대기열테스트")
+            .balance(BigDecimal.valueOf(100000))
+            .role(UserRole.USER)
+            .status(UserStatus.ACTIVE)
+            .build());
+    }
+}
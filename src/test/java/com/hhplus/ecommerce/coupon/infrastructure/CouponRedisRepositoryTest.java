@@ -1,5 +1,6 @@
 package com.hhplus.ecommerce.coupon.infrastructure;
 
+import com.hhplus.ecommerce.common.infrastructure.redis.RedisScriptRegistry;
 import com.hhplus.ecommerce.config.TestContainersConfig;
 import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRedisRepository;
 import lombok.extern.slf4j.Slf4j;
@@ -9,12 +10,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.*;
 
 /**
@@ -45,6 +50,12 @@ class CouponRedisRepositoryTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private RedisScriptRegistry redisScriptRegistry;
+
     @BeforeEach
     void setUp() {
         // Redis 초기화
@@ -171,4 +182,38 @@ class CouponRedisRepositoryTest {
         assertThat(result.isSuccess()).isFalse();
         assertThat(result.getMessage()).isEqualTo("EXCEED_USER_LIMIT");
     }
+
+    @Test
+    @DisplayName("성공: 최초 발급 시 Lua에서 발급 내역/사용자별 수량 TTL 설정")
+    void issue_SetsTtlInScript() {
+        // When
+        couponRedisRepository.issue(1L, 100L, 10, 1);
+
+        // Then
+        Long issuedTtl = stringRedisTemplate.getExpire("coupon:issued:1", TimeUnit.SECONDS);
+        Long userCountTtl = stringRedisTemplate.getExpire("coupon:user:count:1", TimeUnit.SECONDS);
+        assertThat(issuedTtl).as("발급 내역 TTL (7일 이내)").isPositive().isLessThanOrEqualTo(TimeUnit.DAYS.toSeconds(7));
+        assertThat(userCountTtl).as("사용자별 수량 TTL (7일 이내)").isPositive().isLessThanOrEqualTo(TimeUnit.DAYS.toSeconds(7));
+    }
+
+    @Test
+    @DisplayName("성공: SCRIPT FLUSH 후에도 NOSCRIPT → EVAL 폴백으로 발급")
+    void issue_NoScriptFallback() {
+        // Given: Redis 스크립트 캐시 비움 (Redis 재시작 상황)
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+        long fallbackBefore = redisScriptRegistry.getNoScriptFallbackCount();
+
+        // When
+        CouponRedisRepository.IssueResult first = couponRedisRepository.issue(1L, 100L, 10, 1);
+        CouponRedisRepository.IssueResult second = couponRedisRepository.issue(1L, 101L, 10, 1);
+
+        // Then
+        assertThat(first.isSuccess()).as("폴백 EVAL로 발급").isTrue();
+        assertThat(second.isSuccess()).as("재적재 후 EVALSHA로 발급").isTrue();
+        assertThat(redisScriptRegistry.getNoScriptFallbackCount() - fallbackBefore)
+            .as("폴백은 최초 1회만").isEqualTo(1L);
+    }
 }
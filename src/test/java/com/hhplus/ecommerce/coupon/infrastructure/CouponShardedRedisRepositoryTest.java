@@ -0,0 +1,165 @@
+package com.hhplus.ecommerce.coupon.infrastructure;
+
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponRedisRepository;
+import com.hhplus.ecommerce.coupon.infrastructure.persistence.CouponShardedRedisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 샤딩 발급 테스트
+ *
+ * 검증 항목:
+ * - 샤드 분산 발급 시에도 전체 발급 수량을 초과하지 않음
+ * - 사용자 샤드가 비면 다른 샤드 잔여 수량을 가져와 발급
+ * - 전체 발급 수량/순위는 샤드 집계 기준
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("쿠폰 샤딩 발급 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class CouponShardedRedisRepositoryTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @Autowired
+    private CouponShardedRedisRepository couponShardedRedisRepository;
+
+    private Long couponId;
+
+    @BeforeEach
+    void setUp() {
+        couponId = System.nanoTime();
+    }
+
+    @AfterEach
+    void tearDown() {
+        couponShardedRedisRepository.clear(couponId, SHARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("동시 발급: 수량 100개, 300명 동시 요청 → 정확히 100명 발급, 샤드 잔여 수량 0")
+    void issue_Concurrent_NoOverIssue() throws InterruptedException {
+        // Given
+        int totalQuantity = 100;
+        int requests = 300;
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(requests);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+        ConcurrentLinkedQueue<Long> ranks = new ConcurrentLinkedQueue<>();
+
+        // When
+        for (long userId = 1; userId <= requests; userId++) {
+            long currentUserId = userId;
+            executor.submit(() -> {
+                try {
+                    CouponRedisRepository.IssueResult result =
+                        couponShardedRedisRepository.issue(couponId, currentUserId, totalQuantity, 1, SHARD_COUNT);
+                    if (result.isSuccess()) {
+                        successCount.incrementAndGet();
+                        ranks.add(result.getRank());
+                    } else if ("SOLD_OUT".equals(result.getMessage())) {
+                        soldOutCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        log.info("샤딩 동시 발급 결과 - 성공: {}, 소진: {}", successCount.get(), soldOutCount.get());
+        assertThat(successCount.get()).as("전체 수량만큼만 발급").isEqualTo(totalQuantity);
+        assertThat(soldOutCount.get()).as("나머지는 소진").isEqualTo(requests - totalQuantity);
+        assertThat(couponShardedRedisRepository.getIssuedCount(couponId, SHARD_COUNT))
+            .as("샤드 ZCARD 합").isEqualTo(totalQuantity);
+        assertThat(couponShardedRedisRepository.getRemainingQuota(couponId, SHARD_COUNT))
+            .as("샤드 잔여 수량 합").isZero();
+        assertThat(ranks).as("순위는 1 ~ 전체 수량 범위").allSatisfy(rank -> assertThat(rank).isBetween(1L, 100L));
+    }
+
+    @Test
+    @DisplayName("잔여 수량 이동: 한 샤드에 요청이 몰려도 다른 샤드 수량까지 전부 발급 후 소진")
+    void issue_StealsFromOtherShards() {
+        // Given: 모든 사용자가 샤드 0에 배정 (userId % 4 == 0)
+        int totalQuantity = 10;
+        List<CouponRedisRepository.IssueResult> results = new ArrayList<>();
+
+        // When
+        for (long i = 1; i <= totalQuantity + 1; i++) {
+            results.add(couponShardedRedisRepository.issue(couponId, i * SHARD_COUNT, totalQuantity, 1, SHARD_COUNT));
+        }
+
+        // Then
+        assertThat(results.subList(0, totalQuantity))
+            .as("샤드 0 분배분(3개)을 넘어 전체 수량까지 발급")
+            .allSatisfy(result -> assertThat(result.isSuccess()).isTrue());
+        assertThat(results.get(totalQuantity).isSuccess()).isFalse();
+        assertThat(results.get(totalQuantity).getMessage()).isEqualTo("SOLD_OUT");
+        assertThat(results.get(totalQuantity).getIssuedCount()).isEqualTo(totalQuantity);
+        assertThat(couponShardedRedisRepository.getRemainingQuota(couponId, SHARD_COUNT)).isZero();
+    }
+
+    @Test
+    @DisplayName("집계: 샤드가 달라도 전체 발급 수량과 발급 순서 기준 순위를 반환")
+    void issue_AggregatesCountAndRank() throws InterruptedException {
+        // Given
+        int totalQuantity = 100;
+
+        for (long userId = 1; userId <= 8; userId++) {
+            // When: 타임스탬프가 겹치지 않도록 간격을 두고 샤드 0~3 순환 발급
+            CouponRedisRepository.IssueResult result =
+                couponShardedRedisRepository.issue(couponId, userId, totalQuantity, 1, SHARD_COUNT);
+            Thread.sleep(5);
+
+            // Then
+            assertThat(result.isSuccess()).isTrue();
+            assertThat(result.getIssuedCount()).as("전체 발급 수량").isEqualTo(userId);
+            assertThat(result.getRank()).as("전체 순위").isEqualTo(userId);
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 제한: 같은 사용자는 사용자 샤드에서만 집계되어 제한 초과 시 실패")
+    void issue_ExceedUserLimit() {
+        // Given
+        Long userId = 7L;
+        couponShardedRedisRepository.issue(couponId, userId, 100, 1, SHARD_COUNT);
+
+        // When
+        CouponRedisRepository.IssueResult result =
+            couponShardedRedisRepository.issue(couponId, userId, 100, 1, SHARD_COUNT);
+
+        // Then
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getMessage()).isEqualTo("EXCEED_USER_LIMIT");
+        assertThat(couponShardedRedisRepository.getUserIssuedCount(couponId, userId, SHARD_COUNT)).isEqualTo(1L);
+        assertThat(couponShardedRedisRepository.getIssuedCount(couponId, SHARD_COUNT)).isEqualTo(1L);
+    }
+}
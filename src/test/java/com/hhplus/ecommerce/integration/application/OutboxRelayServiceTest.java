@@ -0,0 +1,332 @@
+package com.hhplus.ecommerce.integration.application;
+
+import com.hhplus.ecommerce.config.KafkaConfig;
+import com.hhplus.ecommerce.config.OutboxProperties;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.integration.domain.EventStatus;
+import com.hhplus.ecommerce.integration.domain.EventType;
+import com.hhplus.ecommerce.integration.domain.OutboundEvent;
+import com.hhplus.ecommerce.integration.infrastructure.persistence.OutboundEventRepository;
+import com.hhplus.ecommerce.order.domain.event.OrderCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Outbox 릴레이 테스트
+ *
+ * 검증 목표:
+ * - 비즈니스 트랜잭션 안에서만 이벤트 기록 (MANDATORY)
+ * - 릴레이가 원래 이벤트 타입으로 역직렬화하여 발행 후 일괄 SUCCESS 처리
+ * - 발행 실패 시 재시도 예약 (즉시 재선점되지 않음)
+ * - Kafka 전송/대기는 트랜잭션 밖에서 수행 (선점은 SENDING 커밋으로 유지, 임대 만료 시 재선점)
+ * - 등록되지 않은 이벤트 타입/페이로드 클래스는 기록 거부
+ * - FOR UPDATE SKIP LOCKED: 동시 릴레이가 서로 다른 row를 선점
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Outbox 릴레이 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class OutboxRelayServiceTest {
+
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Autowired
+    private OutboxRelayService outboxRelayService;
+
+    @Autowired
+    private OutboundEventRepository outboundEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxProperties outboxProperties;
+
+    @MockitoBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @BeforeEach
+    void setUp() {
+        outboundEventRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboundEventRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("성공: 기록된 이벤트를 원래 타입으로 발행하고 일괄 완료 처리")
+    void relayBatch_PublishesAndMarksSuccess() {
+        // Given
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+            .willReturn(CompletableFuture.completedFuture(null));
+
+        appendOrderCreated(1L);
+        appendOrderCreated(2L);
+
+        // When
+        OutboxRelayService.RelayResult result = outboxRelayService.relayBatch();
+
+        // Then
+        assertThat(result.getClaimed()).as("선점 건수").isEqualTo(2);
+        assertThat(result.getPublished()).as("발행 건수").isEqualTo(2);
+        assertThat(result.getFailed()).isZero();
+
+        verify(kafkaTemplate).send(argThat(isOrderCreatedRecord("1")));
+        verify(kafkaTemplate).send(argThat(isOrderCreatedRecord("2")));
+
+        List<OutboundEvent> events = outboundEventRepository.findAll();
+        assertThat(events).as("모든 이벤트 SUCCESS")
+            .allSatisfy(event -> {
+                assertThat(event.getStatus()).isEqualTo(EventStatus.SUCCESS);
+                assertThat(event.getCompletedAt()).isNotNull();
+            });
+
+        assertThat(outboxRelayService.relayBatch().getClaimed()).as("완료된 이벤트는 재선점 안 됨").isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 발행 실패 시 재시도 예약 후 즉시 재선점되지 않음")
+    void relayBatch_SendFailure_SchedulesRetry() {
+        // Given
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+            .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        OutboundEvent appended = appendOrderCreated(10L);
+
+        // When
+        OutboxRelayService.RelayResult result = outboxRelayService.relayBatch();
+
+        // Then
+        assertThat(result.getFailed()).as("실패 건수").isEqualTo(1);
+
+        OutboundEvent event = outboundEventRepository.findById(appended.getId()).orElseThrow();
+        assertThat(event.getStatus()).isEqualTo(EventStatus.FAILED);
+        assertThat(event.getRetryCount()).isEqualTo(1);
+        assertThat(event.getErrorMessage()).contains("broker unavailable");
+        assertThat(event.getNextRetryAt()).as("백오프 후 재시도").isAfter(LocalDateTime.now());
+
+        assertThat(outboxRelayService.relayBatch().getClaimed()).as("백오프 중에는 선점 안 됨").isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 분리: 전송 중에는 트랜잭션 없이 SENDING 상태로 선점 유지")
+    void relayBatch_SendsOutsideTransaction() {
+        // Given
+        OutboundEvent appended = appendOrderCreated(20L);
+        List<Boolean> transactionActive = new CopyOnWriteArrayList<>();
+        List<EventStatus> statusDuringSend = new CopyOnWriteArrayList<>();
+        List<Integer> claimableDuringSend = new CopyOnWriteArrayList<>();
+
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            statusDuringSend.add(outboundEventRepository.findById(appended.getId()).orElseThrow().getStatus());
+            claimableDuringSend.add(transactionTemplate.execute(status ->
+                outboundEventRepository.claimRelayBatch(LocalDateTime.now(), 10).size()));
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // When
+        OutboxRelayService.RelayResult result = outboxRelayService.relayBatch();
+
+        // Then
+        assertThat(result.getPublished()).isEqualTo(1);
+        assertThat(transactionActive).as("전송 시 트랜잭션 없음").containsExactly(false);
+        assertThat(statusDuringSend).as("선점 커밋 후 전송").containsExactly(EventStatus.SENDING);
+        assertThat(claimableDuringSend).as("임대 중에는 다른 릴레이가 선점 불가").containsExactly(0);
+        assertThat(outboundEventRepository.findById(appended.getId()).orElseThrow().getStatus())
+            .isEqualTo(EventStatus.SUCCESS);
+    }
+
+    @Test
+    @DisplayName("장애 복구: 선점 임대가 만료된 SENDING 이벤트는 재선점하여 발행")
+    void relayBatch_ExpiredLease_Reclaimed() {
+        // Given - 선점 후 결과 반영 전에 장애가 난 이벤트 (임대 만료)
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+            .willReturn(CompletableFuture.completedFuture(null));
+
+        OutboundEvent expired = appendOrderCreated(30L);
+        OutboundEvent leased = appendOrderCreated(31L);
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            outboundEventRepository.markAllAsSending(List.of(expired.getId()), now.minusMinutes(2), now.minusMinutes(1));
+            outboundEventRepository.markAllAsSending(List.of(leased.getId()), now, now.plusMinutes(1));
+        });
+
+        // When
+        OutboxRelayService.RelayResult result = outboxRelayService.relayBatch();
+
+        // Then
+        assertThat(result.getClaimed()).as("임대 만료 건만 선점").isEqualTo(1);
+        verify(kafkaTemplate).send(argThat(isOrderCreatedRecord("30")));
+        assertThat(outboundEventRepository.findById(leased.getId()).orElseThrow().getStatus())
+            .as("임대 중인 이벤트는 그대로").isEqualTo(EventStatus.SENDING);
+    }
+
+    @Test
+    @DisplayName("실패: 허용 목록에 없는 이벤트 타입/페이로드 클래스는 기록 거부")
+    void append_UnregisteredPayloadType_Fails() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> outboxEventPublisher.append(
+                EventType.ORDER_CANCELLED, 1L, KafkaConfig.TOPIC_ORDER_EVENTS, "1", orderCreatedEvent(1L))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Outbox 발행 대상이 아닌 이벤트 타입");
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> outboxEventPublisher.append(
+                EventType.ORDER_CREATED, 1L, KafkaConfig.TOPIC_ORDER_EVENTS, "1", "문자열 페이로드")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("페이로드 클래스가 일치하지 않습니다");
+
+        assertThat(outboundEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시성: SKIP LOCKED로 동시 릴레이가 서로 다른 이벤트 선점")
+    void claimRelayBatch_SkipLocked_DisjointBatches() throws Exception {
+        // Given
+        for (long orderId = 1; orderId <= 4; orderId++) {
+            appendOrderCreated(orderId);
+        }
+
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // When: 첫 번째 릴레이가 2건을 잠근 채로 트랜잭션 유지
+            Future<List<Long>> firstClaim = executor.submit(() -> transactionTemplate.execute(status -> {
+                List<Long> ids = outboundEventRepository.claimRelayBatch(LocalDateTime.now(), 2).stream()
+                    .map(OutboundEvent::getId)
+                    .toList();
+                claimed.countDown();
+                awaitQuietly(release);
+                return ids;
+            }));
+
+            assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            List<Long> secondClaim = transactionTemplate.execute(status ->
+                outboundEventRepository.claimRelayBatch(LocalDateTime.now(), 10).stream()
+                    .map(OutboundEvent::getId)
+                    .toList());
+
+            release.countDown();
+            List<Long> firstIds = firstClaim.get(10, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(firstIds).hasSize(2);
+            assertThat(secondClaim).as("잠긴 row는 대기 없이 건너뜀")
+                .hasSize(2)
+                .doesNotContainAnyElementsOf(firstIds);
+
+            log.info("SKIP LOCKED 선점 - 첫 번째: {}, 두 번째: {}", firstIds, secondClaim);
+
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("실패: 트랜잭션 없이 Outbox 이벤트 기록")
+    void append_WithoutTransaction_Fails() {
+        assertThatThrownBy(() -> outboxEventPublisher.append(
+                EventType.ORDER_CREATED, 1L, KafkaConfig.TOPIC_ORDER_EVENTS, "1", orderCreatedEvent(1L)))
+            .isInstanceOf(IllegalTransactionStateException.class);
+
+        assertThat(outboundEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: Outbox 활성화 상태에서 트랜잭션 없이 publish 호출 (내부 호출로 MANDATORY 우회 불가)")
+    void publish_WithoutTransaction_Fails() {
+        boolean originalEnabled = outboxProperties.isEnabled();
+        outboxProperties.setEnabled(true);
+
+        try {
+            assertThatThrownBy(() -> outboxEventPublisher.publish(
+                    EventType.ORDER_CREATED, 1L, KafkaConfig.TOPIC_ORDER_EVENTS, "1", orderCreatedEvent(1L)))
+                .isInstanceOf(IllegalTransactionStateException.class);
+
+            assertThat(outboundEventRepository.count()).isZero();
+        } finally {
+            outboxProperties.setEnabled(originalEnabled);
+        }
+    }
+
+    private OutboundEvent appendOrderCreated(Long orderId) {
+        return transactionTemplate.execute(status -> outboxEventPublisher.append(
+            EventType.ORDER_CREATED, orderId, KafkaConfig.TOPIC_ORDER_EVENTS, orderId.toString(),
+            orderCreatedEvent(orderId)));
+    }
+
+    private OrderCreatedEvent orderCreatedEvent(Long orderId) {
+        return OrderCreatedEvent.builder()
+            .orderId(orderId)
+            .orderNumber("ORD-" + orderId)
+            .userId(1L)
+            .finalAmount(new BigDecimal("10000"))
+            .orderProducts(List.of(OrderCreatedEvent.OrderProductInfo.builder()
+                .productId(1L)
+                .quantity(1)
+                .price(new BigDecimal("10000"))
+                .build()))
+            .discountAmount(BigDecimal.ZERO)
+            .build();
+    }
+
+    /**
+     * 원래 토픽/키/타입으로 발행되고 생성 시각 헤더가 포함된 레코드
+     */
+    private static ArgumentMatcher<ProducerRecord<String, Object>> isOrderCreatedRecord(String key) {
+        return record -> KafkaConfig.TOPIC_ORDER_EVENTS.equals(record.topic())
+            && key.equals(record.key())
+            && record.value() instanceof OrderCreatedEvent
+            && record.headers().lastHeader(SagaMetrics.EVENT_CREATED_AT_HEADER) != null;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.hhplus.ecommerce.integration.application;
+
+import com.hhplus.ecommerce.config.KafkaConfig;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 주문 Saga 메트릭 테스트
+ *
+ * 검증 목표:
+ * - 발행 레코드에 이벤트 생성 시각 헤더 포함
+ * - 헤더 기준 구간 대기 시간 기록 (헤더 없으면 건너뜀)
+ * - PENDING → PAID 종단 지연 시간은 커밋된 경우에만 기록
+ * - @Retryable 재시도/최종 실패 횟수 기록
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("주문 Saga 메트릭 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class SagaMetricsTest {
+
+    @Autowired
+    private SagaMetrics sagaMetrics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RetryListener retryMetricsListener;
+
+    @Test
+    @DisplayName("발행 레코드에 이벤트 생성 시각 헤더(epoch ms) 포함")
+    void toRecord_AddsCreatedAtHeader() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        // When
+        ProducerRecord<String, Object> record =
+            SagaMetrics.toRecord(KafkaConfig.TOPIC_ORDER_EVENTS, "1", "payload", createdAt);
+
+        // Then
+        Header header = record.headers().lastHeader(SagaMetrics.EVENT_CREATED_AT_HEADER);
+        assertThat(header).isNotNull();
+        long expected = createdAt.atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli();
+        assertThat(new String(header.value(), StandardCharsets.UTF_8)).isEqualTo(String.valueOf(expected));
+        assertThat(record.topic()).isEqualTo(KafkaConfig.TOPIC_ORDER_EVENTS);
+        assertThat(record.key()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("헤더 기준 구간 대기 시간 기록, 헤더 없는 이벤트는 건너뜀")
+    void recordQueueDelay_FromHeader() {
+        // Given: 200ms 전에 생성된 이벤트
+        String hop = "test-hop-" + System.nanoTime();
+        byte[] header = String.valueOf(System.currentTimeMillis() - 200).getBytes(StandardCharsets.UTF_8);
+
+        // When
+        sagaMetrics.recordQueueDelay(hop, header);
+        sagaMetrics.recordQueueDelay(hop, null);
+
+        // Then
+        Timer timer = meterRegistry.get("order.saga.hop.queue").tag("hop", hop).timer();
+        assertThat(timer.count()).as("헤더 있는 이벤트만 기록").isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).as("생성 후 경과 시간").isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("종단 지연 시간: 커밋된 결제만 기록, 롤백 시 기록 안 함")
+    void recordOrderPaid_OnlyAfterCommit() {
+        // Given
+        LocalDateTime orderedAt = LocalDateTime.now().minusSeconds(2);
+        LocalDateTime paidAt = LocalDateTime.now();
+        long before = endToEndCount();
+
+        // When: 롤백된 결제
+        transactionTemplate.executeWithoutResult(status -> {
+            sagaMetrics.recordOrderPaid(orderedAt, paidAt);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(endToEndCount()).as("롤백 시 기록 안 함").isEqualTo(before);
+
+        // When: 커밋된 결제
+        transactionTemplate.executeWithoutResult(status -> sagaMetrics.recordOrderPaid(orderedAt, paidAt));
+
+        // Then
+        assertThat(endToEndCount()).as("커밋 후 기록").isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("@Retryable 리스너: 실패 시도마다 retry.attempts, 소진 시 retry.exhausted 증가")
+    void retryListener_CountsAttemptsAndExhaustion() {
+        // Given: 3회 시도 후 소진
+        RetryTemplate retryTemplate = RetryTemplate.builder()
+            .maxAttempts(3)
+            .fixedBackoff(1)
+            .retryOn(IllegalStateException.class)
+            .withListener(retryMetricsListener)
+            .build();
+        double attemptsBefore = sumCounters("retry.attempts");
+        double exhaustedBefore = sumCounters("retry.exhausted");
+
+        // When
+        assertThatThrownBy(() -> retryTemplate.execute(context -> {
+            throw new IllegalStateException("충돌");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(sumCounters("retry.attempts") - attemptsBefore).as("실패 시도 3회").isEqualTo(3);
+        assertThat(sumCounters("retry.exhausted") - exhaustedBefore).as("최종 실패 1회").isEqualTo(1);
+    }
+
+    private long endToEndCount() {
+        Timer timer = meterRegistry.find("order.saga.end_to_end").timer();
+        return timer != null ? timer.count() : 0L;
+    }
+
+    private double sumCounters(String name) {
+        return meterRegistry.find(name).counters().stream()
+            .mapToDouble(io.micrometer.core.instrument.Counter::count)
+            .sum();
+    }
+}
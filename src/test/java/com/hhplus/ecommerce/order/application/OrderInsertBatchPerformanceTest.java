@@ -0,0 +1,191 @@
+package com.hhplus.ecommerce.order.application;
+
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.order.domain.Order;
+import com.hhplus.ecommerce.order.domain.OrderStatus;
+import com.hhplus.ecommerce.order.infrastructure.persistence.OrderRepository;
+import com.hhplus.ecommerce.product.domain.Category;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.domain.ProductStatus;
+import com.hhplus.ecommerce.product.domain.StockHistory;
+import com.hhplus.ecommerce.product.domain.StockTransactionType;
+import com.hhplus.ecommerce.product.infrastructure.persistence.CategoryRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
+import com.hhplus.ecommerce.user.domain.BalanceHistory;
+import com.hhplus.ecommerce.user.domain.BalanceTransactionType;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.domain.UserRole;
+import com.hhplus.ecommerce.user.domain.UserStatus;
+import com.hhplus.ecommerce.user.infrastructure.persistence.BalanceHistoryRepository;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 쓰기 JDBC 배치 성능 테스트
+ *
+ * 측정 항목:
+ * - 주문 1건(주문 항목 10개)의 쓰기 구문 수
+ *   (주문 + 주문 항목 + 재고 이력 + 잔액 이력, StockKafkaConsumer/PaymentKafkaConsumer 저장 패턴과 동일)
+ *
+ * 비교:
+ * - 변경 전 (IDENTITY): INSERT 1건마다 즉시 실행 → 구문 수 = INSERT row 수
+ * - 변경 후 (TABLE pooled ID + jdbc.batch_size + order_inserts): 테이블별 배치 1회
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("주문 쓰기 JDBC 배치 성능 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class OrderInsertBatchPerformanceTest {
+
+    private static final int ITEM_COUNT = 10;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StockHistoryRepository stockHistoryRepository;
+
+    @Autowired
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User testUser;
+    private List<Product> testProducts;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Category category = categoryRepository.save(Category.builder()
+            .name("배치테스트_" + suffix)
+            .description("JDBC 배치 측정용")
+            .build());
+
+        testUser = userRepository.save(User.builder()
+            .email("batch-" + suffix + "@test.com")
+            .password("password123")
+            .name("배치테스트")
+            .balance(BigDecimal.valueOf(10_000_000))
+            .role(UserRole.USER)
+            .status(UserStatus.ACTIVE)
+            .build());
+
+        testProducts = new ArrayList<>();
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            testProducts.add(productRepository.save(Product.builder()
+                .name("배치테스트상품_" + i)
+                .description("JDBC 배치 측정용 상품 " + i)
+                .price(BigDecimal.valueOf(1000L * i))
+                .stock(1000)
+                .safetyStock(10)
+                .category(category)
+                .status(ProductStatus.AVAILABLE)
+                .version(0L)
+                .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("주문 1건(항목 10개) 쓰기 - 구문 수가 INSERT row 수보다 적음 (테이블별 배치)")
+    void orderWrite_BatchesAppendOnlyInserts() {
+        // Given: ID 블록 선할당 (id_generators 조회는 allocationSize마다 1회 → 측정에서 제외)
+        writeOrder();
+        statistics.clear();
+
+        // When
+        writeOrder();
+        long insertRows = statistics.getEntityInsertCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        // Then
+        long expectedRows = 1 + ITEM_COUNT + ITEM_COUNT + 1; // 주문 + 주문 항목 + 재고 이력 + 잔액 이력
+        log.info("");
+        log.info("=== 주문 1건 쓰기 구문 수 (항목 {}개) ===", ITEM_COUNT);
+        log.info("INSERT row 수: {}", insertRows);
+        log.info("변경 전 (IDENTITY, row마다 실행): {}회", insertRows);
+        log.info("변경 후 (pooled ID + 배치): {}회", statements);
+
+        assertThat(insertRows).as("INSERT row 수").isEqualTo(expectedRows);
+        assertThat(statements)
+            .as("주문(IDENTITY) 1 + 주문 항목/재고 이력/잔액 이력 배치 각 1")
+            .isLessThanOrEqualTo(4);
+    }
+
+    /**
+     * 주문 1건 쓰기 (주문 생성 + 재고 차감 이력 + 잔액 차감 이력)
+     */
+    private void writeOrder() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = Order.builder()
+                .orderNumber("BATCH-" + UUID.randomUUID())
+                .user(testUser)
+                .totalAmount(BigDecimal.ZERO)
+                .discountAmount(BigDecimal.ZERO)
+                .finalAmount(BigDecimal.ZERO)
+                .status(OrderStatus.PENDING)
+                .orderedAt(LocalDateTime.now())
+                .idempotencyKey(UUID.randomUUID().toString())
+                .build();
+            for (Product product : testProducts) {
+                order.addOrderItem(product, 1);
+            }
+            orderRepository.save(order);
+
+            for (Product product : testProducts) {
+                stockHistoryRepository.save(StockHistory.of(
+                    product, StockTransactionType.DECREASE, 1, 1000, 999, "주문 차감"));
+            }
+
+            balanceHistoryRepository.save(BalanceHistory.of(
+                testUser, BalanceTransactionType.USE, BigDecimal.valueOf(1000),
+                BigDecimal.valueOf(10_000_000), BigDecimal.valueOf(9_999_000), "주문 결제"));
+        });
+    }
+}
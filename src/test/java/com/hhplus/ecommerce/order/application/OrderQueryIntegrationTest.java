@@ -1,5 +1,6 @@
 package com.hhplus.ecommerce.order.application;
 
+import com.hhplus.ecommerce.common.domain.KeysetSlice;
 import com.hhplus.ecommerce.config.TestContainersConfig;
 import com.hhplus.ecommerce.cart.domain.Cart;
 import com.hhplus.ecommerce.cart.domain.CartItem;
@@ -14,6 +15,7 @@ import com.hhplus.ecommerce.user.domain.UserStatus;
 import com.hhplus.ecommerce.cart.infrastructure.persistence.CartItemRepository;
 import com.hhplus.ecommerce.cart.infrastructure.persistence.CartRepository;
 import com.hhplus.ecommerce.order.infrastructure.persistence.OrderRepository;
+import com.hhplus.ecommerce.order.infrastructure.persistence.OrderSummaryView;
 import com.hhplus.ecommerce.product.infrastructure.persistence.CategoryRepository;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
 import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
@@ -33,6 +35,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -349,6 +354,49 @@ class OrderQueryIntegrationTest {
             assertThat(user2Orders.getContent().get(0).getUser().getId()).isEqualTo(user2.getId());
         }
 
+        @Test
+        @DisplayName("성공: 키셋 페이지네이션 - 커서로 다음 페이지 조회, 중복/누락 없음")
+        void getUserOrdersAfter_Keyset() {
+            // Given
+            Long userId = testUser.getId();
+            List<Long> createdIds = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                createAndSaveCartItem(testCart, testProduct1, 1);
+                createdIds.add(orderService.createOrder(userId, null, UUID.randomUUID().toString()).getId());
+            }
+
+            // When
+            KeysetSlice<OrderSummaryView> firstPage = orderService.getUserOrdersAfter(userId, null, 2);
+            KeysetSlice<OrderSummaryView> secondPage = orderService.getUserOrdersAfter(userId, firstPage.getNextCursor(), 2);
+
+            // Then
+            assertThat(firstPage.getContent()).hasSize(2);
+            assertThat(firstPage.isHasNext()).isTrue();
+            assertThat(firstPage.getNextCursor()).isNotNull();
+            assertThat(secondPage.getContent()).hasSize(1);
+            assertThat(secondPage.isHasNext()).isFalse();
+            assertThat(secondPage.getNextCursor()).isNull();
+
+            List<Long> pagedIds = new ArrayList<>();
+            firstPage.getContent().forEach(order -> pagedIds.add(order.getId()));
+            secondPage.getContent().forEach(order -> pagedIds.add(order.getId()));
+            Collections.reverse(createdIds);
+            assertThat(pagedIds).as("최신 주문순, 중복/누락 없음").containsExactlyElementsOf(createdIds);
+        }
+
+        @Test
+        @DisplayName("실패: 키셋 페이지네이션 - 잘못된 커서/페이지 크기")
+        void getUserOrdersAfter_InvalidArguments() {
+            Long userId = testUser.getId();
+
+            assertThatThrownBy(() -> orderService.getUserOrdersAfter(userId, "2025-01-01T00:00", 20))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("커서");
+            assertThatThrownBy(() -> orderService.getUserOrdersAfter(userId, null, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("페이지 크기");
+        }
+
         @Test
         @DisplayName("실패: 사용자를 찾을 수 없음")
         void getUserOrders_UserNotFound() {
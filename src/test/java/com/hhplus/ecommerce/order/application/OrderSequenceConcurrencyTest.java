@@ -1,5 +1,6 @@
 package com.hhplus.ecommerce.order.application;
 
+import com.hhplus.ecommerce.config.OrderSequenceProperties;
 import com.hhplus.ecommerce.config.TestContainersConfig;
 import com.hhplus.ecommerce.order.domain.OrderSequence;
 import com.hhplus.ecommerce.order.infrastructure.persistence.OrderSequenceRepository;
@@ -16,6 +17,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -29,6 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * - REQUIRES_NEW 트랜잭션 격리 검증
  * - 100명이 동시 주문 시 중복 없는 주문 번호 생성
  * - 날짜별 독립적인 시퀀스 관리 검증
+ * - 블록 할당(hi/lo) 처리량 비교 및 자정 날짜 전환 검증
  */
 @Slf4j
 @SpringBootTest
@@ -215,4 +218,123 @@ class OrderSequenceConcurrencyTest {
         assertThat(orderNumber1).isEqualTo(expectedPrefix + "000001");
         assertThat(orderNumber2).isEqualTo(expectedPrefix + "000002");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("벤치마크: 주문마다 row 락 vs 블록 할당 (orders/sec)")
+    void benchmark_PerOrderLockVsBlockAllocation() throws InterruptedException {
+        // Given
+        int requests = 500;
+        int threadPoolSize = 25;
+        orderSequenceRepository.save(OrderSequence.create(LocalDate.now()));
+        OrderNumberBlockAllocator allocator = newAllocator(1000L);
+
+        // When 1: 기존 방식 (주문마다 REQUIRES_NEW + SELECT FOR UPDATE)
+        Set<String> lockedNumbers = ConcurrentHashMap.newKeySet();
+        long lockedElapsed = generateConcurrently(
+            requests, threadPoolSize, orderSequenceService::generateOrderNumber, lockedNumbers);
+
+        // When 2: 블록 할당 (블록 소진 시에만 row 락)
+        Set<String> blockNumbers = ConcurrentHashMap.newKeySet();
+        long blockElapsed = generateConcurrently(
+            requests, threadPoolSize, allocator::nextOrderNumber, blockNumbers);
+
+        // Then
+        log.info("=== 주문 번호 생성 처리량 ({}건, 스레드 {}개) ===", requests, threadPoolSize);
+        log.info("주문마다 row 락: {}ms, {} orders/sec", lockedElapsed, ordersPerSec(requests, lockedElapsed));
+        log.info("블록 할당(1000): {}ms, {} orders/sec", blockElapsed, ordersPerSec(requests, blockElapsed));
+
+        assertThat(lockedNumbers).hasSize(requests);
+        assertThat(blockNumbers).hasSize(requests);
+
+        Set<Integer> sequences = new HashSet<>();
+        String todayFormatted = LocalDate.now().toString().replace("-", "");
+        for (Set<String> numbers : java.util.List.of(lockedNumbers, blockNumbers)) {
+            numbers.forEach(orderNumber -> {
+                assertThat(orderNumber).matches("ORD-" + todayFormatted + "-\\d{6}");
+                sequences.add(Integer.parseInt(orderNumber.substring(orderNumber.length() - 6)));
+            });
+        }
+
+        assertThat(sequences)
+                .as("두 방식이 섞여도 시퀀스 중복 없이 1~1000")
+                .containsExactlyInAnyOrderElementsOf(
+                        java.util.stream.IntStream.rangeClosed(1, requests * 2).boxed().toList()
+                );
+
+        OrderSequence sequence = orderSequenceRepository.findById(LocalDate.now().toString()).orElseThrow();
+        assertThat(sequence.getSequence())
+                .as("DB 시퀀스는 임대한 블록 끝까지 증가 (500 + 1000)")
+                .isEqualTo(requests + 1000L);
+    }
+
+    @Test
+    @DisplayName("블록 할당: 자정이 지나면 새 날짜 시퀀스 1부터 발급")
+    void testBlockAllocation_MidnightRollover() {
+        // Given
+        LocalDate today = LocalDate.now();
+        LocalDate tomorrow = today.plusDays(1);
+        OrderNumberBlockAllocator allocator = newAllocator(10L);
+
+        String todayPrefix = "ORD-" + today.toString().replace("-", "") + "-";
+        String tomorrowPrefix = "ORD-" + tomorrow.toString().replace("-", "") + "-";
+
+        // When & Then: 오늘 블록에서 발급
+        assertThat(allocator.nextOrderNumber(today)).isEqualTo(todayPrefix + "000001");
+        assertThat(allocator.nextOrderNumber(today)).isEqualTo(todayPrefix + "000002");
+
+        // 자정 이후: 새 날짜 블록 임대
+        assertThat(allocator.nextOrderNumber(tomorrow)).isEqualTo(tomorrowPrefix + "000001");
+
+        // 자정 직전에 시작된 요청: 다음 날 번호로 발급 (이전 날짜 블록으로 되돌아가지 않음)
+        assertThat(allocator.nextOrderNumber(today)).isEqualTo(tomorrowPrefix + "000002");
+
+        // 블록(10개) 소진 시 재임대
+        for (int i = 3; i <= 10; i++) {
+            allocator.nextOrderNumber(tomorrow);
+        }
+        assertThat(allocator.nextOrderNumber(tomorrow)).isEqualTo(tomorrowPrefix + "000011");
+
+        assertThat(orderSequenceRepository.findById(today.toString()).orElseThrow().getSequence())
+                .isEqualTo(10L);
+        assertThat(orderSequenceRepository.findById(tomorrow.toString()).orElseThrow().getSequence())
+                .isEqualTo(20L);
+    }
+
+    private OrderNumberBlockAllocator newAllocator(long blockSize) {
+        OrderSequenceProperties properties = new OrderSequenceProperties();
+        properties.setBlockAllocationEnabled(true);
+        properties.setBlockSize(blockSize);
+        return new OrderNumberBlockAllocator(orderSequenceService, properties);
+    }
+
+    private long generateConcurrently(int requests, int threadPoolSize,
+                                      Supplier<String> generator, Set<String> orderNumbers)
+            throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadPoolSize);
+        CountDownLatch latch = new CountDownLatch(requests);
+
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < requests; i++) {
+            executorService.submit(() -> {
+                try {
+                    orderNumbers.add(generator.get());
+                } catch (Exception e) {
+                    log.error("❌ 주문 번호 생성 실패 - error: {}", e.getMessage(), e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        boolean completed = latch.await(60, TimeUnit.SECONDS);
+        long elapsed = System.currentTimeMillis() - startTime;
+        executorService.shutdown();
+
+        assertThat(completed).as("60초 내에 모든 요청 완료").isTrue();
+        return elapsed;
+    }
+
+    private long ordersPerSec(int requests, long elapsedMillis) {
+        return elapsedMillis == 0 ? requests : requests * 1000L / elapsedMillis;
+    }
+}
@@ -1,5 +1,7 @@
 package com.hhplus.ecommerce.product.application;
 
+import com.hhplus.ecommerce.common.application.KeysetLimit;
+import com.hhplus.ecommerce.common.domain.KeysetCursor;
 import com.hhplus.ecommerce.config.TestContainersConfig;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
 import com.hhplus.ecommerce.product.infrastructure.persistence.ProductStatisticsRepository;
@@ -9,6 +11,8 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +33,7 @@ import java.util.*;
  * 1. 1000만개 ProductStatistics 데이터 생성
  * 2. 다양한 날짜 범위로 테스트 (3일, 30일, 90일)
  * 3. 각 범위별 인덱스 O/X 성능 비교
+ * 4. 상품 목록 페이지 깊이별 OFFSET(Page) vs 키셋(커서) 조회 비교 (10만개 상품)
  */
 @Slf4j
 @SpringBootTest
@@ -61,6 +66,10 @@ public class LargeScaleIndexPerformanceTest {
     // 테스트할 날짜 범위들
     private static final int[] DAY_RANGES = {3, 30, 90}; // 3일, 30일, 90일
 
+    // 상품 목록 페이지네이션 비교 (페이지 번호, 페이지 크기)
+    private static final int[] PAGE_DEPTHS = {0, 100, 1_000, 4_000};
+    private static final int PAGE_SIZE = 20;
+
     // 결과 저장
     private static Map<String, Map<Integer, List<Long>>> results = new LinkedHashMap<>();
 
@@ -399,6 +408,58 @@ public class LargeScaleIndexPerformanceTest {
         }
     }
 
+    /**
+     * 7단계: 상품 목록 OFFSET vs 키셋 페이지네이션 비교
+     *
+     * - OFFSET: findAvailableProducts (COUNT 쿼리 + LIMIT/OFFSET, 깊이에 비례해 앞 행을 읽고 버림)
+     * - 키셋: findAvailableAfter (idx_status_created_at 에서 커서 위치부터 size + 1건)
+     */
+    @Test
+    @Order(7)
+    @DisplayName("7단계: 상품 목록 OFFSET vs 키셋 페이지네이션 비교")
+    void step7_compareOffsetAndKeysetPagination() {
+        log.info("========================================");
+        log.info("7단계: 상품 목록 OFFSET vs 키셋 페이지네이션 비교 (페이지 크기: {})", PAGE_SIZE);
+        log.info("========================================");
+
+        Pageable limit = KeysetLimit.of(PAGE_SIZE);
+
+        for (int page : PAGE_DEPTHS) {
+            // 키셋 커서: 해당 페이지 직전 행 (측정 제외)
+            KeysetCursor cursor = page == 0 ? null : cursorAt(page * PAGE_SIZE - 1);
+
+            Runnable offsetQuery = () -> productRepository.findAvailableProducts(PageRequest.of(page, PAGE_SIZE));
+            Runnable keysetQuery = () -> {
+                if (cursor == null) {
+                    productRepository.findAvailableFirstPage(limit);
+                } else {
+                    productRepository.findAvailableAfter(cursor.getTimestamp(), cursor.getId(), limit);
+                }
+            };
+
+            // 워밍업
+            for (int i = 0; i < 3; i++) {
+                offsetQuery.run();
+                keysetQuery.run();
+            }
+
+            // 실제 측정
+            List<Long> offsetDurations = new ArrayList<>();
+            List<Long> keysetDurations = new ArrayList<>();
+            for (int i = 0; i < TEST_ITERATIONS; i++) {
+                offsetDurations.add(measure(offsetQuery));
+                keysetDurations.add(measure(keysetQuery));
+            }
+
+            long offsetAvg = (long) offsetDurations.stream().mapToLong(Long::longValue).average().orElse(0);
+            long keysetAvg = (long) keysetDurations.stream().mapToLong(Long::longValue).average().orElse(0);
+
+            log.info("[페이지 {}] OFFSET 평균: {} ms, 키셋 평균: {} ms ({}배)",
+                     String.format("%,d", page), offsetAvg, keysetAvg,
+                     keysetAvg > 0 ? String.format("%.1f", (double) offsetAvg / keysetAvg) : "-");
+        }
+    }
+
     // ========== Helper Methods ==========
 
     private long executePopularProductQuery(int days) {
@@ -423,6 +484,21 @@ public class LargeScaleIndexPerformanceTest {
         return endTime - startTime;
     }
 
+    private long measure(Runnable query) {
+        long startTime = System.currentTimeMillis();
+        query.run();
+        return System.currentTimeMillis() - startTime;
+    }
+
+    private KeysetCursor cursorAt(int offset) {
+        return jdbcTemplate.queryForObject(
+            "SELECT created_at, id FROM products WHERE status = 'AVAILABLE' AND stock > 0 " +
+            "ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?",
+            (rs, rowNum) -> KeysetCursor.of(rs.getTimestamp("created_at").toLocalDateTime(), rs.getLong("id")),
+            offset
+        );
+    }
+
     private void verifyIndexExists() {
         List<String> indexes = jdbcTemplate.query(
             "SHOW INDEX FROM product_statistics WHERE Key_name IN ('idx_statistics_date', 'idx_product_date')",
@@ -0,0 +1,239 @@
+package com.hhplus.ecommerce.product.application;
+
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.domain.ProductStatus;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRedisRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+/**
+ * 실시간 인기상품 랭킹 스냅샷 테스트
+ *
+ * 검증 목표:
+ * - 랭킹(ZSET) + 상품 정보(Hash)로 순위/스코어/상품 정보 스냅샷 생성
+ * - Hash가 없는 상품은 생성 시점에 DB로 보완
+ * - 생성 후 조회는 Redis/DB 상태와 무관 (메모리 스냅샷)
+ * - 스코어 변경 시 재생성으로 순위 갱신
+ * - 랭킹 조회 실패 시 기존 스냅샷 유지 (빈 스냅샷 게시 없음)
+ * - 조회 지연 비교: 기존 경로(ZSET + findAllById) vs 스냅샷
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("실시간 인기상품 랭킹 스냅샷 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class PopularProductRankingMaterializerTest {
+
+    @Autowired
+    private PopularProductRankingMaterializer popularProductRankingMaterializer;
+
+    @Autowired
+    private ProductService productService;
+
+    @MockitoSpyBean
+    private ProductRedisRepository productRedisRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private final List<Product> createdProducts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        productRedisRepository.resetPopularProducts();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reset(productRedisRepository);
+        createdProducts.forEach(product -> productRedisRepository.evictProductCache(product.getId()));
+        productRepository.deleteAll(createdProducts);
+        createdProducts.clear();
+        productRedisRepository.resetPopularProducts();
+        popularProductRankingMaterializer.rebuild();
+    }
+
+    @Test
+    @DisplayName("스냅샷 생성: 순위, 판매 수량, 상품 정보 포함")
+    void rebuild_CombinesRankingAndProductInfo() {
+        // Given
+        Product first = createProduct("1위 상품", true);
+        Product second = createProduct("2위 상품", false); // Hash 없음 → DB 보완
+        productRedisRepository.incrementPopularityScore(first.getId(), 50);
+        productRedisRepository.incrementPopularityScore(second.getId(), 30);
+
+        // When
+        popularProductRankingMaterializer.rebuild();
+        List<PopularProductRankingMaterializer.RankingEntry> top = popularProductRankingMaterializer.getTop(10);
+
+        // Then
+        assertThat(top).hasSize(2);
+        assertThat(top.get(0).getRank()).isEqualTo(1L);
+        assertThat(top.get(0).getProductId()).isEqualTo(first.getId());
+        assertThat(top.get(0).getSalesCount()).isEqualTo(50L);
+        assertThat(top.get(0).getName()).as("Hash 정보").isEqualTo("1위 상품");
+        assertThat(top.get(1).getName()).as("DB 보완 정보").isEqualTo("2위 상품");
+        assertThat(top.get(1).getPrice()).isEqualByComparingTo(BigDecimal.valueOf(10000));
+    }
+
+    @Test
+    @DisplayName("형식 오류 Hash: 해당 상품만 DB로 보완하고 스냅샷 재생성은 계속")
+    void rebuild_MalformedProductInfo_FallsBackToDatabase() {
+        // Given
+        Product healthy = createProduct("정상 상품", true);
+        Product broken = createProduct("형식 오류 상품", false);
+        redisTemplate.opsForHash().put("info:product:" + broken.getId(), "price", "not-a-number"); // id/stock 누락
+        productRedisRepository.incrementPopularityScore(broken.getId(), 40);
+        productRedisRepository.incrementPopularityScore(healthy.getId(), 20);
+
+        // When
+        popularProductRankingMaterializer.rebuild();
+        List<PopularProductRankingMaterializer.RankingEntry> top = popularProductRankingMaterializer.getTop(10);
+
+        // Then
+        assertThat(top).as("형식 오류 상품도 제외되지 않음").hasSize(2);
+        assertThat(top.get(0).getProductId()).isEqualTo(broken.getId());
+        assertThat(top.get(0).getName()).as("DB 보완 정보").isEqualTo("형식 오류 상품");
+        assertThat(top.get(1).getName()).isEqualTo("정상 상품");
+    }
+
+    @Test
+    @DisplayName("메모리 조회: 생성 후 Redis/DB 데이터가 사라져도 스냅샷 반환")
+    void getTop_ServedFromMemory() {
+        // Given
+        Product product = createProduct("스냅샷 상품", true);
+        productRedisRepository.incrementPopularityScore(product.getId(), 10);
+        popularProductRankingMaterializer.rebuild();
+        PopularProductRankingMaterializer.RankingSnapshot before = popularProductRankingMaterializer.getSnapshot();
+
+        // When - 원본 삭제 (다음 재생성 전까지 스냅샷 유지)
+        productRedisRepository.evictProductCache(product.getId());
+        List<PopularProductRankingMaterializer.RankingEntry> top = popularProductRankingMaterializer.getTop(5);
+
+        // Then
+        assertThat(top).extracting(PopularProductRankingMaterializer.RankingEntry::getProductId)
+            .containsExactly(product.getId());
+        assertThat(popularProductRankingMaterializer.getSnapshot()).as("같은 불변 스냅샷").isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("스코어 변경 감지: refreshIfStale 호출 시 순위 갱신")
+    void refreshIfStale_RebuildsOnScoreChange() {
+        // Given
+        Product a = createProduct("상품 A", true);
+        Product b = createProduct("상품 B", true);
+        productRedisRepository.incrementPopularityScore(a.getId(), 20);
+        productRedisRepository.incrementPopularityScore(b.getId(), 10);
+        popularProductRankingMaterializer.rebuild();
+        assertThat(popularProductRankingMaterializer.getTop(1).get(0).getProductId()).isEqualTo(a.getId());
+
+        // When - B 역전
+        productRedisRepository.incrementPopularityScore(b.getId(), 15);
+        popularProductRankingMaterializer.refreshIfStale();
+
+        // Then
+        List<PopularProductRankingMaterializer.RankingEntry> top = popularProductRankingMaterializer.getTop(2);
+        assertThat(top.get(0).getProductId()).isEqualTo(b.getId());
+        assertThat(top.get(0).getSalesCount()).isEqualTo(25L);
+        assertThat(top.get(1).getRank()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애: 랭킹 조회 실패 시 기존 스냅샷 유지")
+    void rebuild_RankingFailure_KeepsPreviousSnapshot() {
+        // Given
+        Product product = createProduct("장애 전 상품", true);
+        productRedisRepository.incrementPopularityScore(product.getId(), 10);
+        popularProductRankingMaterializer.rebuild();
+        PopularProductRankingMaterializer.RankingSnapshot before = popularProductRankingMaterializer.getSnapshot();
+
+        doThrow(new RedisConnectionFailureException("테스트용 Redis 장애"))
+            .when(productRedisRepository).getTopPopularProducts(anyInt(), anyInt(), any());
+
+        // When
+        popularProductRankingMaterializer.rebuild();
+
+        // Then
+        assertThat(popularProductRankingMaterializer.getSnapshot()).as("기존 스냅샷 유지").isSameAs(before);
+        assertThat(popularProductRankingMaterializer.getTop(10))
+            .extracting(PopularProductRankingMaterializer.RankingEntry::getProductId)
+            .containsExactly(product.getId());
+    }
+
+    @Test
+    @DisplayName("벤치마크: 기존 통계 조회 vs 스냅샷 조회 (1,000회)")
+    void benchmark_StatsQueryVsSnapshot() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            Product product = createProduct("벤치 상품 " + i, true);
+            productRedisRepository.incrementPopularityScore(product.getId(), i + 1);
+        }
+        popularProductRankingMaterializer.rebuild();
+        int requests = 1_000;
+
+        // When
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            productService.getRealtimePopularProductsWithStats(10);
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        long snapshotStart = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            popularProductRankingMaterializer.getTop(10);
+        }
+        long snapshotNanos = System.nanoTime() - snapshotStart;
+
+        log.info("[벤치마크] 인기상품 TOP 10 조회 {}회 - 기존(ZSET + DB): 평균 {}us, 스냅샷: 평균 {}us",
+                 requests, legacyNanos / requests / 1_000, snapshotNanos / requests / 1_000);
+
+        // Then
+        assertThat(popularProductRankingMaterializer.getTop(10)).hasSize(10);
+        assertThat(snapshotNanos).isLessThan(legacyNanos);
+    }
+
+    private Product createProduct(String name, boolean cacheInfo) {
+        Product product = productRepository.save(Product.builder()
+            .name(name)
+            .description("랭킹 스냅샷 테스트")
+            .price(BigDecimal.valueOf(10000))
+            .stock(100)
+            .safetyStock(10)
+            .status(ProductStatus.AVAILABLE)
+            .build());
+        createdProducts.add(product);
+
+        if (cacheInfo) {
+            productRedisRepository.cacheProductInfo(product);
+        }
+        return product;
+    }
+}
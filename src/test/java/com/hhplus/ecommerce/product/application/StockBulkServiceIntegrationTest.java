@@ -0,0 +1,235 @@
+package com.hhplus.ecommerce.product.application;
+
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.product.domain.Category;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.domain.ProductStatus;
+import com.hhplus.ecommerce.product.domain.StockHistory;
+import com.hhplus.ecommerce.product.domain.StockTransactionType;
+import com.hhplus.ecommerce.product.infrastructure.persistence.CategoryRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 재고 일괄 처리 통합 테스트
+ *
+ * 검증 목표:
+ * - 전 라인 조건부 UPDATE 1회로 차감, 재고 이력/version/상태 반영
+ * - 한 라인이라도 부족하면 전 라인 미반영 (호출 측 트랜잭션은 커밋 가능)
+ * - 동시 차감 시 초과 판매 없음 (재시도 없이)
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("재고 일괄 처리 통합 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class StockBulkServiceIntegrationTest {
+
+    @Autowired
+    private StockBulkService stockBulkService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StockHistoryRepository stockHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Category testCategory;
+    private final List<Product> createdProducts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        testCategory = categoryRepository.save(Category.builder()
+            .name("재고 일괄 테스트 카테고리_" + System.nanoTime())
+            .description("재고 일괄 처리 테스트용")
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 재고 이력이 상품을 참조하므로 이력 → 상품 → 카테고리 순으로 정리
+        stockHistoryRepository.deleteAll();
+        // 일괄 UPDATE로 version이 바뀌었으므로 ID로 다시 조회해 삭제
+        productRepository.deleteAllById(createdProducts.stream().map(Product::getId).toList());
+        categoryRepository.delete(testCategory);
+        createdProducts.clear();
+    }
+
+    @Test
+    @DisplayName("일괄 차감: 전 라인 재고/상태/version 반영 + 라인별 재고 이력")
+    void decrease_AllLines() {
+        // Given
+        Product productA = createProduct("상품A", 10);
+        Product productB = createProduct("상품B", 3);
+
+        LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(productB.getId(), 3);
+        lines.put(productA.getId(), 4);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> stockBulkService.decrease(lines, "주문: BULK-1"));
+
+        // Then
+        Product afterA = productRepository.findById(productA.getId()).orElseThrow();
+        Product afterB = productRepository.findById(productB.getId()).orElseThrow();
+
+        assertThat(afterA.getStock()).isEqualTo(6);
+        assertThat(afterB.getStock()).isEqualTo(0);
+        assertThat(afterB.getStatus()).as("재고 0 → 품절").isEqualTo(ProductStatus.OUT_OF_STOCK);
+        assertThat(afterA.getVersion()).as("version 증가 (낙관적 락 경로와 충돌 감지)")
+            .isGreaterThan(productA.getVersion());
+
+        List<StockHistory> histories =
+            stockHistoryRepository.findFirstPageByProductId(productA.getId(), PageRequest.of(0, 10));
+        assertThat(histories).hasSize(1);
+        assertThat(histories.get(0).getType()).isEqualTo(StockTransactionType.DECREASE);
+        assertThat(histories.get(0).getStockBefore()).isEqualTo(10);
+        assertThat(histories.get(0).getStockAfter()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("일괄 차감: 한 라인이라도 부족하면 어떤 라인도 차감되지 않고, 호출 측 트랜잭션은 커밋 가능")
+    void decrease_AllOrNothing() {
+        // Given
+        Product productA = createProduct("상품A", 5);
+        Product productB = createProduct("상품B", 1);
+
+        LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(productA.getId(), 2);
+        lines.put(productB.getId(), 2);
+
+        // When: 보상 처리처럼 예외를 잡고 같은 트랜잭션에서 다른 변경을 커밋
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThatThrownBy(() -> stockBulkService.decrease(lines, "주문: BULK-2"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("재고가 부족합니다");
+
+            stockBulkService.increase(Map.of(productB.getId(), 1), "보상 테스트");
+        });
+
+        // Then
+        assertThat(productRepository.findById(productA.getId()).orElseThrow().getStock())
+            .as("부족하지 않은 라인도 차감되지 않아야 함")
+            .isEqualTo(5);
+        assertThat(productRepository.findById(productB.getId()).orElseThrow().getStock())
+            .as("같은 트랜잭션의 이후 변경은 커밋됨")
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("일괄 차감: 존재하지 않는 상품은 IllegalArgumentException")
+    void decrease_ProductNotFound() {
+        Product product = createProduct("상품A", 5);
+
+        LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(product.getId(), 1);
+        lines.put(Long.MAX_VALUE, 1);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                stockBulkService.decrease(lines, "주문: BULK-3")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("상품을 찾을 수 없습니다");
+
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("동시 차감: 재고 10개에 50건 동시 차감 → 정확히 10건 성공, 재시도 없음")
+    void decrease_Concurrent_NoOversell() throws InterruptedException {
+        // Given
+        Product hotProduct = createProduct("인기 상품", 10);
+        Product sideProduct = createProduct("함께 담은 상품", 1000);
+        int requests = 50;
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(requests);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+
+        // When: 주문마다 상품 ID 순서를 바꿔 전달 (일괄 UPDATE는 ID 오름차순으로 락 획득)
+        for (int i = 0; i < requests; i++) {
+            boolean reversed = i % 2 == 0;
+            executor.submit(() -> {
+                try {
+                    LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+                    if (reversed) {
+                        lines.put(sideProduct.getId(), 1);
+                        lines.put(hotProduct.getId(), 1);
+                    } else {
+                        lines.put(hotProduct.getId(), 1);
+                        lines.put(sideProduct.getId(), 1);
+                    }
+                    transactionTemplate.executeWithoutResult(status -> stockBulkService.decrease(lines, "동시 주문"));
+                    successCount.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    soldOutCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        log.info("동시 차감 결과 - 성공: {}, 재고 부족: {}", successCount.get(), soldOutCount.get());
+        assertThat(successCount.get()).as("재고 수만큼만 성공").isEqualTo(10);
+        assertThat(soldOutCount.get()).as("나머지는 재고 부족").isEqualTo(requests - 10);
+        assertThat(productRepository.findById(hotProduct.getId()).orElseThrow().getStock()).isZero();
+        assertThat(productRepository.findById(sideProduct.getId()).orElseThrow().getStock())
+            .as("실패한 주문의 다른 라인은 차감되지 않음")
+            .isEqualTo(1000 - 10);
+    }
+
+    private Product createProduct(String name, int stock) {
+        Product product = productRepository.save(Product.builder()
+            .name(name + "_" + System.nanoTime())
+            .description(name + " 설명")
+            .price(BigDecimal.valueOf(10000))
+            .stock(stock)
+            .safetyStock(0)
+            .category(testCategory)
+            .status(ProductStatus.AVAILABLE)
+            .build());
+        createdProducts.add(product);
+        return product;
+    }
+}
@@ -0,0 +1,120 @@
+package com.hhplus.ecommerce.product.application;
+
+import com.hhplus.ecommerce.common.infrastructure.bulkhead.BulkheadFullException;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.order.domain.Order;
+import com.hhplus.ecommerce.order.domain.OrderStatus;
+import com.hhplus.ecommerce.order.domain.event.OrderCreatedEvent;
+import com.hhplus.ecommerce.order.infrastructure.persistence.OrderRepository;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.domain.UserRole;
+import com.hhplus.ecommerce.user.domain.UserStatus;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 재고 차감 Consumer 벌크헤드 포화 처리 테스트
+ *
+ * 검증 목표:
+ * - 벌크헤드 포화는 비즈니스 실패가 아님 → 주문 취소(보상) 없음
+ * - ack 없이 예외 전파 → 컨테이너가 재전달
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("재고 차감 Consumer 벌크헤드 포화 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class StockKafkaConsumerBulkheadTest {
+
+    @Autowired
+    private StockKafkaConsumer stockKafkaConsumer;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private StockBulkService stockBulkService;
+
+    @Test
+    @DisplayName("벌크헤드 포화: 주문은 취소되지 않고 ack 없이 예외 전파")
+    void handleOrderCreated_BulkheadFull_NoCompensation() {
+        // Given: 재고 일괄 처리 경로에서 DB 벌크헤드 포화
+        Order order = createPendingOrder();
+        given(stockBulkService.isEnabled()).willReturn(true);
+        willThrow(new BulkheadFullException("db", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요. (db)"))
+            .given(stockBulkService).decrease(anyMap(), any());
+
+        OrderCreatedEvent event = OrderCreatedEvent.builder()
+            .orderId(order.getId())
+            .orderNumber(order.getOrderNumber())
+            .userId(order.getUser().getId())
+            .finalAmount(order.getFinalAmount())
+            .orderProducts(List.of(OrderCreatedEvent.OrderProductInfo.builder()
+                .productId(1L)
+                .quantity(1)
+                .price(BigDecimal.valueOf(1000))
+                .build()))
+            .build();
+        Acknowledgment ack = mock(Acknowledgment.class);
+
+        // When & Then
+        assertThatThrownBy(() -> stockKafkaConsumer.handleOrderCreated(event, 0, 0L, null, ack))
+            .isInstanceOf(BulkheadFullException.class);
+
+        verify(ack, never()).acknowledge();
+        Order reloaded = orderRepository.findById(order.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).as("보상(주문 취소) 없음").isEqualTo(OrderStatus.PENDING);
+        assertThat(reloaded.getCancellationReason()).isNull();
+    }
+
+    private Order createPendingOrder() {
+        User user = userRepository.save(User.builder()
+            .email("bulkhead_" + UUID.randomUUID() + "@test.com")
+            .password("password")
+            .name("벌크헤드테스트사용자")
+            .balance(BigDecimal.valueOf(10000))
+            .role(UserRole.USER)
+            .status(UserStatus.ACTIVE)
+            .build());
+
+        return orderRepository.save(Order.builder()
+            .orderNumber("BULKHEAD-" + UUID.randomUUID())
+            .user(user)
+            .totalAmount(BigDecimal.valueOf(1000))
+            .discountAmount(BigDecimal.ZERO)
+            .finalAmount(BigDecimal.valueOf(1000))
+            .status(OrderStatus.PENDING)
+            .orderedAt(LocalDateTime.now())
+            .idempotencyKey(UUID.randomUUID().toString())
+            .build());
+    }
+}
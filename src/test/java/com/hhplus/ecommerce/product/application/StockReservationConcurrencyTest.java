@@ -0,0 +1,348 @@
+package com.hhplus.ecommerce.product.application;
+
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.product.domain.Category;
+import com.hhplus.ecommerce.product.domain.Product;
+import com.hhplus.ecommerce.product.domain.ProductStatus;
+import com.hhplus.ecommerce.product.infrastructure.persistence.CategoryRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.ProductStockRedisRepository;
+import com.hhplus.ecommerce.product.infrastructure.persistence.StockHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Redis 재고 원장 동시성 테스트 / 벤치마크
+ *
+ * 검증 목표:
+ * - 다중 라인 예약의 All-or-Nothing 보장
+ * - 인기 상품 1개에 동시 예약 시 초과 판매 없음
+ * - write-back 후 DB 재고 == 원장 재고
+ * - 트랜잭션 롤백 시 예약 자동 반환
+ * - 주문 예약 반환은 보상/재시도 경로가 겹쳐도 주문당 1회
+ * - DB 직접 변경 후 정합성 보정
+ * - 단일 인기 상품 처리량 비교: 낙관적 락(@Version + 재시도) vs Redis 원장
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("Redis 재고 원장 동시성 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class StockReservationConcurrencyTest {
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private ProductStockRedisRepository productStockRedisRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private StockHistoryRepository stockHistoryRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Category testCategory;
+    private final List<Product> createdProducts = new ArrayList<>();
+
+    // 기존 경로(StockKafkaConsumer)의 @Retryable 설정과 동일
+    private static final int MAX_ATTEMPTS = 5;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        testCategory = categoryRepository.save(Category.builder()
+            .name("재고 원장 테스트 카테고리_" + System.nanoTime())
+            .description("Redis 재고 원장 테스트용")
+            .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // write-back 재고 이력이 상품을 참조하므로 이력 → 상품 → 카테고리 순으로 정리
+        stockHistoryRepository.deleteAll();
+        productRepository.deleteAll(createdProducts);
+        categoryRepository.delete(testCategory);
+        createdProducts.clear();
+    }
+
+    @Test
+    @DisplayName("다중 라인 예약: 한 라인이라도 부족하면 어떤 라인도 차감되지 않음")
+    void reserve_AllOrNothing() {
+        // Given
+        Product productA = createProduct("상품A", 5);
+        Product productB = createProduct("상품B", 1);
+
+        LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>();
+        lines.put(productA.getId(), 2);
+        lines.put(productB.getId(), 2);
+
+        // When & Then
+        assertThatThrownBy(() -> stockReservationService.reserve(lines))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("재고가 부족합니다");
+
+        assertThat(productStockRedisRepository.getStock(productA.getId()))
+            .as("부족하지 않은 라인도 차감되지 않아야 함")
+            .isEqualTo(5L);
+        assertThat(productStockRedisRepository.getStock(productB.getId())).isEqualTo(1L);
+        assertThat(productStockRedisRepository.getPendingDelta(productA.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("롤백: 주문 트랜잭션 롤백 시 예약 재고 자동 반환")
+    void reserve_ReleasedOnRollback() {
+        // Given
+        Product product = createProduct("롤백 상품", 10);
+        LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>(Map.of(product.getId(), 3));
+
+        // When: 예약 후 트랜잭션 롤백
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            stockReservationService.reserve(lines);
+            throw new IllegalArgumentException("쿠폰 검증 실패");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        // Then
+        assertThat(productStockRedisRepository.getStock(product.getId())).isEqualTo(10L);
+        assertThat(productStockRedisRepository.getPendingDelta(product.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 예약 반환: 같은 주문을 여러 경로에서 반환해도 1회만 반영")
+    void releaseAfterCommit_OncePerOrder() {
+        // Given: 주문 1건이 3개 예약
+        Product product = createProduct("반환 상품", 10);
+        LinkedHashMap<Long, Integer> lines = new LinkedHashMap<>(Map.of(product.getId(), 3));
+        stockReservationService.reserve(lines);
+        Long orderId = System.nanoTime();
+
+        // When: Saga 보상 + 이벤트 재시도가 각각 반환
+        transactionTemplate.executeWithoutResult(status -> stockReservationService.releaseAfterCommit(orderId, lines));
+        transactionTemplate.executeWithoutResult(status -> stockReservationService.releaseAfterCommit(orderId, lines));
+
+        // Then
+        assertThat(productStockRedisRepository.getStock(product.getId())).as("1회만 반환").isEqualTo(10L);
+        assertThat(productStockRedisRepository.getPendingDelta(product.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("정합성 보정: 원장을 거치지 않은 DB 재고 변경을 원장에 반영")
+    void reconcile_CorrectsLedgerFromDatabase() {
+        // Given: 3개 예약 (원장 7, DB 미반영 -3)
+        Product product = createProduct("보정 상품", 10);
+        stockReservationService.reserve(new LinkedHashMap<>(Map.of(product.getId(), 3)));
+
+        // 관리자가 DB 재고를 직접 20으로 조정
+        transactionTemplate.executeWithoutResult(status ->
+            productRepository.findById(product.getId()).orElseThrow().adjustStock(20));
+
+        // When
+        int corrected = stockReservationService.reconcile();
+
+        // Then: 원장 = DB 재고 + DB 미반영 델타
+        assertThat(corrected).isEqualTo(1);
+        assertThat(productStockRedisRepository.getStock(product.getId())).isEqualTo(17L);
+
+        // write-back 후 DB와 원장 일치
+        writeBack();
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(17);
+        assertThat(stockReservationService.reconcile()).as("보정 대상 없음").isZero();
+    }
+
+    @Test
+    @DisplayName("초과 판매 방지: 300건 동시 예약 시 재고 100개만 성공, write-back 후 DB 재고 0")
+    void reserve_NoOversellUnderContention() throws InterruptedException {
+        // Given
+        int stock = 100;
+        int requests = 300;
+        Product product = createProduct("한정판 상품", stock);
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        // When
+        runConcurrently(requests, 32, () -> {
+            try {
+                stockReservationService.reserve(new LinkedHashMap<>(Map.of(product.getId(), 1)));
+                successCount.incrementAndGet();
+            } catch (IllegalStateException e) {
+                failCount.incrementAndGet();
+            }
+        });
+        writeBack();
+
+        // Then
+        assertThat(successCount.get()).as("재고 수량만큼만 성공").isEqualTo(stock);
+        assertThat(failCount.get()).isEqualTo(requests - stock);
+        assertThat(productStockRedisRepository.getStock(product.getId())).isZero();
+
+        Product reloaded = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(reloaded.getStock()).as("write-back 후 DB 재고").isZero();
+        assertThat(reloaded.getStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
+    }
+
+    @Test
+    @DisplayName("벤치마크: 단일 인기 상품 처리량 - 낙관적 락 vs Redis 원장")
+    void benchmark_HotSku_OptimisticLockVsLedger() throws InterruptedException {
+        // Given
+        int requests = 1000;
+        int threads = 32;
+        Product optimisticProduct = createProduct("낙관적 락 상품", requests);
+        Product ledgerProduct = createProduct("원장 상품", requests);
+
+        // When 1: 기존 경로 (findByIdWithLock + @Version + 최대 5회 재시도)
+        AtomicInteger optimisticSuccess = new AtomicInteger();
+        AtomicInteger optimisticRetries = new AtomicInteger();
+        long optimisticElapsed = runConcurrently(requests, threads, () -> {
+            if (decreaseWithOptimisticLock(optimisticProduct.getId(), optimisticRetries)) {
+                optimisticSuccess.incrementAndGet();
+            }
+        });
+
+        // When 2: Redis 원장 (Lua 예약) + write-back 1회
+        AtomicInteger ledgerSuccess = new AtomicInteger();
+        long ledgerElapsed = runConcurrently(requests, threads, () -> {
+            try {
+                stockReservationService.reserve(new LinkedHashMap<>(Map.of(ledgerProduct.getId(), 1)));
+                ledgerSuccess.incrementAndGet();
+            } catch (IllegalStateException e) {
+                log.warn("원장 예약 실패: {}", e.getMessage());
+            }
+        });
+        long writeBackStart = System.currentTimeMillis();
+        writeBack();
+        long writeBackElapsed = System.currentTimeMillis() - writeBackStart;
+
+        // Then
+        log.info("=== 단일 인기 상품 처리량 (요청 {}건, 스레드 {}개) ===", requests, threads);
+        log.info("낙관적 락: {}ms, {} ops/sec, 성공 {}건, 재시도 {}회",
+                 optimisticElapsed, opsPerSec(requests, optimisticElapsed),
+                 optimisticSuccess.get(), optimisticRetries.get());
+        log.info("Redis 원장: {}ms, {} ops/sec, 성공 {}건 (write-back {}ms)",
+                 ledgerElapsed, opsPerSec(requests, ledgerElapsed), ledgerSuccess.get(), writeBackElapsed);
+
+        assertThat(ledgerSuccess.get()).as("재고 충분 - 원장 경로는 전부 성공").isEqualTo(requests);
+        assertThat(productRepository.findById(ledgerProduct.getId()).orElseThrow().getStock())
+            .as("write-back 후 DB 재고").isZero();
+
+        int optimisticStock = productRepository.findById(optimisticProduct.getId()).orElseThrow().getStock();
+        assertThat(optimisticStock)
+            .as("낙관적 락 경로도 초과 판매는 없어야 함")
+            .isEqualTo(requests - optimisticSuccess.get());
+    }
+
+    // ========== Helper Methods ==========
+
+    private Product createProduct(String name, int stock) {
+        Product product = productRepository.save(Product.builder()
+            .name(name)
+            .description("재고 원장 테스트 상품")
+            .price(BigDecimal.valueOf(10000))
+            .stock(stock)
+            .safetyStock(0)
+            .category(testCategory)
+            .status(ProductStatus.AVAILABLE)
+            .build());
+        createdProducts.add(product);
+        return product;
+    }
+
+    private void writeBack() {
+        Map<Long, Integer> deltas = productStockRedisRepository.drainPendingDeltas();
+        Map<Long, Integer> rejected = stockReservationService.applyWriteBack(deltas);
+        assertThat(rejected).as("반영 불가 델타 없음").isEmpty();
+    }
+
+    /**
+     * 기존 재고 차감 경로 재현 (StockKafkaConsumer: 낙관적 락 + @Retryable)
+     */
+    private boolean decreaseWithOptimisticLock(Long productId, AtomicInteger retries) {
+        long delay = 50;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                    productRepository.findByIdWithLock(productId).orElseThrow().decreaseStock(1));
+                return true;
+            } catch (OptimisticLockingFailureException e) {
+                retries.incrementAndGet();
+                sleep(delay);
+                delay = Math.min((long) (delay * 1.5), 200);
+            } catch (IllegalArgumentException e) {
+                return false; // 재고 부족
+            }
+        }
+        return false;
+    }
+
+    private long runConcurrently(int requests, int threads, Runnable task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(requests);
+
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < requests; i++) {
+            executorService.submit(() -> {
+                try {
+                    task.run();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        boolean completed = latch.await(120, TimeUnit.SECONDS);
+        long elapsed = System.currentTimeMillis() - startTime;
+        executorService.shutdown();
+
+        assertThat(completed).as("120초 내에 모든 요청 완료").isTrue();
+        return elapsed;
+    }
+
+    private long opsPerSec(int requests, long elapsedMillis) {
+        return elapsedMillis == 0 ? requests : requests * 1000L / elapsedMillis;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
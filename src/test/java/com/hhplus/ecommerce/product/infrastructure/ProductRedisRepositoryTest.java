@@ -1,5 +1,6 @@
 package com.hhplus.ecommerce.product.infrastructure;
 
+import com.hhplus.ecommerce.config.PopularRankingProperties;
 import com.hhplus.ecommerce.config.TestContainersConfig;
 import com.hhplus.ecommerce.product.domain.Category;
 import com.hhplus.ecommerce.product.domain.Product;
@@ -19,8 +20,11 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -30,6 +34,7 @@ import static org.assertj.core.api.Assertions.*;
  * 테스트 대상:
  * - 인기상품 순위 관리 (Sorted Set)
  * - 상품 정보 캐싱 (Hash)
+ * - 시간 버킷 기반 구간 랭킹 (ZUNIONSTORE)
  */
 @Slf4j
 @SpringBootTest
@@ -55,6 +60,9 @@ class ProductRedisRepositoryTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private PopularRankingProperties popularRankingProperties;
+
     @BeforeEach
     void setUp() {
         // Redis 초기화
@@ -233,4 +241,197 @@ class ProductRedisRepositoryTest {
 
         log.info("캐시 삭제 완료");
     }
+
+    @Test
+    @DisplayName("성공: 최근 N시간 인기상품 조회 - 구간 밖 버킷 제외")
+    void getTopPopularProducts_Window_ExcludesOldBuckets() {
+        // Given
+        LocalDateTime baseTime = LocalDateTime.of(2026, 10, 16, 12, 30);
+        productRedisRepository.incrementPopularityScore(1L, 10, baseTime);
+        productRedisRepository.incrementPopularityScore(2L, 5, baseTime.minusHours(1));
+        productRedisRepository.incrementPopularityScore(3L, 100, baseTime.minusHours(3));
+
+        // When
+        List<ProductRedisRepository.PopularProduct> lastHour =
+            productRedisRepository.getTopPopularProducts(10, 1, baseTime);
+        List<ProductRedisRepository.PopularProduct> lastTwoHours =
+            productRedisRepository.getTopPopularProducts(10, 2, baseTime);
+        List<ProductRedisRepository.PopularProduct> allTime =
+            productRedisRepository.getTopPopularProducts(10, 0, baseTime);
+
+        // Then
+        assertThat(lastHour).extracting(ProductRedisRepository.PopularProduct::getProductId)
+            .as("최근 1시간은 현재 버킷만 포함")
+            .containsExactly(1L);
+        assertThat(lastTwoHours).extracting(ProductRedisRepository.PopularProduct::getProductId)
+            .as("3시간 전 판매는 2시간 구간에서 제외")
+            .containsExactly(1L, 2L);
+        assertThat(allTime).extracting(ProductRedisRepository.PopularProduct::getProductId)
+            .as("전체 누적은 모든 판매 포함")
+            .containsExactly(3L, 1L, 2L);
+
+        log.info("구간 랭킹 - 1h: {}, 2h: {}, 전체: {}", lastHour.size(), lastTwoHours.size(), allTime.size());
+    }
+
+    @Test
+    @DisplayName("성공: 구간 랭킹 시간 감쇠 가중치 적용")
+    void getTopPopularProducts_Window_AppliesHourlyDecay() {
+        // Given: 1시간 전 판매량이 더 많지만 감쇠 0.5 적용 시 현재 버킷이 앞섬
+        LocalDateTime baseTime = LocalDateTime.of(2026, 10, 16, 12, 0);
+        productRedisRepository.incrementPopularityScore(1L, 6, baseTime);
+        productRedisRepository.incrementPopularityScore(2L, 10, baseTime.minusHours(1));
+
+        double originalDecay = popularRankingProperties.getHourlyDecay();
+        popularRankingProperties.setHourlyDecay(0.5);
+
+        try {
+            // When
+            List<ProductRedisRepository.PopularProduct> result =
+                productRedisRepository.getTopPopularProducts(10, 2, baseTime);
+
+            // Then
+            assertThat(result).extracting(ProductRedisRepository.PopularProduct::getProductId)
+                .as("감쇠 적용 후 순위 (6 > 10 * 0.5)")
+                .containsExactly(1L, 2L);
+            assertThat(result.get(1).getSalesCount()).as("1시간 전 버킷 가중치 0.5").isEqualTo(5L);
+
+        } finally {
+            popularRankingProperties.setHourlyDecay(originalDecay);
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 시간 버킷 TTL 설정 및 통계 카운터 반영")
+    void incrementPopularityScore_SetsBucketTtlAndTotalSales() {
+        // Given
+        LocalDateTime baseTime = LocalDateTime.now();
+
+        // When
+        productRedisRepository.incrementPopularityScore(1L, 7, baseTime);
+        productRedisRepository.incrementPopularityScore(2L, 3, baseTime);
+
+        // Then
+        String bucketKey = "popular:products:hour:" + DateTimeFormatter.ofPattern("yyyyMMddHH").format(baseTime);
+        Long ttl = redisTemplate.getExpire(bucketKey, TimeUnit.SECONDS);
+        assertThat(ttl).as("버킷 TTL은 보관 기간 이내")
+            .isPositive()
+            .isLessThanOrEqualTo(popularRankingProperties.getBucketRetentionHours() * 3600L);
+
+        ProductRedisRepository.PopularProductStats stats = productRedisRepository.getStats();
+        assertThat(stats.getTotalProducts()).isEqualTo(2L);
+        assertThat(stats.getTotalSales()).as("판매 수량 카운터").isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("성공: 판매 수량 일괄 집계 - 스코어/버킷/통계 반영, 캐시 없는 상품만 갱신 대상")
+    void incrementPopularityScores_Batch() {
+        // Given: 상품 1은 방금 캐시됨, 상품 2는 캐시 없음
+        LocalDateTime baseTime = LocalDateTime.now();
+        productRedisRepository.cacheProductInfos(List.of(Product.builder()
+            .id(1L)
+            .name("캐시된 상품")
+            .price(new BigDecimal("1000"))
+            .stock(10)
+            .status(ProductStatus.AVAILABLE)
+            .build()));
+
+        Map<Long, Integer> quantities = new java.util.LinkedHashMap<>();
+        quantities.put(1L, 4);
+        quantities.put(2L, 6);
+
+        // When
+        java.util.Set<Long> staleProductIds = productRedisRepository.incrementPopularityScores(quantities, baseTime);
+
+        // Then
+        assertThat(staleProductIds).as("갱신 주기 이내 캐시는 제외").containsExactly(2L);
+        assertThat(productRedisRepository.getProductScore(1L)).isEqualTo(4L);
+        assertThat(productRedisRepository.getProductScore(2L)).isEqualTo(6L);
+        assertThat(productRedisRepository.getTopPopularProducts(10, 1, baseTime))
+            .extracting(ProductRedisRepository.PopularProduct::getProductId)
+            .containsExactly(2L, 1L);
+        assertThat(productRedisRepository.getStats().getTotalSales()).as("판매 수량 카운터 (합계 INCRBY 1회)")
+            .isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("성공: 갱신 주기가 지난 상품 정보 캐시는 갱신 대상")
+    void incrementPopularityScores_StaleInfo() {
+        // Given: TTL이 갱신 주기보다 많이 지난 캐시
+        productRedisRepository.cacheProductInfos(List.of(Product.builder()
+            .id(3L)
+            .name("오래된 캐시 상품")
+            .price(new BigDecimal("1000"))
+            .stock(10)
+            .status(ProductStatus.AVAILABLE)
+            .build()));
+        long agedTtlSeconds = TimeUnit.HOURS.toSeconds(24) - popularRankingProperties.getInfoRefreshSeconds() - 1;
+        redisTemplate.expire("info:product:3", agedTtlSeconds, TimeUnit.SECONDS);
+
+        // When
+        java.util.Set<Long> staleProductIds =
+            productRedisRepository.incrementPopularityScores(Map.of(3L, 1), LocalDateTime.now());
+
+        // Then
+        assertThat(staleProductIds).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("성공: 전체 누적 랭킹은 all-time ZSET에 누적 - 기존 누적 키(popular:products)는 기록하지 않음")
+    void incrementPopularityScore_DoesNotWriteLegacyRanking() {
+        // When
+        productRedisRepository.incrementPopularityScore(1L, 5);
+        productRedisRepository.incrementPopularityScore(2L, 9);
+
+        // Then
+        assertThat(redisTemplate.hasKey("popular:products")).as("기존 누적 ZSET 미기록").isFalse();
+        assertThat(productRedisRepository.getTopPopularProductIds(10)).containsExactly(2L, 1L);
+        assertThat(productRedisRepository.getProductRank(2L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 기존 누적 랭킹을 전체 랭킹/카운터에 1회 복사 - 원본 보존, 재실행해도 중복 합산 없음")
+    void migrateLegacyRanking() {
+        // Given: 기존 누적 ZSET 합계 150, 새 키에는 도입 이후 판매분(상품 1: 30)만 반영
+        redisTemplate.opsForZSet().add("popular:products", "1", 100);
+        redisTemplate.opsForZSet().add("popular:products", "2", 50);
+        productRedisRepository.incrementPopularityScore(1L, 30);
+
+        // When
+        long migrated = productRedisRepository.migrateLegacyRanking();
+        long rerun = productRedisRepository.migrateLegacyRanking();
+
+        // Then
+        assertThat(migrated).isEqualTo(150L);
+        assertThat(rerun).as("이미 이관됨").isEqualTo(-1L);
+        assertThat(productRedisRepository.getProductScore(1L)).as("기존 + 도입 이후 판매").isEqualTo(130L);
+        assertThat(productRedisRepository.getProductScore(2L)).isEqualTo(50L);
+        assertThat(productRedisRepository.getStats().getTotalSales()).isEqualTo(180L);
+        assertThat(redisTemplate.opsForZSet().zCard("popular:products")).as("원본 보존").isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("성공: 전체 누적 랭킹은 버킷 보관 기간이 지난 판매도 유지")
+    void allTimeRanking_OutlivesHourlyBuckets() {
+        // Given: 보관 기간보다 오래된 판매
+        LocalDateTime oldSale = LocalDateTime.now().minusHours(popularRankingProperties.getBucketRetentionHours() + 1L);
+        productRedisRepository.incrementPopularityScore(1L, 7, oldSale);
+        productRedisRepository.incrementPopularityScore(2L, 3);
+
+        // When
+        List<ProductRedisRepository.PopularProduct> allTime = productRedisRepository.getTopPopularProducts(10, 0);
+
+        // Then
+        assertThat(allTime).extracting(ProductRedisRepository.PopularProduct::getProductId).containsExactly(1L, 2L);
+        assertThat(productRedisRepository.getProductRank(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("실패: 버킷 보관 기간을 넘는 구간 조회")
+    void getTopPopularProducts_Window_ExceedsRetention() {
+        int windowHours = popularRankingProperties.getBucketRetentionHours() + 1;
+
+        assertThatThrownBy(() -> productRedisRepository.getTopPopularProducts(10, windowHours))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("집계 구간은 최대");
+    }
 }
@@ -0,0 +1,262 @@
+package com.hhplus.ecommerce.user.application;
+
+import com.hhplus.ecommerce.config.BalanceLedgerProperties;
+import com.hhplus.ecommerce.config.TestContainersConfig;
+import com.hhplus.ecommerce.user.domain.User;
+import com.hhplus.ecommerce.user.domain.UserRole;
+import com.hhplus.ecommerce.user.domain.UserStatus;
+import com.hhplus.ecommerce.user.infrastructure.persistence.BalanceHistoryRepository;
+import com.hhplus.ecommerce.user.infrastructure.persistence.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잔액 그룹 커밋 원장 테스트
+ *
+ * 검증 목표:
+ * - 동시 충전 요청이 몇 개의 트랜잭션으로 묶여도 잔액/이력이 요청 수만큼 정확히 반영
+ * - 잔액을 초과하는 차감만 개별 거절 (음수 잔액 없음)
+ * - 충전/차감 혼합 시 최종 잔액 = 초기 + 충전 합계 - 성공한 차감 합계
+ * - leader 배치 한도 도달 시 다음 대기 스레드가 이어받아 모든 요청 반영
+ */
+@Slf4j
+@SpringBootTest
+@Testcontainers
+@Import(TestContainersConfig.class)
+@ActiveProfiles("test")
+@DisplayName("잔액 그룹 커밋 원장 테스트")
+@org.junit.jupiter.api.parallel.Execution(org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD)
+class BalanceLedgerTest {
+
+    private static final int THREAD_COUNT = 50;
+
+    @Autowired
+    private BalanceService balanceService;
+
+    @Autowired
+    private BalanceLedger balanceLedger;
+
+    @Autowired
+    private BalanceLedgerProperties balanceLedgerProperties;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BalanceHistoryRepository balanceHistoryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        balanceLedgerProperties.setGroupCommitEnabled(true);
+        testUser = createUser(BigDecimal.valueOf(10000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        balanceLedgerProperties.setGroupCommitEnabled(false);
+        balanceLedgerProperties.setMaxBatchSize(200);
+        balanceLedgerProperties.setMaxBatchesPerLeader(10);
+    }
+
+    @Test
+    @DisplayName("성공: 동시 충전 100건이 그룹 커밋되어 정확히 반영")
+    void charge_Concurrent_GroupCommitted() throws InterruptedException {
+        // Given
+        int requestCount = 100;
+        BigDecimal chargeAmount = BigDecimal.valueOf(1000);
+        long commitsBefore = batchSummary().count();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // When
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < requestCount; i++) {
+            executor.submit(() -> {
+                try {
+                    balanceService.chargeBalance(testUser.getId(), chargeAmount);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.error("충전 실패", e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        // Then
+        long commits = batchSummary().count() - commitsBefore;
+
+        User user = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(successCount.get()).as("모든 충전 성공").isEqualTo(requestCount);
+        assertThat(user.getBalance()).as("최종 잔액 = 10,000 + 100 × 1,000")
+            .isEqualByComparingTo(BigDecimal.valueOf(110000));
+        assertThat(balanceHistoryRepository.findByUserOrderByCreatedAtDesc(user, Pageable.unpaged()).getTotalElements())
+            .as("이력은 요청 수만큼 기록")
+            .isEqualTo(requestCount);
+        assertThat(commits).as("트랜잭션 수 ≤ 요청 수").isBetween(1L, (long) requestCount);
+
+        log.info("그룹 커밋 충전 - 요청: {}건, 트랜잭션: {}회, 소요: {}ms", requestCount, commits, elapsed);
+    }
+
+    @Test
+    @DisplayName("실패: 잔액을 초과하는 차감만 개별 거절")
+    void deduct_Concurrent_RejectsOverdraft() throws InterruptedException {
+        // Given: 잔액 10,000원, 1,000원 차감 20건
+        int requestCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger rejectedCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            executor.submit(() -> {
+                try {
+                    balanceLedger.deduct(testUser.getId(), BigDecimal.valueOf(1000), "주문 결제");
+                    successCount.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    assertThat(e.getMessage()).contains("잔액이 부족합니다");
+                    rejectedCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        User user = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(successCount.get()).as("잔액 범위 내 차감만 성공").isEqualTo(10);
+        assertThat(rejectedCount.get()).as("초과 차감 거절").isEqualTo(10);
+        assertThat(user.getBalance()).as("음수 잔액 없음").isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(balanceHistoryRepository.findByUserOrderByCreatedAtDesc(user, Pageable.unpaged()).getTotalElements())
+            .as("거절된 차감은 이력 없음")
+            .isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("동시성: 충전/차감 혼합 시 잔액 정합성 유지")
+    void chargeAndDeduct_Concurrent_Consistent() throws InterruptedException {
+        // Given
+        int pairs = 30;
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(pairs * 2);
+        AtomicInteger deductSuccess = new AtomicInteger();
+
+        // When: 1,000원 충전 30건 + 1,500원 차감 30건
+        for (int i = 0; i < pairs; i++) {
+            executor.submit(() -> {
+                try {
+                    balanceLedger.charge(testUser.getId(), BigDecimal.valueOf(1000), "잔액 충전");
+                } finally {
+                    latch.countDown();
+                }
+            });
+            executor.submit(() -> {
+                try {
+                    balanceLedger.deduct(testUser.getId(), BigDecimal.valueOf(1500), "주문 결제");
+                    deductSuccess.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    // 잔액 부족 거절
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        BigDecimal expected = BigDecimal.valueOf(10000)
+            .add(BigDecimal.valueOf(1000L * pairs))
+            .subtract(BigDecimal.valueOf(1500L * deductSuccess.get()));
+
+        User user = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(user.getBalance()).as("초기 + 충전 합계 - 성공 차감 합계").isEqualByComparingTo(expected);
+        assertThat(user.getBalance()).isGreaterThanOrEqualTo(BigDecimal.ZERO);
+
+        log.info("혼합 처리 - 차감 성공: {}건, 최종 잔액: {}", deductSuccess.get(), user.getBalance());
+    }
+
+    @Test
+    @DisplayName("성공: leader 배치 한도(1) 도달 시 대기 스레드에 인계되어 모든 요청 반영")
+    void charge_LeaderHandOff_AllApplied() throws InterruptedException {
+        // Given: 배치당 1건, leader당 1배치 → 매 배치마다 인계
+        balanceLedgerProperties.setMaxBatchSize(1);
+        balanceLedgerProperties.setMaxBatchesPerLeader(1);
+        int requestCount = 30;
+
+        ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < requestCount; i++) {
+            executor.submit(() -> {
+                try {
+                    balanceLedger.charge(testUser.getId(), BigDecimal.valueOf(100), "잔액 충전");
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    log.error("충전 실패", e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        User user = userRepository.findById(testUser.getId()).orElseThrow();
+        assertThat(successCount.get()).as("인계 후에도 모든 충전 성공").isEqualTo(requestCount);
+        assertThat(user.getBalance()).as("최종 잔액 = 10,000 + 30 × 100")
+            .isEqualByComparingTo(BigDecimal.valueOf(13000));
+    }
+
+    private DistributionSummary batchSummary() {
+        return meterRegistry.get("balance.ledger.batch.size").summary();
+    }
+
+    private User createUser(BigDecimal balance) {
+        return userRepository.save(User.builder()
+            .email("ledger_" + UUID.randomUUID() + "@test.com")
+            .password("password")
+            .name("원장테스트사용자")
+            .balance(balance)
+            .role(UserRole.USER)
+            .status(UserStatus.ACTIVE)
+            .build());
+    }
+}